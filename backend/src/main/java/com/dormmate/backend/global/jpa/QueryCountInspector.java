@@ -0,0 +1,34 @@
+package com.dormmate.backend.global.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL 문을 스레드별로 센다. JDBC 배치는 문 하나로 세므로 DB 왕복 수에 가깝다.
+ * JdbcTemplate으로 직접 실행하는 SQL은 포함되지 않는다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * 집계를 끝내고 센 문 수를 돌려준다. start 없이 부르면 0이다.
+     */
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter[0] : 0;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+}
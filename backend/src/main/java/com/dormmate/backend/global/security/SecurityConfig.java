@@ -49,6 +49,8 @@ public class SecurityConfig {
                         .requestMatchers("/health", "/healthz", "/readyz").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        // 핸드셰이크는 열어 두고 STOMP CONNECT 단계에서 토큰을 확인한다.
+                        .requestMatchers("/ws", "/ws/**").permitAll()
                         .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers(
                                 "/admin/dashboard",
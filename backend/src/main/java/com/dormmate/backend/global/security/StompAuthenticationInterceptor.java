@@ -0,0 +1,130 @@
+package com.dormmate.backend.global.security;
+
+import java.security.Principal;
+import java.util.List;
+
+import com.dormmate.backend.modules.auth.application.JwtTokenService;
+import com.dormmate.backend.modules.auth.application.JwtTokenService.InvalidTokenException;
+import com.dormmate.backend.modules.auth.application.JwtTokenService.ParsedToken;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 브라우저 WebSocket 핸드셰이크에는 Authorization 헤더를 실을 수 없으므로 STOMP CONNECT 프레임의 헤더로 인증한다.
+ * 인증된 세션만 구독할 수 있고, 브로커 토픽으로의 직접 발행은 막는다.
+ * 구독은 {@link StompSubscriptionAuthorizer}가 맡은 토픽만 허용하고, 대상별 권한은 구독 시점에 확인한다.
+ * 단순 브로커는 구독 경로를 Ant 패턴으로 맞추므로 와일드카드나 변수가 든 경로는 거절한다.
+ */
+@Component
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String APPLICATION_DESTINATION_PREFIX = "/app/";
+    private static final String PATTERN_CHARACTERS = "*?{";
+
+    private final JwtTokenService jwtTokenService;
+    private final ObjectProvider<StompSubscriptionAuthorizer> subscriptionAuthorizers;
+
+    // 권한 확인기는 메시징 템플릿을 쓰는 서비스에 의존하므로 브로커 설정과의 순환을 피하려고 구독 시점에 찾는다.
+    public StompAuthenticationInterceptor(
+            JwtTokenService jwtTokenService,
+            ObjectProvider<StompSubscriptionAuthorizer> subscriptionAuthorizers
+    ) {
+        this.jwtTokenService = jwtTokenService;
+        this.subscriptionAuthorizers = subscriptionAuthorizers;
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader(HttpHeaders.AUTHORIZATION)));
+            return message;
+        }
+        if (command == StompCommand.SUBSCRIBE || command == StompCommand.SEND) {
+            if (accessor.getUser() == null) {
+                throw new MessageDeliveryException("UNAUTHENTICATED");
+            }
+            String destination = accessor.getDestination();
+            if (command == StompCommand.SEND
+                    && (destination == null || !destination.startsWith(APPLICATION_DESTINATION_PREFIX))) {
+                throw new MessageDeliveryException("FORBIDDEN_DESTINATION");
+            }
+            if (command == StompCommand.SUBSCRIBE) {
+                authorizeSubscription(accessor.getUser(), destination);
+            }
+        }
+        return message;
+    }
+
+    private void authorizeSubscription(Principal user, String destination) {
+        if (destination == null || isPattern(destination)) {
+            throw new MessageDeliveryException("FORBIDDEN_DESTINATION");
+        }
+        List<StompSubscriptionAuthorizer> authorizers = subscriptionAuthorizers.orderedStream()
+                .filter(authorizer -> authorizer.supports(destination))
+                .toList();
+        if (authorizers.isEmpty()) {
+            throw new MessageDeliveryException("FORBIDDEN_DESTINATION");
+        }
+        if (!(user instanceof Authentication authentication)) {
+            throw new MessageDeliveryException("UNAUTHENTICATED");
+        }
+        SecurityContext previous = SecurityContextHolder.getContext();
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        try {
+            authorizers.forEach(authorizer -> authorizer.authorize(destination));
+        } catch (ResponseStatusException ex) {
+            throw new MessageDeliveryException(ex.getReason() != null ? ex.getReason() : "FORBIDDEN_DESTINATION");
+        } finally {
+            SecurityContextHolder.setContext(previous);
+        }
+    }
+
+    private static boolean isPattern(String destination) {
+        return destination.chars().anyMatch(ch -> PATTERN_CHARACTERS.indexOf(ch) >= 0);
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new MessageDeliveryException("UNAUTHENTICATED");
+        }
+        String token = authorization.substring(BEARER_PREFIX.length());
+        try {
+            ParsedToken parsed = jwtTokenService.parseAccessToken(token);
+            List<SimpleGrantedAuthority> authorities = parsed.roles().stream()
+                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                    .toList();
+            JwtAuthenticationPrincipal principal = new JwtAuthenticationPrincipal(
+                    parsed.userId(),
+                    parsed.loginId(),
+                    parsed.roles()
+            );
+            return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        } catch (InvalidTokenException ex) {
+            throw new MessageDeliveryException("INVALID_ACCESS_TOKEN");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.dormmate.backend.global.security;
+
+/**
+ * 특정 토픽의 구독 권한을 확인한다. 호출되는 동안 보안 컨텍스트에는 STOMP 세션 사용자가 들어 있으므로
+ * {@link SecurityUtils}로 조회자를 읽을 수 있다. 권한이 없으면 ResponseStatusException을 던진다.
+ */
+public interface StompSubscriptionAuthorizer {
+
+    boolean supports(String destination);
+
+    void authorize(String destination);
+}
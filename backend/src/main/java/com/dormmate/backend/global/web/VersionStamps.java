@@ -0,0 +1,95 @@
+package com.dormmate.backend.global.web;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 조회 응답의 강한 ETag를 만들기 위한 범위(scope)별 변경 카운터.
+ * 카운터는 프로세스 메모리에만 있으므로 기동마다 달라지는 bootId를 ETag에 함께 넣어 재기동 후 재사용을 막는다.
+ * 변경은 커밋 이후에 반영해, 커밋 전 데이터가 새 버전으로 캐시되지 않도록 한다.
+ * 단일 인스턴스 배포를 전제로 한다. 인스턴스를 늘리면 다른 인스턴스의 변경을 보지 못하므로 카운터를 공유 저장소로 옮겨야 한다.
+ */
+@Component
+public class VersionStamps {
+
+    /**
+     * 브라우저가 응답을 저장하되 매번 If-None-Match로 재검증하도록 한다.
+     */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final String bootId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong epoch = new AtomicLong();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    public long current(String scope) {
+        AtomicLong counter = counters.get(scope);
+        return counter != null ? counter.get() : 0L;
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 카운터를 올린다.
+     */
+    public void bumpAfterCommit(Collection<String> scopes) {
+        afterCommit(() -> bump(scopes));
+    }
+
+    /**
+     * 커밋 이후 이벤트 리스너처럼 이미 커밋이 끝난 시점에서 호출한다.
+     */
+    public void bump(Collection<String> scopes) {
+        scopes.forEach(scope -> counters.computeIfAbsent(scope, key -> new AtomicLong()).incrementAndGet());
+    }
+
+    /**
+     * SQL 시드처럼 어느 범위가 바뀌었는지 알 수 없을 때 모든 ETag를 무효화한다.
+     */
+    public void bumpAll() {
+        epoch.incrementAndGet();
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 모든 ETag를 무효화한다.
+     */
+    public void bumpAllAfterCommit() {
+        afterCommit(this::bumpAll);
+    }
+
+    /**
+     * 범위 버전과 응답을 가르는 값(조회자, 질의 파라미터 등)으로 강한 ETag를 만든다.
+     * 카운터는 증가만 하므로 범위 버전의 합이 같으면 해당 범위에 변경이 없었던 것이다.
+     */
+    public String etag(Collection<String> scopes, Object... discriminators) {
+        long versionSum = 0L;
+        for (String scope : scopes) {
+            versionSum += current(scope);
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(String.join(",", scopes).getBytes(StandardCharsets.UTF_8));
+        checksum.update(Arrays.deepToString(discriminators).getBytes(StandardCharsets.UTF_8));
+        return "\"" + bootId + "-" + epoch.get() + "-" + versionSum + "-" + Long.toHexString(checksum.getValue()) + "\"";
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
@@ -39,7 +39,6 @@ import com.dormmate.backend.modules.auth.infrastructure.persistence.RoomAssignme
 import com.dormmate.backend.modules.auth.infrastructure.persistence.UserSessionRepository;
 import com.dormmate.backend.modules.fridge.domain.FridgeBundleOwnershipIssueView;
 import com.dormmate.backend.modules.fridge.domain.FridgeBundleStatus;
-import com.dormmate.backend.modules.fridge.domain.FridgeItemStatus;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleRepository;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleOwnershipIssueViewRepository;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeItemRepository;
@@ -104,11 +103,7 @@ public class AdminReadService {
         OffsetDateTime windowEnd = now.plusDays(7);
 
         long activeBundles = fridgeBundleRepository.countByStatus(FridgeBundleStatus.ACTIVE);
-        long expiringSoon = fridgeItemRepository.countByStatusAndExpiryDateBetween(
-                FridgeItemStatus.ACTIVE,
-                today,
-                today.plusDays(3)
-        );
+        long expiringSoon = fridgeItemRepository.sumBucketedItemsExpiringBetween(today, today.plusDays(3));
         long notificationFailures = notificationDispatchLogRepository.countByStatus(NotificationDispatchStatus.FAILED);
 
         List<InspectionSchedule> recentSchedules = inspectionScheduleRepository.findByScheduledAtBetween(windowStart, windowEnd);
@@ -7,6 +7,7 @@ import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.EncodedResource;
@@ -20,6 +21,8 @@ import javax.sql.DataSource;
 
 import com.dormmate.backend.global.security.SecurityUtils;
 import com.dormmate.backend.modules.audit.application.AuditLogService;
+import com.dormmate.backend.modules.auth.application.RoomAssignmentChangedEvent;
+import com.dormmate.backend.modules.fridge.application.FridgeTopologyChangedEvent;
 
 @Service
 public class DemoSeedService {
@@ -30,10 +33,16 @@ public class DemoSeedService {
 
     private final DataSource dataSource;
     private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DemoSeedService(@NonNull DataSource dataSource, AuditLogService auditLogService) {
+    public DemoSeedService(
+            @NonNull DataSource dataSource,
+            AuditLogService auditLogService,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.dataSource = dataSource;
         this.auditLogService = auditLogService;
+        this.eventPublisher = eventPublisher;
     }
 
     public void seedFridgeDemoData() {
@@ -53,6 +62,8 @@ public class DemoSeedService {
         } finally {
             DataSourceUtils.releaseConnection(connection, dataSource);
         }
+        eventPublisher.publishEvent(FridgeTopologyChangedEvent.all());
+        eventPublisher.publishEvent(RoomAssignmentChangedEvent.all());
 
         UUID actorUserId = null;
         try {
@@ -0,0 +1,22 @@
+package com.dormmate.backend.modules.auth.application;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사용자의 호실 배정이 바뀌었음을 알린다. userIds가 비어 있으면 전체 사용자가 영향을 받은 것으로 본다.
+ */
+public record RoomAssignmentChangedEvent(Set<UUID> userIds) {
+
+    public RoomAssignmentChangedEvent {
+        userIds = userIds == null ? Set.of() : Set.copyOf(userIds);
+    }
+
+    public static RoomAssignmentChangedEvent of(UUID userId) {
+        return new RoomAssignmentChangedEvent(Set.of(userId));
+    }
+
+    public static RoomAssignmentChangedEvent all() {
+        return new RoomAssignmentChangedEvent(Set.of());
+    }
+}
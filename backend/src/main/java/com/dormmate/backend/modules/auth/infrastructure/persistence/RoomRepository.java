@@ -15,5 +15,8 @@ public interface RoomRepository extends JpaRepository<Room, UUID> {
     @Query("select r from Room r where r.floor = :floor order by r.roomNumber asc")
     List<Room> findByFloorOrderByRoomNumber(@Param("floor") short floor);
 
+    @Query("select r from Room r order by r.floor asc, r.roomNumber asc")
+    List<Room> findAllOrderByFloorAndRoomNumber();
+
     List<Room> findByIdIn(Collection<UUID> ids);
 }
@@ -0,0 +1,117 @@
+package com.dormmate.backend.modules.fridge.application;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dormmate.backend.modules.inspection.domain.InspectionSession;
+import com.dormmate.backend.modules.inspection.domain.InspectionStatus;
+import com.dormmate.backend.modules.inspection.infrastructure.persistence.InspectionSessionRepository;
+
+/**
+ * 칸별 진행 중 검사 세션과 잠금 만료 시각을 프로세스 메모리에 보관한다.
+ * 검사 시작/제출/취소/만료 해제 시 InspectionService가 갱신하고, 기동 시와 전체 토폴로지 변경 시 DB에서 다시 적재한다.
+ * 검사 시작은 즉시 반영하고(롤백 시 되돌림) 종료는 커밋 이후 반영하므로, 경계 구간에서는 잠긴 쪽으로 판단한다.
+ */
+@Component
+public class CompartmentLockRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(CompartmentLockRegistry.class);
+
+    private final InspectionSessionRepository inspectionSessionRepository;
+    private final Map<UUID, InspectionLock> locks = new ConcurrentHashMap<>();
+
+    public CompartmentLockRegistry(InspectionSessionRepository inspectionSessionRepository) {
+        this.inspectionSessionRepository = inspectionSessionRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rehydrate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopologyChanged(FridgeTopologyChangedEvent event) {
+        // 시드/초기화처럼 전체 칸이 바뀐 경우에는 검사 세션도 SQL로 바뀌었을 수 있다.
+        if (event.compartmentIds().isEmpty()) {
+            rehydrate();
+        }
+    }
+
+    public synchronized void rehydrate() {
+        Map<UUID, InspectionLock> loaded = new HashMap<>();
+        for (InspectionSession session : inspectionSessionRepository.findWithCompartmentByStatus(InspectionStatus.IN_PROGRESS)) {
+            loaded.put(
+                    session.getFridgeCompartment().getId(),
+                    new InspectionLock(session.getId(), session.getFridgeCompartment().getLockedUntil())
+            );
+        }
+        locks.clear();
+        locks.putAll(loaded);
+        log.debug("Compartment lock registry rehydrated: inProgress={}", loaded.size());
+    }
+
+    public void inspectionStarted(UUID compartmentId, UUID sessionId, OffsetDateTime lockedUntil) {
+        InspectionLock lock = new InspectionLock(sessionId, lockedUntil);
+        locks.put(compartmentId, lock);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        locks.remove(compartmentId, lock);
+                    }
+                }
+            });
+        }
+    }
+
+    public void lockExtended(UUID compartmentId, OffsetDateTime lockedUntil) {
+        locks.computeIfPresent(compartmentId, (id, lock) -> new InspectionLock(lock.sessionId(), lockedUntil));
+    }
+
+    public void inspectionEnded(UUID compartmentId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    locks.remove(compartmentId);
+                }
+            });
+            return;
+        }
+        locks.remove(compartmentId);
+    }
+
+    public boolean isUnderInspection(UUID compartmentId) {
+        return locks.containsKey(compartmentId);
+    }
+
+    public Optional<InspectionLock> find(UUID compartmentId) {
+        return Optional.ofNullable(locks.get(compartmentId));
+    }
+
+    public Set<UUID> compartmentsUnderInspection(Collection<UUID> compartmentIds) {
+        return compartmentIds.stream()
+                .filter(locks::containsKey)
+                .collect(Collectors.toSet());
+    }
+
+    public record InspectionLock(UUID sessionId, OffsetDateTime lockedUntil) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.dormmate.backend.modules.fridge.application;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.dormmate.backend.global.security.SecurityUtils;
+import com.dormmate.backend.modules.auth.application.RoomAssignmentChangedEvent;
+import com.dormmate.backend.modules.auth.domain.Room;
+import com.dormmate.backend.modules.auth.infrastructure.persistence.RoomAssignmentRepository;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.CompartmentRoomAccessRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 사용자·칸 조합별 접근 판단 재료(호실, 층, 칸 배정 여부)를 크기와 TTL이 제한된 LRU로 보관한다.
+ * 역할(관리자/층별장)은 요청마다 보안 컨텍스트에서 확인하므로 캐시에 담지 않는다.
+ * 칸 배분·호실 배정이 바뀌면 커밋 이후 해당 칸(또는 전체)을 비운다.
+ */
+@Component
+public class FridgeAccessDecisionCache {
+
+    private final RoomAssignmentRepository roomAssignmentRepository;
+    private final CompartmentRoomAccessRepository compartmentRoomAccessRepository;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<AccessKey, CachedFacts> entries;
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public FridgeAccessDecisionCache(
+            RoomAssignmentRepository roomAssignmentRepository,
+            CompartmentRoomAccessRepository compartmentRoomAccessRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.fridge.access-cache.max-entries:10000}") int maxEntries,
+            @Value("${app.fridge.access-cache.ttl:PT5M}") Duration ttl
+    ) {
+        this.roomAssignmentRepository = roomAssignmentRepository;
+        this.compartmentRoomAccessRepository = compartmentRoomAccessRepository;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<AccessKey, CachedFacts> eldest) {
+                return size() > FridgeAccessDecisionCache.this.maxEntries;
+            }
+        };
+        this.hits = Counter.builder("fridge.access.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("fridge.access.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("fridge.access.cache.size", this, FridgeAccessDecisionCache::size)
+                .register(meterRegistry);
+    }
+
+    @Transactional(readOnly = true)
+    public AccessFacts resolve(UUID userId, UUID compartmentId) {
+        AccessKey key = new AccessKey(userId, compartmentId);
+        long now = System.nanoTime();
+        synchronized (entries) {
+            CachedFacts cached = entries.get(key);
+            if (cached != null && cached.expiresAt() - now > 0) {
+                hits.increment();
+                return cached.facts();
+            }
+        }
+        misses.increment();
+        long loadedGeneration = generation.get();
+        AccessFacts facts = load(userId, compartmentId);
+        synchronized (entries) {
+            // 적재 중 무효화가 들어왔다면 이번 결과는 이 요청에만 쓰고 저장하지 않는다.
+            if (generation.get() == loadedGeneration) {
+                entries.put(key, new CachedFacts(facts, now + ttlNanos));
+            }
+        }
+        return facts;
+    }
+
+    public void invalidateAll() {
+        invalidateCompartments(Set.of());
+    }
+
+    public void invalidateCompartments(Set<UUID> compartmentIds) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            if (compartmentIds.isEmpty()) {
+                entries.clear();
+            } else {
+                entries.keySet().removeIf(key -> compartmentIds.contains(key.compartmentId()));
+            }
+        }
+    }
+
+    public void invalidateUsers(Set<UUID> userIds) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            if (userIds.isEmpty()) {
+                entries.clear();
+            } else {
+                entries.keySet().removeIf(key -> userIds.contains(key.userId()));
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopologyChanged(FridgeTopologyChangedEvent event) {
+        invalidateCompartments(event.compartmentIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomAssignmentChanged(RoomAssignmentChangedEvent event) {
+        invalidateUsers(event.userIds());
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private AccessFacts load(UUID userId, UUID compartmentId) {
+        return roomAssignmentRepository.findActiveAssignment(userId)
+                .map(assignment -> {
+                    Room room = assignment.getRoom();
+                    boolean roomMember = compartmentRoomAccessRepository
+                            .findByFridgeCompartmentIdAndReleasedAtIsNullOrderByAssignedAtAsc(compartmentId)
+                            .stream()
+                            .anyMatch(access -> access.getRoom().getId().equals(room.getId()));
+                    return new AccessFacts(room.getId(), room.getFloor(), roomMember);
+                })
+                .orElse(AccessFacts.UNASSIGNED);
+    }
+
+    /**
+     * roomId가 null이면 활성 호실 배정이 없는 사용자다.
+     */
+    public record AccessFacts(UUID roomId, short roomFloor, boolean roomMember) {
+
+        static final AccessFacts UNASSIGNED = new AccessFacts(null, (short) 0, false);
+
+        public boolean assigned() {
+            return roomId != null;
+        }
+
+        public boolean floorManagerOn(short floorNo) {
+            return assigned() && SecurityUtils.hasRole("FLOOR_MANAGER") && roomFloor == floorNo;
+        }
+    }
+
+    private record AccessKey(UUID userId, UUID compartmentId) {
+    }
+
+    private record CachedFacts(AccessFacts facts, long expiresAt) {
+    }
+}
@@ -1,10 +1,15 @@
 package com.dormmate.backend.modules.fridge.application;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
@@ -14,13 +19,15 @@ import org.springframework.web.server.ResponseStatusException;
 
 import com.dormmate.backend.global.common.ResourceStatus;
 import com.dormmate.backend.global.security.SecurityUtils;
-import com.dormmate.backend.modules.fridge.domain.FridgeBundleStatus;
 import com.dormmate.backend.modules.fridge.domain.FridgeCompartment;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeCompartmentRepository;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeItemRepository;
 import com.dormmate.backend.modules.fridge.presentation.dto.FridgeDtoMapper;
 import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotResponse;
 import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotStatus;
 import com.dormmate.backend.modules.fridge.presentation.dto.UpdateCompartmentConfigRequest;
+import com.dormmate.backend.modules.fridge.presentation.dto.admin.ExpiryHistogramResponse;
+import com.dormmate.backend.modules.fridge.presentation.dto.admin.SlotStatusVerificationResponse;
 import com.dormmate.backend.modules.inspection.domain.InspectionStatus;
 import com.dormmate.backend.modules.inspection.infrastructure.persistence.InspectionSessionRepository;
 
@@ -28,18 +35,34 @@ import com.dormmate.backend.modules.inspection.infrastructure.persistence.Inspec
 @Transactional
 public class FridgeAdminService {
 
+    private static final short MIN_FLOOR = 2;
+    private static final short MAX_FLOOR = 5;
+    private static final int MAX_HISTOGRAM_DAYS = 30;
+
     private final FridgeCompartmentRepository fridgeCompartmentRepository;
     private final InspectionSessionRepository inspectionSessionRepository;
     private final FridgeSlotStatusResolver fridgeSlotStatusResolver;
+    private final FridgeSlotStatusProjector fridgeSlotStatusProjector;
+    private final FridgeItemRepository fridgeItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
     public FridgeAdminService(
             FridgeCompartmentRepository fridgeCompartmentRepository,
             InspectionSessionRepository inspectionSessionRepository,
-            FridgeSlotStatusResolver fridgeSlotStatusResolver
+            FridgeSlotStatusResolver fridgeSlotStatusResolver,
+            FridgeSlotStatusProjector fridgeSlotStatusProjector,
+            FridgeItemRepository fridgeItemRepository,
+            ApplicationEventPublisher eventPublisher,
+            Clock clock
     ) {
         this.fridgeCompartmentRepository = fridgeCompartmentRepository;
         this.inspectionSessionRepository = inspectionSessionRepository;
         this.fridgeSlotStatusResolver = fridgeSlotStatusResolver;
+        this.fridgeSlotStatusProjector = fridgeSlotStatusProjector;
+        this.fridgeItemRepository = fridgeItemRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
     }
 
     @Transactional(readOnly = true)
@@ -59,7 +82,7 @@ public class FridgeAdminService {
             compartments = fridgeCompartmentRepository.findAllWithActiveUnit();
         }
 
-        Map<UUID, FridgeSlotStatus> slotStatuses = fridgeSlotStatusResolver.resolve(compartments);
+        Map<UUID, FridgeSlotStatus> slotStatuses = fridgeSlotStatusProjector.resolve(compartments);
 
         return compartments.stream()
                 .sorted(Comparator
@@ -84,12 +107,65 @@ public class FridgeAdminService {
 
         FridgeCompartment saved = fridgeCompartmentRepository.save(compartment);
         fridgeCompartmentRepository.flush();
+        eventPublisher.publishEvent(FridgeTopologyChangedEvent.of(saved.getId()));
 
         FridgeSlotStatus slotStatus = fridgeSlotStatusResolver.resolve(saved);
 
         return FridgeDtoMapper.toSlotResponse(saved, true, slotStatus);
     }
 
+    public SlotStatusVerificationResponse verifySlotStatuses(boolean repair) {
+        ensureAdminRole();
+        return fridgeSlotStatusProjector.verify(repair);
+    }
+
+    /**
+     * 유통기한 버킷을 층·일자별로 합산한다. 기록이 없는 날도 0으로 채워 층마다 같은 길이의 구간을 돌려준다.
+     */
+    @Transactional(readOnly = true)
+    public ExpiryHistogramResponse getExpiryHistogram(Integer floorParam, int days) {
+        ensureAdminRole();
+        if (floorParam != null && (floorParam < MIN_FLOOR || floorParam > MAX_FLOOR)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_FLOOR");
+        }
+        if (days < 1 || days > MAX_HISTOGRAM_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_DAYS");
+        }
+
+        List<Short> floors = new ArrayList<>();
+        if (floorParam != null) {
+            floors.add(floorParam.shortValue());
+        } else {
+            for (short floor = MIN_FLOOR; floor <= MAX_FLOOR; floor++) {
+                floors.add(floor);
+            }
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        Map<Short, long[]> countsByFloor = new HashMap<>();
+        floors.forEach(floor -> countsByFloor.put(floor, new long[days + 1]));
+        fridgeItemRepository.aggregateExpiryHistogram(floors, today, today.plusDays(days))
+                .forEach(row -> {
+                    long[] counts = countsByFloor.get((short) row.getFloorNo());
+                    if (counts != null) {
+                        // 0번 칸이 만료분, 1번부터 기준일+0일
+                        counts[row.getDayOffset() + 1] += row.getItemCount();
+                    }
+                });
+
+        List<ExpiryHistogramResponse.FloorHistogram> histograms = floors.stream()
+                .map(floor -> {
+                    long[] counts = countsByFloor.get(floor);
+                    List<ExpiryHistogramResponse.DayCount> dayCounts = new ArrayList<>(days);
+                    for (int offset = 0; offset < days; offset++) {
+                        dayCounts.add(new ExpiryHistogramResponse.DayCount(today.plusDays(offset), counts[offset + 1]));
+                    }
+                    return new ExpiryHistogramResponse.FloorHistogram(floor, counts[0], dayCounts);
+                })
+                .toList();
+        return new ExpiryHistogramResponse(today, days, histograms);
+    }
+
     private void applyCapacityUpdate(UpdateCompartmentConfigRequest request, FridgeCompartment compartment) {
         Integer capacity = request.maxBundleCount();
         if (capacity == null) {
@@ -100,10 +176,7 @@ public class FridgeAdminService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_CAPACITY");
         }
 
-        long activeBundleCount = compartment.getBundles().stream()
-                .filter(bundle -> bundle.getStatus() == FridgeBundleStatus.ACTIVE)
-                .count();
-        if (activeBundleCount > capacity) {
+        if (compartment.getActiveBundleCount() > capacity) {
             throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "CAPACITY_BELOW_ACTIVE");
         }
 
@@ -0,0 +1,86 @@
+package com.dormmate.backend.modules.fridge.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dormmate.backend.global.web.VersionStamps;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleRepository;
+
+/**
+ * 삭제 후 보관 기간(retention)이 지난 포장·물품을 보관 테이블로 옮긴다.
+ * 배치마다 별도 트랜잭션으로 커밋해 잠금을 짧게 유지하고, 한 번 실행에 옮기는 양은 max-batches로 제한한다.
+ * 옮긴 행이 있으면 실행당 한 번 조회 ETag를 모두 무효화해, 조건부 조회가 옮기기 전 응답을 304로 재사용하지 않게 한다.
+ */
+@Component
+public class FridgeBundleArchiveScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(FridgeBundleArchiveScheduler.class);
+
+    private final FridgeBundleRepository fridgeBundleRepository;
+    private final VersionStamps versionStamps;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public FridgeBundleArchiveScheduler(
+            FridgeBundleRepository fridgeBundleRepository,
+            VersionStamps versionStamps,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${app.fridge.archive.retention:P180D}") Duration retention,
+            @Value("${app.fridge.archive.batch-size:500}") int batchSize,
+            @Value("${app.fridge.archive.max-batches:200}") int maxBatches
+    ) {
+        this.fridgeBundleRepository = fridgeBundleRepository;
+        this.versionStamps = versionStamps;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(cron = "${app.fridge.archive.cron:0 0 5 * * *}")
+    public int archiveDeletedBundles() {
+        OffsetDateTime deletedBefore = hotWindowStart();
+        int bundles = 0;
+        int items = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            FridgeBundleRepository.ArchiveBatchProjection moved = transactionTemplate.execute(
+                    status -> fridgeBundleRepository.archiveDeletedRows(deletedBefore, batchSize));
+            if (moved == null || moved.getArchivedBundles() + moved.getArchivedItems() == 0) {
+                break;
+            }
+            bundles += moved.getArchivedBundles();
+            items += moved.getArchivedItems();
+        }
+        if (bundles + items > 0) {
+            // 배치 범위가 층과 무관하게 잡히므로 층별로 나누지 않고 전체를 한 번 올린다.
+            versionStamps.bumpAllAfterCommit();
+            log.info("Archived {} deleted bundles and {} deleted items older than {}", bundles, items, deletedBefore);
+        }
+        return bundles;
+    }
+
+    /**
+     * 이 시각 이전에 삭제된 행은 보관 테이블에 있을 수 있다.
+     */
+    public OffsetDateTime hotWindowStart() {
+        return OffsetDateTime.now(clock).minus(retention);
+    }
+
+    public boolean reachesArchive(OffsetDateTime deletedSince) {
+        return deletedSince.isBefore(hotWindowStart());
+    }
+}
@@ -0,0 +1,210 @@
+package com.dormmate.backend.modules.fridge.application;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.dormmate.backend.modules.fridge.domain.LabelFormatter;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleExportRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 스크롤로 읽은 내보내기 행을 응답 스트림에 바로 쓴다.
+ * NDJSON은 포장 한 건을 한 줄로(물품 포함), CSV는 물품 한 건을 한 줄로 쓴다.
+ * 행은 포장 단위로 이어서 들어오므로 NDJSON도 현재 포장 하나만 메모리에 둔다.
+ */
+class FridgeBundleExportWriter implements Consumer<FridgeBundleExportRow> {
+
+    private static final List<String> CSV_HEADER = List.of(
+            "bundleId", "floor", "slot", "label", "bundleName", "memo",
+            "ownerUserId", "ownerName", "ownerRoom", "bundleStatus", "bundleCreatedAt", "bundleDeletedAt",
+            "itemId", "itemName", "expiryDate", "quantity", "unitCode", "itemStatus", "freshness"
+    );
+
+    private final FridgeBundleExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+
+    private BundleLine pending;
+
+    FridgeBundleExportWriter(FridgeBundleExportFormat format, ObjectMapper objectMapper, OutputStream outputStream) {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == FridgeBundleExportFormat.CSV) {
+            // 엑셀이 UTF-8 한글을 깨뜨리지 않도록 BOM을 붙인다.
+            write("\uFEFF");
+            writeCsvLine(CSV_HEADER);
+        }
+    }
+
+    @Override
+    public void accept(FridgeBundleExportRow row) {
+        if (format == FridgeBundleExportFormat.CSV) {
+            writeCsvRow(row);
+            return;
+        }
+        if (pending == null || !pending.bundleId().equals(row.bundleId())) {
+            flushPending();
+            pending = BundleLine.of(row);
+        }
+        if (row.hasItem()) {
+            pending.items().add(ItemLine.of(row));
+        }
+    }
+
+    void finish() {
+        flushPending();
+        try {
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void flushPending() {
+        if (pending == null) {
+            return;
+        }
+        try {
+            write(objectMapper.writeValueAsString(pending));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize export line", ex);
+        }
+        write("\n");
+        pending = null;
+    }
+
+    private void writeCsvRow(FridgeBundleExportRow row) {
+        List<String> cells = new ArrayList<>(CSV_HEADER.size());
+        cells.add(text(row.bundleId()));
+        cells.add(Integer.toString(row.floorNo()));
+        cells.add(LabelFormatter.toSlotLetter(row.slotIndex()));
+        cells.add(LabelFormatter.toBundleLabel(row.slotIndex(), row.labelNumber()));
+        cells.add(row.bundleName());
+        cells.add(row.memo());
+        cells.add(text(row.ownerUserId()));
+        cells.add(row.ownerDisplayName());
+        cells.add(row.ownerRoomDisplayName());
+        cells.add(row.bundleStatus());
+        cells.add(text(row.bundleCreatedAt()));
+        cells.add(text(row.bundleDeletedAt()));
+        cells.add(text(row.itemId()));
+        cells.add(row.itemName());
+        cells.add(text(row.expiryDate()));
+        cells.add(text(row.quantity()));
+        cells.add(row.unitCode());
+        cells.add(row.itemStatus());
+        cells.add(row.itemFreshness());
+        writeCsvLine(cells);
+    }
+
+    private void writeCsvLine(List<String> cells) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < cells.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(escapeCsv(cells.get(i)));
+        }
+        line.append("\r\n");
+        write(line.toString());
+    }
+
+    static String escapeCsv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String cell = value;
+        // 사용자가 입력한 이름이 스프레드시트에서 수식으로 실행되지 않게 한다.
+        char first = cell.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            cell = "'" + cell;
+        }
+        if (cell.indexOf(',') >= 0 || cell.indexOf('"') >= 0 || cell.indexOf('\n') >= 0 || cell.indexOf('\r') >= 0) {
+            return "\"" + cell.replace("\"", "\"\"") + "\"";
+        }
+        return cell;
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private void write(String value) {
+        try {
+            writer.write(value);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private record BundleLine(
+            UUID bundleId,
+            int floor,
+            String slotLetter,
+            String labelDisplay,
+            String bundleName,
+            String memo,
+            UUID ownerUserId,
+            String ownerDisplayName,
+            String ownerRoomNumber,
+            String status,
+            OffsetDateTime createdAt,
+            OffsetDateTime deletedAt,
+            List<ItemLine> items
+    ) {
+
+        static BundleLine of(FridgeBundleExportRow row) {
+            return new BundleLine(
+                    row.bundleId(),
+                    row.floorNo(),
+                    LabelFormatter.toSlotLetter(row.slotIndex()),
+                    LabelFormatter.toBundleLabel(row.slotIndex(), row.labelNumber()),
+                    row.bundleName(),
+                    row.memo(),
+                    row.ownerUserId(),
+                    row.ownerDisplayName(),
+                    row.ownerRoomDisplayName(),
+                    row.bundleStatus(),
+                    row.bundleCreatedAt(),
+                    row.bundleDeletedAt(),
+                    new ArrayList<>()
+            );
+        }
+    }
+
+    private record ItemLine(
+            UUID itemId,
+            String name,
+            LocalDate expiryDate,
+            Integer quantity,
+            String unitCode,
+            String status,
+            String freshness
+    ) {
+
+        static ItemLine of(FridgeBundleExportRow row) {
+            return new ItemLine(
+                    row.itemId(),
+                    row.itemName(),
+                    row.expiryDate(),
+                    row.quantity(),
+                    row.unitCode(),
+                    row.itemStatus(),
+                    row.itemFreshness()
+            );
+        }
+    }
+}
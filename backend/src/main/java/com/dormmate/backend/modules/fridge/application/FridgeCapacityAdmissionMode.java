@@ -0,0 +1,12 @@
+package com.dormmate.backend.modules.fridge.application;
+
+/**
+ * 포장 등록 시 칸 허용량을 확보하는 방식.
+ * 운영 중 문제가 생기면 app.fridge.capacity-admission=PESSIMISTIC_LOCK 으로 기존 방식으로 되돌릴 수 있다.
+ */
+public enum FridgeCapacityAdmissionMode {
+    /** 조건부 UPDATE 한 번으로 카운터를 증가시키며 허용량을 확보한다. */
+    CONDITIONAL_UPDATE,
+    /** 요청 시작 시 칸 행을 PESSIMISTIC_WRITE로 잠근 뒤 카운터를 확인한다. */
+    PESSIMISTIC_LOCK
+}
@@ -0,0 +1,23 @@
+package com.dormmate.backend.modules.fridge.application;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 칸 잠금이 걸리거나 풀리거나 연장되었음을 알린다. 잠금은 토폴로지 스냅샷과 접근 판단에 들어가지 않으므로
+ * 두 캐시는 이 이벤트를 듣지 않는다. extension이면 칸 상태는 그대로이고 잠금 만료 시각만 바뀐 것이다.
+ */
+public record FridgeCompartmentLockChangedEvent(Set<UUID> compartmentIds, boolean extension) {
+
+    public FridgeCompartmentLockChangedEvent {
+        compartmentIds = compartmentIds == null ? Set.of() : Set.copyOf(compartmentIds);
+    }
+
+    public static FridgeCompartmentLockChangedEvent of(UUID compartmentId) {
+        return new FridgeCompartmentLockChangedEvent(Set.of(compartmentId), false);
+    }
+
+    public static FridgeCompartmentLockChangedEvent extended(UUID compartmentId) {
+        return new FridgeCompartmentLockChangedEvent(Set.of(compartmentId), true);
+    }
+}
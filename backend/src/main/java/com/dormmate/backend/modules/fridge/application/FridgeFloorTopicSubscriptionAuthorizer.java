@@ -0,0 +1,34 @@
+package com.dormmate.backend.modules.fridge.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.dormmate.backend.global.security.StompSubscriptionAuthorizer;
+
+/**
+ * 층 토픽은 그 층의 칸 목록을 조회할 수 있는 사용자만 구독한다. 판단은 칸 목록 조회와 같은 규칙을 쓴다.
+ */
+@Component
+public class FridgeFloorTopicSubscriptionAuthorizer implements StompSubscriptionAuthorizer {
+
+    private final FridgeService fridgeService;
+
+    public FridgeFloorTopicSubscriptionAuthorizer(FridgeService fridgeService) {
+        this.fridgeService = fridgeService;
+    }
+
+    @Override
+    public boolean supports(String destination) {
+        return FridgeSlotStatusBroadcaster.isFloorTopic(destination);
+    }
+
+    @Override
+    public void authorize(String destination) {
+        Short floorNo = FridgeSlotStatusBroadcaster.parseFloorTopic(destination);
+        if (floorNo == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_DESTINATION");
+        }
+        fridgeService.ensureCanWatchFloor(floorNo);
+    }
+}
@@ -0,0 +1,44 @@
+package com.dormmate.backend.modules.fridge.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.BundleLabelBitmapRepository;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeCompartmentRepository;
+
+/**
+ * 칸별 활성 포장 카운터와 라벨 비트맵이 실제 ACTIVE 포장과 어긋난 경우 주기적으로 보정한다.
+ */
+@Component
+public class FridgeOccupancyReconciliationScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(FridgeOccupancyReconciliationScheduler.class);
+
+    private final FridgeCompartmentRepository fridgeCompartmentRepository;
+    private final BundleLabelBitmapRepository bundleLabelBitmapRepository;
+
+    public FridgeOccupancyReconciliationScheduler(
+            FridgeCompartmentRepository fridgeCompartmentRepository,
+            BundleLabelBitmapRepository bundleLabelBitmapRepository
+    ) {
+        this.fridgeCompartmentRepository = fridgeCompartmentRepository;
+        this.bundleLabelBitmapRepository = bundleLabelBitmapRepository;
+    }
+
+    @Scheduled(cron = "${app.fridge.occupancy-reconcile-cron:0 30 4 * * *}")
+    @Transactional
+    public int reconcileActiveBundleCounts() {
+        int fixed = fridgeCompartmentRepository.reconcileActiveBundleCounts();
+        if (fixed > 0) {
+            log.warn("Reconciled active bundle counters for {} compartments", fixed);
+        }
+        int rebuilt = bundleLabelBitmapRepository.rebuildAll();
+        if (rebuilt > 0) {
+            log.warn("Rebuilt label bitmaps for {} compartments", rebuilt);
+        }
+        return fixed;
+    }
+}
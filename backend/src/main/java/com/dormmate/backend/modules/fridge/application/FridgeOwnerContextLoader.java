@@ -0,0 +1,67 @@
+package com.dormmate.backend.modules.fridge.application;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dormmate.backend.modules.auth.domain.RoomAssignment;
+import com.dormmate.backend.modules.auth.infrastructure.persistence.RoomAssignmentRepository;
+import com.dormmate.backend.modules.fridge.domain.FridgeBundle;
+
+/**
+ * 포장 응답에 필요한 소유자 호실 배정을 한 번의 조회로 묶어 불러온다.
+ */
+@Component
+public class FridgeOwnerContextLoader {
+
+    private final RoomAssignmentRepository roomAssignmentRepository;
+
+    public FridgeOwnerContextLoader(RoomAssignmentRepository roomAssignmentRepository) {
+        this.roomAssignmentRepository = roomAssignmentRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public OwnerContext loadForBundles(Collection<FridgeBundle> bundles) {
+        Set<UUID> ownerIds = new LinkedHashSet<>();
+        bundles.forEach(bundle -> ownerIds.add(bundle.getOwner().getId()));
+        return loadForOwners(ownerIds);
+    }
+
+    @Transactional(readOnly = true)
+    public OwnerContext loadForOwners(Collection<UUID> ownerIds) {
+        if (ownerIds == null || ownerIds.isEmpty()) {
+            return OwnerContext.EMPTY;
+        }
+        Map<UUID, RoomAssignment> assignments = new HashMap<>();
+        for (RoomAssignment assignment : roomAssignmentRepository.findActiveAssignmentsByUserIds(Set.copyOf(ownerIds))) {
+            assignments.putIfAbsent(assignment.getDormUser().getId(), assignment);
+        }
+        return new OwnerContext(assignments);
+    }
+
+    public static final class OwnerContext {
+
+        private static final OwnerContext EMPTY = new OwnerContext(Map.of());
+
+        private final Map<UUID, RoomAssignment> assignmentsByOwner;
+
+        private OwnerContext(Map<UUID, RoomAssignment> assignmentsByOwner) {
+            this.assignmentsByOwner = Map.copyOf(assignmentsByOwner);
+        }
+
+        public RoomAssignment assignmentOf(UUID ownerId) {
+            return assignmentsByOwner.get(ownerId);
+        }
+
+        public String roomDisplayName(UUID ownerId) {
+            RoomAssignment assignment = assignmentsByOwner.get(ownerId);
+            return assignment != null ? assignment.getRoom().getDisplayName() : null;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.dormmate.backend.modules.fridge.application;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.dormmate.backend.global.security.JwtAuthenticationPrincipal;
+import com.dormmate.backend.global.security.SecurityUtils;
+import com.dormmate.backend.global.web.VersionStamps;
+import com.dormmate.backend.modules.auth.application.RoomAssignmentChangedEvent;
+import com.dormmate.backend.modules.fridge.domain.FridgeCompartment;
+import com.dormmate.backend.modules.fridge.domain.FridgeTopologySnapshot;
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotState;
+
+/**
+ * 냉장고·검사 조회 응답의 ETag를 층 단위 변경 카운터로 만든다.
+ * 층 범위("fridge:floor:N")와 전체 범위("fridge")를 함께 올리므로 층을 지정하지 않은 조회도 변경을 감지한다.
+ * 칸 목록 ETag는 잠금 만료처럼 시간이 지나며 바뀌는 상태를 위해 칸 상태 투영을 한 번 읽고, 나머지 ETag는 메모리만 사용한다.
+ */
+@Component
+public class FridgeReadVersions {
+
+    private static final String ALL_FLOORS_SCOPE = "fridge";
+
+    private final VersionStamps versionStamps;
+    private final FridgeTopologyCache fridgeTopologyCache;
+    private final FridgeSlotStatusProjector fridgeSlotStatusProjector;
+    private final Clock clock;
+
+    public FridgeReadVersions(
+            VersionStamps versionStamps,
+            FridgeTopologyCache fridgeTopologyCache,
+            FridgeSlotStatusProjector fridgeSlotStatusProjector,
+            Clock clock
+    ) {
+        this.versionStamps = versionStamps;
+        this.fridgeTopologyCache = fridgeTopologyCache;
+        this.fridgeSlotStatusProjector = fridgeSlotStatusProjector;
+        this.clock = clock;
+    }
+
+    public void compartmentChanged(FridgeCompartment compartment) {
+        floorChanged(compartment.getFridgeUnit().getFloorNo());
+    }
+
+    public void floorChanged(short floorNo) {
+        versionStamps.bumpAfterCommit(List.of(floorScope(floorNo), ALL_FLOORS_SCOPE));
+    }
+
+    /**
+     * 커밋 직전에 변경 범위를 같은 트랜잭션의 커밋 이후 작업으로 등록한다. 버전은 메모리에서만 올리므로 DB 작업은 없다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTopologyChanged(FridgeTopologyChangedEvent event) {
+        compartmentsChanged(event.compartmentIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onLockChanged(FridgeCompartmentLockChangedEvent event) {
+        compartmentsChanged(event.compartmentIds());
+    }
+
+    private void compartmentsChanged(Set<UUID> compartmentIds) {
+        if (compartmentIds.isEmpty()) {
+            versionStamps.bumpAllAfterCommit();
+            return;
+        }
+        FridgeTopologySnapshot topology = fridgeTopologyCache.peek();
+        if (topology == null) {
+            versionStamps.bumpAllAfterCommit();
+            return;
+        }
+        List<String> scopes = new ArrayList<>();
+        scopes.add(ALL_FLOORS_SCOPE);
+        for (UUID compartmentId : compartmentIds) {
+            FridgeTopologySnapshot.Slot slot = topology.findSlot(compartmentId);
+            if (slot == null) {
+                versionStamps.bumpAllAfterCommit();
+                return;
+            }
+            scopes.add(floorScope(slot.floorNo()));
+        }
+        versionStamps.bumpAfterCommit(scopes);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomAssignmentChanged(RoomAssignmentChangedEvent event) {
+        // 호실 배정은 조회자별 접근 범위와 소유자 호실 표시를 모두 바꾼다.
+        versionStamps.bumpAll();
+    }
+
+    public String slotsEtag(Integer floor, String view, Integer page, Integer size) {
+        FridgeTopologySnapshot topology = fridgeTopologyCache.current();
+        List<FridgeTopologySnapshot.Slot> slots = floor != null
+                ? topology.slotsOnFloor(floor.shortValue())
+                : topology.slots();
+        // 잠금 만료처럼 시간이 지나며 바뀌는 상태는 카운터로 잡히지 않으므로 현재 상태를 함께 넣는다.
+        Map<UUID, FridgeSlotState> states = new TreeMap<>(fridgeSlotStatusProjector.resolveSlots(slots));
+        return versionStamps.etag(scopesFor(floor), viewer(), floor, view, page, size, states);
+    }
+
+    public String bundlesEtag(UUID slotId, Object... parameters) {
+        Integer floor = null;
+        if (slotId != null) {
+            FridgeTopologySnapshot.Slot slot = fridgeTopologyCache.current().findSlot(slotId);
+            floor = slot != null ? (int) slot.floorNo() : null;
+        }
+        // 임박/만료 표시는 날짜가 바뀌면 달라진다.
+        LocalDate today = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+        return versionStamps.etag(scopesFor(floor), viewer(), slotId, parameters, today);
+    }
+
+    public String activeInspectionEtag(Integer floor) {
+        return versionStamps.etag(scopesFor(floor), viewer(), floor);
+    }
+
+    private List<String> scopesFor(Integer floor) {
+        return floor != null ? List.of(floorScope(floor.shortValue())) : List.of(ALL_FLOORS_SCOPE);
+    }
+
+    private static String floorScope(short floorNo) {
+        return "fridge:floor:" + floorNo;
+    }
+
+    private static Object viewer() {
+        JwtAuthenticationPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        return List.of(principal.userId(), principal.roles());
+    }
+}
@@ -6,11 +6,18 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
@@ -26,48 +33,91 @@ import com.dormmate.backend.modules.fridge.domain.CompartmentType;
 import com.dormmate.backend.modules.fridge.domain.FridgeCompartment;
 import com.dormmate.backend.modules.fridge.domain.FridgeUnit;
 import com.dormmate.backend.modules.fridge.domain.LabelFormatter;
+import com.dormmate.backend.modules.fridge.domain.ReallocationMode;
+import com.dormmate.backend.modules.fridge.domain.ReallocationSolver;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.CompartmentRoomAccessRepository;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeCompartmentRepository;
+import com.dormmate.backend.modules.fridge.presentation.dto.admin.ReallocationAllFloorsPreviewResponse;
+import com.dormmate.backend.modules.fridge.presentation.dto.admin.ReallocationAllFloorsPreviewResponse.FloorPreview;
 import com.dormmate.backend.modules.fridge.presentation.dto.admin.ReallocationApplyRequest;
 import com.dormmate.backend.modules.fridge.presentation.dto.admin.ReallocationApplyRequest.CompartmentAllocationInput;
 import com.dormmate.backend.modules.fridge.presentation.dto.admin.ReallocationApplyResponse;
 import com.dormmate.backend.modules.fridge.presentation.dto.admin.ReallocationPreviewRequest;
 import com.dormmate.backend.modules.fridge.presentation.dto.admin.ReallocationPreviewResponse;
+import com.dormmate.backend.modules.fridge.presentation.dto.admin.ReallocationPreviewResponse.ChurnSummary;
 import com.dormmate.backend.modules.fridge.presentation.dto.admin.ReallocationPreviewResponse.CompartmentAllocationView;
 import com.dormmate.backend.modules.fridge.presentation.dto.admin.ReallocationPreviewResponse.RoomSummary;
 import com.dormmate.backend.modules.inspection.domain.InspectionStatus;
 import com.dormmate.backend.modules.inspection.infrastructure.persistence.InspectionSessionRepository;
 import com.dormmate.backend.global.security.SecurityUtils;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Transactional
 public class FridgeReallocationService {
 
+    private static final int PREVIEW_QUEUE_CAPACITY = 64;
+    private static final String LOCK_HOLD_METRIC = "fridge.reallocation.lock.hold";
+
     private final FridgeCompartmentRepository fridgeCompartmentRepository;
     private final CompartmentRoomAccessRepository compartmentRoomAccessRepository;
     private final RoomRepository roomRepository;
     private final InspectionSessionRepository inspectionSessionRepository;
+    private final CompartmentLockRegistry compartmentLockRegistry;
     private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor previewExecutor;
 
     public FridgeReallocationService(
             FridgeCompartmentRepository fridgeCompartmentRepository,
             CompartmentRoomAccessRepository compartmentRoomAccessRepository,
             RoomRepository roomRepository,
             InspectionSessionRepository inspectionSessionRepository,
+            CompartmentLockRegistry compartmentLockRegistry,
             AuditLogService auditLogService,
-            Clock clock
+            ApplicationEventPublisher eventPublisher,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${app.fridge.reallocation.preview-parallelism:4}") int previewParallelism
     ) {
         this.fridgeCompartmentRepository = fridgeCompartmentRepository;
         this.compartmentRoomAccessRepository = compartmentRoomAccessRepository;
         this.roomRepository = roomRepository;
         this.inspectionSessionRepository = inspectionSessionRepository;
+        this.compartmentLockRegistry = compartmentLockRegistry;
         this.auditLogService = auditLogService;
+        this.eventPublisher = eventPublisher;
         this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        // 작업 큐가 차면 요청 스레드가 직접 계산해 스레드 수와 대기열을 모두 제한한다.
+        this.previewExecutor = new ThreadPoolExecutor(
+                previewParallelism,
+                previewParallelism,
+                30L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(PREVIEW_QUEUE_CAPACITY),
+                Thread.ofPlatform().name("fridge-reallocation-preview-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.previewExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdownPreviewExecutor() {
+        previewExecutor.shutdown();
     }
 
     @Transactional(readOnly = true)
@@ -78,34 +128,104 @@ public class FridgeReallocationService {
             throw problem(NOT_FOUND, "ROOMS_NOT_FOUND_ON_FLOOR", "No rooms registered on floor %d".formatted(floor));
         }
 
-        List<FridgeCompartment> compartments = fridgeCompartmentRepository.findByFloorWithAccesses(floor).stream()
-                .filter(compartment -> compartment.getFridgeUnit().getStatus().isActive())
-                .sorted(Comparator.comparingInt(FridgeCompartment::getSlotIndex))
+        List<FridgeCompartment> compartments = activeUnitCompartments(fridgeCompartmentRepository.findByFloorWithAccesses(floor));
+        Set<UUID> compartmentsUnderInspection = compartmentLockRegistry.compartmentsUnderInspection(compartments.stream()
+                .map(FridgeCompartment::getId)
+                .collect(Collectors.toSet()));
+        return buildPreview(floor, rooms, compartments, compartmentsUnderInspection, request.resolvedMode());
+    }
+
+    /**
+     * 모든 층의 재배분 미리보기. 호실과 칸(현재 배정 포함)을 건물 전체에 대해 한 번씩만 읽고 진행 중 검사는 레지스트리로 확인한 뒤,
+     * 서로 독립인 층별 계산을 제한된 작업 풀에서 병렬로 수행한다. 엔티티는 요청 스레드에서 fetch join으로 모두 적재되어 있고
+     * 작업 스레드는 읽기만 한다.
+     */
+    @Transactional(readOnly = true)
+    public ReallocationAllFloorsPreviewResponse previewAllFloors(ReallocationMode mode) {
+        long startedAt = System.nanoTime();
+        Map<Short, List<Room>> roomsByFloor = roomRepository.findAllOrderByFloorAndRoomNumber().stream()
+                .collect(Collectors.groupingBy(Room::getFloor, TreeMap::new, Collectors.toList()));
+        Map<Short, List<FridgeCompartment>> compartmentsByFloor = activeUnitCompartments(fridgeCompartmentRepository.findAllWithAccesses())
+                .stream()
+                .collect(Collectors.groupingBy(
+                        compartment -> compartment.getFridgeUnit().getFloorNo(),
+                        TreeMap::new,
+                        Collectors.toList()));
+        Set<UUID> compartmentsUnderInspection = compartmentLockRegistry.compartmentsUnderInspection(compartmentsByFloor.values()
+                .stream()
+                .flatMap(List::stream)
+                .map(FridgeCompartment::getId)
+                .collect(Collectors.toSet()));
+        long loadedAt = System.nanoTime();
+
+        Set<Short> floors = new TreeSet<>(roomsByFloor.keySet());
+        floors.addAll(compartmentsByFloor.keySet());
+        List<CompletableFuture<FloorPreview>> futures = floors.stream()
+                .map(floor -> CompletableFuture.supplyAsync(() -> previewFloor(
+                        floor,
+                        roomsByFloor.getOrDefault(floor, List.of()),
+                        compartmentsByFloor.getOrDefault(floor, List.of()),
+                        compartmentsUnderInspection,
+                        mode
+                ), previewExecutor))
+                .toList();
+        List<FloorPreview> previews = futures.stream()
+                .map(CompletableFuture::join)
                 .toList();
 
+        return new ReallocationAllFloorsPreviewResponse(
+                previews,
+                TimeUnit.NANOSECONDS.toMillis(loadedAt - startedAt),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)
+        );
+    }
+
+    private FloorPreview previewFloor(
+            short floor,
+            List<Room> rooms,
+            List<FridgeCompartment> compartments,
+            Set<UUID> compartmentsUnderInspection,
+            ReallocationMode mode
+    ) {
+        long startedAt = System.nanoTime();
+        ReallocationPreviewResponse preview = null;
+        String errorCode = null;
+        try {
+            preview = buildPreview(floor, rooms, compartments, compartmentsUnderInspection, mode);
+        } catch (ProblemException ex) {
+            errorCode = ex.getCode();
+        }
+        return new FloorPreview(floor, preview, errorCode, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+    }
+
+    private ReallocationPreviewResponse buildPreview(
+            short floor,
+            List<Room> rooms,
+            List<FridgeCompartment> compartments,
+            Set<UUID> compartmentsUnderInspection,
+            ReallocationMode mode
+    ) {
+        if (rooms.isEmpty()) {
+            throw problem(NOT_FOUND, "ROOMS_NOT_FOUND_ON_FLOOR", "No rooms registered on floor %d".formatted(floor));
+        }
         if (compartments.isEmpty()) {
             throw problem(NOT_FOUND, "COMPARTMENTS_NOT_FOUND_ON_FLOOR", "No active fridge compartments found on floor %d".formatted(floor));
         }
 
-        Set<UUID> compartmentIds = compartments.stream()
-                .map(FridgeCompartment::getId)
-                .collect(Collectors.toSet());
-
-        Set<UUID> compartmentsUnderInspection = inspectionSessionRepository.findByStatus(InspectionStatus.IN_PROGRESS).stream()
-                .map(session -> session.getFridgeCompartment().getId())
-                .filter(compartmentIds::contains)
-                .collect(Collectors.toSet());
-
         List<RoomSummary> roomSummaries = rooms.stream()
                 .map(room -> new RoomSummary(room.getId(), room.getRoomNumber(), room.getRoomType().name(), room.getFloor()))
                 .toList();
 
-        List<FridgeCompartment> chillCompartments = compartments.stream()
+        List<UUID> chillCompartmentIds = compartments.stream()
                 .filter(fc -> fc.getCompartmentType() == CompartmentType.CHILL && fc.getStatus().isActive())
+                .map(FridgeCompartment::getId)
                 .toList();
 
         List<UUID> sortedRoomIds = rooms.stream().map(Room::getId).toList();
-        Map<UUID, List<UUID>> recommended = buildRecommendedAssignments(sortedRoomIds, chillCompartments);
+        Map<UUID, List<UUID>> currentAssignments = compartments.stream()
+                .filter(fc -> fc.getStatus().isActive())
+                .collect(Collectors.toMap(FridgeCompartment::getId, FridgeReallocationService::activeRoomIds));
+        Map<UUID, List<UUID>> recommended = ReallocationSolver.solve(mode, sortedRoomIds, chillCompartmentIds, currentAssignments);
 
         List<CompartmentAllocationView> allocations = compartments.stream()
                 .map(compartment -> toAllocationView(compartment, recommended, rooms, compartmentsUnderInspection))
@@ -117,10 +237,55 @@ public class FridgeReallocationService {
                 floor,
                 roomSummaries,
                 allocations,
-                totalChill
+                totalChill,
+                mode,
+                summarizeChurn(compartments, currentAssignments, recommended, sortedRoomIds)
         );
     }
 
+    /**
+     * 활성 칸의 추천안을 현재 배정과 비교한다. 공용(냉동) 칸의 목표는 층 전체 호실이고 비활성 칸은 적용 시 건드리지 않는다.
+     */
+    private static ChurnSummary summarizeChurn(
+            List<FridgeCompartment> compartments,
+            Map<UUID, List<UUID>> currentAssignments,
+            Map<UUID, List<UUID>> recommended,
+            List<UUID> sortedRoomIds
+    ) {
+        Map<UUID, List<UUID>> targets = new HashMap<>();
+        Map<UUID, List<UUID>> currentChill = new HashMap<>();
+        for (FridgeCompartment compartment : compartments) {
+            if (!compartment.getStatus().isActive()) {
+                continue;
+            }
+            if (compartment.getCompartmentType() == CompartmentType.CHILL) {
+                targets.put(compartment.getId(), recommended.getOrDefault(compartment.getId(), List.of()));
+                currentChill.put(compartment.getId(), currentAssignments.get(compartment.getId()));
+            } else {
+                targets.put(compartment.getId(), sortedRoomIds);
+            }
+        }
+        ReallocationSolver.Churn churn = ReallocationSolver.churn(currentAssignments, targets);
+        int movedRooms = ReallocationSolver.movedRooms(currentChill, recommended);
+        return new ChurnSummary(
+                movedRooms,
+                sortedRoomIds.size() - movedRooms,
+                churn.releasedAssignments(),
+                churn.createdAssignments(),
+                churn.avoidedWrites()
+        );
+    }
+
+    private static List<UUID> activeRoomIds(FridgeCompartment compartment) {
+        return compartment.getRoomAccesses().stream()
+                .filter(CompartmentRoomAccess::isActive)
+                .map(access -> access.getRoom().getId())
+                .toList();
+    }
+
+    /**
+     * 검증은 기존과 같고, 잠금 이후의 쓰기는 칸 수와 무관하게 해제 UPDATE 한 번과 다중 행 INSERT 한 번이다.
+     */
     public ReallocationApplyResponse apply(ReallocationApplyRequest request) {
         short floor = request.floor();
         List<Room> rooms = roomRepository.findByFloorOrderByRoomNumber(floor);
@@ -137,6 +302,7 @@ public class FridgeReallocationService {
         }
 
         List<FridgeCompartment> compartments = fridgeCompartmentRepository.findByIdInForUpdate(requestedCompartmentIds);
+        recordLockHold(System.nanoTime());
         if (compartments.size() != requestedCompartmentIds.size()) {
             throw problem(NOT_FOUND, "COMPARTMENT_NOT_FOUND", "One or more compartments do not exist on floor %d".formatted(floor));
         }
@@ -144,9 +310,11 @@ public class FridgeReallocationService {
         Map<UUID, FridgeCompartment> compartmentLookup = compartments.stream()
                 .collect(Collectors.toMap(FridgeCompartment::getId, fc -> fc));
 
-        Set<UUID> inProgressCompartmentIds = inspectionSessionRepository.findByStatus(InspectionStatus.IN_PROGRESS).stream()
+        // 적용은 행 잠금 아래에서 DB 기준으로 한 번 더 확인한다(레지스트리 밖에서 시작된 세션 대비).
+        Set<UUID> inProgressCompartmentIds = inspectionSessionRepository
+                .findByFridgeCompartmentIdInAndStatus(compartmentLookup.keySet(), InspectionStatus.IN_PROGRESS)
+                .stream()
                 .map(session -> session.getFridgeCompartment().getId())
-                .filter(compartmentLookup::containsKey)
                 .collect(Collectors.toSet());
 
         // Validate floor matching and active units
@@ -189,9 +357,9 @@ public class FridgeReallocationService {
         ensureUniformDistribution(compartments, requestedAssignments, floorRoomIds.size());
 
         OffsetDateTime now = OffsetDateTime.now(clock);
-        int releasedCount = 0;
-        int createdCount = 0;
-
+        List<UUID> activeCompartmentIds = new ArrayList<>();
+        List<UUID> targetCompartmentIds = new ArrayList<>();
+        List<UUID> targetRoomIds = new ArrayList<>();
         for (FridgeCompartment compartment : compartments) {
             if (!compartment.getStatus().isActive()) {
                 continue;
@@ -199,37 +367,29 @@ public class FridgeReallocationService {
             if (compartment.isLocked() || inProgressCompartmentIds.contains(compartment.getId())) {
                 throw problem(CONFLICT, "COMPARTMENT_IN_USE", "Compartment %s is locked or under inspection".formatted(compartment.getId()));
             }
-            List<CompartmentRoomAccess> activeAccesses = compartmentRoomAccessRepository
-                    .findByFridgeCompartmentIdAndReleasedAtIsNullOrderByAssignedAtAsc(compartment.getId());
-            for (CompartmentRoomAccess access : activeAccesses) {
-                access.setReleasedAt(now);
-                releasedCount++;
-            }
-            if (!activeAccesses.isEmpty()) {
-                compartmentRoomAccessRepository.saveAll(activeAccesses);
+            activeCompartmentIds.add(compartment.getId());
+            for (UUID roomId : new LinkedHashSet<>(requestedAssignments.getOrDefault(compartment.getId(), List.of()))) {
+                targetCompartmentIds.add(compartment.getId());
+                targetRoomIds.add(roomId);
             }
+        }
 
-            List<UUID> roomIds = requestedAssignments.getOrDefault(compartment.getId(), List.of());
-            List<CompartmentRoomAccess> newAccesses = new ArrayList<>();
-            for (UUID roomId : roomIds) {
-                Room room = roomMap.get(roomId);
-                CompartmentRoomAccess access = new CompartmentRoomAccess();
-                access.setFridgeCompartment(compartment);
-                access.setRoom(room);
-                access.setAssignedAt(now);
-                newAccesses.add(access);
-            }
-            if (!newAccesses.isEmpty()) {
-                compartmentRoomAccessRepository.saveAll(newAccesses);
-                createdCount += newAccesses.size();
-            }
+        // 목표와 같은 배정 행은 그대로 두고, 빠진 배정 해제와 새 배정 생성을 각각 한 문장으로 처리한다.
+        int releasedCount = 0;
+        int createdCount = 0;
+        if (!activeCompartmentIds.isEmpty()) {
+            releasedCount = compartmentRoomAccessRepository.releaseActiveAccessesExcept(
+                    activeCompartmentIds, targetCompartmentIds, targetRoomIds, now);
+            createdCount = compartmentRoomAccessRepository.insertMissingAccesses(targetCompartmentIds, targetRoomIds, now);
         }
+        int retainedCount = targetRoomIds.size() - createdCount;
 
         ReallocationApplyResponse response = new ReallocationApplyResponse(
                 floor,
                 compartments.size(),
                 releasedCount,
                 createdCount,
+                retainedCount,
                 now
         );
 
@@ -249,36 +409,39 @@ public class FridgeReallocationService {
                 Map.of(
                         "affectedCompartments", response.affectedCompartments(),
                         "releasedAssignments", response.releasedAssignments(),
-                        "createdAssignments", response.createdAssignments()
+                        "createdAssignments", response.createdAssignments(),
+                        "retainedAssignments", response.retainedAssignments()
                 )
         ));
+        eventPublisher.publishEvent(new FridgeTopologyChangedEvent(compartments.stream()
+                .map(FridgeCompartment::getId)
+                .collect(Collectors.toSet())));
 
         return response;
     }
 
-    private Map<UUID, List<UUID>> buildRecommendedAssignments(List<UUID> roomIds, List<FridgeCompartment> chillCompartments) {
-        Map<UUID, List<UUID>> result = new HashMap<>();
-        if (chillCompartments.isEmpty()) {
-            return result;
+    /**
+     * 칸 행 잠금은 트랜잭션 종료까지 유지되므로 잠금 시점부터 커밋·롤백까지를 잠금 유지 시간으로 기록한다.
+     */
+    private void recordLockHold(long lockedAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                String outcome = status == STATUS_COMMITTED ? "committed" : "rolled_back";
+                meterRegistry.timer(LOCK_HOLD_METRIC, "outcome", outcome)
+                        .record(System.nanoTime() - lockedAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
 
-        List<FridgeCompartment> sortedCompartments = chillCompartments.stream()
+    private static List<FridgeCompartment> activeUnitCompartments(List<FridgeCompartment> compartments) {
+        return compartments.stream()
+                .filter(compartment -> compartment.getFridgeUnit().getStatus().isActive())
                 .sorted(Comparator.comparingInt(FridgeCompartment::getSlotIndex))
                 .toList();
-
-        int totalRooms = roomIds.size();
-        int baseSize = totalRooms / sortedCompartments.size();
-        int remainder = totalRooms % sortedCompartments.size();
-
-        int cursor = 0;
-        for (int i = 0; i < sortedCompartments.size(); i++) {
-            int count = baseSize + (i < remainder ? 1 : 0);
-            int end = Math.min(cursor + count, roomIds.size());
-            List<UUID> sub = roomIds.subList(cursor, end);
-            result.put(sortedCompartments.get(i).getId(), List.copyOf(sub));
-            cursor = end;
-        }
-        return result;
     }
 
     private CompartmentAllocationView toAllocationView(
@@ -287,10 +450,7 @@ public class FridgeReallocationService {
             List<Room> rooms,
             Set<UUID> compartmentsUnderInspection
     ) {
-        List<UUID> current = compartment.getRoomAccesses().stream()
-                .filter(CompartmentRoomAccess::isActive)
-                .map(access -> access.getRoom().getId())
-                .toList();
+        List<UUID> current = activeRoomIds(compartment);
         List<UUID> suggested;
         if (compartment.getCompartmentType() == CompartmentType.CHILL) {
             suggested = recommended.getOrDefault(compartment.getId(), List.of());
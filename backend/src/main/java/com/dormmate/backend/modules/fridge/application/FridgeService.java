@@ -1,20 +1,22 @@
 package com.dormmate.backend.modules.fridge.application;
 
-import static com.dormmate.backend.modules.auth.application.RoomAssignmentSupport.isFloorManagerOnFloor;
 import static com.dormmate.backend.modules.auth.application.RoomAssignmentSupport.requireRoom;
 import static com.dormmate.backend.modules.auth.application.RoomAssignmentSupport.requireRoomId;
 
+import java.io.OutputStream;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 
+import com.dormmate.backend.modules.fridge.presentation.dto.BulkBundleResult;
+import com.dormmate.backend.modules.fridge.presentation.dto.BulkCreateBundlesRequest;
+import com.dormmate.backend.modules.fridge.presentation.dto.BulkCreateBundlesResponse;
 import com.dormmate.backend.modules.fridge.presentation.dto.BundleListResponse;
 import com.dormmate.backend.modules.fridge.presentation.dto.CreateBundleItemInput;
 import com.dormmate.backend.modules.fridge.presentation.dto.CreateBundleRequest;
@@ -25,6 +27,7 @@ import com.dormmate.backend.modules.fridge.presentation.dto.FridgeDtoMapper;
 import com.dormmate.backend.modules.fridge.presentation.dto.FridgeItemResponse;
 import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotListResponse;
 import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotResponse;
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotState;
 import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotStatus;
 import com.dormmate.backend.modules.fridge.presentation.dto.UpdateBundleRequest;
 import com.dormmate.backend.modules.fridge.presentation.dto.AddItemRequest;
@@ -32,33 +35,42 @@ import com.dormmate.backend.modules.fridge.presentation.dto.UpdateItemRequest;
 import com.dormmate.backend.modules.auth.domain.DormUser;
 import com.dormmate.backend.modules.auth.domain.Room;
 import com.dormmate.backend.modules.auth.domain.RoomAssignment;
-import com.dormmate.backend.modules.fridge.domain.BundleLabelSequence;
-import com.dormmate.backend.modules.fridge.domain.CompartmentRoomAccess;
 import com.dormmate.backend.modules.fridge.domain.FridgeBundle;
 import com.dormmate.backend.modules.fridge.domain.FridgeBundleStatus;
 import com.dormmate.backend.modules.fridge.domain.FridgeCompartment;
 import com.dormmate.backend.modules.fridge.domain.FridgeItem;
 import com.dormmate.backend.modules.fridge.domain.FridgeItemStatus;
-import com.dormmate.backend.modules.fridge.domain.FridgeUnit;
+import com.dormmate.backend.modules.fridge.domain.FridgeTopologySnapshot;
+import com.dormmate.backend.modules.fridge.domain.LabelBitmap;
 import com.dormmate.backend.modules.fridge.domain.LabelFormatter;
 import com.dormmate.backend.modules.auth.infrastructure.persistence.DormUserRepository;
 import com.dormmate.backend.modules.auth.infrastructure.persistence.RoomAssignmentRepository;
-import com.dormmate.backend.modules.fridge.infrastructure.persistence.BundleLabelSequenceRepository;
-import com.dormmate.backend.modules.fridge.infrastructure.persistence.CompartmentRoomAccessRepository;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.BundleLabelBitmapRepository;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleCountMode;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleCursor;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundlePaging;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleRepository;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleSearchCondition;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleSearchOrder;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleSearchResult;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleSummaryRow;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeCompartmentRepository;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeItemRepository;
-import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeUnitRepository;
-import com.dormmate.backend.modules.inspection.infrastructure.persistence.InspectionSessionRepository;
 import com.dormmate.backend.global.security.SecurityUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.NestedExceptionUtils;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -66,44 +78,73 @@ import org.springframework.web.server.ResponseStatusException;
 @Transactional
 public class FridgeService {
 
-    private static final int MAX_LABEL = 999;
+    private static final Logger log = LoggerFactory.getLogger(FridgeService.class);
+
+    private static final int BUNDLE_COUNT_CAP = 1000;
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final int BULK_INSERT_BATCH_SIZE = 50;
+    private static final FridgeSlotState UNLOCKED_SLOT = new FridgeSlotState(FridgeSlotStatus.ACTIVE, false, null);
     private static final Pattern LABEL_SEARCH_PATTERN = Pattern.compile("([A-Za-z]+)[-\\s]?([0-9]{1,3})");
     private static final Pattern SLOT_LETTER_TOKEN_PATTERN = Pattern.compile("\\b([A-Za-z]{1,4})\\b");
-    private final FridgeUnitRepository fridgeUnitRepository;
     private final FridgeCompartmentRepository fridgeCompartmentRepository;
-    private final CompartmentRoomAccessRepository compartmentRoomAccessRepository;
-    private final BundleLabelSequenceRepository bundleLabelSequenceRepository;
+    private final BundleLabelBitmapRepository bundleLabelBitmapRepository;
     private final FridgeBundleRepository fridgeBundleRepository;
     private final FridgeItemRepository fridgeItemRepository;
     private final RoomAssignmentRepository roomAssignmentRepository;
     private final DormUserRepository dormUserRepository;
-    private final InspectionSessionRepository inspectionSessionRepository;
-    private final FridgeSlotStatusResolver fridgeSlotStatusResolver;
+    private final CompartmentLockRegistry compartmentLockRegistry;
+    private final FridgeSlotStatusProjector fridgeSlotStatusProjector;
+    private final FridgeTopologyCache fridgeTopologyCache;
+    private final FridgeOwnerContextLoader fridgeOwnerContextLoader;
+    private final FridgeAccessDecisionCache fridgeAccessDecisionCache;
+    private final FridgeReadVersions fridgeReadVersions;
+    private final FridgeSlotStatusBroadcaster fridgeSlotStatusBroadcaster;
+    private final FridgeBundleArchiveScheduler fridgeBundleArchiveScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final FridgeCapacityAdmissionMode capacityAdmissionMode;
     private final Clock clock;
 
     public FridgeService(
-            FridgeUnitRepository fridgeUnitRepository,
             FridgeCompartmentRepository fridgeCompartmentRepository,
-            CompartmentRoomAccessRepository compartmentRoomAccessRepository,
-            BundleLabelSequenceRepository bundleLabelSequenceRepository,
+            BundleLabelBitmapRepository bundleLabelBitmapRepository,
             FridgeBundleRepository fridgeBundleRepository,
             FridgeItemRepository fridgeItemRepository,
             RoomAssignmentRepository roomAssignmentRepository,
             DormUserRepository dormUserRepository,
-            InspectionSessionRepository inspectionSessionRepository,
-            FridgeSlotStatusResolver fridgeSlotStatusResolver,
+            CompartmentLockRegistry compartmentLockRegistry,
+            FridgeSlotStatusProjector fridgeSlotStatusProjector,
+            FridgeTopologyCache fridgeTopologyCache,
+            FridgeOwnerContextLoader fridgeOwnerContextLoader,
+            FridgeAccessDecisionCache fridgeAccessDecisionCache,
+            FridgeReadVersions fridgeReadVersions,
+            FridgeSlotStatusBroadcaster fridgeSlotStatusBroadcaster,
+            FridgeBundleArchiveScheduler fridgeBundleArchiveScheduler,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.fridge.capacity-admission:CONDITIONAL_UPDATE}") FridgeCapacityAdmissionMode capacityAdmissionMode,
             Clock clock
     ) {
-        this.fridgeUnitRepository = fridgeUnitRepository;
         this.fridgeCompartmentRepository = fridgeCompartmentRepository;
-        this.compartmentRoomAccessRepository = compartmentRoomAccessRepository;
-        this.bundleLabelSequenceRepository = bundleLabelSequenceRepository;
+        this.bundleLabelBitmapRepository = bundleLabelBitmapRepository;
         this.fridgeBundleRepository = fridgeBundleRepository;
         this.fridgeItemRepository = fridgeItemRepository;
         this.roomAssignmentRepository = roomAssignmentRepository;
         this.dormUserRepository = dormUserRepository;
-        this.inspectionSessionRepository = inspectionSessionRepository;
-        this.fridgeSlotStatusResolver = fridgeSlotStatusResolver;
+        this.compartmentLockRegistry = compartmentLockRegistry;
+        this.fridgeSlotStatusProjector = fridgeSlotStatusProjector;
+        this.fridgeTopologyCache = fridgeTopologyCache;
+        this.fridgeOwnerContextLoader = fridgeOwnerContextLoader;
+        this.fridgeAccessDecisionCache = fridgeAccessDecisionCache;
+        this.fridgeReadVersions = fridgeReadVersions;
+        this.fridgeSlotStatusBroadcaster = fridgeSlotStatusBroadcaster;
+        this.fridgeBundleArchiveScheduler = fridgeBundleArchiveScheduler;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.capacityAdmissionMode = capacityAdmissionMode;
         this.clock = clock;
     }
 
@@ -118,6 +159,7 @@ public class FridgeService {
         int safePage = pageParam != null && pageParam >= 0 ? pageParam : 0;
         int safeSize = sizeParam != null && sizeParam > 0 ? Math.min(sizeParam, 200) : 20;
 
+        FridgeTopologySnapshot topology = fridgeTopologyCache.current();
         Set<UUID> accessibleCompartmentIds = null;
         if (!isAdmin) {
             RoomAssignment assignment = roomAssignmentRepository.findActiveAssignment(currentUserId)
@@ -130,51 +172,78 @@ public class FridgeService {
                 }
                 floorFilter = managedFloor;
             } else {
-                accessibleCompartmentIds = new HashSet<>();
-                UUID roomId = requireRoomId(assignment);
-                List<CompartmentRoomAccess> accesses = compartmentRoomAccessRepository.findByRoomIdAndReleasedAtIsNull(roomId);
-                for (CompartmentRoomAccess access : accesses) {
-                    accessibleCompartmentIds.add(access.getFridgeCompartment().getId());
-                }
+                accessibleCompartmentIds = topology.compartmentIdsForRoom(requireRoomId(assignment));
             }
         }
 
-        List<FridgeUnit> units = floorFilter != null
-                ? fridgeUnitRepository.findByFloorNo(floorFilter)
-                : fridgeUnitRepository.findAll();
-
-        List<FridgeCompartment> visibleCompartments = new ArrayList<>();
-        for (FridgeUnit unit : units) {
-            List<FridgeCompartment> compartments = fridgeCompartmentRepository
-                    .findByFridgeUnitOrderBySlotIndexAsc(unit);
-            for (FridgeCompartment compartment : compartments) {
-                if (accessibleCompartmentIds != null && !accessibleCompartmentIds.contains(compartment.getId())) {
-                    continue;
-                }
-                visibleCompartments.add(compartment);
+        List<FridgeTopologySnapshot.Slot> candidates = floorFilter != null
+                ? topology.slotsOnFloor(floorFilter)
+                : topology.slots();
+        List<FridgeTopologySnapshot.Slot> visibleSlots = new ArrayList<>();
+        for (FridgeTopologySnapshot.Slot slot : candidates) {
+            if (accessibleCompartmentIds != null && !accessibleCompartmentIds.contains(slot.compartmentId())) {
+                continue;
             }
+            visibleSlots.add(slot);
         }
 
-        Map<UUID, FridgeSlotStatus> slotStatuses = fridgeSlotStatusResolver.resolve(visibleCompartments);
-
-        List<FridgeSlotResponse> results = visibleCompartments.stream()
-                .map(compartment -> FridgeDtoMapper.toSlotResponse(
-                        compartment,
-                        fullView,
-                        slotStatuses.getOrDefault(compartment.getId(), FridgeSlotStatus.ACTIVE)))
-                .collect(Collectors.toList());
-
-        results.sort(Comparator
-                .comparingInt(FridgeSlotResponse::floorNo)
-                .thenComparingInt(FridgeSlotResponse::slotIndex));
-        int total = results.size();
+        int total = visibleSlots.size();
         int fromIndex = Math.min(safePage * safeSize, total);
         int toIndex = Math.min(fromIndex + safeSize, total);
-        List<FridgeSlotResponse> paged = results.subList(fromIndex, toIndex);
+        List<FridgeTopologySnapshot.Slot> pagedSlots = visibleSlots.subList(fromIndex, toIndex);
+
+        Map<UUID, FridgeSlotState> slotStates = fridgeSlotStatusProjector.resolveSlots(pagedSlots);
+        Map<UUID, Integer> occupiedCounts = fullView ? countActiveBundles(pagedSlots) : Map.of();
+
+        List<FridgeSlotResponse> paged = pagedSlots.stream()
+                .map(slot -> FridgeDtoMapper.toSlotResponse(
+                        slot,
+                        fullView,
+                        slotStates.getOrDefault(slot.compartmentId(), UNLOCKED_SLOT),
+                        occupiedCounts.getOrDefault(slot.compartmentId(), 0)))
+                .toList();
         int totalPages = (int) Math.ceil(total / (double) safeSize);
         return new FridgeSlotListResponse(paged, total, safePage, safeSize, totalPages);
     }
 
+    /**
+     * 층 토픽 구독 권한 확인. 칸 목록 조회와 같은 범위를 쓰므로 거주자는 자기 호실이 쓰는 칸이 있는 층만 구독한다.
+     */
+    @Transactional(readOnly = true)
+    public void ensureCanWatchFloor(short floorNo) {
+        if (SecurityUtils.hasRole("ADMIN")) {
+            return;
+        }
+        RoomAssignment assignment = roomAssignmentRepository.findActiveAssignment(SecurityUtils.getCurrentUserId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "ROOM_ASSIGNMENT_REQUIRED"));
+        if (SecurityUtils.hasRole("FLOOR_MANAGER")) {
+            if (requireRoom(assignment).getFloor() != floorNo) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "FLOOR_SCOPE_VIOLATION");
+            }
+            return;
+        }
+        FridgeTopologySnapshot topology = fridgeTopologyCache.current();
+        Set<UUID> accessibleCompartmentIds = topology.compartmentIdsForRoom(requireRoomId(assignment));
+        boolean accessible = topology.slotsOnFloor(floorNo).stream()
+                .anyMatch(slot -> accessibleCompartmentIds.contains(slot.compartmentId()));
+        if (!accessible) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "FLOOR_SCOPE_VIOLATION");
+        }
+    }
+
+    private Map<UUID, Integer> countActiveBundles(List<FridgeTopologySnapshot.Slot> slots) {
+        if (slots.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> compartmentIds = slots.stream()
+                .map(FridgeTopologySnapshot.Slot::compartmentId)
+                .toList();
+        Map<UUID, Integer> counts = new HashMap<>();
+        fridgeCompartmentRepository.findOccupancyByIdIn(compartmentIds)
+                .forEach(row -> counts.put(row.getCompartmentId(), row.getActiveBundleCount()));
+        return counts;
+    }
+
     @Transactional(readOnly = true)
     public BundleListResponse getBundles(
             UUID slotId,
@@ -182,7 +251,9 @@ public class FridgeService {
             String statusSelector,
             String search,
             int page,
-            int size
+            int size,
+            String cursor,
+            String countMode
     ) {
         UUID currentUserId = SecurityUtils.getCurrentUserId();
         DormUser currentUser = loadUser(currentUserId);
@@ -190,10 +261,6 @@ public class FridgeService {
         boolean isFloorManager = SecurityUtils.hasRole("FLOOR_MANAGER");
         int safePage = Math.max(page, 0);
         int safeSize = Math.min(Math.max(size, 1), 100);
-        boolean requestDeletedOnly = "deleted".equalsIgnoreCase(statusSelector)
-                || "removed".equalsIgnoreCase(statusSelector);
-        boolean requestAllStatuses = "all".equalsIgnoreCase(statusSelector);
-
         UUID ownerFilter = null;
         if ("all".equalsIgnoreCase(ownerSelector)) {
             if (!isAdmin) {
@@ -222,56 +289,138 @@ public class FridgeService {
             compartmentId = compartment.getId();
         }
 
-        Set<FridgeBundleStatus> statuses;
-        if (requestDeletedOnly) {
-            statuses = EnumSet.of(FridgeBundleStatus.DELETED);
-        } else if (requestAllStatuses) {
-            statuses = EnumSet.of(FridgeBundleStatus.ACTIVE, FridgeBundleStatus.DELETED);
-        } else {
-            statuses = EnumSet.of(FridgeBundleStatus.ACTIVE);
+        FridgeBundleSearchCondition condition = keywordSearchCondition(
+                compartmentId,
+                finalOwnerFilter,
+                resolveStatuses(statusSelector),
+                search,
+                null
+        );
+
+        LocalDate today = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+        FridgeBundleSearchResult<FridgeBundleSummaryRow> result = fridgeBundleRepository.searchBundleSummaries(
+                condition,
+                buildPaging(safePage, safeSize, cursor, countMode),
+                today,
+                FridgeDtoMapper.expiringUntil(today)
+        );
+
+        List<FridgeBundleSummaryRow> rows = result.content();
+        FridgeOwnerContextLoader.OwnerContext owners = fridgeOwnerContextLoader.loadForOwners(ownerIdsOf(rows));
+        Map<UUID, List<FridgeItemResponse>> itemsByBundle = new HashMap<>();
+        fridgeBundleRepository.findItemRows(
+                        rows.stream().map(FridgeBundleSummaryRow::bundleId).toList(),
+                        today,
+                        FridgeDtoMapper.expiringUntil(today)
+                )
+                .forEach(item -> itemsByBundle
+                        .computeIfAbsent(item.bundleId(), key -> new ArrayList<>())
+                        .add(FridgeDtoMapper.toItemResponse(item)));
+
+        List<FridgeBundleSummaryResponse> summaries = rows.stream()
+                .map(row -> FridgeDtoMapper.toSummary(
+                        row,
+                        owners.roomDisplayName(row.ownerUserId()),
+                        row.ownerUserId().equals(currentUserId),
+                        itemsByBundle.getOrDefault(row.bundleId(), List.of())
+                ))
+                .toList();
+
+        return toListResponse(summaries, result);
+    }
+
+    /**
+     * 내보내기 응답 헤더를 쓰기 전에 권한과 칸을 확인한다. 이후 오류는 이미 시작된 스트림 중간에서 끊긴다.
+     */
+    @Transactional(readOnly = true)
+    public void verifyBundleExport(UUID slotId) {
+        if (!SecurityUtils.hasRole("ADMIN")) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "FORBIDDEN");
+        }
+        if (slotId != null && !fridgeCompartmentRepository.existsById(slotId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "SLOT_NOT_FOUND");
+        }
+    }
+
+    /**
+     * 관리자용 전체 재고 내보내기. 목록 API와 같은 필터를 쓰되 페이지·COUNT 없이 한 번의 스크롤로 응답 스트림에 쓴다.
+     */
+    @Transactional(readOnly = true)
+    public void exportBundles(
+            UUID slotId,
+            UUID ownerId,
+            String statusSelector,
+            String search,
+            OffsetDateTime deletedSince,
+            FridgeBundleExportFormat format,
+            OutputStream outputStream
+    ) {
+        verifyBundleExport(slotId);
+        FridgeBundleSearchCondition condition = keywordSearchCondition(
+                slotId,
+                ownerId,
+                resolveStatuses(statusSelector),
+                search,
+                deletedSince
+        );
+
+        LocalDate today = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+        FridgeBundleExportWriter writer = new FridgeBundleExportWriter(format, objectMapper, outputStream);
+        fridgeBundleRepository.streamExportRows(
+                condition,
+                today,
+                FridgeDtoMapper.expiringUntil(today),
+                EXPORT_FETCH_SIZE,
+                writer
+        );
+        writer.finish();
+    }
+
+    private Set<FridgeBundleStatus> resolveStatuses(String statusSelector) {
+        if ("deleted".equalsIgnoreCase(statusSelector) || "removed".equalsIgnoreCase(statusSelector)) {
+            return EnumSet.of(FridgeBundleStatus.DELETED);
+        }
+        if ("all".equalsIgnoreCase(statusSelector)) {
+            return EnumSet.of(FridgeBundleStatus.ACTIVE, FridgeBundleStatus.DELETED);
         }
+        return EnumSet.of(FridgeBundleStatus.ACTIVE);
+    }
 
+    private FridgeBundleSearchCondition keywordSearchCondition(
+            UUID compartmentId,
+            UUID ownerId,
+            Set<FridgeBundleStatus> statuses,
+            String search,
+            OffsetDateTime deletedSince
+    ) {
         String trimmedSearch = StringUtils.hasText(search) ? search.trim() : null;
         String normalizedKeyword = trimmedSearch != null ? trimmedSearch.toLowerCase() : null;
         LabelSearchCriteria labelCriteria = parseLabelSearch(trimmedSearch).orElse(null);
         List<Integer> slotLetterCandidates = extractSlotLetterCandidates(trimmedSearch);
 
-        FridgeBundleSearchCondition condition = new FridgeBundleSearchCondition(
+        return new FridgeBundleSearchCondition(
                 compartmentId,
-                finalOwnerFilter,
+                ownerId,
                 statuses,
                 normalizedKeyword,
                 labelCriteria != null ? labelCriteria.slotIndex() : null,
                 labelCriteria != null ? labelCriteria.labelNumber() : null,
                 StringUtils.hasText(normalizedKeyword),
                 slotLetterCandidates,
-                null,
-                FridgeBundleSearchOrder.CREATED_AT_DESC
+                deletedSince,
+                deletedSince != null ? FridgeBundleSearchOrder.DELETED_AT_DESC : FridgeBundleSearchOrder.CREATED_AT_DESC
         );
-
-        Page<FridgeBundle> resultPage = fridgeBundleRepository.searchBundles(
-                condition,
-                PageRequest.of(safePage, safeSize)
-        );
-
-        List<FridgeBundle> paged = resultPage.getContent();
-        long total = resultPage.getTotalElements();
-
-        Map<UUID, RoomAssignment> ownerAssignments = loadAssignmentsForBundles(paged);
-
-        List<FridgeBundleSummaryResponse> summaries = paged.stream()
-                .map(bundle -> FridgeDtoMapper.toSummary(
-                        bundle,
-                        ownerAssignments.get(bundle.getOwner().getId()),
-                        bundle.getOwner().getId().equals(currentUserId),
-                        true
-                ))
-                .toList();
-
-        return new BundleListResponse(summaries, total);
     }
 
-    public BundleListResponse getDeletedBundles(UUID slotId, OffsetDateTime since, int page, int size) {
+    @Transactional(readOnly = true)
+    public BundleListResponse getDeletedBundles(
+            UUID slotId,
+            OffsetDateTime since,
+            int page,
+            int size,
+            String cursor,
+            String countMode
+    ) {
         if (!SecurityUtils.hasRole("ADMIN")) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "FORBIDDEN");
         }
@@ -289,27 +438,66 @@ public class FridgeService {
                 false,
                 List.of(),
                 baseline,
-                FridgeBundleSearchOrder.DELETED_AT_DESC
+                FridgeBundleSearchOrder.DELETED_AT_DESC,
+                fridgeBundleArchiveScheduler.reachesArchive(baseline)
         );
 
-        Page<FridgeBundle> resultPage = fridgeBundleRepository.searchBundles(
+        LocalDate today = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+        FridgeBundleSearchResult<FridgeBundleSummaryRow> result = fridgeBundleRepository.searchBundleSummaries(
                 condition,
-                PageRequest.of(safePage, safeSize)
+                buildPaging(safePage, safeSize, cursor, countMode),
+                today,
+                FridgeDtoMapper.expiringUntil(today)
         );
 
-        Map<UUID, RoomAssignment> ownerAssignments = loadAssignmentsForBundles(resultPage.getContent());
+        FridgeOwnerContextLoader.OwnerContext owners = fridgeOwnerContextLoader.loadForOwners(ownerIdsOf(result.content()));
         UUID currentUserId = SecurityUtils.getCurrentUserId();
 
-        List<FridgeBundleSummaryResponse> summaries = resultPage.getContent().stream()
-                .map(bundle -> FridgeDtoMapper.toSummary(
-                        bundle,
-                        ownerAssignments.get(bundle.getOwner().getId()),
-                        bundle.getOwner().getId().equals(currentUserId),
-                        false
+        List<FridgeBundleSummaryResponse> summaries = result.content().stream()
+                .map(row -> FridgeDtoMapper.toSummary(
+                        row,
+                        owners.roomDisplayName(row.ownerUserId()),
+                        row.ownerUserId().equals(currentUserId),
+                        null
                 ))
                 .toList();
 
-        return new BundleListResponse(summaries, resultPage.getTotalElements());
+        return toListResponse(summaries, result);
+    }
+
+    private FridgeBundlePaging buildPaging(int page, int size, String cursor, String countMode) {
+        FridgeBundleCursor after = null;
+        if (StringUtils.hasText(cursor)) {
+            try {
+                after = FridgeBundleCursor.decode(cursor);
+            } catch (IllegalArgumentException ex) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", ex);
+            }
+        }
+        return new FridgeBundlePaging(page * size, size, after, parseCountMode(countMode), BUNDLE_COUNT_CAP);
+    }
+
+    private FridgeBundleCountMode parseCountMode(String countMode) {
+        if (!StringUtils.hasText(countMode)) {
+            return FridgeBundleCountMode.EXACT;
+        }
+        try {
+            return FridgeBundleCountMode.valueOf(countMode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_COUNT_MODE", ex);
+        }
+    }
+
+    private BundleListResponse toListResponse(
+            List<FridgeBundleSummaryResponse> summaries,
+            FridgeBundleSearchResult<?> result
+    ) {
+        return new BundleListResponse(
+                summaries,
+                result.totalCount(),
+                result.totalExact(),
+                result.nextCursor() != null ? result.nextCursor().encode() : null
+        );
     }
 
     @Transactional(readOnly = true)
@@ -334,42 +522,32 @@ public class FridgeService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "NOT_BUNDLE_OWNER");
         }
 
-        RoomAssignment ownerAssignment = roomAssignmentRepository.findActiveAssignment(bundle.getOwner().getId())
-                .orElse(null);
+        RoomAssignment ownerAssignment = fridgeOwnerContextLoader.loadForBundles(List.of(bundle))
+                .assignmentOf(bundle.getOwner().getId());
         return FridgeDtoMapper.toResponse(bundle, ownerAssignment, isOwner);
     }
 
     public CreateBundleResponse createBundle(CreateBundleRequest request) {
         UUID currentUserId = SecurityUtils.getCurrentUserId();
         DormUser currentUser = loadUser(currentUserId);
-        FridgeCompartment compartment = loadCompartmentForUpdate(request.slotId());
+        FridgeCompartment compartment = capacityAdmissionMode == FridgeCapacityAdmissionMode.PESSIMISTIC_LOCK
+                ? loadCompartmentForUpdate(request.slotId())
+                : loadCompartment(request.slotId());
 
         verifyBundleWriteAccess(currentUser, compartment);
         ensureCompartmentNotLocked(compartment);
+        reserveBundleCapacity(compartment);
+        fridgeReadVersions.compartmentChanged(compartment);
 
-        int activeBundleCount = fridgeBundleRepository
-                .findByFridgeCompartmentAndStatus(compartment, FridgeBundleStatus.ACTIVE)
-                .size();
-        if (activeBundleCount >= compartment.getMaxBundleCount()) {
-            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "CAPACITY_EXCEEDED");
-        }
-
-        int labelNumber = allocateLabelNumber(compartment);
-        FridgeBundle bundle = new FridgeBundle();
-        bundle.setOwner(currentUser);
-        bundle.setFridgeCompartment(compartment);
-        bundle.setLabelNumber(labelNumber);
-        bundle.setBundleName(request.bundleName());
-        bundle.setMemo(request.memo());
-
-        for (CreateBundleItemInput input : request.items()) {
-            bundle.getItems().add(buildItem(bundle, input.name(), input.expiryDate(), input.quantity(), input.unitCode()));
-        }
+        FridgeBundle bundle = buildBundle(currentUser, compartment, request);
+        bundle.setLabelNumber(allocateLabelNumber(compartment));
 
         try {
             FridgeBundle saved = fridgeBundleRepository.saveAndFlush(bundle);
-            RoomAssignment ownerAssignment = roomAssignmentRepository.findActiveAssignment(currentUserId)
-                    .orElse(null);
+            fridgeBundleRepository.refreshSearchDocument(saved.getId());
+            fridgeItemRepository.refreshExpiryBuckets(List.of(saved.getId()));
+            RoomAssignment ownerAssignment = fridgeOwnerContextLoader.loadForBundles(List.of(saved))
+                    .assignmentOf(currentUserId);
             return new CreateBundleResponse(FridgeDtoMapper.toResponse(saved, ownerAssignment));
         } catch (DataIntegrityViolationException ex) {
             if (isCapacityConstraintViolation(ex)) {
@@ -379,6 +557,46 @@ public class FridgeService {
         }
     }
 
+    /**
+     * 여러 포장을 칸별로 묶어 등록한다. 칸마다 행 잠금·허용량 확보·라벨 할당을 한 번씩만 수행하고 칸 단위로 커밋하므로,
+     * 한 칸의 실패(커밋 실패 포함)는 그 칸의 포장만 실패로 돌려주고 다른 칸의 등록은 유지된다. 응답은 항상 포장별 결과다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkCreateBundlesResponse createBundles(BulkCreateBundlesRequest request) {
+        UUID currentUserId = SecurityUtils.getCurrentUserId();
+        List<CreateBundleRequest> inputs = request.bundles();
+        BulkBundleResult[] results = new BulkBundleResult[inputs.size()];
+
+        Map<UUID, List<Integer>> indexesBySlot = new LinkedHashMap<>();
+        for (int index = 0; index < inputs.size(); index++) {
+            UUID slotId = inputs.get(index).slotId();
+            if (slotId == null) {
+                results[index] = BulkBundleResult.failed(index, null, "SLOT_NOT_FOUND");
+                continue;
+            }
+            indexesBySlot.computeIfAbsent(slotId, key -> new ArrayList<>()).add(index);
+        }
+
+        indexesBySlot.forEach((slotId, indexes) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        createBundlesInCompartment(currentUserId, slotId, indexes, inputs, results));
+            } catch (ResponseStatusException ex) {
+                markFailed(results, slotId, indexes, ex.getReason());
+            } catch (DataIntegrityViolationException ex) {
+                markFailed(results, slotId, indexes, isCapacityConstraintViolation(ex) ? "CAPACITY_EXCEEDED" : "CONFLICT");
+            } catch (RuntimeException ex) {
+                // 커밋 실패·잠금 대기 초과도 이 칸만 실패로 돌린다. 앞 칸은 이미 커밋되었으므로 요청 전체를 실패시키면
+                // 재시도 때 중복 등록이 생기고, 커밋 전에 기록한 created 결과도 되돌려야 한다.
+                log.warn("Bulk bundle creation failed for slot {}", slotId, ex);
+                markFailed(results, slotId, indexes, "CONFLICT");
+            }
+        });
+
+        int createdCount = (int) Arrays.stream(results).filter(BulkBundleResult::created).count();
+        return new BulkCreateBundlesResponse(List.of(results), createdCount, results.length - createdCount);
+    }
+
     public FridgeBundleResponse updateBundle(UUID bundleId, UpdateBundleRequest request) {
         FridgeBundle bundle = fridgeBundleRepository.findById(bundleId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "BUNDLE_NOT_FOUND"));
@@ -389,9 +607,12 @@ public class FridgeService {
         ensureBundleOwnerOrManager(bundle, currentUser);
         ensureCompartmentNotLocked(bundle.getFridgeCompartment());
         ensureBundleActive(bundle);
+        fridgeReadVersions.compartmentChanged(bundle.getFridgeCompartment());
 
+        boolean renamed = false;
         if (StringUtils.hasText(request.bundleName())) {
             bundle.setBundleName(request.bundleName().trim());
+            renamed = true;
         }
         if (request.memo() != null) {
             bundle.setMemo(request.memo());
@@ -402,8 +623,14 @@ public class FridgeService {
         }
 
         FridgeBundle saved = fridgeBundleRepository.save(bundle);
-        RoomAssignment ownerAssignment = roomAssignmentRepository.findActiveAssignment(bundle.getOwner().getId())
-                .orElse(null);
+        if (renamed) {
+            refreshSearchDocument(saved);
+        }
+        if (request.removedAt() != null) {
+            refreshExpiryBuckets(saved);
+        }
+        RoomAssignment ownerAssignment = fridgeOwnerContextLoader.loadForBundles(List.of(saved))
+                .assignmentOf(saved.getOwner().getId());
         return FridgeDtoMapper.toResponse(saved, ownerAssignment);
     }
 
@@ -417,9 +644,11 @@ public class FridgeService {
         ensureBundleOwnerOrManager(bundle, currentUser);
         ensureCompartmentNotLocked(bundle.getFridgeCompartment());
         ensureBundleActive(bundle);
+        fridgeReadVersions.compartmentChanged(bundle.getFridgeCompartment());
 
         softDeleteBundle(bundle, OffsetDateTime.now(clock));
         fridgeBundleRepository.save(bundle);
+        refreshExpiryBuckets(bundle);
     }
 
     public FridgeItemResponse addItem(UUID bundleId, AddItemRequest request) {
@@ -432,11 +661,14 @@ public class FridgeService {
         ensureBundleOwnerOrManager(bundle, currentUser);
         ensureCompartmentNotLocked(bundle.getFridgeCompartment());
         ensureBundleActive(bundle);
+        fridgeReadVersions.compartmentChanged(bundle.getFridgeCompartment());
 
         FridgeItem item = buildItem(bundle, request.name(), request.expiryDate(),
                 request.quantity(), request.unitCode());
         bundle.getItems().add(item);
         fridgeBundleRepository.save(bundle);
+        refreshSearchDocument(bundle);
+        refreshExpiryBuckets(bundle);
 
         return FridgeDtoMapper.toItemResponse(item);
     }
@@ -452,12 +684,17 @@ public class FridgeService {
         ensureBundleOwnerOrManager(bundle, currentUser);
         ensureCompartmentNotLocked(bundle.getFridgeCompartment());
         ensureBundleActive(bundle);
+        fridgeReadVersions.compartmentChanged(bundle.getFridgeCompartment());
 
+        boolean renamed = false;
         if (StringUtils.hasText(request.name())) {
             item.setItemName(request.name().trim());
+            renamed = true;
         }
-        if (request.expiryDate() != null) {
+        boolean expiryChanged = false;
+        if (request.expiryDate() != null && !request.expiryDate().equals(item.getExpiryDate())) {
             item.setExpiryDate(request.expiryDate());
+            expiryChanged = true;
         }
         if (request.quantity() != null) {
             item.setQuantity(request.quantity());
@@ -465,6 +702,7 @@ public class FridgeService {
         if (request.unitCode() != null) {
             item.setUnitCode(request.unitCode().isBlank() ? null : request.unitCode().trim());
         }
+        FridgeItemStatus previousStatus = item.getStatus();
         if (request.removedAt() != null) {
             item.setStatus(FridgeItemStatus.DELETED);
             item.setDeletedAt(request.removedAt());
@@ -474,6 +712,12 @@ public class FridgeService {
         }
 
         FridgeItem saved = fridgeItemRepository.save(item);
+        if (renamed) {
+            refreshSearchDocument(bundle);
+        }
+        if (expiryChanged || saved.getStatus() != previousStatus) {
+            refreshExpiryBuckets(bundle);
+        }
         return FridgeDtoMapper.toItemResponse(saved);
     }
 
@@ -488,12 +732,14 @@ public class FridgeService {
         ensureBundleOwnerOrManager(bundle, currentUser);
         ensureCompartmentNotLocked(bundle.getFridgeCompartment());
         ensureBundleActive(bundle);
+        fridgeReadVersions.compartmentChanged(bundle.getFridgeCompartment());
 
         OffsetDateTime ts = OffsetDateTime.now(clock);
         item.setStatus(FridgeItemStatus.DELETED);
         item.setDeletedAt(ts);
 
         fridgeItemRepository.save(item);
+        refreshExpiryBuckets(bundle);
     }
 
     private void ensureBundleOwnerOrManager(FridgeBundle bundle, DormUser currentUser) {
@@ -530,7 +776,7 @@ public class FridgeService {
         try {
             int slotIndex = LabelFormatter.fromSlotLetter(letterPart);
             int labelNumber = Integer.parseInt(numberPart);
-            if (labelNumber <= 0 || labelNumber > MAX_LABEL) {
+            if (labelNumber <= 0 || labelNumber > LabelBitmap.MAX_LABEL) {
                 return Optional.empty();
             }
             return Optional.of(new LabelSearchCriteria(slotIndex, labelNumber));
@@ -560,15 +806,10 @@ public class FridgeService {
     private record LabelSearchCriteria(int slotIndex, int labelNumber) {
     }
 
-    private Map<UUID, RoomAssignment> loadAssignmentsForBundles(List<FridgeBundle> bundles) {
-        Set<UUID> ownerIds = bundles.stream()
-                .map(bundle -> bundle.getOwner().getId())
+    private Set<UUID> ownerIdsOf(List<FridgeBundleSummaryRow> rows) {
+        return rows.stream()
+                .map(FridgeBundleSummaryRow::ownerUserId)
                 .collect(Collectors.toSet());
-        Map<UUID, RoomAssignment> result = new HashMap<>();
-        for (UUID ownerId : ownerIds) {
-            roomAssignmentRepository.findActiveAssignment(ownerId).ifPresent(assignment -> result.put(ownerId, assignment));
-        }
-        return result;
     }
 
     private void verifyBundleReadAccess(
@@ -587,20 +828,15 @@ public class FridgeService {
         if (isAdmin) {
             return;
         }
-        RoomAssignment assignment = roomAssignmentRepository.findActiveAssignment(currentUser.getId())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "ROOM_ASSIGNMENT_REQUIRED"));
-
-        if (allowFloorManager && isFloorManagerOnFloor(assignment, compartment.getFridgeUnit().getFloorNo())) {
+        FridgeAccessDecisionCache.AccessFacts access = fridgeAccessDecisionCache
+                .resolve(currentUser.getId(), compartment.getId());
+        if (!access.assigned()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "ROOM_ASSIGNMENT_REQUIRED");
+        }
+        if (allowFloorManager && access.floorManagerOn(compartment.getFridgeUnit().getFloorNo())) {
             return;
         }
-
-        List<CompartmentRoomAccess> accesses = compartmentRoomAccessRepository
-                .findByFridgeCompartmentIdAndReleasedAtIsNullOrderByAssignedAtAsc(compartment.getId());
-        boolean accessible = accesses.stream()
-                .map(CompartmentRoomAccess::getRoom)
-                .map(Room::getId)
-                .anyMatch(roomId -> roomId.equals(requireRoomId(assignment)));
-        if (!accessible) {
+        if (!access.roomMember()) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "FORBIDDEN_SLOT");
         }
     }
@@ -613,44 +849,130 @@ public class FridgeService {
         verifyBundleReadAccess(currentUser, compartment, isAdmin, false);
     }
 
-    private int allocateLabelNumber(FridgeCompartment compartment) {
-        BundleLabelSequence sequence = bundleLabelSequenceRepository
-                .findByFridgeCompartmentId(compartment.getId())
-                .orElseGet(() -> {
-                    BundleLabelSequence created = new BundleLabelSequence();
-                    created.setFridgeCompartment(compartment);
-                    created.setNextNumber(1);
-                    created.setRecycledNumbers(new ArrayList<>());
-                    return created;
-                });
-
-        List<Integer> recycled = new LinkedList<>(sequence.getRecycledNumbers());
-        if (!recycled.isEmpty()) {
-            recycled.sort(Integer::compareTo);
-            int reused = recycled.removeFirst();
-            sequence.setRecycledNumbers(recycled);
-            bundleLabelSequenceRepository.save(sequence);
-            return reused;
-        }
-
-        int candidate = sequence.getNextNumber();
-        for (int i = 0; i < MAX_LABEL; i++) {
-            int labelCandidate = wrapLabel(candidate + i);
-            boolean exists = fridgeBundleRepository
-                    .findByFridgeCompartmentAndLabelNumberAndStatus(compartment, labelCandidate, FridgeBundleStatus.ACTIVE)
-                    .isPresent();
-            if (!exists) {
-                sequence.setNextNumber(wrapLabel(labelCandidate + 1));
-                bundleLabelSequenceRepository.save(sequence);
-                return labelCandidate;
+    /**
+     * 한 칸의 포장들을 하나의 트랜잭션에서 등록한다. 칸 행을 한 번 잠근 뒤 남은 허용량과 빈 라벨을 한 번에 계산하고,
+     * 비트맵 갱신과 카운터 증가도 한 번씩만 수행한다. 포장별 검증·허용량 실패는 해당 포장의 결과로만 기록한다.
+     */
+    private void createBundlesInCompartment(
+            UUID currentUserId,
+            UUID slotId,
+            List<Integer> indexes,
+            List<CreateBundleRequest> inputs,
+            BulkBundleResult[] results
+    ) {
+        DormUser currentUser = loadUser(currentUserId);
+        FridgeCompartment compartment = loadCompartmentForUpdate(slotId);
+        verifyBundleWriteAccess(currentUser, compartment);
+        ensureCompartmentNotLocked(compartment);
+
+        int available = Math.max(compartment.getMaxBundleCount() - compartment.getActiveBundleCount(), 0);
+        byte[] occupied = bundleLabelBitmapRepository.findOccupiedLabels(compartment.getId())
+                .orElseGet(LabelBitmap::empty);
+        int[] freeLabels = LabelBitmap.freeLabels(occupied, Math.min(available, indexes.size()));
+
+        List<FridgeBundle> bundles = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int index : indexes) {
+            FridgeBundle bundle;
+            try {
+                bundle = buildBundle(currentUser, compartment, inputs.get(index));
+            } catch (ResponseStatusException ex) {
+                results[index] = BulkBundleResult.failed(index, slotId, ex.getReason());
+                continue;
+            }
+            if (bundles.size() >= available) {
+                results[index] = BulkBundleResult.failed(index, slotId, "CAPACITY_EXCEEDED");
+                continue;
+            }
+            if (bundles.size() >= freeLabels.length) {
+                results[index] = BulkBundleResult.failed(index, slotId, "LABEL_POOL_EXHAUSTED");
+                continue;
+            }
+            bundle.setLabelNumber(freeLabels[bundles.size()]);
+            bundles.add(bundle);
+            acceptedIndexes.add(index);
+        }
+        if (bundles.isEmpty()) {
+            return;
+        }
+
+        bundleLabelBitmapRepository.occupyLabels(
+                compartment.getId(),
+                bundles.stream().map(bundle -> LabelBitmap.bitIndex(bundle.getLabelNumber())).toList()
+        );
+        changeActiveBundleCount(compartment, bundles.size());
+        fridgeReadVersions.compartmentChanged(compartment);
+
+        fridgeBundleRepository.persistAllWithItems(bundles, BULK_INSERT_BATCH_SIZE);
+        List<UUID> bundleIds = bundles.stream().map(FridgeBundle::getId).toList();
+        fridgeBundleRepository.refreshSearchDocuments(bundleIds);
+        fridgeItemRepository.refreshExpiryBuckets(bundleIds);
+
+        RoomAssignment ownerAssignment = fridgeOwnerContextLoader.loadForBundles(bundles)
+                .assignmentOf(currentUserId);
+        for (int i = 0; i < bundles.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = BulkBundleResult.created(
+                    index, slotId, FridgeDtoMapper.toResponse(bundles.get(i), ownerAssignment));
+        }
+    }
+
+    private static void markFailed(BulkBundleResult[] results, UUID slotId, List<Integer> indexes, String errorCode) {
+        for (int index : indexes) {
+            results[index] = BulkBundleResult.failed(index, slotId, errorCode);
+        }
+    }
+
+    private FridgeBundle buildBundle(DormUser owner, FridgeCompartment compartment, CreateBundleRequest request) {
+        String bundleName = request.bundleName();
+        if (!StringUtils.hasText(bundleName) || bundleName.length() > 120) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_BUNDLE_NAME");
+        }
+        if (request.items() == null || request.items().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "EMPTY_BUNDLE");
+        }
+
+        FridgeBundle bundle = new FridgeBundle();
+        bundle.setOwner(owner);
+        bundle.setFridgeCompartment(compartment);
+        bundle.setBundleName(bundleName);
+        bundle.setMemo(request.memo());
+        for (CreateBundleItemInput input : request.items()) {
+            if (input == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_NAME");
             }
+            bundle.getItems().add(buildItem(bundle, input.name(), input.expiryDate(), input.quantity(), input.unitCode()));
         }
-        throw new ResponseStatusException(HttpStatus.CONFLICT, "LABEL_POOL_EXHAUSTED");
+        return bundle;
+    }
+
+    /**
+     * 칸 비트맵에서 비어 있는 가장 작은 번호를 고른다. 허용량 확보 단계의 행 잠금 이후에 호출되므로
+     * 같은 칸의 할당은 직렬화되고, 반납은 set_bit 단일 UPDATE라 갱신이 유실되지 않는다.
+     */
+    private int allocateLabelNumber(FridgeCompartment compartment) {
+        byte[] occupied = bundleLabelBitmapRepository.findOccupiedLabels(compartment.getId())
+                .orElseGet(LabelBitmap::empty);
+        int labelNumber = LabelBitmap.firstFree(occupied)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT, "LABEL_POOL_EXHAUSTED"));
+        bundleLabelBitmapRepository.occupyLabel(compartment.getId(), LabelBitmap.bitIndex(labelNumber));
+        return labelNumber;
+    }
+
+    /**
+     * 검색 문서는 DB 함수가 현재 행을 읽어 다시 만들므로, 변경 사항을 먼저 flush한 뒤 호출한다.
+     */
+    private void refreshSearchDocument(FridgeBundle bundle) {
+        fridgeBundleRepository.flush();
+        fridgeBundleRepository.refreshSearchDocument(bundle.getId());
     }
 
-    private int wrapLabel(int value) {
-        int normalized = value % MAX_LABEL;
-        return normalized == 0 ? MAX_LABEL : normalized;
+    /**
+     * 유통기한 버킷도 포장의 현재 물품 행을 읽어 맞추므로 flush 뒤에 호출한다.
+     */
+    private void refreshExpiryBuckets(FridgeBundle bundle) {
+        fridgeItemRepository.flush();
+        fridgeItemRepository.refreshExpiryBuckets(List.of(bundle.getId()));
     }
 
     private FridgeItem buildItem(
@@ -665,10 +987,15 @@ public class FridgeService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_QUANTITY");
         }
 
+        // 일괄 등록은 묶음 INSERT 전에 포장별로 걸러야 하므로 컬럼 길이도 여기서 확인한다.
         String itemName = name != null ? name.trim() : null;
-        if (!StringUtils.hasText(itemName)) {
+        if (!StringUtils.hasText(itemName) || itemName.length() > 120) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_NAME");
         }
+        String normalizedUnitCode = unitCode != null && !unitCode.isBlank() ? unitCode.trim() : null;
+        if (normalizedUnitCode != null && normalizedUnitCode.length() > 16) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_UNIT_CODE");
+        }
 
         if (expiryDate == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_EXPIRY");
@@ -679,7 +1006,7 @@ public class FridgeService {
         item.setItemName(itemName);
         item.setExpiryDate(expiryDate);
         item.setQuantity(quantity);
-        item.setUnitCode(unitCode != null && !unitCode.isBlank() ? unitCode.trim() : null);
+        item.setUnitCode(normalizedUnitCode);
         item.setStatus(FridgeItemStatus.ACTIVE);
         item.setDeletedAt(null);
         return item;
@@ -696,17 +1023,47 @@ public class FridgeService {
             item.setStatus(FridgeItemStatus.DELETED);
             item.setDeletedAt(ts);
         });
+        changeActiveBundleCount(bundle.getFridgeCompartment(), -1);
 
-        bundleLabelSequenceRepository.findByFridgeCompartmentId(bundle.getFridgeCompartment().getId())
-                .ifPresent(sequence -> {
-                    List<Integer> recycled = new ArrayList<>(sequence.getRecycledNumbers());
-                    if (!recycled.contains(bundle.getLabelNumber())) {
-                        recycled.add(bundle.getLabelNumber());
-                        recycled.sort(Integer::compareTo);
-                        sequence.setRecycledNumbers(recycled);
-                        bundleLabelSequenceRepository.save(sequence);
-                    }
-        });
+        bundleLabelBitmapRepository.releaseLabel(
+                bundle.getFridgeCompartment().getId(),
+                LabelBitmap.bitIndex(bundle.getLabelNumber())
+        );
+    }
+
+    /**
+     * 허용량 확인과 카운터 증가를 한 번에 수행한다. 조건부 UPDATE가 잡은 행 잠금은 커밋까지 유지되므로
+     * 같은 칸의 라벨 할당과 포장 INSERT는 이 시점 이후에만 직렬화된다.
+     */
+    private void reserveBundleCapacity(FridgeCompartment compartment) {
+        if (capacityAdmissionMode == FridgeCapacityAdmissionMode.PESSIMISTIC_LOCK) {
+            if (compartment.getActiveBundleCount() >= compartment.getMaxBundleCount()) {
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "CAPACITY_EXCEEDED");
+            }
+            changeActiveBundleCount(compartment, 1);
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        if (fridgeCompartmentRepository.reserveBundleSlot(compartment.getId(), now) == 0) {
+            String reason = fridgeCompartmentRepository.findAdmissionRejection(compartment.getId(), now);
+            if ("CAPACITY_EXCEEDED".equals(reason)) {
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, reason);
+            }
+            throw new ResponseStatusException(HttpStatus.LOCKED, reason);
+        }
+        compartment.applyActiveBundleDelta(1);
+        fridgeSlotStatusBroadcaster.compartmentChanged(compartment.getId());
+    }
+
+    private void changeActiveBundleCount(FridgeCompartment compartment, int delta) {
+        fridgeCompartmentRepository.adjustActiveBundleCount(compartment.getId(), delta);
+        compartment.applyActiveBundleDelta(delta);
+        fridgeSlotStatusBroadcaster.compartmentChanged(compartment.getId());
+    }
+
+    private FridgeCompartment loadCompartment(UUID compartmentId) {
+        return fridgeCompartmentRepository.findById(compartmentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "SLOT_NOT_FOUND"));
     }
 
     private FridgeCompartment loadCompartmentForUpdate(UUID compartmentId) {
@@ -721,7 +1078,7 @@ public class FridgeService {
             return false;
         }
         return message.contains("uq_fridge_bundle_active_label")
-                || message.contains("bundle_label_sequence")
+                || message.contains("bundle_label_bitmap")
                 || message.contains("fridge_bundle_active_label");
     }
 
@@ -730,6 +1087,7 @@ public class FridgeService {
         if (compartment.getLockedUntil() != null && compartment.getLockedUntil().isBefore(now)) {
             compartment.setLocked(false);
             compartment.setLockedUntil(null);
+            eventPublisher.publishEvent(FridgeCompartmentLockChangedEvent.of(compartment.getId()));
         }
         if (compartment.isLocked()) {
             if (compartment.getLockedUntil() == null || compartment.getLockedUntil().isAfter(now)) {
@@ -739,12 +1097,7 @@ public class FridgeService {
         if (compartment.getLockedUntil() != null && compartment.getLockedUntil().isAfter(now)) {
             throw new ResponseStatusException(HttpStatus.LOCKED, "COMPARTMENT_LOCKED");
         }
-        boolean activeSessionExists = inspectionSessionRepository
-                .findByFridgeCompartmentAndStatus(compartment, com.dormmate.backend.modules.inspection.domain.InspectionStatus.IN_PROGRESS)
-                .stream()
-                .findAny()
-                .isPresent();
-        if (activeSessionExists) {
+        if (compartmentLockRegistry.isUnderInspection(compartment.getId())) {
             throw new ResponseStatusException(HttpStatus.LOCKED, "COMPARTMENT_UNDER_INSPECTION");
         }
     }
@@ -0,0 +1,173 @@
+package com.dormmate.backend.modules.fridge.application;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dormmate.backend.modules.fridge.domain.FridgeCompartment;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeCompartmentRepository;
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotDelta;
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotDeltaMessage;
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotStatus;
+
+/**
+ * 칸 상태(잠금·검사 중·활성)와 점유 수 변경을 층별 STOMP 토픽으로 보낸다.
+ * 커밋된 값만 보내도록 커밋 이후 새 읽기 트랜잭션에서 칸을 다시 읽고, 한 트랜잭션 안의 변경은 칸 단위로 모아 한 번만 보낸다.
+ */
+@Component
+public class FridgeSlotStatusBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(FridgeSlotStatusBroadcaster.class);
+    private static final String FLOOR_TOPIC_PREFIX = "/topic/fridge/floors/";
+    private static final String FLOOR_TOPIC_SUFFIX = "/slots";
+
+    private final Object pendingResourceKey = new Object();
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final FridgeCompartmentRepository fridgeCompartmentRepository;
+    private final FridgeSlotStatusResolver fridgeSlotStatusResolver;
+    private final TransactionTemplate readTransaction;
+    private final Clock clock;
+
+    public FridgeSlotStatusBroadcaster(
+            SimpMessageSendingOperations messagingTemplate,
+            FridgeCompartmentRepository fridgeCompartmentRepository,
+            FridgeSlotStatusResolver fridgeSlotStatusResolver,
+            PlatformTransactionManager transactionManager,
+            Clock clock
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.fridgeCompartmentRepository = fridgeCompartmentRepository;
+        this.fridgeSlotStatusResolver = fridgeSlotStatusResolver;
+        // 커밋 이후에는 원래 트랜잭션의 자원이 아직 묶여 있으므로 새 트랜잭션으로 읽는다.
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.clock = clock;
+    }
+
+    public static String floorTopic(int floorNo) {
+        return FLOOR_TOPIC_PREFIX + floorNo + FLOOR_TOPIC_SUFFIX;
+    }
+
+    /**
+     * 층 토픽이면 층 번호를, 아니면 null을 돌려준다.
+     */
+    public static Short parseFloorTopic(String destination) {
+        if (!isFloorTopic(destination) || !destination.endsWith(FLOOR_TOPIC_SUFFIX)) {
+            return null;
+        }
+        String floor = destination.substring(
+                FLOOR_TOPIC_PREFIX.length(), destination.length() - FLOOR_TOPIC_SUFFIX.length());
+        try {
+            return Short.valueOf(floor);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    public static boolean isFloorTopic(String destination) {
+        return destination != null && destination.startsWith(FLOOR_TOPIC_PREFIX);
+    }
+
+    /**
+     * 칸의 점유 수가 바뀌었음을 알린다. 진행 중인 트랜잭션이 있으면 커밋 이후에 보낸다.
+     */
+    public void compartmentChanged(UUID compartmentId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(Set.of(compartmentId));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<UUID> pending = (Set<UUID>) TransactionSynchronizationManager.getResource(pendingResourceKey);
+        if (pending == null) {
+            Set<UUID> collected = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(pendingResourceKey, collected);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(collected);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingResourceKey);
+                }
+            });
+            pending = collected;
+        }
+        pending.add(compartmentId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopologyChanged(FridgeTopologyChangedEvent event) {
+        publish(event.compartmentIds());
+    }
+
+    /**
+     * 검사 중 잠금 연장은 칸 상태를 바꾸지 않으므로 보내지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true, condition = "!#event.extension()")
+    public void onLockChanged(FridgeCompartmentLockChangedEvent event) {
+        publish(event.compartmentIds());
+    }
+
+    /**
+     * 빈 집합은 전체 칸이 바뀐 것으로 보고 모든 층에 보낸다. 전송 실패는 조회로 복구되므로 요청을 실패시키지 않는다.
+     */
+    private void publish(Collection<UUID> compartmentIds) {
+        try {
+            List<FridgeCompartment> compartments = readTransaction.execute(status -> compartmentIds.isEmpty()
+                    ? fridgeCompartmentRepository.findAllWithUnit()
+                    : fridgeCompartmentRepository.findWithUnitByIdIn(compartmentIds));
+            if (compartments == null || compartments.isEmpty()) {
+                return;
+            }
+            Map<UUID, FridgeSlotStatus> statuses = fridgeSlotStatusResolver.resolve(compartments);
+            OffsetDateTime occurredAt = OffsetDateTime.now(clock);
+            Map<Short, List<FridgeCompartment>> byFloor = compartments.stream()
+                    .collect(Collectors.groupingBy(
+                            compartment -> compartment.getFridgeUnit().getFloorNo(),
+                            TreeMap::new,
+                            Collectors.toList()));
+            byFloor.forEach((floorNo, floorCompartments) -> messagingTemplate.convertAndSend(
+                    floorTopic(floorNo),
+                    new FridgeSlotDeltaMessage(floorNo, occurredAt, floorCompartments.stream()
+                            .sorted(Comparator.comparingInt(FridgeCompartment::getSlotIndex))
+                            .map(compartment -> toDelta(compartment, statuses))
+                            .toList())));
+        } catch (RuntimeException ex) {
+            log.warn("Failed to push fridge slot deltas for {}", compartmentIds, ex);
+        }
+    }
+
+    private static FridgeSlotDelta toDelta(FridgeCompartment compartment, Map<UUID, FridgeSlotStatus> statuses) {
+        return new FridgeSlotDelta(
+                compartment.getId(),
+                compartment.getSlotIndex(),
+                statuses.getOrDefault(compartment.getId(), FridgeSlotStatus.ACTIVE),
+                compartment.isLocked(),
+                compartment.getLockedUntil(),
+                compartment.getMaxBundleCount(),
+                compartment.getActiveBundleCount()
+        );
+    }
+}
@@ -0,0 +1,192 @@
+package com.dormmate.backend.modules.fridge.application;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.dormmate.backend.modules.fridge.domain.FridgeCompartment;
+import com.dormmate.backend.modules.fridge.domain.FridgeSlotStatusProjection;
+import com.dormmate.backend.modules.fridge.domain.FridgeTopologySnapshot;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeCompartmentRepository;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeSlotStatusProjectionRepository;
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotState;
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotStatus;
+import com.dormmate.backend.modules.fridge.presentation.dto.admin.SlotStatusVerificationResponse;
+import com.dormmate.backend.modules.fridge.presentation.dto.admin.SlotStatusVerificationResponse.Mismatch;
+
+/**
+ * fridge_slot_status 투영을 유지하고 읽는다.
+ * 잠금·해제·검사 시작/제출/취소·만료 해제는 FridgeCompartmentLockChangedEvent를, 칸 설정 변경은 FridgeTopologyChangedEvent를
+ * 발행하므로 같은 트랜잭션의 커밋 직전에 해당 칸을 다시 계산한다. 검사 중 잠금 연장은 상태를 바꾸지 않으므로 다시 계산하지 않고,
+ * 검사 중인 칸의 잠금 만료 시각은 잠금 레지스트리에서 읽는다.
+ * 잠금 만료는 유지보수 작업이 해제하기 전까지 읽을 때 locked_until로 판단하고, 투영 행이 없는 칸은 계산값으로 대신한다.
+ */
+@Component
+public class FridgeSlotStatusProjector {
+
+    private final FridgeSlotStatusProjectionRepository projectionRepository;
+    private final FridgeCompartmentRepository fridgeCompartmentRepository;
+    private final FridgeSlotStatusResolver fridgeSlotStatusResolver;
+    private final CompartmentLockRegistry compartmentLockRegistry;
+    private final Clock clock;
+
+    public FridgeSlotStatusProjector(
+            FridgeSlotStatusProjectionRepository projectionRepository,
+            FridgeCompartmentRepository fridgeCompartmentRepository,
+            FridgeSlotStatusResolver fridgeSlotStatusResolver,
+            CompartmentLockRegistry compartmentLockRegistry,
+            Clock clock
+    ) {
+        this.projectionRepository = projectionRepository;
+        this.fridgeCompartmentRepository = fridgeCompartmentRepository;
+        this.fridgeSlotStatusResolver = fridgeSlotStatusResolver;
+        this.compartmentLockRegistry = compartmentLockRegistry;
+        this.clock = clock;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onTopologyChanged(FridgeTopologyChangedEvent event) {
+        refresh(event.compartmentIds());
+    }
+
+    @TransactionalEventListener(
+            phase = TransactionPhase.BEFORE_COMMIT,
+            fallbackExecution = true,
+            condition = "!#event.extension()"
+    )
+    @Transactional
+    public void onLockChanged(FridgeCompartmentLockChangedEvent event) {
+        refresh(event.compartmentIds());
+    }
+
+    /**
+     * 빈 집합은 전체 칸을 다시 계산한다. 바뀐 투영 행 수를 돌려준다.
+     */
+    @Transactional
+    public int refresh(Set<UUID> compartmentIds) {
+        // 커밋 직전 동기화 시점에는 칸·세션 엔티티 변경이 아직 flush되지 않았다.
+        fridgeCompartmentRepository.flush();
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        return compartmentIds.isEmpty()
+                ? projectionRepository.refreshAll(now)
+                : projectionRepository.refresh(compartmentIds, now);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<UUID, FridgeSlotStatus> resolve(Collection<FridgeCompartment> compartments) {
+        if (compartments == null || compartments.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, FridgeSlotStatus> statuses = read(compartments.stream()
+                .map(FridgeCompartment::getId)
+                .collect(Collectors.toSet()));
+        List<FridgeCompartment> missing = compartments.stream()
+                .filter(compartment -> !statuses.containsKey(compartment.getId()))
+                .toList();
+        if (!missing.isEmpty()) {
+            statuses.putAll(fridgeSlotStatusResolver.resolve(missing));
+        }
+        return statuses;
+    }
+
+    /**
+     * 칸 목록용 상태와 잠금 정보. 투영 행이 없는 칸만 칸 행을 읽어 계산한다.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, FridgeSlotState> resolveSlots(Collection<FridgeTopologySnapshot.Slot> slots) {
+        if (slots == null || slots.isEmpty()) {
+            return Map.of();
+        }
+        Set<UUID> compartmentIds = slots.stream()
+                .map(FridgeTopologySnapshot.Slot::compartmentId)
+                .collect(Collectors.toSet());
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        Map<UUID, FridgeSlotState> states = new HashMap<>();
+        for (FridgeSlotStatusProjection row : projectionRepository.findByFridgeCompartmentIdIn(compartmentIds)) {
+            FridgeSlotStatus status = effectiveStatus(row, now);
+            states.put(row.getFridgeCompartmentId(), slotState(row.getFridgeCompartmentId(), status, row.getLockedUntil()));
+        }
+        List<UUID> missing = compartmentIds.stream()
+                .filter(compartmentId -> !states.containsKey(compartmentId))
+                .toList();
+        if (!missing.isEmpty()) {
+            Map<UUID, FridgeCompartment> compartments = fridgeCompartmentRepository.findWithUnitByIdIn(missing).stream()
+                    .collect(Collectors.toMap(FridgeCompartment::getId, compartment -> compartment));
+            fridgeSlotStatusResolver.resolve(compartments.values()).forEach((compartmentId, status) -> states.put(
+                    compartmentId,
+                    slotState(compartmentId, status, compartments.get(compartmentId).getLockedUntil())));
+        }
+        return states;
+    }
+
+    /**
+     * 전체 칸의 투영 값을 잠금 필드와 진행 중 검사로 계산한 값과 비교한다. repair이면 어긋난 칸만 다시 계산한다.
+     */
+    @Transactional
+    public SlotStatusVerificationResponse verify(boolean repair) {
+        List<FridgeCompartment> compartments = fridgeCompartmentRepository.findAllWithUnit();
+        Map<UUID, FridgeSlotStatus> computed = fridgeSlotStatusResolver.resolve(compartments);
+        Map<UUID, FridgeSlotStatus> projected = read(computed.keySet());
+
+        List<Mismatch> mismatches = new ArrayList<>();
+        compartments.stream()
+                .sorted(Comparator
+                        .comparingInt((FridgeCompartment compartment) -> compartment.getFridgeUnit().getFloorNo())
+                        .thenComparingInt(FridgeCompartment::getSlotIndex))
+                .forEach(compartment -> {
+                    FridgeSlotStatus expected = computed.get(compartment.getId());
+                    FridgeSlotStatus actual = projected.get(compartment.getId());
+                    if (expected != actual) {
+                        mismatches.add(new Mismatch(compartment.getId(), actual, expected));
+                    }
+                });
+
+        int repaired = 0;
+        if (repair && !mismatches.isEmpty()) {
+            repaired = refresh(mismatches.stream().map(Mismatch::slotId).collect(Collectors.toSet()));
+        }
+        return new SlotStatusVerificationResponse(compartments.size(), mismatches, repaired);
+    }
+
+    private Map<UUID, FridgeSlotStatus> read(Set<UUID> compartmentIds) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        Map<UUID, FridgeSlotStatus> statuses = new HashMap<>();
+        for (FridgeSlotStatusProjection row : projectionRepository.findByFridgeCompartmentIdIn(compartmentIds)) {
+            statuses.put(row.getFridgeCompartmentId(), effectiveStatus(row, now));
+        }
+        return statuses;
+    }
+
+    private FridgeSlotState slotState(UUID compartmentId, FridgeSlotStatus status, OffsetDateTime lockedUntil) {
+        return switch (status) {
+            case ACTIVE -> new FridgeSlotState(status, false, null);
+            case LOCKED -> new FridgeSlotState(status, true, lockedUntil);
+            // 검사 중 연장은 투영을 다시 계산하지 않으므로 레지스트리의 만료 시각이 최신이다.
+            case IN_INSPECTION -> new FridgeSlotState(status, true, compartmentLockRegistry.find(compartmentId)
+                    .map(CompartmentLockRegistry.InspectionLock::lockedUntil)
+                    .orElse(lockedUntil));
+        };
+    }
+
+    private static FridgeSlotStatus effectiveStatus(FridgeSlotStatusProjection row, OffsetDateTime now) {
+        FridgeSlotStatus status = FridgeSlotStatus.valueOf(row.getSlotStatus());
+        if (status == FridgeSlotStatus.LOCKED && row.getLockedUntil() != null && !row.getLockedUntil().isAfter(now)) {
+            return FridgeSlotStatus.ACTIVE;
+        }
+        return status;
+    }
+}
@@ -5,7 +5,6 @@ import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -16,20 +15,18 @@ import org.springframework.stereotype.Component;
 
 import com.dormmate.backend.modules.fridge.domain.FridgeCompartment;
 import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotStatus;
-import com.dormmate.backend.modules.inspection.domain.InspectionStatus;
-import com.dormmate.backend.modules.inspection.infrastructure.persistence.InspectionSessionRepository;
 
 @Component
 public class FridgeSlotStatusResolver {
 
-    private final InspectionSessionRepository inspectionSessionRepository;
+    private final CompartmentLockRegistry compartmentLockRegistry;
     private final Clock clock;
 
     public FridgeSlotStatusResolver(
-            InspectionSessionRepository inspectionSessionRepository,
+            CompartmentLockRegistry compartmentLockRegistry,
             Clock clock
     ) {
-        this.inspectionSessionRepository = inspectionSessionRepository;
+        this.compartmentLockRegistry = compartmentLockRegistry;
         this.clock = clock;
     }
 
@@ -37,26 +34,20 @@ public class FridgeSlotStatusResolver {
         if (compartments == null || compartments.isEmpty()) {
             return Collections.emptyMap();
         }
-        Set<UUID> compartmentIds = compartments.stream()
+        Set<UUID> compartmentsUnderInspection = findCompartmentsUnderInspection(compartments.stream()
                 .map(FridgeCompartment::getId)
-                .collect(Collectors.toSet());
-        if (compartmentIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        Set<UUID> compartmentsUnderInspection = inspectionSessionRepository
-                .findByFridgeCompartmentIdInAndStatus(compartmentIds, InspectionStatus.IN_PROGRESS)
-                .stream()
-                .map(session -> session.getFridgeCompartment().getId())
-                .collect(Collectors.toCollection(HashSet::new));
-
+                .collect(Collectors.toSet()));
         OffsetDateTime now = OffsetDateTime.now(clock);
 
         Map<UUID, FridgeSlotStatus> resolved = new HashMap<>();
         for (FridgeCompartment compartment : compartments) {
-            resolved.put(compartment.getId(), determineStatus(compartment, compartmentsUnderInspection, now));
+            resolved.put(compartment.getId(), determineStatus(
+                    compartment.getId(),
+                    compartment.isLocked(),
+                    compartment.getLockedUntil(),
+                    compartmentsUnderInspection,
+                    now));
         }
-
         return resolved;
     }
 
@@ -67,27 +58,35 @@ public class FridgeSlotStatusResolver {
         return resolve(List.of(compartment)).getOrDefault(compartment.getId(), FridgeSlotStatus.ACTIVE);
     }
 
+    private Set<UUID> findCompartmentsUnderInspection(Set<UUID> compartmentIds) {
+        if (compartmentIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return compartmentLockRegistry.compartmentsUnderInspection(compartmentIds);
+    }
+
     private FridgeSlotStatus determineStatus(
-            FridgeCompartment compartment,
+            UUID compartmentId,
+            boolean locked,
+            OffsetDateTime lockedUntil,
             Set<UUID> compartmentsUnderInspection,
             OffsetDateTime now
     ) {
-        if (compartmentsUnderInspection.contains(compartment.getId())) {
+        if (compartmentsUnderInspection.contains(compartmentId)) {
             return FridgeSlotStatus.IN_INSPECTION;
         }
-        if (isLockActive(compartment, now)) {
+        if (isLockActive(locked, lockedUntil, now)) {
             return FridgeSlotStatus.LOCKED;
         }
         return FridgeSlotStatus.ACTIVE;
     }
 
-    private boolean isLockActive(FridgeCompartment compartment, OffsetDateTime now) {
-        OffsetDateTime lockedUntil = compartment.getLockedUntil();
+    private boolean isLockActive(boolean locked, OffsetDateTime lockedUntil, OffsetDateTime now) {
         if (lockedUntil != null && lockedUntil.isBefore(now)) {
             return false;
         }
 
-        if (compartment.isLocked()) {
+        if (locked) {
             if (lockedUntil == null || lockedUntil.isAfter(now)) {
                 return true;
             }
@@ -96,4 +95,3 @@ public class FridgeSlotStatusResolver {
         return lockedUntil != null && lockedUntil.isAfter(now);
     }
 }
-
@@ -0,0 +1,82 @@
+package com.dormmate.backend.modules.fridge.application;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.dormmate.backend.modules.fridge.domain.FridgeTopologySnapshot;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.CompartmentRoomAccessRepository;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeCompartmentRepository;
+
+/**
+ * 냉장고 토폴로지 스냅샷을 프로세스 메모리에 보관한다.
+ * 변경 이벤트가 커밋되면 세대(generation)를 올리고, 다음 조회 시 한 번만 다시 적재한다.
+ */
+@Component
+public class FridgeTopologyCache {
+
+    private static final Logger log = LoggerFactory.getLogger(FridgeTopologyCache.class);
+
+    private final FridgeCompartmentRepository fridgeCompartmentRepository;
+    private final CompartmentRoomAccessRepository compartmentRoomAccessRepository;
+    private final AtomicLong generation = new AtomicLong(1L);
+    private volatile FridgeTopologySnapshot snapshot;
+
+    public FridgeTopologyCache(
+            FridgeCompartmentRepository fridgeCompartmentRepository,
+            CompartmentRoomAccessRepository compartmentRoomAccessRepository
+    ) {
+        this.fridgeCompartmentRepository = fridgeCompartmentRepository;
+        this.compartmentRoomAccessRepository = compartmentRoomAccessRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public FridgeTopologySnapshot current() {
+        FridgeTopologySnapshot cached = snapshot;
+        if (cached != null && cached.version() == generation.get()) {
+            return cached;
+        }
+        return rebuild();
+    }
+
+    /**
+     * 다시 적재하지 않고 마지막 스냅샷을 돌려준다. 무효화된 이후일 수 있으므로 칸→층처럼 바뀌지 않는 정보에만 쓴다.
+     */
+    public FridgeTopologySnapshot peek() {
+        return snapshot;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopologyChanged(FridgeTopologyChangedEvent event) {
+        invalidate();
+    }
+
+    private synchronized FridgeTopologySnapshot rebuild() {
+        long targetGeneration = generation.get();
+        FridgeTopologySnapshot cached = snapshot;
+        if (cached != null && cached.version() == targetGeneration) {
+            return cached;
+        }
+        List<FridgeTopologySnapshot.Slot> slots = fridgeCompartmentRepository.findAllWithUnit().stream()
+                .map(FridgeTopologySnapshot.Slot::from)
+                .toList();
+        FridgeTopologySnapshot rebuilt = new FridgeTopologySnapshot(
+                targetGeneration,
+                slots,
+                FridgeTopologySnapshot.groupByRoom(compartmentRoomAccessRepository.findByReleasedAtIsNull())
+        );
+        // 적재 중 무효화가 들어왔다면 이번 결과는 이 요청에만 쓰이고 다음 조회에서 다시 적재된다.
+        snapshot = rebuilt;
+        log.debug("Fridge topology snapshot rebuilt: version={}, slots={}", targetGeneration, slots.size());
+        return rebuilt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.dormmate.backend.modules.fridge.application;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 칸 설정, 호실 배분, 잠금 상태가 바뀌었음을 알린다. 커밋 이후 토폴로지 스냅샷을 무효화하는 데 사용한다.
+ * compartmentIds가 비어 있으면 전체 칸이 영향을 받은 것으로 본다.
+ */
+public record FridgeTopologyChangedEvent(Set<UUID> compartmentIds) {
+
+    public FridgeTopologyChangedEvent {
+        compartmentIds = compartmentIds == null ? Set.of() : Set.copyOf(compartmentIds);
+    }
+
+    public static FridgeTopologyChangedEvent of(UUID compartmentId) {
+        return new FridgeTopologyChangedEvent(Set.of(compartmentId));
+    }
+
+    public static FridgeTopologyChangedEvent all() {
+        return new FridgeTopologyChangedEvent(Set.of());
+    }
+}
@@ -0,0 +1,36 @@
+package com.dormmate.backend.modules.fridge.domain;
+
+import java.util.UUID;
+
+import com.dormmate.backend.global.jpa.AbstractTimestampedEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 칸별 라벨 사용 비트맵. 갱신은 {@code set_bit} 기반의 원자적 UPDATE로만 수행한다.
+ */
+@Entity
+@Immutable
+@Table(name = "bundle_label_bitmap")
+public class BundleLabelBitmap extends AbstractTimestampedEntity {
+
+    @Id
+    @Column(name = "fridge_compartment_id", nullable = false, columnDefinition = "uuid")
+    private UUID fridgeCompartmentId;
+
+    @Column(name = "occupied_labels", nullable = false, columnDefinition = "bytea")
+    private byte[] occupiedLabels;
+
+    public UUID getFridgeCompartmentId() {
+        return fridgeCompartmentId;
+    }
+
+    public byte[] getOccupiedLabels() {
+        return occupiedLabels;
+    }
+}
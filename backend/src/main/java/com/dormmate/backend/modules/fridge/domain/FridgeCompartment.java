@@ -18,7 +18,6 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
-import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 
 import org.hibernate.annotations.UuidGenerator;
@@ -46,6 +45,10 @@ public class FridgeCompartment extends AbstractTimestampedEntity {
     @Column(name = "max_bundle_count", nullable = false)
     private int maxBundleCount;
 
+    // 증감은 FridgeCompartmentRepository의 원자적 UPDATE로만 반영한다.
+    @Column(name = "active_bundle_count", nullable = false, insertable = false, updatable = false)
+    private int activeBundleCount;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 16)
     private ResourceStatus status = ResourceStatus.ACTIVE;
@@ -62,9 +65,6 @@ public class FridgeCompartment extends AbstractTimestampedEntity {
     @OneToMany(mappedBy = "fridgeCompartment", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = false)
     private List<FridgeBundle> bundles = new ArrayList<>();
 
-    @OneToOne(mappedBy = "fridgeCompartment", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
-    private BundleLabelSequence labelSequence;
-
     public UUID getId() {
         return id;
     }
@@ -101,6 +101,14 @@ public class FridgeCompartment extends AbstractTimestampedEntity {
         this.maxBundleCount = maxBundleCount;
     }
 
+    public int getActiveBundleCount() {
+        return activeBundleCount;
+    }
+
+    public void applyActiveBundleDelta(int delta) {
+        this.activeBundleCount = Math.max(0, activeBundleCount + delta);
+    }
+
     public ResourceStatus getStatus() {
         return status;
     }
@@ -133,14 +141,6 @@ public class FridgeCompartment extends AbstractTimestampedEntity {
         return bundles;
     }
 
-    public BundleLabelSequence getLabelSequence() {
-        return labelSequence;
-    }
-
-    public void setLabelSequence(BundleLabelSequence labelSequence) {
-        this.labelSequence = labelSequence;
-    }
-
     public boolean isResourceActive() {
         return status.isActive();
     }
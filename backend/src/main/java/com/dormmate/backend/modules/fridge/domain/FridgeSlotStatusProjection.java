@@ -0,0 +1,49 @@
+package com.dormmate.backend.modules.fridge.domain;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 칸 상태 투영. 갱신은 {@code fn_refresh_fridge_slot_status}로만 수행한다.
+ */
+@Entity
+@Immutable
+@Table(name = "fridge_slot_status")
+public class FridgeSlotStatusProjection {
+
+    @Id
+    @Column(name = "fridge_compartment_id", nullable = false, columnDefinition = "uuid")
+    private UUID fridgeCompartmentId;
+
+    @Column(name = "slot_status", nullable = false, length = 16)
+    private String slotStatus;
+
+    @Column(name = "locked_until")
+    private OffsetDateTime lockedUntil;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    public UUID getFridgeCompartmentId() {
+        return fridgeCompartmentId;
+    }
+
+    public String getSlotStatus() {
+        return slotStatus;
+    }
+
+    public OffsetDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,111 @@
+package com.dormmate.backend.modules.fridge.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.dormmate.backend.global.common.ResourceStatus;
+
+/**
+ * 층별 냉장고 칸 구성(유닛·칸·슬롯 순서·칸별 접근 호실)을 담은 불변 스냅샷.
+ * 칸 설정/재배분 시에만 새 버전으로 교체된다. 잠금은 잠금 레지스트리와 칸 상태 투영이 가진다.
+ */
+public final class FridgeTopologySnapshot {
+
+    private static final Comparator<Slot> SLOT_ORDER = Comparator
+            .comparingInt(Slot::floorNo)
+            .thenComparingInt(Slot::slotIndex);
+
+    private final long version;
+    private final List<Slot> slots;
+    private final Map<Short, List<Slot>> slotsByFloor;
+    private final Map<UUID, Slot> slotsById;
+    private final Map<UUID, Set<UUID>> compartmentIdsByRoom;
+
+    public FridgeTopologySnapshot(long version, Collection<Slot> slots, Map<UUID, Set<UUID>> compartmentIdsByRoom) {
+        this.version = version;
+        List<Slot> sorted = new ArrayList<>(slots);
+        sorted.sort(SLOT_ORDER);
+        this.slots = List.copyOf(sorted);
+
+        Map<Short, List<Slot>> byFloor = new LinkedHashMap<>();
+        Map<UUID, Slot> byId = new HashMap<>();
+        for (Slot slot : this.slots) {
+            byFloor.computeIfAbsent(slot.floorNo(), key -> new ArrayList<>()).add(slot);
+            byId.put(slot.compartmentId(), slot);
+        }
+        Map<Short, List<Slot>> frozenByFloor = new LinkedHashMap<>();
+        byFloor.forEach((floor, floorSlots) -> frozenByFloor.put(floor, List.copyOf(floorSlots)));
+        this.slotsByFloor = Collections.unmodifiableMap(frozenByFloor);
+        this.slotsById = Map.copyOf(byId);
+
+        Map<UUID, Set<UUID>> byRoom = new HashMap<>();
+        compartmentIdsByRoom.forEach((roomId, compartmentIds) -> byRoom.put(roomId, Set.copyOf(compartmentIds)));
+        this.compartmentIdsByRoom = Map.copyOf(byRoom);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public List<Slot> slots() {
+        return slots;
+    }
+
+    public List<Slot> slotsOnFloor(short floorNo) {
+        return slotsByFloor.getOrDefault(floorNo, List.of());
+    }
+
+    public Set<Short> floors() {
+        return slotsByFloor.keySet();
+    }
+
+    public Slot findSlot(UUID compartmentId) {
+        return slotsById.get(compartmentId);
+    }
+
+    public Set<UUID> compartmentIdsForRoom(UUID roomId) {
+        return compartmentIdsByRoom.getOrDefault(roomId, Set.of());
+    }
+
+    public static Map<UUID, Set<UUID>> groupByRoom(Collection<CompartmentRoomAccess> activeAccesses) {
+        Map<UUID, Set<UUID>> grouped = new HashMap<>();
+        for (CompartmentRoomAccess access : activeAccesses) {
+            grouped.computeIfAbsent(access.getRoom().getId(), key -> new HashSet<>())
+                    .add(access.getFridgeCompartment().getId());
+        }
+        return grouped;
+    }
+
+    public record Slot(
+            UUID compartmentId,
+            UUID unitId,
+            short floorNo,
+            int slotIndex,
+            CompartmentType compartmentType,
+            ResourceStatus status,
+            int maxBundleCount
+    ) {
+
+        public static Slot from(FridgeCompartment compartment) {
+            FridgeUnit unit = compartment.getFridgeUnit();
+            return new Slot(
+                    compartment.getId(),
+                    unit.getId(),
+                    unit.getFloorNo(),
+                    compartment.getSlotIndex(),
+                    compartment.getCompartmentType(),
+                    compartment.getStatus(),
+                    compartment.getMaxBundleCount()
+            );
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.dormmate.backend.modules.fridge.domain;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+
+/**
+ * 칸별 라벨(1~999) 사용 여부를 담은 125바이트 비트맵 연산.
+ * 라벨 n은 비트 n-1이며, 바이트 내부는 하위 비트부터 채운다(PostgreSQL get_bit/set_bit과 동일).
+ */
+public final class LabelBitmap {
+
+    public static final int MAX_LABEL = 999;
+    public static final int SIZE_IN_BYTES = (MAX_LABEL + 7) / 8;
+
+    private LabelBitmap() {
+    }
+
+    public static byte[] empty() {
+        return new byte[SIZE_IN_BYTES];
+    }
+
+    public static int bitIndex(int labelNumber) {
+        if (labelNumber < 1 || labelNumber > MAX_LABEL) {
+            throw new IllegalArgumentException("labelNumber out of range: " + labelNumber);
+        }
+        return labelNumber - 1;
+    }
+
+    public static boolean isOccupied(byte[] bitmap, int labelNumber) {
+        int bit = bitIndex(labelNumber);
+        int byteIndex = bit >>> 3;
+        if (bitmap == null || byteIndex >= bitmap.length) {
+            return false;
+        }
+        return (bitmap[byteIndex] & (1 << (bit & 7))) != 0;
+    }
+
+    /**
+     * 비어 있는 가장 작은 라벨 번호를 찾는다. 가득 찬 바이트는 건너뛰므로 최대 125바이트만 확인한다.
+     */
+    public static OptionalInt firstFree(byte[] bitmap) {
+        for (int byteIndex = 0; byteIndex < SIZE_IN_BYTES; byteIndex++) {
+            int value = bitmap != null && byteIndex < bitmap.length ? bitmap[byteIndex] & 0xFF : 0;
+            if (value == 0xFF) {
+                continue;
+            }
+            int bit = (byteIndex << 3) + Integer.numberOfTrailingZeros(~value);
+            if (bit >= MAX_LABEL) {
+                break;
+            }
+            return OptionalInt.of(bit + 1);
+        }
+        return OptionalInt.empty();
+    }
+
+    /**
+     * 비어 있는 라벨을 작은 번호부터 최대 count개 고른다. 빈 번호가 모자라면 찾은 만큼만 돌려준다.
+     */
+    public static int[] freeLabels(byte[] bitmap, int count) {
+        int[] labels = new int[Math.max(count, 0)];
+        int found = 0;
+        for (int byteIndex = 0; byteIndex < SIZE_IN_BYTES && found < labels.length; byteIndex++) {
+            int value = bitmap != null && byteIndex < bitmap.length ? bitmap[byteIndex] & 0xFF : 0;
+            int free = ~value & 0xFF;
+            while (free != 0 && found < labels.length) {
+                int bit = (byteIndex << 3) + Integer.numberOfTrailingZeros(free);
+                if (bit >= MAX_LABEL) {
+                    return Arrays.copyOf(labels, found);
+                }
+                labels[found++] = bit + 1;
+                free &= free - 1;
+            }
+        }
+        return Arrays.copyOf(labels, found);
+    }
+}
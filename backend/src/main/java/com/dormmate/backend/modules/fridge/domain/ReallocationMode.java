@@ -0,0 +1,11 @@
+package com.dormmate.backend.modules.fridge.domain;
+
+/**
+ * 냉장 칸 호실 재배분 방식.
+ */
+public enum ReallocationMode {
+    /** 호실 번호 순으로 칸마다 연속 구간을 나눈다. */
+    EVEN_SPLIT,
+    /** 균등 할당량은 지키면서 현재 칸에 남는 호실 수를 최대로 한다. */
+    MIN_CHURN
+}
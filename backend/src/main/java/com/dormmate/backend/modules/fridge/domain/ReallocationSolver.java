@@ -0,0 +1,169 @@
+package com.dormmate.backend.modules.fridge.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 한 층의 활성 냉장 칸에 호실을 나누는 계산.
+ * 칸별 할당량은 두 방식 모두 slotIndex 순으로 앞 칸부터 하나씩 더 받는 균등 분배(적용 시 검증 규칙과 동일)이고,
+ * 방식에 따라 어느 호실이 어느 칸으로 가는지만 달라진다.
+ */
+public final class ReallocationSolver {
+
+    private ReallocationSolver() {
+    }
+
+    public static int[] quotas(int totalRooms, int compartmentCount) {
+        int[] quotas = new int[compartmentCount];
+        if (compartmentCount == 0) {
+            return quotas;
+        }
+        int base = totalRooms / compartmentCount;
+        int remainder = totalRooms % compartmentCount;
+        for (int i = 0; i < compartmentCount; i++) {
+            quotas[i] = base + (i < remainder ? 1 : 0);
+        }
+        return quotas;
+    }
+
+    /**
+     * @param roomIds        호실 번호 순으로 정렬된 층의 호실
+     * @param compartmentIds slotIndex 순으로 정렬된 활성 냉장 칸
+     * @param current        칸별 현재 배정 호실(MIN_CHURN에서만 사용)
+     * @return 칸별 배정 호실(호실 번호 순)
+     */
+    public static Map<UUID, List<UUID>> solve(
+            ReallocationMode mode,
+            List<UUID> roomIds,
+            List<UUID> compartmentIds,
+            Map<UUID, ? extends Collection<UUID>> current
+    ) {
+        if (compartmentIds.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        return mode == ReallocationMode.MIN_CHURN
+                ? minChurn(roomIds, compartmentIds, current)
+                : evenSplit(roomIds, compartmentIds);
+    }
+
+    /**
+     * 현재 배정과 목표 배정의 차이. 적용 시 바뀐 배정만 해제·생성하므로 releasedAssignments와 createdAssignments가 실제 쓰기 양이고,
+     * 전체를 해제하고 다시 만들었을 때와의 차이가 avoidedWrites다.
+     */
+    public static Churn churn(Map<UUID, ? extends Collection<UUID>> current, Map<UUID, ? extends Collection<UUID>> target) {
+        int released = 0;
+        int created = 0;
+        int fullRewrite = 0;
+        Set<UUID> compartmentIds = new HashSet<>(current.keySet());
+        compartmentIds.addAll(target.keySet());
+        for (UUID compartmentId : compartmentIds) {
+            Set<UUID> before = new HashSet<>(roomsOf(current, compartmentId));
+            Set<UUID> after = new HashSet<>(roomsOf(target, compartmentId));
+            fullRewrite += before.size() + after.size();
+            for (UUID roomId : before) {
+                if (!after.contains(roomId)) {
+                    released++;
+                }
+            }
+            for (UUID roomId : after) {
+                if (!before.contains(roomId)) {
+                    created++;
+                }
+            }
+        }
+        return new Churn(released, created, fullRewrite - released - created);
+    }
+
+    /**
+     * 목표 배정에서 현재 칸과 다른 칸으로 가는(또는 새로 배정되는) 호실 수.
+     */
+    public static int movedRooms(Map<UUID, ? extends Collection<UUID>> current, Map<UUID, ? extends Collection<UUID>> target) {
+        int moved = 0;
+        for (Map.Entry<UUID, ? extends Collection<UUID>> entry : target.entrySet()) {
+            Collection<UUID> before = roomsOf(current, entry.getKey());
+            for (UUID roomId : entry.getValue()) {
+                if (!before.contains(roomId)) {
+                    moved++;
+                }
+            }
+        }
+        return moved;
+    }
+
+    private static Map<UUID, List<UUID>> evenSplit(List<UUID> roomIds, List<UUID> compartmentIds) {
+        int[] quotas = quotas(roomIds.size(), compartmentIds.size());
+        Map<UUID, List<UUID>> result = new LinkedHashMap<>();
+        int cursor = 0;
+        for (int i = 0; i < compartmentIds.size(); i++) {
+            int end = Math.min(cursor + quotas[i], roomIds.size());
+            result.put(compartmentIds.get(i), List.copyOf(roomIds.subList(cursor, end)));
+            cursor = end;
+        }
+        return result;
+    }
+
+    /**
+     * 칸마다 할당량 안에서 현재 호실을 먼저 남기고, 남은 호실을 번호 순으로 빈 자리에 채운다.
+     * 호실이 한 칸에만 배정된 정상 상태에서는 칸별로 min(할당량, 현재 호실 수)만큼 남기므로 이동 호실 수가 최소다.
+     */
+    private static Map<UUID, List<UUID>> minChurn(
+            List<UUID> roomIds,
+            List<UUID> compartmentIds,
+            Map<UUID, ? extends Collection<UUID>> current
+    ) {
+        int[] quotas = quotas(roomIds.size(), compartmentIds.size());
+        Map<UUID, Integer> roomOrder = new HashMap<>();
+        for (int i = 0; i < roomIds.size(); i++) {
+            roomOrder.put(roomIds.get(i), i);
+        }
+        List<List<UUID>> assigned = new ArrayList<>();
+        compartmentIds.forEach(id -> assigned.add(new ArrayList<>()));
+
+        List<UUID> unplaced = new ArrayList<>();
+        for (UUID roomId : roomIds) {
+            boolean kept = false;
+            for (int i = 0; i < compartmentIds.size() && !kept; i++) {
+                Collection<UUID> before = current.get(compartmentIds.get(i));
+                if (before != null && before.contains(roomId) && assigned.get(i).size() < quotas[i]) {
+                    assigned.get(i).add(roomId);
+                    kept = true;
+                }
+            }
+            if (!kept) {
+                unplaced.add(roomId);
+            }
+        }
+
+        int cursor = 0;
+        for (UUID roomId : unplaced) {
+            while (assigned.get(cursor).size() >= quotas[cursor]) {
+                cursor++;
+            }
+            assigned.get(cursor).add(roomId);
+        }
+
+        Map<UUID, List<UUID>> result = new LinkedHashMap<>();
+        for (int i = 0; i < compartmentIds.size(); i++) {
+            List<UUID> rooms = assigned.get(i);
+            rooms.sort(Comparator.comparingInt(roomOrder::get));
+            result.put(compartmentIds.get(i), List.copyOf(rooms));
+        }
+        return result;
+    }
+
+    private static Collection<UUID> roomsOf(Map<UUID, ? extends Collection<UUID>> assignments, UUID compartmentId) {
+        Collection<UUID> rooms = assignments.get(compartmentId);
+        return rooms == null ? List.of() : rooms;
+    }
+
+    public record Churn(int releasedAssignments, int createdAssignments, int avoidedWrites) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.dormmate.backend.modules.fridge.infrastructure.persistence;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dormmate.backend.modules.fridge.domain.BundleLabelBitmap;
+
+public interface BundleLabelBitmapRepository extends JpaRepository<BundleLabelBitmap, UUID> {
+
+    @Query(value = """
+            SELECT occupied_labels
+            FROM bundle_label_bitmap
+            WHERE fridge_compartment_id = :compartmentId
+            """, nativeQuery = true)
+    Optional<byte[]> findOccupiedLabels(@Param("compartmentId") UUID compartmentId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO bundle_label_bitmap (fridge_compartment_id, occupied_labels, created_at, updated_at)
+            VALUES (:compartmentId, set_bit(decode(repeat('00', 125), 'hex'), :bitIndex, 1), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            ON CONFLICT (fridge_compartment_id) DO UPDATE
+            SET occupied_labels = set_bit(bundle_label_bitmap.occupied_labels, :bitIndex, 1),
+                updated_at = CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    int occupyLabel(@Param("compartmentId") UUID compartmentId, @Param("bitIndex") int bitIndex);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO bundle_label_bitmap (fridge_compartment_id, occupied_labels, created_at, updated_at)
+            VALUES (:compartmentId,
+                    public.fn_set_label_bits(decode(repeat('00', 125), 'hex'), ARRAY[:bitIndexes]),
+                    CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            ON CONFLICT (fridge_compartment_id) DO UPDATE
+            SET occupied_labels = public.fn_set_label_bits(bundle_label_bitmap.occupied_labels, ARRAY[:bitIndexes]),
+                updated_at = CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    int occupyLabels(@Param("compartmentId") UUID compartmentId, @Param("bitIndexes") List<Integer> bitIndexes);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE bundle_label_bitmap
+            SET occupied_labels = set_bit(occupied_labels, :bitIndex, 0),
+                updated_at = CURRENT_TIMESTAMP
+            WHERE fridge_compartment_id = :compartmentId
+            """, nativeQuery = true)
+    int releaseLabel(@Param("compartmentId") UUID compartmentId, @Param("bitIndex") int bitIndex);
+
+    @Query(value = "SELECT public.fn_rebuild_bundle_label_bitmaps()", nativeQuery = true)
+    int rebuildAll();
+}
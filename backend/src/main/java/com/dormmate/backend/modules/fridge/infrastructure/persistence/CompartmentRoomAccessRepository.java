@@ -1,9 +1,12 @@
 package com.dormmate.backend.modules.fridge.infrastructure.persistence;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,6 +18,8 @@ public interface CompartmentRoomAccessRepository extends JpaRepository<Compartme
 
     List<CompartmentRoomAccess> findByRoomIdAndReleasedAtIsNull(UUID roomId);
 
+    List<CompartmentRoomAccess> findByReleasedAtIsNull();
+
     @Query("""
             select cra
               from CompartmentRoomAccess cra
@@ -23,4 +28,50 @@ public interface CompartmentRoomAccessRepository extends JpaRepository<Compartme
                and cra.fridgeCompartment.id in :compartmentIds
             """)
     List<CompartmentRoomAccess> findActiveAccessesByCompartmentIds(@Param("compartmentIds") List<UUID> compartmentIds);
+
+    /**
+     * 대상 칸의 활성 배정 중 (칸, 호실) 목표 쌍에 없는 행을 한 번에 해제한다. 두 목표 배열은 같은 위치끼리 한 쌍이다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE compartment_room_access cra
+               SET released_at = :releasedAt,
+                   updated_at = :releasedAt
+             WHERE cra.fridge_compartment_id IN (:compartmentIds)
+               AND cra.released_at IS NULL
+               AND NOT EXISTS (
+                   SELECT 1
+                     FROM unnest(CAST(ARRAY[:targetCompartmentIds] AS uuid[]),
+                                 CAST(ARRAY[:targetRoomIds] AS uuid[])) AS target(compartment_id, room_id)
+                    WHERE target.compartment_id = cra.fridge_compartment_id
+                      AND target.room_id = cra.room_id
+               )
+            """, nativeQuery = true)
+    int releaseActiveAccessesExcept(
+            @Param("compartmentIds") Collection<UUID> compartmentIds,
+            @Param("targetCompartmentIds") List<UUID> targetCompartmentIds,
+            @Param("targetRoomIds") List<UUID> targetRoomIds,
+            @Param("releasedAt") OffsetDateTime releasedAt);
+
+    /**
+     * 목표 (칸, 호실) 쌍 중 아직 활성 배정이 없는 것만 한 문장으로 삽입한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO compartment_room_access (id, fridge_compartment_id, room_id, assigned_at, created_at, updated_at)
+            SELECT gen_random_uuid(), target.compartment_id, target.room_id, :assignedAt, :assignedAt, :assignedAt
+              FROM unnest(CAST(ARRAY[:targetCompartmentIds] AS uuid[]),
+                          CAST(ARRAY[:targetRoomIds] AS uuid[])) AS target(compartment_id, room_id)
+             WHERE NOT EXISTS (
+                   SELECT 1
+                     FROM compartment_room_access cra
+                    WHERE cra.fridge_compartment_id = target.compartment_id
+                      AND cra.room_id = target.room_id
+                      AND cra.released_at IS NULL
+             )
+            """, nativeQuery = true)
+    int insertMissingAccesses(
+            @Param("targetCompartmentIds") List<UUID> targetCompartmentIds,
+            @Param("targetRoomIds") List<UUID> targetRoomIds,
+            @Param("assignedAt") OffsetDateTime assignedAt);
 }
@@ -0,0 +1,11 @@
+package com.dormmate.backend.modules.fridge.infrastructure.persistence;
+
+/**
+ * 목록 조회 시 전체 건수를 구하는 방식.
+ * CAPPED는 상한까지만 세고, NONE은 COUNT 쿼리를 생략한다.
+ */
+public enum FridgeBundleCountMode {
+    EXACT,
+    CAPPED,
+    NONE
+}
@@ -0,0 +1,41 @@
+package com.dormmate.backend.modules.fridge.infrastructure.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 키셋 페이지네이션 위치. 정렬 기준 시각(마이크로초 단위)과 포장 ID를 불투명 문자열로 주고받는다.
+ */
+public record FridgeBundleCursor(Instant sortValue, UUID bundleId) {
+
+    private static final char SEPARATOR = ':';
+
+    public FridgeBundleCursor {
+        Objects.requireNonNull(sortValue, "sortValue must not be null");
+        Objects.requireNonNull(bundleId, "bundleId must not be null");
+    }
+
+    public String encode() {
+        long micros = Math.addExact(Math.multiplyExact(sortValue.getEpochSecond(), 1_000_000L), sortValue.getNano() / 1_000L);
+        String raw = micros + String.valueOf(SEPARATOR) + bundleId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FridgeBundleCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("cursor must not be blank");
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == raw.length() - 1) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+        long micros = Long.parseLong(raw.substring(0, separator));
+        UUID bundleId = UUID.fromString(raw.substring(separator + 1));
+        Instant sortValue = Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+        return new FridgeBundleCursor(sortValue, bundleId);
+    }
+}
@@ -0,0 +1,35 @@
+package com.dormmate.backend.modules.fridge.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 내보내기용 포장·물품 행. 물품이 없는 포장은 물품 컬럼이 모두 null인 한 행으로 나온다.
+ */
+public record FridgeBundleExportRow(
+        UUID bundleId,
+        int floorNo,
+        int slotIndex,
+        int labelNumber,
+        String bundleName,
+        String memo,
+        UUID ownerUserId,
+        String ownerDisplayName,
+        String ownerRoomDisplayName,
+        String bundleStatus,
+        OffsetDateTime bundleCreatedAt,
+        OffsetDateTime bundleDeletedAt,
+        UUID itemId,
+        String itemName,
+        LocalDate expiryDate,
+        Integer quantity,
+        String unitCode,
+        String itemStatus,
+        String itemFreshness
+) {
+
+    public boolean hasItem() {
+        return itemId != null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.dormmate.backend.modules.fridge.infrastructure.persistence;
+
+/**
+ * 검색 페이지 요청. after가 있으면 키셋(커서) 방식으로, 없으면 offset 방식으로 조회한다.
+ */
+public record FridgeBundlePaging(
+        int offset,
+        int limit,
+        FridgeBundleCursor after,
+        FridgeBundleCountMode countMode,
+        int countCap
+) {
+
+    public FridgeBundlePaging {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        offset = Math.max(offset, 0);
+        countMode = countMode == null ? FridgeBundleCountMode.EXACT : countMode;
+        countCap = Math.max(countCap, limit);
+    }
+
+    public boolean keyset() {
+        return after != null;
+    }
+}
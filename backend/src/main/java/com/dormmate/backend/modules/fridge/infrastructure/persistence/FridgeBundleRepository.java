@@ -1,5 +1,7 @@
 package com.dormmate.backend.modules.fridge.infrastructure.persistence;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,6 +39,34 @@ public interface FridgeBundleRepository extends JpaRepository<FridgeBundle, UUID
             @Param("compartmentIds") List<UUID> compartmentIds,
             @Param("status") FridgeBundleStatus status);
 
+    @Query(value = "SELECT public.fn_refresh_fridge_bundle_search(:bundleId)", nativeQuery = true)
+    int refreshSearchDocument(@Param("bundleId") UUID bundleId);
+
+    @Query(value = """
+            SELECT COALESCE(SUM(public.fn_refresh_fridge_bundle_search(bundle_id)), 0)
+              FROM unnest(CAST(ARRAY[:bundleIds] AS uuid[])) AS bundle_id
+            """, nativeQuery = true)
+    int refreshSearchDocuments(@Param("bundleIds") Collection<UUID> bundleIds);
+
+    @Query(value = "SELECT public.fn_refresh_fridge_bundle_search(NULL)", nativeQuery = true)
+    int rebuildSearchDocuments();
+
+    @Query(value = """
+            SELECT archived_bundles AS "archivedBundles",
+                   archived_items AS "archivedItems"
+              FROM public.fn_archive_deleted_fridge_rows(:deletedBefore, :batchSize)
+            """, nativeQuery = true)
+    ArchiveBatchProjection archiveDeletedRows(
+            @Param("deletedBefore") OffsetDateTime deletedBefore,
+            @Param("batchSize") int batchSize);
+
+    interface ArchiveBatchProjection {
+
+        int getArchivedBundles();
+
+        int getArchivedItems();
+    }
+
     interface ActiveBundleCountProjection {
 
         UUID getCompartmentId();
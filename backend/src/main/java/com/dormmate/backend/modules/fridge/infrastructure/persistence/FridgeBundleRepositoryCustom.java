@@ -1,5 +1,11 @@
 package com.dormmate.backend.modules.fridge.infrastructure.persistence;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -8,4 +14,35 @@ import com.dormmate.backend.modules.fridge.domain.FridgeBundle;
 public interface FridgeBundleRepositoryCustom {
 
     Page<FridgeBundle> searchBundles(FridgeBundleSearchCondition condition, Pageable pageable);
+
+    FridgeBundleSearchResult<FridgeBundle> searchBundles(FridgeBundleSearchCondition condition, FridgeBundlePaging paging);
+
+    /**
+     * 엔터티를 로딩하지 않고 목록 응답용 컬럼만 조회한다. 신선도는 today 기준, expiringUntil 이하를 임박으로 본다.
+     */
+    FridgeBundleSearchResult<FridgeBundleSummaryRow> searchBundleSummaries(
+            FridgeBundleSearchCondition condition,
+            FridgeBundlePaging paging,
+            LocalDate today,
+            LocalDate expiringUntil
+    );
+
+    /**
+     * 포장을 모두 먼저 저장한 뒤 물품을 저장해 테이블별 INSERT가 batchSize 단위 JDBC 배치로 묶이게 한다.
+     */
+    void persistAllWithItems(List<FridgeBundle> bundles, int batchSize);
+
+    List<FridgeItemRow> findItemRows(Collection<UUID> bundleIds, LocalDate today, LocalDate expiringUntil);
+
+    /**
+     * 조건에 맞는 포장을 목록과 같은 순서로, 포장마다 물품 행을 이어서 consumer에 넘긴다.
+     * 결과를 메모리에 모으지 않도록 fetchSize 단위로 전진 스크롤하므로 읽기 트랜잭션 안에서 호출해야 한다.
+     */
+    void streamExportRows(
+            FridgeBundleSearchCondition condition,
+            LocalDate today,
+            LocalDate expiringUntil,
+            int fetchSize,
+            Consumer<FridgeBundleExportRow> consumer
+    );
 }
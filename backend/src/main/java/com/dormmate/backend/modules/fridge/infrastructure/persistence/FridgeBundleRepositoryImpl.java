@@ -1,18 +1,30 @@
 package com.dormmate.backend.modules.fridge.infrastructure.persistence;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.Session;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.NativeQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -22,20 +34,453 @@ import org.springframework.util.StringUtils;
 
 import com.dormmate.backend.modules.fridge.domain.FridgeBundle;
 import com.dormmate.backend.modules.fridge.domain.FridgeBundleStatus;
+import com.dormmate.backend.modules.fridge.domain.FridgeItem;
 
 @Repository
 public class FridgeBundleRepositoryImpl implements FridgeBundleRepositoryCustom {
 
     private static final String STATUS_PARAM = "statuses";
+    private static final String ARCHIVED_BUNDLE_SOURCE = """
+            (SELECT id, owner_user_id, fridge_compartment_id, label_number, bundle_name, memo, status,
+                    deleted_at, created_at, updated_at
+               FROM fridge_bundle
+             UNION ALL
+             SELECT id, owner_user_id, fridge_compartment_id, label_number, bundle_name, memo, status,
+                    deleted_at, created_at, updated_at
+               FROM fridge_bundle_archive)""";
+    private static final String ARCHIVED_ITEM_SOURCE = """
+            (SELECT fridge_bundle_id, status, expiry_date FROM fridge_item
+             UNION ALL
+             SELECT fridge_bundle_id, status, expiry_date FROM fridge_item_archive)""";
+    // 소유자 이름과 호실은 포장 쓰기와 무관하게 바뀌므로 문서에 복사하지 않고 검색 시점의 값으로 소유자를 찾는다.
+    private static final String OWNER_KEYWORD_MATCH = """
+            SELECT du.id FROM dorm_user du WHERE lower(du.full_name) like :keyword
+             UNION
+            SELECT ra.dorm_user_id
+              FROM room_assignment ra
+              JOIN room rm ON rm.id = ra.room_id
+             WHERE ra.released_at IS NULL
+               AND (lower(rm.room_number) like :keyword
+                 OR lower(concat(rm.floor, 'f ', rm.room_number)) like :keyword)""";
 
     @PersistenceContext
     private EntityManager entityManager;
 
     @Override
     public Page<FridgeBundle> searchBundles(FridgeBundleSearchCondition condition, Pageable pageable) {
-        Objects.requireNonNull(condition, "condition must not be null");
         Objects.requireNonNull(pageable, "pageable must not be null");
+        FridgeBundleSearchResult<FridgeBundle> result = searchBundles(
+                condition,
+                new FridgeBundlePaging(
+                        (int) pageable.getOffset(),
+                        pageable.getPageSize(),
+                        null,
+                        FridgeBundleCountMode.EXACT,
+                        0
+                )
+        );
+        return new PageImpl<>(new ArrayList<>(result.content()), pageable, result.totalCount());
+    }
+
+    @Override
+    public FridgeBundleSearchResult<FridgeBundle> searchBundles(
+            FridgeBundleSearchCondition condition,
+            FridgeBundlePaging paging
+    ) {
+        IdPage page = searchBundleIds(condition, paging);
+        List<UUID> ids = page.ids();
+        if (ids.isEmpty()) {
+            return page.toResult(List.of());
+        }
+
+        List<FridgeBundle> bundles = entityManager.createQuery("""
+                        select distinct fb
+                          from FridgeBundle fb
+                          left join fetch fb.owner
+                          left join fetch fb.fridgeCompartment fc
+                          left join fetch fc.fridgeUnit
+                          left join fetch fb.items items
+                         where fb.id in :ids
+                        """, FridgeBundle.class)
+                .setParameter("ids", ids)
+                .getResultList();
+
+        Map<UUID, FridgeBundle> byId = new HashMap<>();
+        bundles.forEach(bundle -> byId.put(bundle.getId(), bundle));
+        return page.toResult(orderByIds(ids, byId));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public FridgeBundleSearchResult<FridgeBundleSummaryRow> searchBundleSummaries(
+            FridgeBundleSearchCondition condition,
+            FridgeBundlePaging paging,
+            LocalDate today,
+            LocalDate expiringUntil
+    ) {
+        IdPage page = searchBundleIds(condition, paging);
+        List<UUID> ids = page.ids();
+        if (ids.isEmpty()) {
+            return page.toResult(List.of());
+        }
+
+        NativeQuery<?> query = entityManager.createNativeQuery("""
+                        SELECT fb.id AS bundle_id,
+                               fb.fridge_compartment_id AS compartment_id,
+                               fc.slot_index AS slot_index,
+                               fb.label_number AS label_number,
+                               fb.bundle_name AS bundle_name,
+                               fb.memo AS memo,
+                               fb.owner_user_id AS owner_user_id,
+                               du.full_name AS owner_name,
+                               fb.status AS status,
+                               CASE
+                                   WHEN coalesce(agg.has_expired, FALSE) THEN 'expired'
+                                   WHEN coalesce(agg.has_expiring, FALSE) THEN 'expiring'
+                                   ELSE 'ok'
+                               END AS freshness,
+                               coalesce(agg.active_count, 0) AS active_count,
+                               fb.created_at AS created_at,
+                               fb.updated_at AS updated_at,
+                               fb.deleted_at AS deleted_at
+                          FROM %s fb
+                          JOIN fridge_compartment fc ON fc.id = fb.fridge_compartment_id
+                          JOIN dorm_user du ON du.id = fb.owner_user_id
+                          LEFT JOIN LATERAL (
+                              SELECT COUNT(*) FILTER (WHERE fi.status = 'ACTIVE') AS active_count,
+                                     bool_or(fi.status = 'ACTIVE' AND fi.expiry_date < :today) AS has_expired,
+                                     bool_or(fi.status = 'ACTIVE' AND fi.expiry_date <= :expiringUntil) AS has_expiring
+                                FROM %s fi
+                               WHERE fi.fridge_bundle_id = fb.id
+                          ) agg ON TRUE
+                         WHERE fb.id IN (:ids)
+                        """.formatted(bundleSource(condition), itemSource(condition)))
+                .unwrap(NativeQuery.class)
+                .addScalar("bundle_id", UUID.class)
+                .addScalar("compartment_id", UUID.class)
+                .addScalar("slot_index", Integer.class)
+                .addScalar("label_number", Integer.class)
+                .addScalar("bundle_name", String.class)
+                .addScalar("memo", String.class)
+                .addScalar("owner_user_id", UUID.class)
+                .addScalar("owner_name", String.class)
+                .addScalar("status", String.class)
+                .addScalar("freshness", String.class)
+                .addScalar("active_count", Long.class)
+                .addScalar("created_at", OffsetDateTime.class)
+                .addScalar("updated_at", OffsetDateTime.class)
+                .addScalar("deleted_at", OffsetDateTime.class);
+        query.setParameter("ids", ids);
+        query.setParameter("today", today);
+        query.setParameter("expiringUntil", expiringUntil);
+
+        Map<UUID, FridgeBundleSummaryRow> byId = new HashMap<>();
+        for (Object result : query.getResultList()) {
+            Object[] row = (Object[]) result;
+            FridgeBundleSummaryRow summary = new FridgeBundleSummaryRow(
+                    (UUID) row[0],
+                    (UUID) row[1],
+                    (Integer) row[2],
+                    (Integer) row[3],
+                    (String) row[4],
+                    (String) row[5],
+                    (UUID) row[6],
+                    (String) row[7],
+                    (String) row[8],
+                    (String) row[9],
+                    ((Long) row[10]).intValue(),
+                    (OffsetDateTime) row[11],
+                    (OffsetDateTime) row[12],
+                    (OffsetDateTime) row[13]
+            );
+            byId.put(summary.bundleId(), summary);
+        }
+        return page.toResult(orderByIds(ids, byId));
+    }
+
+    @Override
+    public void persistAllWithItems(List<FridgeBundle> bundles, int batchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            // cascade로 포장마다 물품이 끼어들면 INSERT 문이 번갈아 나와 배치가 끊기므로 물품은 나중에 저장한다.
+            List<FridgeItem> items = new ArrayList<>();
+            for (FridgeBundle bundle : bundles) {
+                items.addAll(bundle.getItems());
+                bundle.getItems().clear();
+                entityManager.persist(bundle);
+            }
+            for (FridgeItem item : items) {
+                entityManager.persist(item);
+                item.getBundle().getItems().add(item);
+            }
+            entityManager.flush();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<FridgeItemRow> findItemRows(Collection<UUID> bundleIds, LocalDate today, LocalDate expiringUntil) {
+        if (CollectionUtils.isEmpty(bundleIds)) {
+            return List.of();
+        }
+        NativeQuery<?> query = entityManager.createNativeQuery("""
+                        SELECT fi.id AS item_id,
+                               fi.fridge_bundle_id AS bundle_id,
+                               fi.item_name AS item_name,
+                               fi.expiry_date AS expiry_date,
+                               fi.quantity AS quantity,
+                               fi.unit_code AS unit_code,
+                               CASE
+                                   WHEN fi.status <> 'ACTIVE' OR fi.expiry_date < :today THEN 'expired'
+                                   WHEN fi.expiry_date <= :expiringUntil THEN 'expiring'
+                                   ELSE 'ok'
+                               END AS freshness,
+                               fi.last_inspected_at AS last_inspected_at,
+                               fi.created_at AS created_at,
+                               fi.updated_at AS updated_at,
+                               fi.deleted_at AS deleted_at
+                          FROM fridge_item fi
+                         WHERE fi.fridge_bundle_id IN (:bundleIds)
+                         ORDER BY fi.created_at, fi.id
+                        """)
+                .unwrap(NativeQuery.class)
+                .addScalar("item_id", UUID.class)
+                .addScalar("bundle_id", UUID.class)
+                .addScalar("item_name", String.class)
+                .addScalar("expiry_date", LocalDate.class)
+                .addScalar("quantity", Integer.class)
+                .addScalar("unit_code", String.class)
+                .addScalar("freshness", String.class)
+                .addScalar("last_inspected_at", OffsetDateTime.class)
+                .addScalar("created_at", OffsetDateTime.class)
+                .addScalar("updated_at", OffsetDateTime.class)
+                .addScalar("deleted_at", OffsetDateTime.class);
+        query.setParameter("bundleIds", bundleIds);
+        query.setParameter("today", today);
+        query.setParameter("expiringUntil", expiringUntil);
+
+        List<FridgeItemRow> rows = new ArrayList<>();
+        for (Object result : query.getResultList()) {
+            Object[] row = (Object[]) result;
+            rows.add(new FridgeItemRow(
+                    (UUID) row[0],
+                    (UUID) row[1],
+                    (String) row[2],
+                    (LocalDate) row[3],
+                    (Integer) row[4],
+                    (String) row[5],
+                    (String) row[6],
+                    (OffsetDateTime) row[7],
+                    (OffsetDateTime) row[8],
+                    (OffsetDateTime) row[9],
+                    (OffsetDateTime) row[10]
+            ));
+        }
+        return rows;
+    }
+
+    @Override
+    public void streamExportRows(
+            FridgeBundleSearchCondition condition,
+            LocalDate today,
+            LocalDate expiringUntil,
+            int fetchSize,
+            Consumer<FridgeBundleExportRow> consumer
+    ) {
+        Objects.requireNonNull(condition, "condition must not be null");
+        SearchFilter filter = buildFilter(condition);
+        String whereSql = " WHERE " + String.join(" AND ", filter.whereClauses());
+        String orderBy = condition.order() == FridgeBundleSearchOrder.DELETED_AT_DESC
+                ? " ORDER BY fb.deleted_at DESC NULLS LAST, fb.id DESC, fi.created_at, fi.id"
+                : " ORDER BY fb.created_at DESC, fb.id DESC, fi.created_at, fi.id";
+
+        NativeQuery<?> query = entityManager.createNativeQuery("""
+                        SELECT fb.id AS bundle_id,
+                               fu.floor_no AS floor_no,
+                               fc.slot_index AS slot_index,
+                               fb.label_number AS label_number,
+                               fb.bundle_name AS bundle_name,
+                               fb.memo AS memo,
+                               fb.owner_user_id AS owner_user_id,
+                               du.full_name AS owner_name,
+                               owner_room.display_name AS owner_room,
+                               fb.status AS bundle_status,
+                               fb.created_at AS bundle_created_at,
+                               fb.deleted_at AS bundle_deleted_at,
+                               fi.id AS item_id,
+                               fi.item_name AS item_name,
+                               fi.expiry_date AS expiry_date,
+                               fi.quantity AS quantity,
+                               fi.unit_code AS unit_code,
+                               fi.status AS item_status,
+                               CASE
+                                   WHEN fi.id IS NULL THEN NULL
+                                   WHEN fi.status <> 'ACTIVE' OR fi.expiry_date < :today THEN 'expired'
+                                   WHEN fi.expiry_date <= :expiringUntil THEN 'expiring'
+                                   ELSE 'ok'
+                               END AS item_freshness
+                          FROM fridge_bundle fb
+                          JOIN fridge_compartment fc ON fc.id = fb.fridge_compartment_id
+                          JOIN fridge_unit fu ON fu.id = fc.fridge_unit_id
+                          JOIN dorm_user du ON du.id = fb.owner_user_id
+                          LEFT JOIN LATERAL (
+                              SELECT r.floor || 'F ' || r.room_number AS display_name
+                                FROM room_assignment ra
+                                JOIN room r ON r.id = ra.room_id
+                               WHERE ra.dorm_user_id = fb.owner_user_id
+                                 AND ra.released_at IS NULL
+                               LIMIT 1
+                          ) owner_room ON TRUE
+                          LEFT JOIN fridge_item fi ON fi.fridge_bundle_id = fb.id
+                        """ + whereSql + orderBy)
+                .unwrap(NativeQuery.class)
+                .addScalar("bundle_id", UUID.class)
+                .addScalar("floor_no", Integer.class)
+                .addScalar("slot_index", Integer.class)
+                .addScalar("label_number", Integer.class)
+                .addScalar("bundle_name", String.class)
+                .addScalar("memo", String.class)
+                .addScalar("owner_user_id", UUID.class)
+                .addScalar("owner_name", String.class)
+                .addScalar("owner_room", String.class)
+                .addScalar("bundle_status", String.class)
+                .addScalar("bundle_created_at", OffsetDateTime.class)
+                .addScalar("bundle_deleted_at", OffsetDateTime.class)
+                .addScalar("item_id", UUID.class)
+                .addScalar("item_name", String.class)
+                .addScalar("expiry_date", LocalDate.class)
+                .addScalar("quantity", Integer.class)
+                .addScalar("unit_code", String.class)
+                .addScalar("item_status", String.class)
+                .addScalar("item_freshness", String.class);
+        filter.params().forEach(query::setParameter);
+        query.setParameter("today", today);
+        query.setParameter("expiringUntil", expiringUntil);
+        query.setFetchSize(fetchSize);
+        query.setReadOnly(true);
+
+        // PostgreSQL 드라이버는 자동 커밋이 꺼진 상태에서만 fetch size 단위로 커서를 읽는다.
+        try (ScrollableResults<?> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                Object[] row = (Object[]) results.get();
+                consumer.accept(new FridgeBundleExportRow(
+                        (UUID) row[0],
+                        (Integer) row[1],
+                        (Integer) row[2],
+                        (Integer) row[3],
+                        (String) row[4],
+                        (String) row[5],
+                        (UUID) row[6],
+                        (String) row[7],
+                        (String) row[8],
+                        (String) row[9],
+                        (OffsetDateTime) row[10],
+                        (OffsetDateTime) row[11],
+                        (UUID) row[12],
+                        (String) row[13],
+                        (LocalDate) row[14],
+                        (Integer) row[15],
+                        (String) row[16],
+                        (String) row[17],
+                        (String) row[18]
+                ));
+            }
+        }
+    }
+
+    private IdPage searchBundleIds(FridgeBundleSearchCondition condition, FridgeBundlePaging paging) {
+        Objects.requireNonNull(condition, "condition must not be null");
+        Objects.requireNonNull(paging, "paging must not be null");
+
+        SearchFilter filter = buildFilter(condition);
+        List<String> whereClauses = filter.whereClauses();
+        Map<String, Object> params = filter.params();
+
+        FridgeBundleSearchOrder order = condition.order() == null
+                ? FridgeBundleSearchOrder.CREATED_AT_DESC
+                : condition.order();
+        String sortColumn = order == FridgeBundleSearchOrder.DELETED_AT_DESC ? "fb.deleted_at" : "fb.created_at";
+
+        String baseJoin = " FROM " + bundleSource(condition) + " fb "
+                + " JOIN fridge_compartment fc ON fc.id = fb.fridge_compartment_id ";
+
+        String filterSql = whereClauses.isEmpty() ? "" : " WHERE " + String.join(" AND ", whereClauses);
+
+        List<String> pageClauses = new ArrayList<>(whereClauses);
+        Map<String, Object> pageParams = new HashMap<>(params);
+        if (paging.keyset()) {
+            // (정렬 시각, id) 내림차순 인덱스를 그대로 타도록 행 값 비교로 다음 위치를 찾는다.
+            pageClauses.add(sortColumn + " IS NOT NULL");
+            pageClauses.add("(" + sortColumn + ", fb.id) < (:cursorSortValue, :cursorBundleId)");
+            pageParams.put("cursorSortValue", OffsetDateTime.ofInstant(paging.after().sortValue(), ZoneOffset.UTC));
+            pageParams.put("cursorBundleId", paging.after().bundleId());
+        }
+        String pageWhereSql = pageClauses.isEmpty() ? "" : " WHERE " + String.join(" AND ", pageClauses);
+
+        String orderBy = order == FridgeBundleSearchOrder.DELETED_AT_DESC
+                ? " ORDER BY fb.deleted_at DESC NULLS LAST, fb.id DESC"
+                : " ORDER BY fb.created_at DESC, fb.id DESC";
+        String dataSql = "SELECT fb.id, " + sortColumn + baseJoin + pageWhereSql + orderBy
+                + (paging.keyset() ? " LIMIT :limit" : " LIMIT :limit OFFSET :offset");
+
+        Query dataQuery = entityManager.createNativeQuery(dataSql);
+        applyParameters(dataQuery, pageParams);
+        dataQuery.setParameter("limit", paging.limit() + 1);
+        if (!paging.keyset()) {
+            dataQuery.setParameter("offset", (long) paging.offset());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = dataQuery.getResultList();
+        boolean hasNext = rows.size() > paging.limit();
+        List<Object[]> pageRows = hasNext ? rows.subList(0, paging.limit()) : rows;
+
+        List<UUID> ids = pageRows.stream()
+                .map(row -> toUuid(row[0]))
+                .toList();
+
+        FridgeBundleCursor nextCursor = null;
+        if (hasNext) {
+            Object[] last = pageRows.get(pageRows.size() - 1);
+            Instant lastSortValue = toInstant(last[1]);
+            if (lastSortValue != null) {
+                nextCursor = new FridgeBundleCursor(lastSortValue, toUuid(last[0]));
+            }
+        }
+
+        long total;
+        boolean totalExact;
+        switch (paging.countMode()) {
+            case CAPPED -> {
+                Query countQuery = entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM (SELECT 1" + baseJoin + filterSql + " LIMIT :countLimit) capped");
+                applyParameters(countQuery, params);
+                countQuery.setParameter("countLimit", paging.countCap() + 1);
+                long counted = ((Number) countQuery.getSingleResult()).longValue();
+                totalExact = counted <= paging.countCap();
+                total = Math.min(counted, paging.countCap());
+            }
+            case NONE -> {
+                long seen = (paging.keyset() ? 0L : paging.offset()) + ids.size();
+                totalExact = !hasNext && !paging.keyset();
+                total = hasNext ? seen + 1 : seen;
+            }
+            default -> {
+                Query countQuery = entityManager.createNativeQuery("SELECT COUNT(*)" + baseJoin + filterSql);
+                applyParameters(countQuery, params);
+                total = ((Number) countQuery.getSingleResult()).longValue();
+                totalExact = true;
+            }
+        }
 
+        return new IdPage(ids, total, totalExact, nextCursor);
+    }
+
+    private static SearchFilter buildFilter(FridgeBundleSearchCondition condition) {
         List<String> whereClauses = new ArrayList<>();
         Map<String, Object> params = new HashMap<>();
 
@@ -74,102 +519,85 @@ public class FridgeBundleRepositoryImpl implements FridgeBundleRepositoryCustom
             whereClauses.add(buildKeywordClause(condition, params));
             params.put("keyword", keywordParam);
         }
+        return new SearchFilter(whereClauses, params);
+    }
 
-        String baseJoin = " FROM fridge_bundle fb "
-                + " JOIN fridge_compartment fc ON fc.id = fb.fridge_compartment_id "
-                + " LEFT JOIN dorm_user du ON du.id = fb.owner_user_id ";
-
-        String whereSql = whereClauses.isEmpty() ? "" : " WHERE " + String.join(" AND ", whereClauses);
-
-        String countSql = "SELECT COUNT(*)" + baseJoin + whereSql;
-
-        Query countQuery = entityManager.createNativeQuery(countSql);
-        applyParameters(countQuery, params);
-        Number total = (Number) countQuery.getSingleResult();
-
-        FridgeBundleSearchOrder order = condition.order() == null
-                ? FridgeBundleSearchOrder.CREATED_AT_DESC
-                : condition.order();
-        String orderBy = order == FridgeBundleSearchOrder.DELETED_AT_DESC
-                ? " ORDER BY fb.deleted_at DESC NULLS LAST, fb.id"
-                : " ORDER BY fb.created_at DESC, fb.id";
-        String dataSql = "SELECT fb.id" + baseJoin + whereSql + orderBy + " LIMIT :limit OFFSET :offset";
-
-        Query dataQuery = entityManager.createNativeQuery(dataSql);
-        applyParameters(dataQuery, params);
-        dataQuery.setParameter("limit", pageable.getPageSize());
-        dataQuery.setParameter("offset", (long) pageable.getPageNumber() * pageable.getPageSize());
+    /**
+     * 보관 포함 조회는 hot/보관 테이블을 UNION ALL로 합친다. 조건은 각 갈래로 내려가 양쪽 인덱스를 그대로 쓴다.
+     */
+    private static String bundleSource(FridgeBundleSearchCondition condition) {
+        return condition.includeArchived() ? ARCHIVED_BUNDLE_SOURCE : "fridge_bundle";
+    }
 
-        @SuppressWarnings("unchecked")
-        List<Object> rawIds = dataQuery.getResultList();
-
-        List<UUID> ids = rawIds.stream()
-                .map(value -> {
-                    if (value instanceof UUID uuid) {
-                        return uuid;
-                    }
-                    return UUID.fromString(value.toString());
-                })
-                .toList();
+    private static String itemSource(FridgeBundleSearchCondition condition) {
+        return condition.includeArchived() ? ARCHIVED_ITEM_SOURCE : "fridge_item";
+    }
 
-        if (ids.isEmpty()) {
-            return new PageImpl<>(List.of(), pageable, total.longValue());
+    private static <T> List<T> orderByIds(List<UUID> ids, Map<UUID, T> byId) {
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            T value = byId.get(id);
+            if (value != null) {
+                ordered.add(value);
+            }
         }
+        return ordered;
+    }
 
-        List<FridgeBundle> bundles = entityManager.createQuery("""
-                        select distinct fb
-                          from FridgeBundle fb
-                          left join fetch fb.owner
-                          left join fetch fb.fridgeCompartment fc
-                          left join fetch fc.fridgeUnit
-                          left join fetch fb.items items
-                         where fb.id in :ids
-                        """, FridgeBundle.class)
-                .setParameter("ids", ids)
-                .getResultList();
+    private static UUID toUuid(Object value) {
+        if (value instanceof UUID uuid) {
+            return uuid;
+        }
+        return UUID.fromString(value.toString());
+    }
 
-        Map<UUID, FridgeBundle> ordered = new LinkedHashMap<>();
-        Map<UUID, Integer> index = new HashMap<>();
-        for (int i = 0; i < ids.size(); i++) {
-            index.put(ids.get(i), i);
+    private static Instant toInstant(Object value) {
+        if (value == null) {
+            return null;
         }
-        bundles.sort((a, b) -> Integer.compare(index.getOrDefault(a.getId(), Integer.MAX_VALUE),
-                index.getOrDefault(b.getId(), Integer.MAX_VALUE)));
-        for (FridgeBundle bundle : bundles) {
-            ordered.put(bundle.getId(), bundle);
+        if (value instanceof Instant instant) {
+            return instant;
         }
-
-        return new PageImpl<>(new ArrayList<>(ordered.values()), pageable, total.longValue());
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toInstant();
+        }
+        if (value instanceof ZonedDateTime zonedDateTime) {
+            return zonedDateTime.toInstant();
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        }
+        throw new IllegalStateException("Unsupported sort value type: " + value.getClass());
     }
 
     private static void applyParameters(Query query, Map<String, Object> params) {
         params.forEach(query::setParameter);
     }
 
+    /**
+     * 키워드는 fridge_bundle_search 문서(trigram GIN)에서 찾고, 소유자 이름·호실은 현재 값으로, 슬롯 코드 토큰은 칸 인덱스로 직접 비교한다.
+     */
     private static String buildKeywordClause(FridgeBundleSearchCondition condition, Map<String, Object> params) {
+        String documentMatch = condition.searchItems()
+                ? "fbs.search_text like :keyword OR fbs.item_text like :keyword"
+                : "fbs.search_text like :keyword";
         List<String> parts = new ArrayList<>();
-        parts.add("lower(fb.bundle_name) like :keyword");
-        parts.add("lower(to_char(fb.label_number, 'FM000')) like :keyword");
-        parts.add("lower(concat(chr(65 + fc.slot_index), to_char(fb.label_number, 'FM000'))) like :keyword");
-        parts.add("lower(concat(chr(65 + fc.slot_index), '-', to_char(fb.label_number, 'FM000'))) like :keyword");
+        parts.add("fb.id IN (SELECT fbs.fridge_bundle_id FROM fridge_bundle_search fbs WHERE " + documentMatch + ")");
+        parts.add("fb.owner_user_id IN (" + OWNER_KEYWORD_MATCH + ")");
         if (!CollectionUtils.isEmpty(condition.slotLetterIndices())) {
-            int index = 0;
-            for (Integer slotIndex : condition.slotLetterIndices()) {
-                String param = "slotIdxKeyword" + index++;
-                parts.add("fc.slot_index = :" + param);
-                params.put(param, slotIndex);
-            }
-        }
-        parts.add("lower(coalesce(du.full_name, '')) like :keyword");
-        parts.add(
-                "EXISTS (SELECT 1 FROM room_assignment ra JOIN room rm ON rm.id = ra.room_id "
-                        + "WHERE ra.dorm_user_id = fb.owner_user_id "
-                        + "AND ra.released_at IS NULL "
-                        + "AND (lower(rm.room_number) like :keyword "
-                        + "OR lower(concat(rm.floor, 'f ', rm.room_number)) like :keyword))");
-        if (condition.searchItems()) {
-            parts.add("EXISTS (SELECT 1 FROM fridge_item fi WHERE fi.fridge_bundle_id = fb.id AND lower(fi.item_name) like :keyword)");
+            parts.add("fc.slot_index IN (:slotLetterIndices)");
+            params.put("slotLetterIndices", condition.slotLetterIndices());
         }
         return "(" + String.join(" OR ", parts) + ")";
     }
+
+    private record SearchFilter(List<String> whereClauses, Map<String, Object> params) {
+    }
+
+    private record IdPage(List<UUID> ids, long total, boolean totalExact, FridgeBundleCursor nextCursor) {
+
+        <T> FridgeBundleSearchResult<T> toResult(List<T> content) {
+            return new FridgeBundleSearchResult<>(content, total, totalExact, content.isEmpty() ? null : nextCursor);
+        }
+    }
 }
@@ -17,9 +17,26 @@ public record FridgeBundleSearchCondition(
         boolean searchItems,
         List<Integer> slotLetterIndices,
         OffsetDateTime deletedSince,
-        FridgeBundleSearchOrder order
+        FridgeBundleSearchOrder order,
+        boolean includeArchived
 ) {
 
+    public FridgeBundleSearchCondition(
+            UUID compartmentId,
+            UUID ownerId,
+            Set<FridgeBundleStatus> statuses,
+            String keyword,
+            Integer exactSlotIndex,
+            Integer exactLabelNumber,
+            boolean searchItems,
+            List<Integer> slotLetterIndices,
+            OffsetDateTime deletedSince,
+            FridgeBundleSearchOrder order
+    ) {
+        this(compartmentId, ownerId, statuses, keyword, exactSlotIndex, exactLabelNumber, searchItems,
+                slotLetterIndices, deletedSince, order, false);
+    }
+
     public FridgeBundleSearchCondition {
         statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
         slotLetterIndices = slotLetterIndices == null ? List.of() : List.copyOf(slotLetterIndices);
@@ -0,0 +1,18 @@
+package com.dormmate.backend.modules.fridge.infrastructure.persistence;
+
+import java.util.List;
+
+/**
+ * 검색 결과. totalExact가 false이면 totalCount는 상한값(CAPPED) 또는 최소 추정치(NONE)이다.
+ */
+public record FridgeBundleSearchResult<T>(
+        List<T> content,
+        long totalCount,
+        boolean totalExact,
+        FridgeBundleCursor nextCursor
+) {
+
+    public FridgeBundleSearchResult {
+        content = content == null ? List.of() : List.copyOf(content);
+    }
+}
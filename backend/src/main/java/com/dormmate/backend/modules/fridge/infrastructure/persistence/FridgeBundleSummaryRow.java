@@ -0,0 +1,25 @@
+package com.dormmate.backend.modules.fridge.infrastructure.persistence;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 포장 목록 응답에 필요한 컬럼만 담은 읽기 전용 행. 활성 물품 수와 신선도는 SQL에서 계산한다.
+ */
+public record FridgeBundleSummaryRow(
+        UUID bundleId,
+        UUID compartmentId,
+        int slotIndex,
+        int labelNumber,
+        String bundleName,
+        String memo,
+        UUID ownerUserId,
+        String ownerDisplayName,
+        String status,
+        String freshness,
+        int activeItemCount,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt,
+        OffsetDateTime deletedAt
+) {
+}
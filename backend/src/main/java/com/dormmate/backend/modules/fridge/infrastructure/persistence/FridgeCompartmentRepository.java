@@ -1,6 +1,7 @@
 package com.dormmate.backend.modules.fridge.infrastructure.persistence;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,6 +10,7 @@ import jakarta.persistence.LockModeType;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -30,6 +32,12 @@ public interface FridgeCompartmentRepository extends JpaRepository<FridgeCompart
             """)
     List<FridgeCompartment> findAllWithActiveUnit();
 
+    @Query("select c from FridgeCompartment c join fetch c.fridgeUnit u")
+    List<FridgeCompartment> findAllWithUnit();
+
+    @Query("select c from FridgeCompartment c join fetch c.fridgeUnit u where c.id in :ids")
+    List<FridgeCompartment> findWithUnitByIdIn(@Param("ids") Collection<UUID> ids);
+
     @Query("""
             select distinct c
               from FridgeCompartment c
@@ -40,10 +48,78 @@ public interface FridgeCompartmentRepository extends JpaRepository<FridgeCompart
             """)
     List<FridgeCompartment> findByFloorWithAccesses(@Param("floor") short floor);
 
+    @Query("""
+            select distinct c
+              from FridgeCompartment c
+              join fetch c.fridgeUnit u
+              left join fetch c.roomAccesses cra
+              left join fetch cra.room r
+            """)
+    List<FridgeCompartment> findAllWithAccesses();
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select c from FridgeCompartment c join fetch c.fridgeUnit u where c.id in :ids")
     List<FridgeCompartment> findByIdInForUpdate(@Param("ids") List<UUID> ids);
 
+    @Query("""
+            select c.id as compartmentId, c.activeBundleCount as activeBundleCount
+              from FridgeCompartment c
+             where c.id in :ids
+            """)
+    List<OccupancyProjection> findOccupancyByIdIn(@Param("ids") List<UUID> ids);
+
+    @Modifying
+    @Query(value = """
+            UPDATE fridge_compartment
+               SET active_bundle_count = GREATEST(active_bundle_count + :delta, 0)
+             WHERE id = :id
+            """, nativeQuery = true)
+    int adjustActiveBundleCount(@Param("id") UUID id, @Param("delta") int delta);
+
+    /**
+     * 잠기지 않았고 검사 중이 아닌 칸에서만 허용량을 하나 확보한다. 잠금 판단을 같은 UPDATE에 두어
+     * 미리 읽은 칸 상태와 이 UPDATE 사이에 검사가 시작되어도 잠긴 칸에는 들어가지 않는다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE fridge_compartment fc
+               SET active_bundle_count = fc.active_bundle_count + 1
+             WHERE fc.id = :id
+               AND fc.active_bundle_count < fc.max_bundle_count
+               AND NOT (fc.is_locked AND fc.locked_until IS NULL)
+               AND (fc.locked_until IS NULL OR fc.locked_until <= :now)
+               AND NOT EXISTS (
+                   SELECT 1
+                     FROM inspection_session s
+                    WHERE s.fridge_compartment_id = fc.id
+                      AND s.status = 'IN_PROGRESS'
+               )
+            """, nativeQuery = true)
+    int reserveBundleSlot(@Param("id") UUID id, @Param("now") OffsetDateTime now);
+
+    /**
+     * reserveBundleSlot이 0건일 때 거절 사유를 고른다. 우선순위는 FridgeService의 잠금 확인과 같다.
+     */
+    @Query(value = """
+            SELECT CASE
+                       WHEN fc.locked_until > :now
+                           OR (fc.is_locked AND fc.locked_until IS NULL) THEN 'COMPARTMENT_LOCKED'
+                       WHEN EXISTS (
+                           SELECT 1
+                             FROM inspection_session s
+                            WHERE s.fridge_compartment_id = fc.id
+                              AND s.status = 'IN_PROGRESS'
+                       ) THEN 'COMPARTMENT_UNDER_INSPECTION'
+                       ELSE 'CAPACITY_EXCEEDED'
+                   END
+              FROM fridge_compartment fc
+             WHERE fc.id = :id
+            """, nativeQuery = true)
+    String findAdmissionRejection(@Param("id") UUID id, @Param("now") OffsetDateTime now);
+
+    @Query(value = "SELECT public.fn_reconcile_compartment_bundle_counts()", nativeQuery = true)
+    int reconcileActiveBundleCounts();
+
     @Query("""
             select c from FridgeCompartment c
             where c.locked = true
@@ -51,4 +127,11 @@ public interface FridgeCompartmentRepository extends JpaRepository<FridgeCompart
               and c.lockedUntil < :now
             """)
     List<FridgeCompartment> findExpiredLocks(@Param("now") OffsetDateTime now);
+
+    interface OccupancyProjection {
+
+        UUID getCompartmentId();
+
+        int getActiveBundleCount();
+    }
 }
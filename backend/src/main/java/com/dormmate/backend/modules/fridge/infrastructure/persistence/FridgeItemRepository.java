@@ -1,6 +1,7 @@
 package com.dormmate.backend.modules.fridge.infrastructure.persistence;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -52,4 +53,76 @@ public interface FridgeItemRepository extends JpaRepository<FridgeItem, UUID> {
             @Param("status") FridgeItemStatus status,
             @Param("date") LocalDate date
     );
+
+    @Query("select fi from FridgeItem fi join fetch fi.bundle where fi.id in :ids")
+    List<FridgeItem> findAllWithBundleByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+            select fi
+              from FridgeItem fi
+              join fetch fi.bundle b
+              join fetch b.owner owner
+             where fi.id in :ids
+               and fi.status = :status
+               and b.status = com.dormmate.backend.modules.fridge.domain.FridgeBundleStatus.ACTIVE
+            """)
+    List<FridgeItem> findActiveItemsByIdIn(
+            @Param("ids") Collection<UUID> ids,
+            @Param("status") FridgeItemStatus status
+    );
+
+    @Query(value = """
+            SELECT public.fn_refresh_fridge_expiry_buckets(CAST(ARRAY[:bundleIds] AS uuid[]))
+            """, nativeQuery = true)
+    int refreshExpiryBuckets(@Param("bundleIds") Collection<UUID> bundleIds);
+
+    @Query(value = """
+            SELECT COALESCE(SUM(b.item_count), 0)
+              FROM fridge_item_expiry_bucket b
+             WHERE b.expiry_date BETWEEN :start AND :end
+            """, nativeQuery = true)
+    long sumBucketedItemsExpiringBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @Query(value = """
+            SELECT unnest(b.item_ids)
+              FROM fridge_item_expiry_bucket b
+             WHERE b.expiry_date BETWEEN :start AND :end
+            """, nativeQuery = true)
+    List<UUID> findBucketedItemIdsExpiringBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @Query(value = """
+            SELECT unnest(b.item_ids)
+              FROM fridge_item_expiry_bucket b
+             WHERE b.expiry_date < :date
+            """, nativeQuery = true)
+    List<UUID> findBucketedItemIdsExpiredBefore(@Param("date") LocalDate date);
+
+    /**
+     * 층·기준일 대비 일수별 물품 수. 기준일 이전 버킷은 dayOffset -1 하나로 모은다.
+     */
+    @Query(value = """
+            SELECT CAST(fu.floor_no AS integer) AS "floorNo",
+                   CAST(GREATEST(b.expiry_date - CAST(:today AS date), -1) AS integer) AS "dayOffset",
+                   CAST(SUM(b.item_count) AS bigint) AS "itemCount"
+              FROM fridge_item_expiry_bucket b
+              JOIN fridge_compartment fc ON fc.id = b.fridge_compartment_id
+              JOIN fridge_unit fu ON fu.id = fc.fridge_unit_id
+             WHERE fu.floor_no IN (:floors)
+               AND b.expiry_date < :until
+             GROUP BY 1, 2
+            """, nativeQuery = true)
+    List<ExpiryHistogramProjection> aggregateExpiryHistogram(
+            @Param("floors") Collection<Short> floors,
+            @Param("today") LocalDate today,
+            @Param("until") LocalDate until
+    );
+
+    interface ExpiryHistogramProjection {
+
+        int getFloorNo();
+
+        int getDayOffset();
+
+        long getItemCount();
+    }
 }
@@ -0,0 +1,23 @@
+package com.dormmate.backend.modules.fridge.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 포장 목록에 함께 내려가는 물품의 읽기 전용 행. 신선도는 SQL에서 계산한다.
+ */
+public record FridgeItemRow(
+        UUID itemId,
+        UUID bundleId,
+        String name,
+        LocalDate expiryDate,
+        int quantity,
+        String unitCode,
+        String freshness,
+        OffsetDateTime lastInspectedAt,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt,
+        OffsetDateTime deletedAt
+) {
+}
@@ -0,0 +1,23 @@
+package com.dormmate.backend.modules.fridge.infrastructure.persistence;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dormmate.backend.modules.fridge.domain.FridgeSlotStatusProjection;
+
+public interface FridgeSlotStatusProjectionRepository extends JpaRepository<FridgeSlotStatusProjection, UUID> {
+
+    List<FridgeSlotStatusProjection> findByFridgeCompartmentIdIn(Collection<UUID> compartmentIds);
+
+    @Query(value = "SELECT public.fn_refresh_fridge_slot_status(CAST(ARRAY[:compartmentIds] AS uuid[]), :now)", nativeQuery = true)
+    int refresh(@Param("compartmentIds") Collection<UUID> compartmentIds, @Param("now") OffsetDateTime now);
+
+    @Query(value = "SELECT public.fn_refresh_fridge_slot_status(NULL, :now)", nativeQuery = true)
+    int refreshAll(@Param("now") OffsetDateTime now);
+}
@@ -1,12 +1,18 @@
 package com.dormmate.backend.modules.fridge.presentation;
 
+import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+import com.dormmate.backend.modules.fridge.application.FridgeBundleExportFormat;
 import com.dormmate.backend.modules.fridge.application.FridgeService;
 import com.dormmate.backend.modules.fridge.presentation.dto.BundleListResponse;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -29,8 +35,32 @@ public class FridgeAdminBundleController {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since,
             @RequestParam(name = "slotId", required = false) UUID slotId,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "20") int size
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", required = false) String count
     ) {
-        return ResponseEntity.ok(fridgeService.getDeletedBundles(slotId, since, page, size));
+        return ResponseEntity.ok(fridgeService.getDeletedBundles(slotId, since, page, size, cursor, count));
+    }
+
+    // 읽기 트랜잭션 안에서 스크롤하며 쓰도록 비동기 StreamingResponseBody 대신 요청 스레드에서 응답 스트림에 바로 쓴다.
+    @GetMapping("/export")
+    public void exportBundles(
+            @RequestParam(name = "format", required = false) String format,
+            @RequestParam(name = "slotId", required = false) UUID slotId,
+            @RequestParam(name = "ownerId", required = false) UUID ownerId,
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "search", required = false) String search,
+            @RequestParam(name = "deletedSince", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime deletedSince,
+            HttpServletResponse response
+    ) throws IOException {
+        FridgeBundleExportFormat exportFormat = FridgeBundleExportFormat.parse(format);
+        fridgeService.verifyBundleExport(slotId);
+        response.setContentType(exportFormat.contentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("fridge-bundles." + exportFormat.fileExtension())
+                .build()
+                .toString());
+        fridgeService.exportBundles(slotId, ownerId, status, search, deletedSince, exportFormat, response.getOutputStream());
     }
 }
@@ -5,6 +5,8 @@ import java.util.UUID;
 import com.dormmate.backend.modules.fridge.application.FridgeAdminService;
 import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotResponse;
 import com.dormmate.backend.modules.fridge.presentation.dto.UpdateCompartmentConfigRequest;
+import com.dormmate.backend.modules.fridge.presentation.dto.admin.ExpiryHistogramResponse;
+import com.dormmate.backend.modules.fridge.presentation.dto.admin.SlotStatusVerificationResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -47,6 +50,20 @@ public class FridgeAdminController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "층별 유통기한 분포", description = "기준일부터 days일 동안 유통기한이 돌아오는 활성 물품 수와 이미 지난 물품 수를 층별로 집계한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "층 또는 기간 범위 오류"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    @GetMapping("/expiry-histogram")
+    public ResponseEntity<ExpiryHistogramResponse> getExpiryHistogram(
+            @RequestParam(name = "floor", required = false) Integer floor,
+            @RequestParam(name = "days", defaultValue = "7") int days
+    ) {
+        return ResponseEntity.ok(fridgeAdminService.getExpiryHistogram(floor, days));
+    }
+
     @Operation(summary = "냉장고 칸 설정 수정", description = "관리자가 특정 칸의 허용량과 상태를 조정한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "수정 성공"),
@@ -63,4 +80,16 @@ public class FridgeAdminController {
         FridgeSlotResponse response = fridgeAdminService.updateCompartment(compartmentId, request);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "칸 상태 투영 검증", description = "저장된 칸 상태를 잠금 필드와 진행 중 검사로 계산한 값과 비교하고, repair이면 어긋난 칸을 다시 계산한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검증 완료"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    @PostMapping("/slot-status/verify")
+    public ResponseEntity<SlotStatusVerificationResponse> verifySlotStatuses(
+            @RequestParam(name = "repair", defaultValue = "false") boolean repair
+    ) {
+        return ResponseEntity.ok(fridgeAdminService.verifySlotStatuses(repair));
+    }
 }
@@ -1,6 +1,8 @@
 package com.dormmate.backend.modules.fridge.presentation;
 
 import com.dormmate.backend.modules.fridge.application.FridgeReallocationService;
+import com.dormmate.backend.modules.fridge.domain.ReallocationMode;
+import com.dormmate.backend.modules.fridge.presentation.dto.admin.ReallocationAllFloorsPreviewResponse;
 import com.dormmate.backend.modules.fridge.presentation.dto.admin.ReallocationApplyRequest;
 import com.dormmate.backend.modules.fridge.presentation.dto.admin.ReallocationApplyResponse;
 import com.dormmate.backend.modules.fridge.presentation.dto.admin.ReallocationPreviewRequest;
@@ -12,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -31,6 +34,13 @@ public class FridgeAdminReallocationController {
         return ResponseEntity.ok(fridgeReallocationService.preview(request));
     }
 
+    @PostMapping("/preview/all")
+    public ResponseEntity<ReallocationAllFloorsPreviewResponse> previewAllFloors(
+            @RequestParam(name = "mode", required = false, defaultValue = "EVEN_SPLIT") ReallocationMode mode
+    ) {
+        return ResponseEntity.ok(fridgeReallocationService.previewAllFloors(mode));
+    }
+
     @PostMapping("/apply")
     public ResponseEntity<ReallocationApplyResponse> apply(
             @Valid @RequestBody ReallocationApplyRequest request
@@ -3,6 +3,8 @@ package com.dormmate.backend.modules.fridge.presentation;
 import java.util.UUID;
 
 import com.dormmate.backend.modules.fridge.presentation.dto.AddItemRequest;
+import com.dormmate.backend.modules.fridge.presentation.dto.BulkCreateBundlesRequest;
+import com.dormmate.backend.modules.fridge.presentation.dto.BulkCreateBundlesResponse;
 import com.dormmate.backend.modules.fridge.presentation.dto.BundleListResponse;
 import com.dormmate.backend.modules.fridge.presentation.dto.CreateBundleRequest;
 import com.dormmate.backend.modules.fridge.presentation.dto.CreateBundleResponse;
@@ -11,7 +13,9 @@ import com.dormmate.backend.modules.fridge.presentation.dto.FridgeItemResponse;
 import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotListResponse;
 import com.dormmate.backend.modules.fridge.presentation.dto.UpdateBundleRequest;
 import com.dormmate.backend.modules.fridge.presentation.dto.UpdateItemRequest;
+import com.dormmate.backend.modules.fridge.application.FridgeReadVersions;
 import com.dormmate.backend.modules.fridge.application.FridgeService;
+import com.dormmate.backend.global.web.VersionStamps;
 
 import jakarta.validation.Valid;
 
@@ -28,15 +32,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/fridge")
 public class FridgeController {
 
     private final FridgeService fridgeService;
+    private final FridgeReadVersions fridgeReadVersions;
 
-    public FridgeController(FridgeService fridgeService) {
+    public FridgeController(FridgeService fridgeService, FridgeReadVersions fridgeReadVersions) {
         this.fridgeService = fridgeService;
+        this.fridgeReadVersions = fridgeReadVersions;
     }
 
     @GetMapping("/slots")
@@ -44,9 +51,17 @@ public class FridgeController {
             @RequestParam(name = "floor", required = false) Integer floor,
             @RequestParam(name = "view", required = false) String view,
             @RequestParam(name = "page", required = false) Integer page,
-            @RequestParam(name = "size", required = false) Integer size
+            @RequestParam(name = "size", required = false) Integer size,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(fridgeService.getSlots(floor, view, page, size));
+        String etag = fridgeReadVersions.slotsEtag(floor, view, page, size);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(VersionStamps.REVALIDATE)
+                .body(fridgeService.getSlots(floor, view, page, size));
     }
 
     @GetMapping("/bundles")
@@ -56,9 +71,19 @@ public class FridgeController {
             @RequestParam(name = "status", required = false) String status,
             @RequestParam(name = "search", required = false) String search,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "20") int size
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", required = false) String count,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(fridgeService.getBundles(slotId, owner, status, search, page, size));
+        String etag = fridgeReadVersions.bundlesEtag(slotId, owner, status, search, page, size, cursor, count);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(VersionStamps.REVALIDATE)
+                .body(fridgeService.getBundles(slotId, owner, status, search, page, size, cursor, count));
     }
 
     @Operation(
@@ -78,6 +103,18 @@ public class FridgeController {
         return ResponseEntity.status(201).body(fridgeService.createBundle(request));
     }
 
+    @Operation(
+            summary = "포장 일괄 생성",
+            description = """
+                    여러 포장을 한 번에 등록한다. 칸 단위로 처리되므로 한 칸의 실패가 다른 칸의 등록을 되돌리지 않는다. \
+                    결과는 요청 순서대로 포장마다 `created`와 실패 사유 `errorCode`(`CAPACITY_EXCEEDED` 등)를 담는다.
+                    """
+    )
+    @PostMapping("/bundles/bulk")
+    public ResponseEntity<BulkCreateBundlesResponse> createBundles(@Valid @RequestBody BulkCreateBundlesRequest request) {
+        return ResponseEntity.ok(fridgeService.createBundles(request));
+    }
+
     @GetMapping("/bundles/{bundleId}")
     public ResponseEntity<FridgeBundleResponse> getBundle(@PathVariable("bundleId") UUID bundleId) {
         return ResponseEntity.ok(fridgeService.getBundle(bundleId));
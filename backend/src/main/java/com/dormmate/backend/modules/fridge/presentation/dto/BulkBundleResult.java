@@ -0,0 +1,23 @@
+package com.dormmate.backend.modules.fridge.presentation.dto;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkBundleResult(
+        int index,
+        UUID slotId,
+        boolean created,
+        FridgeBundleResponse bundle,
+        String errorCode
+) {
+
+    public static BulkBundleResult created(int index, UUID slotId, FridgeBundleResponse bundle) {
+        return new BulkBundleResult(index, slotId, true, bundle, null);
+    }
+
+    public static BulkBundleResult failed(int index, UUID slotId, String errorCode) {
+        return new BulkBundleResult(index, slotId, false, null, errorCode);
+    }
+}
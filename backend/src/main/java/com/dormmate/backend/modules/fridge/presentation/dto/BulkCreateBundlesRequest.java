@@ -0,0 +1,15 @@
+package com.dormmate.backend.modules.fridge.presentation.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 포장별 검증 실패는 요청 전체를 거절하지 않고 결과 항목으로 돌려주므로, 각 포장은 서비스에서 검증한다.
+ */
+public record BulkCreateBundlesRequest(
+        @NotEmpty @Size(max = 200) List<@NotNull CreateBundleRequest> bundles
+) {
+}
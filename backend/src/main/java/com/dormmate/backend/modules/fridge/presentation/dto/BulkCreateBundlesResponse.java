@@ -0,0 +1,10 @@
+package com.dormmate.backend.modules.fridge.presentation.dto;
+
+import java.util.List;
+
+public record BulkCreateBundlesResponse(
+        List<BulkBundleResult> results,
+        int createdCount,
+        int failedCount
+) {
+}
@@ -2,8 +2,21 @@ package com.dormmate.backend.modules.fridge.presentation.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * totalCountExact가 false이면 totalCount는 상한(count=capped) 또는 최소 건수(count=none)이다.
+ * nextCursor는 다음 페이지가 있을 때만 포함된다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record BundleListResponse(
         List<FridgeBundleSummaryResponse> items,
-        long totalCount
+        long totalCount,
+        boolean totalCountExact,
+        String nextCursor
 ) {
+
+    public BundleListResponse(List<FridgeBundleSummaryResponse> items, long totalCount) {
+        this(items, totalCount, true, null);
+    }
 }
@@ -12,7 +12,10 @@ import com.dormmate.backend.modules.fridge.domain.FridgeBundle;
 import com.dormmate.backend.modules.fridge.domain.FridgeCompartment;
 import com.dormmate.backend.modules.fridge.domain.FridgeItem;
 import com.dormmate.backend.modules.fridge.domain.FridgeItemStatus;
+import com.dormmate.backend.modules.fridge.domain.FridgeTopologySnapshot;
 import com.dormmate.backend.modules.fridge.domain.LabelFormatter;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleSummaryRow;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeItemRow;
 
 public final class FridgeDtoMapper {
 
@@ -40,12 +43,7 @@ public final class FridgeDtoMapper {
 
         Integer capacity = includeCapacity ? compartment.getMaxBundleCount() : null;
         String displayName = includeCapacity ? buildDisplayName(compartment, floorNo) : null;
-        Integer occupiedCount = null;
-        if (includeCapacity) {
-            occupiedCount = (int) compartment.getBundles().stream()
-                    .filter(bundle -> bundle.getStatus() != null && bundle.getStatus().isActive())
-                    .count();
-        }
+        Integer occupiedCount = includeCapacity ? compartment.getActiveBundleCount() : null;
 
         return new FridgeSlotResponse(
                 compartment.getId(),
@@ -64,6 +62,30 @@ public final class FridgeDtoMapper {
         );
     }
 
+    public static FridgeSlotResponse toSlotResponse(
+            FridgeTopologySnapshot.Slot slot,
+            boolean includeCapacity,
+            FridgeSlotState slotState,
+            Integer occupiedCount
+    ) {
+        int floorNo = slot.floorNo();
+        return new FridgeSlotResponse(
+                slot.compartmentId(),
+                slot.slotIndex(),
+                LabelFormatter.toSlotLetter(slot.slotIndex()),
+                floorNo,
+                floorNo + "F",
+                slot.compartmentType().name(),
+                slot.status().name(),
+                slotState.status(),
+                slotState.locked(),
+                slotState.lockedUntil(),
+                includeCapacity ? slot.maxBundleCount() : null,
+                includeCapacity ? buildDisplayName(slot.compartmentType(), slot.slotIndex(), floorNo) : null,
+                includeCapacity ? occupiedCount : null
+        );
+    }
+
     public static FridgeBundleSummaryResponse toSummary(FridgeBundle bundle, RoomAssignment assignment) {
         return toSummary(bundle, assignment, true, false);
     }
@@ -118,6 +140,34 @@ public final class FridgeDtoMapper {
         );
     }
 
+    public static FridgeBundleSummaryResponse toSummary(
+            FridgeBundleSummaryRow row,
+            String ownerRoomNumber,
+            boolean includeMemo,
+            List<FridgeItemResponse> items
+    ) {
+        return new FridgeBundleSummaryResponse(
+                row.bundleId(),
+                row.compartmentId(),
+                row.slotIndex(),
+                LabelFormatter.toSlotLetter(row.slotIndex()),
+                row.labelNumber(),
+                LabelFormatter.toBundleLabel(row.slotIndex(), row.labelNumber()),
+                row.bundleName(),
+                includeMemo ? row.memo() : null,
+                row.ownerUserId(),
+                row.ownerDisplayName(),
+                ownerRoomNumber,
+                row.status(),
+                row.freshness(),
+                row.activeItemCount(),
+                row.createdAt(),
+                row.updatedAt(),
+                row.deletedAt(),
+                items
+        );
+    }
+
     public static FridgeBundleResponse toResponse(FridgeBundle bundle, RoomAssignment assignment) {
         return toResponse(bundle, assignment, true);
     }
@@ -183,6 +233,35 @@ public final class FridgeDtoMapper {
         );
     }
 
+    public static FridgeItemResponse toItemResponse(FridgeItemRow row) {
+        OffsetDateTime lastInspectedAt = row.lastInspectedAt();
+        boolean updatedAfterInspection = lastInspectedAt != null
+                && row.updatedAt() != null
+                && row.updatedAt().isAfter(lastInspectedAt);
+
+        return new FridgeItemResponse(
+                row.itemId(),
+                row.bundleId(),
+                row.name(),
+                row.expiryDate(),
+                row.quantity(),
+                row.unitCode(),
+                row.freshness(),
+                lastInspectedAt,
+                updatedAfterInspection,
+                row.createdAt(),
+                row.updatedAt(),
+                row.deletedAt()
+        );
+    }
+
+    /**
+     * 신선도 계산 기준일. 이 날짜 이하로 만료되는 활성 물품은 임박(expiring)으로 본다.
+     */
+    public static LocalDate expiringUntil(LocalDate today) {
+        return today.plusDays(EXPIRING_THRESHOLD_DAYS);
+    }
+
     private static String computeBundleFreshness(FridgeBundle bundle) {
         boolean hasExpired = bundle.getItems().stream()
                 .anyMatch(item -> item.getStatus() == FridgeItemStatus.ACTIVE
@@ -214,9 +293,17 @@ public final class FridgeDtoMapper {
     }
 
     private static String buildDisplayName(FridgeCompartment compartment, int floorNo) {
-        String typeLabel = compartment.getCompartmentType() == com.dormmate.backend.modules.fridge.domain.CompartmentType.FREEZE
+        return buildDisplayName(compartment.getCompartmentType(), compartment.getSlotIndex(), floorNo);
+    }
+
+    private static String buildDisplayName(
+            com.dormmate.backend.modules.fridge.domain.CompartmentType compartmentType,
+            int slotIndex,
+            int floorNo
+    ) {
+        String typeLabel = compartmentType == com.dormmate.backend.modules.fridge.domain.CompartmentType.FREEZE
                 ? "냉동"
                 : "냉장";
-        return floorNo + "F " + typeLabel + " " + (compartment.getSlotIndex() + 1) + "칸";
+        return floorNo + "F " + typeLabel + " " + (slotIndex + 1) + "칸";
     }
 }
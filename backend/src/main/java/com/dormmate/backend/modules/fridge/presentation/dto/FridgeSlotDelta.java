@@ -0,0 +1,21 @@
+package com.dormmate.backend.modules.fridge.presentation.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 실시간 구독자에게 보내는 칸 상태 변경분. 목록 조회의 FridgeSlotResponse 중 바뀔 수 있는 값만 담는다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FridgeSlotDelta(
+        UUID slotId,
+        int slotIndex,
+        FridgeSlotStatus slotStatus,
+        boolean locked,
+        OffsetDateTime lockedUntil,
+        int capacity,
+        int occupiedCount
+) {
+}
@@ -0,0 +1,11 @@
+package com.dormmate.backend.modules.fridge.presentation.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record FridgeSlotDeltaMessage(
+        int floorNo,
+        OffsetDateTime occurredAt,
+        List<FridgeSlotDelta> slots
+) {
+}
@@ -0,0 +1,9 @@
+package com.dormmate.backend.modules.fridge.presentation.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 칸 목록 응답에 쓰는 칸 상태와 잠금 정보. 토폴로지 스냅샷에는 잠금을 두지 않으므로 투영과 잠금 레지스트리에서 만든다.
+ */
+public record FridgeSlotState(FridgeSlotStatus status, boolean locked, OffsetDateTime lockedUntil) {
+}
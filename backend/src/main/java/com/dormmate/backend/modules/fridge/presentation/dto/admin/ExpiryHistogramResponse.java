@@ -0,0 +1,27 @@
+package com.dormmate.backend.modules.fridge.presentation.dto.admin;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ExpiryHistogramResponse(
+        LocalDate baseDate,
+        int days,
+        List<FloorHistogram> floors
+) {
+
+    /**
+     * expiredCount는 기준일 이전에 유통기한이 지난 활성 물품 수이고, days는 기준일부터 하루 단위 개수다.
+     */
+    public record FloorHistogram(
+            short floor,
+            long expiredCount,
+            List<DayCount> days
+    ) {
+    }
+
+    public record DayCount(
+            LocalDate date,
+            long itemCount
+    ) {
+    }
+}
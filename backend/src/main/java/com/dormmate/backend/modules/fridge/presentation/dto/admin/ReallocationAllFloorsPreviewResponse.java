@@ -0,0 +1,24 @@
+package com.dormmate.backend.modules.fridge.presentation.dto.admin;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public record ReallocationAllFloorsPreviewResponse(
+        List<FloorPreview> floors,
+        long loadMillis,
+        long totalMillis
+) {
+
+    /**
+     * 층별 미리보기 결과. 계산할 수 없는 층은 preview 대신 단건 미리보기와 같은 오류 코드를 담는다.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record FloorPreview(
+            short floor,
+            ReallocationPreviewResponse preview,
+            String errorCode,
+            long elapsedMicros
+    ) {
+    }
+}
@@ -7,6 +7,7 @@ public record ReallocationApplyResponse(
         int affectedCompartments,
         int releasedAssignments,
         int createdAssignments,
+        int retainedAssignments,
         OffsetDateTime appliedAt
 ) {
 }
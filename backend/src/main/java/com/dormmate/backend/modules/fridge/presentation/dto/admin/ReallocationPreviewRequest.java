@@ -1,9 +1,16 @@
 package com.dormmate.backend.modules.fridge.presentation.dto.admin;
 
+import com.dormmate.backend.modules.fridge.domain.ReallocationMode;
+
 import jakarta.validation.constraints.Min;
 
 public record ReallocationPreviewRequest(
         @Min(value = 1, message = "floor must be positive")
-        short floor
+        short floor,
+        ReallocationMode mode
 ) {
+
+    public ReallocationMode resolvedMode() {
+        return mode == null ? ReallocationMode.EVEN_SPLIT : mode;
+    }
 }
@@ -4,12 +4,15 @@ import java.util.List;
 import java.util.UUID;
 
 import com.dormmate.backend.modules.fridge.domain.CompartmentType;
+import com.dormmate.backend.modules.fridge.domain.ReallocationMode;
 
 public record ReallocationPreviewResponse(
         short floor,
         List<RoomSummary> rooms,
         List<CompartmentAllocationView> allocations,
-        int chillCompartmentCount
+        int chillCompartmentCount,
+        ReallocationMode mode,
+        ChurnSummary churn
 ) {
 
     public record RoomSummary(
@@ -33,4 +36,16 @@ public record ReallocationPreviewResponse(
             List<String> warnings
     ) {
     }
+
+    /**
+     * 추천안을 그대로 적용했을 때의 변경량. avoidedWrites는 전체 해제 후 재생성 대비 줄어드는 배정 행 쓰기 수다.
+     */
+    public record ChurnSummary(
+            int movedRooms,
+            int keptRooms,
+            int releasedAssignments,
+            int createdAssignments,
+            int avoidedWrites
+    ) {
+    }
 }
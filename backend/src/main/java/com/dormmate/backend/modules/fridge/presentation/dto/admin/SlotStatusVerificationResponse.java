@@ -0,0 +1,23 @@
+package com.dormmate.backend.modules.fridge.presentation.dto.admin;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotStatus;
+
+public record SlotStatusVerificationResponse(
+        int checkedCount,
+        List<Mismatch> mismatches,
+        int repairedCount
+) {
+
+    /**
+     * projected가 null이면 투영 행이 없는 칸이다.
+     */
+    public record Mismatch(
+            UUID slotId,
+            FridgeSlotStatus projected,
+            FridgeSlotStatus computed
+    ) {
+    }
+}
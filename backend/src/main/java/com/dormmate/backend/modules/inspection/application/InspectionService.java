@@ -1,14 +1,13 @@
 package com.dormmate.backend.modules.inspection.application;
 
-import static com.dormmate.backend.modules.auth.application.RoomAssignmentSupport.isFloorManagerOnFloor;
 import static com.dormmate.backend.modules.auth.application.RoomAssignmentSupport.requireRoom;
-import static com.dormmate.backend.modules.auth.application.RoomAssignmentSupport.requireRoomId;
 
 import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -19,15 +18,25 @@ import java.util.stream.Collectors;
 import java.util.Objects;
 
 import com.dormmate.backend.modules.audit.application.AuditLogService;
+import com.dormmate.backend.modules.fridge.application.CompartmentLockRegistry;
+import com.dormmate.backend.modules.fridge.application.FridgeAccessDecisionCache;
+import com.dormmate.backend.modules.fridge.application.FridgeCompartmentLockChangedEvent;
+import com.dormmate.backend.modules.fridge.application.FridgeReadVersions;
 import com.dormmate.backend.modules.fridge.presentation.dto.FridgeBundleResponse;
 import com.dormmate.backend.modules.fridge.presentation.dto.FridgeDtoMapper;
 import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionDetailResponse;
-import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionEntryRequest;
 import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionItemResponse;
 import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionRequest;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionSyncEntryRequest;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionSyncRequest;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionSyncResponse;
 import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionMutationRequest;
 import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionSummaryResponse;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionSessionChangesResponse;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionSessionEventMessage;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionSessionEventType;
 import com.dormmate.backend.modules.inspection.presentation.dto.InspectionSessionResponse;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionSessionSummaryResponse;
 import com.dormmate.backend.modules.inspection.presentation.dto.StartInspectionRequest;
 import com.dormmate.backend.modules.inspection.presentation.dto.SubmitInspectionRequest;
 import com.dormmate.backend.modules.inspection.presentation.dto.UpdateInspectionSessionRequest;
@@ -48,12 +57,12 @@ import com.dormmate.backend.modules.inspection.domain.InspectionSession;
 import com.dormmate.backend.modules.inspection.domain.InspectionStatus;
 import com.dormmate.backend.modules.auth.infrastructure.persistence.DormUserRepository;
 import com.dormmate.backend.modules.auth.infrastructure.persistence.RoomAssignmentRepository;
-import com.dormmate.backend.modules.fridge.infrastructure.persistence.CompartmentRoomAccessRepository;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleRepository;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeCompartmentRepository;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeItemRepository;
 import com.dormmate.backend.modules.inspection.domain.InspectionSchedule;
 import com.dormmate.backend.modules.inspection.domain.InspectionScheduleStatus;
+import com.dormmate.backend.modules.inspection.infrastructure.persistence.InspectionActionRepository;
 import com.dormmate.backend.modules.inspection.infrastructure.persistence.InspectionScheduleRepository;
 import com.dormmate.backend.modules.inspection.infrastructure.persistence.InspectionSessionRepository;
 import com.dormmate.backend.modules.notification.application.NotificationService;
@@ -61,6 +70,10 @@ import com.dormmate.backend.modules.penalty.domain.PenaltyHistory;
 import com.dormmate.backend.modules.inspection.presentation.dto.PenaltyHistoryResponse;
 import com.dormmate.backend.global.security.SecurityUtils;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -74,42 +87,63 @@ public class InspectionService {
 
     private static final String PENALTY_SOURCE = "FRIDGE_INSPECTION";
     private static final long LOCK_EXTENSION_MINUTES = 30L;
+    private static final int DEFAULT_LIST_LIMIT = 50;
+    private static final int MAX_LIST_LIMIT = 200;
+    private static final int ACTION_BATCH_SIZE = 50;
 
     private final InspectionSessionRepository inspectionSessionRepository;
+    private final InspectionActionRepository inspectionActionRepository;
     private final FridgeCompartmentRepository fridgeCompartmentRepository;
     private final FridgeBundleRepository fridgeBundleRepository;
     private final FridgeItemRepository fridgeItemRepository;
     private final DormUserRepository dormUserRepository;
     private final RoomAssignmentRepository roomAssignmentRepository;
-    private final CompartmentRoomAccessRepository compartmentRoomAccessRepository;
+    private final FridgeAccessDecisionCache fridgeAccessDecisionCache;
+    private final CompartmentLockRegistry compartmentLockRegistry;
+    private final FridgeReadVersions fridgeReadVersions;
+    private final InspectionSessionViewCache sessionViewCache;
+    private final InspectionSessionBroadcaster sessionBroadcaster;
     private final InspectionScheduleRepository inspectionScheduleRepository;
     private final NotificationService notificationService;
     private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock;
 
     public InspectionService(
             InspectionSessionRepository inspectionSessionRepository,
+            InspectionActionRepository inspectionActionRepository,
             FridgeCompartmentRepository fridgeCompartmentRepository,
             FridgeBundleRepository fridgeBundleRepository,
             FridgeItemRepository fridgeItemRepository,
             DormUserRepository dormUserRepository,
             RoomAssignmentRepository roomAssignmentRepository,
-            CompartmentRoomAccessRepository compartmentRoomAccessRepository,
+            FridgeAccessDecisionCache fridgeAccessDecisionCache,
+            CompartmentLockRegistry compartmentLockRegistry,
+            FridgeReadVersions fridgeReadVersions,
+            InspectionSessionViewCache sessionViewCache,
+            InspectionSessionBroadcaster sessionBroadcaster,
             InspectionScheduleRepository inspectionScheduleRepository,
             NotificationService notificationService,
             AuditLogService auditLogService,
+            ApplicationEventPublisher eventPublisher,
             Clock clock
     ) {
         this.inspectionSessionRepository = inspectionSessionRepository;
+        this.inspectionActionRepository = inspectionActionRepository;
         this.fridgeCompartmentRepository = fridgeCompartmentRepository;
         this.fridgeBundleRepository = fridgeBundleRepository;
         this.fridgeItemRepository = fridgeItemRepository;
         this.dormUserRepository = dormUserRepository;
         this.roomAssignmentRepository = roomAssignmentRepository;
-        this.compartmentRoomAccessRepository = compartmentRoomAccessRepository;
+        this.fridgeAccessDecisionCache = fridgeAccessDecisionCache;
+        this.compartmentLockRegistry = compartmentLockRegistry;
+        this.fridgeReadVersions = fridgeReadVersions;
+        this.sessionViewCache = sessionViewCache;
+        this.sessionBroadcaster = sessionBroadcaster;
         this.inspectionScheduleRepository = inspectionScheduleRepository;
         this.notificationService = notificationService;
         this.auditLogService = auditLogService;
+        this.eventPublisher = eventPublisher;
         this.clock = clock;
     }
 
@@ -119,6 +153,22 @@ public class InspectionService {
         }
         compartment.setLocked(true);
         compartment.setLockedUntil(baseline.plusMinutes(LOCK_EXTENSION_MINUTES));
+        compartmentLockRegistry.lockExtended(compartment.getId(), compartment.getLockedUntil());
+        // 조치마다 호출되므로 토폴로지 스냅샷과 접근 판단 캐시를 건드리지 않는 잠금 연장 이벤트만 보낸다.
+        eventPublisher.publishEvent(FridgeCompartmentLockChangedEvent.extended(compartment.getId()));
+    }
+
+    private void lockCompartment(FridgeCompartment compartment, OffsetDateTime baseline) {
+        compartment.setLocked(true);
+        compartment.setLockedUntil(baseline.plusMinutes(LOCK_EXTENSION_MINUTES));
+        eventPublisher.publishEvent(FridgeCompartmentLockChangedEvent.of(compartment.getId()));
+    }
+
+    private void releaseCompartmentLock(FridgeCompartment compartment) {
+        compartment.setLocked(false);
+        compartment.setLockedUntil(null);
+        compartmentLockRegistry.inspectionEnded(compartment.getId());
+        eventPublisher.publishEvent(FridgeCompartmentLockChangedEvent.of(compartment.getId()));
     }
 
     public InspectionSessionResponse startSession(StartInspectionRequest request) {
@@ -169,7 +219,7 @@ public class InspectionService {
         session.setStatus(InspectionStatus.IN_PROGRESS);
         session.setStartedAt(now);
 
-        extendCompartmentLock(compartment, now);
+        lockCompartment(compartment, now);
 
         InspectionParticipant participant = new InspectionParticipant();
         participant.setInspectionSession(session);
@@ -179,6 +229,7 @@ public class InspectionService {
         session.getParticipants().add(participant);
 
         InspectionSession saved = inspectionSessionRepository.save(session);
+        compartmentLockRegistry.inspectionStarted(compartment.getId(), saved.getId(), compartment.getLockedUntil());
         if (scheduleToLink != null) {
             scheduleToLink.setInspectionSession(saved);
             inspectionScheduleRepository.save(scheduleToLink);
@@ -220,9 +271,128 @@ public class InspectionService {
         return mapSession(session, currentUser);
     }
 
+    /**
+     * 세션 토픽 구독 권한 확인. 세션 조회와 같은 규칙을 쓴다.
+     */
+    @Transactional(readOnly = true)
+    public void ensureCanWatchSession(UUID sessionId) {
+        InspectionSession session = inspectionSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "SESSION_NOT_FOUND"));
+        ensureViewerCanAccessSession(loadCurrentUser(), session);
+    }
+
+    /**
+     * sinceVersion 이후의 기록·되돌리기·포장 변경만 돌려준다. 변경분을 이어 붙일 수 없으면 전체 세션을 snapshot으로 담는다.
+     */
+    @Transactional(readOnly = true)
+    public InspectionSessionChangesResponse getSessionChanges(UUID sessionId, long sinceVersion) {
+        if (sinceVersion < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_VERSION");
+        }
+        InspectionSession session = inspectionSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "SESSION_NOT_FOUND"));
+        DormUser currentUser = loadCurrentUser();
+        ensureViewerCanAccessSession(currentUser, session);
+        long version = session.getViewVersion();
+        return sessionViewCache.changesSince(session.getId(), sinceVersion, version)
+                .map(changes -> new InspectionSessionChangesResponse(
+                        session.getId(),
+                        sinceVersion,
+                        version,
+                        session.getStatus().name(),
+                        null,
+                        changes.addedActions(),
+                        changes.removedActionIds(),
+                        InspectionSessionViewCache.forViewer(changes.changedBundles(), currentUser.getId()),
+                        changes.current().summary()
+                ))
+                .orElseGet(() -> new InspectionSessionChangesResponse(
+                        session.getId(),
+                        sinceVersion,
+                        version,
+                        session.getStatus().name(),
+                        mapSession(session, currentUser),
+                        null,
+                        null,
+                        null,
+                        null
+                ));
+    }
+
     @Transactional(readOnly = true)
-    public List<InspectionSessionResponse> listSessions(UUID slotId, String status, Integer limit) {
+    public List<InspectionSessionResponse> listSessions(UUID slotId, String status, Integer limit, Integer page) {
         DormUser currentUser = loadCurrentUser();
+        return findSessionPage(currentUser, slotId, status, limit, page).stream()
+                .map(session -> mapSession(session, currentUser))
+                .toList();
+    }
+
+    /**
+     * 목록 화면용 요약. 포장 목록을 만들지 않고, 조치 개수와 시작자 호실은 페이지 단위로 한 번씩 모아 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public List<InspectionSessionSummaryResponse> listSessionSummaries(
+            UUID slotId,
+            String status,
+            Integer limit,
+            Integer page
+    ) {
+        DormUser currentUser = loadCurrentUser();
+        List<InspectionSession> sessions = findSessionPage(currentUser, slotId, status, limit, page);
+        if (sessions.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, EnumMap<InspectionActionType, Integer>> countersBySession = new HashMap<>();
+        inspectionActionRepository.countByTypeForSessions(sessions.stream().map(InspectionSession::getId).toList())
+                .forEach(row -> countersBySession
+                        .computeIfAbsent(row.getSessionId(), key -> new EnumMap<>(InspectionActionType.class))
+                        .put(row.getActionType(), (int) row.getActionCount()));
+        Map<UUID, RoomAssignment> assignments = loadAssignmentsForUserIds(sessions.stream()
+                .map(session -> session.getStartedBy().getId())
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+
+        return sessions.stream()
+                .map(session -> {
+                    FridgeCompartment compartment = session.getFridgeCompartment();
+                    DormUser inspector = session.getStartedBy();
+                    RoomAssignment inspectorAssignment = assignments.get(inspector.getId());
+                    int floorNo = compartment.getFridgeUnit().getFloorNo();
+                    return new InspectionSessionSummaryResponse(
+                            session.getId(),
+                            compartment.getId(),
+                            compartment.getSlotIndex(),
+                            LabelFormatter.toSlotLetter(compartment.getSlotIndex()),
+                            floorNo,
+                            floorNo + "F",
+                            session.getStatus().name(),
+                            inspector.getId(),
+                            inspector.getLoginId(),
+                            inspector.getFullName(),
+                            inspectorAssignment != null ? inspectorAssignment.getRoom().getRoomNumber() : null,
+                            resolvePersonalNo(inspectorAssignment),
+                            session.getStartedAt(),
+                            session.getEndedAt(),
+                            toSummaryResponses(countersBySession.getOrDefault(
+                                    session.getId(), new EnumMap<>(InspectionActionType.class))),
+                            session.getInitialBundleCount(),
+                            session.getTotalBundleCount()
+                    );
+                })
+                .toList();
+    }
+
+    /**
+     * 조회 범위를 쿼리 조건으로 옮긴다. 관리자는 전체, 층별장은 자기 층, 그 외에는 호실이 배정된 칸만 본다
+     * (mapSession의 접근 검사와 같은 규칙).
+     */
+    private List<InspectionSession> findSessionPage(
+            DormUser viewer,
+            UUID slotId,
+            String status,
+            Integer limit,
+            Integer page
+    ) {
         final InspectionStatus statusFilter;
         if (status == null || status.isBlank()) {
             statusFilter = null;
@@ -233,33 +403,27 @@ public class InspectionService {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_STATUS");
             }
         }
+        if (page != null && page < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_PAGE");
+        }
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_LIST_LIMIT : Math.min(limit, MAX_LIST_LIMIT);
+        PageRequest pageRequest = PageRequest.of(page != null ? page : 0, pageSize);
 
-        List<InspectionSession> sessions = inspectionSessionRepository.findAll().stream()
-                .filter(session -> slotId == null || session.getFridgeCompartment().getId().equals(slotId))
-                .filter(session -> statusFilter == null || session.getStatus() == statusFilter)
-                .sorted(Comparator.comparing(InspectionSession::getStartedAt).reversed())
-                .toList();
-
-        List<InspectionSessionResponse> responses = new ArrayList<>();
-        for (InspectionSession session : sessions) {
-            try {
-                responses.add(mapSession(session, currentUser));
-            } catch (ResponseStatusException ex) {
-                if (ex.getStatusCode().value() == HttpStatus.FORBIDDEN.value()
-                        && ("FORBIDDEN_SLOT".equals(ex.getReason()) || "FLOOR_SCOPE_VIOLATION".equals(ex.getReason()))) {
-                    continue;
-                }
-                throw ex;
-            }
-            if (limit != null && limit > 0 && responses.size() >= limit) {
-                break;
-            }
+        if (SecurityUtils.hasRole("ADMIN")) {
+            return inspectionSessionRepository.findPageInScope(slotId, statusFilter, null, null, pageRequest);
+        }
+        RoomAssignment assignment = roomAssignmentRepository.findActiveAssignment(viewer.getId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "ROOM_ASSIGNMENT_REQUIRED"));
+        if (SecurityUtils.hasRole("FLOOR_MANAGER")) {
+            return inspectionSessionRepository.findPageInScope(
+                    slotId, statusFilter, assignment.getRoom().getFloor(), null, pageRequest);
         }
-        return responses;
+        return inspectionSessionRepository.findPageInScope(
+                slotId, statusFilter, null, assignment.getRoom().getId(), pageRequest);
     }
 
     public void cancelSession(UUID sessionId) {
-        InspectionSession session = inspectionSessionRepository.findById(sessionId)
+        InspectionSession session = inspectionSessionRepository.findByIdForUpdate(sessionId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "SESSION_NOT_FOUND"));
         ensureManagerOrAdmin();
         if (session.getStatus() != InspectionStatus.IN_PROGRESS) {
@@ -269,8 +433,10 @@ public class InspectionService {
         OffsetDateTime now = OffsetDateTime.now(clock);
         session.setStatus(InspectionStatus.CANCELLED);
         session.setEndedAt(now);
-        session.getFridgeCompartment().setLocked(false);
-        session.getFridgeCompartment().setLockedUntil(null);
+        bumpViewVersion(session);
+        sessionViewCache.evictAfterCommit(session.getId());
+        broadcastSessionEvent(session, InspectionSessionEventType.CANCELLED, null);
+        releaseCompartmentLock(session.getFridgeCompartment());
         inspectionSessionRepository.save(session);
 
         inspectionScheduleRepository.findByInspectionSessionId(session.getId()).ifPresent(schedule -> {
@@ -295,7 +461,7 @@ public class InspectionService {
     }
 
     public InspectionSessionResponse recordActions(UUID sessionId, InspectionActionRequest request) {
-        InspectionSession session = inspectionSessionRepository.findById(sessionId)
+        InspectionSession session = inspectionSessionRepository.findByIdForUpdate(sessionId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "SESSION_NOT_FOUND"));
         ensureManagerRole();
         if (session.getStatus() != InspectionStatus.IN_PROGRESS) {
@@ -304,45 +470,175 @@ public class InspectionService {
 
         OffsetDateTime now = OffsetDateTime.now(clock);
         DormUser currentUser = loadCurrentUser();
+        List<ActionCommand> commands = request.actions().stream()
+                .map(entry -> new ActionCommand(
+                        entry.bundleId(),
+                        entry.itemId(),
+                        entry.action(),
+                        entry.note(),
+                        UUID.randomUUID(),
+                        now
+                ))
+                .toList();
 
-        boolean extended = false;
-        for (InspectionActionEntryRequest entry : request.actions()) {
-            InspectionActionType actionType = parseAction(entry.action());
-            FridgeBundle bundle = null;
-            if (entry.bundleId() != null) {
-                bundle = fridgeBundleRepository.findById(entry.bundleId())
-                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "BUNDLE_NOT_FOUND"));
-                ensureBundleBelongsToSession(session, bundle);
+        RecordedActions recorded = buildActions(session, commands, currentUser);
+        if (recorded.actions().isEmpty()) {
+            return mapSession(session, currentUser);
+        }
+        long previousVersion = persistRecordedActions(session, recorded, now);
+        InspectionSessionViewCache.Change change =
+                buildChange(session, recorded.actions(), Set.of(), recorded.inspectedBundles());
+        broadcastActionsRecorded(session, change);
+        return mapChangedSession(session, currentUser, previousVersion, change);
+    }
+
+    /**
+     * 단말이 오프라인에서 쌓은 조치를 순서대로 한 트랜잭션에 반영한다.
+     * correlationId가 이미 반영된 항목은 건너뛰고 기존 조치 ID를 돌려주므로 같은 묶음을 다시 보내도 결과가 같다.
+     */
+    public InspectionActionSyncResponse syncActions(UUID sessionId, InspectionActionSyncRequest request) {
+        InspectionSession session = inspectionSessionRepository.findByIdForUpdate(sessionId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "SESSION_NOT_FOUND"));
+        ensureManagerRole();
+        DormUser currentUser = loadCurrentUser();
+        ensureViewerCanAccessSession(currentUser, session);
+
+        Set<UUID> keys = request.operations().stream()
+                .map(InspectionActionSyncEntryRequest::correlationId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<UUID, InspectionAction> existing = inspectionActionRepository.findByCorrelationIdIn(keys).stream()
+                .collect(Collectors.toMap(InspectionAction::getCorrelationId, action -> action));
+        for (InspectionAction action : existing.values()) {
+            if (!action.getInspectionSession().getId().equals(session.getId())) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "CORRELATION_ID_CONFLICT");
             }
+        }
 
-        FridgeItem item = null;
-        if (entry.itemId() != null) {
-            item = fridgeItemRepository.findById(entry.itemId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "ITEM_NOT_FOUND"));
-            FridgeBundle itemBundle = item.getBundle();
-            if (itemBundle == null) {
-                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "ITEM_NOT_IN_BUNDLE");
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        List<ActionCommand> commands = new ArrayList<>();
+        Set<UUID> seen = new LinkedHashSet<>();
+        for (InspectionActionSyncEntryRequest entry : request.operations()) {
+            if (existing.containsKey(entry.correlationId()) || !seen.add(entry.correlationId())) {
+                continue;
             }
-            ensureBundleBelongsToSession(session, itemBundle);
-            if (bundle != null && !itemBundle.getId().equals(bundle.getId())) {
-                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "ITEM_NOT_IN_BUNDLE");
+            commands.add(new ActionCommand(
+                    entry.bundleId(),
+                    entry.itemId(),
+                    entry.action(),
+                    entry.note(),
+                    entry.correlationId(),
+                    clampClientTime(entry.clientRecordedAt(), session.getStartedAt(), now)
+            ));
+        }
+
+        if (!commands.isEmpty()) {
+            // 이미 반영된 재전송은 세션이 끝난 뒤에도 같은 결과로 답한다.
+            if (session.getStatus() != InspectionStatus.IN_PROGRESS) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "SESSION_NOT_ACTIVE");
             }
-            if (bundle == null) {
-                bundle = itemBundle;
+            RecordedActions recorded = buildActions(session, commands, currentUser);
+            try {
+                persistRecordedActions(session, recorded, now);
+            } catch (DataIntegrityViolationException ex) {
+                if (isCorrelationIdViolation(ex)) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, "CORRELATION_ID_CONFLICT", ex);
+                }
+                throw ex;
             }
+            InspectionSessionViewCache.Change change =
+                    buildChange(session, recorded.actions(), Set.of(), recorded.inspectedBundles());
+            sessionViewCache.applyAfterCommit(session.getId(), change);
+            broadcastActionsRecorded(session, change);
+            recorded.actions().forEach(action -> existing.putIfAbsent(action.getCorrelationId(), action));
+        }
+
+        Set<UUID> appliedKeys = commands.stream()
+                .map(ActionCommand::correlationId)
+                .collect(Collectors.toSet());
+        Set<UUID> reported = new LinkedHashSet<>();
+        List<InspectionActionSyncResponse.OperationResult> results = new ArrayList<>();
+        for (InspectionActionSyncEntryRequest entry : request.operations()) {
+            UUID key = entry.correlationId();
+            boolean applied = appliedKeys.contains(key) && reported.add(key);
+            results.add(new InspectionActionSyncResponse.OperationResult(
+                    key,
+                    existing.get(key).getId(),
+                    applied ? "APPLIED" : "DUPLICATE"
+            ));
         }
+        return new InspectionActionSyncResponse(
+                session.getId(),
+                session.getViewVersion(),
+                commands.size(),
+                results.size() - commands.size(),
+                results
+        );
+    }
+
+    /**
+     * 요청 항목을 검증해 조치 엔티티로 만든다. 참조된 포장·물품은 항목마다 단건 조회하지 않고 IN 조회 두 번으로 미리 읽는다.
+     */
+    private RecordedActions buildActions(InspectionSession session, List<ActionCommand> commands, DormUser currentUser) {
+        Map<UUID, FridgeBundle> bundlesById = fridgeBundleRepository.findAllById(commands.stream()
+                        .map(ActionCommand::bundleId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(FridgeBundle::getId, bundle -> bundle));
+        Set<UUID> itemIds = commands.stream()
+                .map(ActionCommand::itemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, FridgeItem> itemsById = itemIds.isEmpty()
+                ? Map.of()
+                : fridgeItemRepository.findAllWithBundleByIdIn(itemIds).stream()
+                        .collect(Collectors.toMap(FridgeItem::getId, item -> item));
+
+        List<InspectionAction> actions = new ArrayList<>();
+        Set<UUID> disposedBundleIds = new LinkedHashSet<>();
+        Set<FridgeBundle> inspectedBundles = new LinkedHashSet<>();
+        for (ActionCommand command : commands) {
+            InspectionActionType actionType = parseAction(command.action());
+            FridgeBundle bundle = null;
+            if (command.bundleId() != null) {
+                bundle = bundlesById.get(command.bundleId());
+                if (bundle == null) {
+                    throw new ResponseStatusException(HttpStatus.NOT_FOUND, "BUNDLE_NOT_FOUND");
+                }
+                ensureBundleBelongsToSession(session, bundle);
+            }
+
+            FridgeItem item = null;
+            if (command.itemId() != null) {
+                item = itemsById.get(command.itemId());
+                if (item == null) {
+                    throw new ResponseStatusException(HttpStatus.NOT_FOUND, "ITEM_NOT_FOUND");
+                }
+                FridgeBundle itemBundle = item.getBundle();
+                if (itemBundle == null) {
+                    throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "ITEM_NOT_IN_BUNDLE");
+                }
+                ensureBundleBelongsToSession(session, itemBundle);
+                if (bundle != null && !itemBundle.getId().equals(bundle.getId())) {
+                    throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "ITEM_NOT_IN_BUNDLE");
+                }
+                if (bundle == null) {
+                    bundle = itemBundle;
+                }
+            }
 
+            OffsetDateTime recordedAt = command.recordedAt();
             InspectionAction action = new InspectionAction();
             action.setInspectionSession(session);
             action.setFridgeBundle(bundle);
             action.setTargetUser(bundle != null ? bundle.getOwner() : null);
             action.setActionType(actionType);
             action.setReasonCode(actionType.name());
-            action.setFreeNote(entry.note());
-            action.setRecordedAt(now);
+            action.setFreeNote(command.note());
+            action.setRecordedAt(recordedAt);
             action.setRecordedBy(currentUser);
-            action.setCorrelationId(UUID.randomUUID());
-            session.getActions().add(action);
+            action.setCorrelationId(command.correlationId());
+            actions.add(action);
 
             if (item != null) {
                 InspectionActionItem actionItem = new InspectionActionItem();
@@ -354,29 +650,57 @@ public class InspectionService {
                 actionItem.setCorrelationId(action.getCorrelationId());
                 action.getItems().add(actionItem);
 
-                item.setLastInspectedAt(now);
+                item.setLastInspectedAt(recordedAt);
+                inspectedBundles.add(item.getBundle());
             }
 
             if (actionType == InspectionActionType.DISPOSE_EXPIRED && item != null) {
                 item.setStatus(FridgeItemStatus.DELETED);
-                item.setDeletedAt(now);
-                fridgeItemRepository.save(item);
+                item.setDeletedAt(recordedAt);
+                disposedBundleIds.add(item.getBundle().getId());
             }
 
-            maybeAttachPenalty(action, actionType, currentUser, now);
-            extended = true;
+            maybeAttachPenalty(action, actionType, currentUser, recordedAt);
         }
+        return new RecordedActions(actions, disposedBundleIds, inspectedBundles);
+    }
 
-        if (extended) {
-            extendCompartmentLock(session.getFridgeCompartment(), now);
-        }
+    /**
+     * 조치·물품 스냅샷·벌점을 묶음 단위 JDBC 배치로 쓰고 조회 버전을 올린다. 올리기 전 버전을 돌려준다.
+     */
+    private long persistRecordedActions(InspectionSession session, RecordedActions recorded, OffsetDateTime now) {
+        long previousVersion = bumpViewVersion(session);
+        session.getActions().addAll(recorded.actions());
+        inspectionActionRepository.persistAllInBatches(recorded.actions(), ACTION_BATCH_SIZE);
+
+        extendCompartmentLock(session.getFridgeCompartment(), now);
+        refreshExpiryBuckets(recorded.disposedBundleIds());
 
         inspectionSessionRepository.save(session);
-        return mapSession(session, currentUser);
+        return previousVersion;
+    }
+
+    /**
+     * 단말 시계는 믿지 않고 세션 시작 시각과 서버 현재 시각 사이로 맞춘다.
+     */
+    private static OffsetDateTime clampClientTime(OffsetDateTime clientTime, OffsetDateTime startedAt, OffsetDateTime now) {
+        if (clientTime.isAfter(now)) {
+            return now;
+        }
+        if (startedAt != null && clientTime.isBefore(startedAt)) {
+            return startedAt;
+        }
+        return clientTime;
+    }
+
+    private boolean isCorrelationIdViolation(DataIntegrityViolationException ex) {
+        Throwable root = NestedExceptionUtils.getMostSpecificCause(ex);
+        String message = root.getMessage();
+        return message != null && message.contains("uq_inspection_action_correlation_id");
     }
 
     public InspectionSessionResponse submitSession(UUID sessionId, SubmitInspectionRequest request) {
-        InspectionSession session = inspectionSessionRepository.findById(sessionId)
+        InspectionSession session = inspectionSessionRepository.findByIdForUpdate(sessionId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "SESSION_NOT_FOUND"));
         ensureManagerRole();
         if (session.getStatus() != InspectionStatus.IN_PROGRESS) {
@@ -391,12 +715,14 @@ public class InspectionService {
         session.setSubmittedBy(currentUser);
         session.setSubmittedAt(now);
         session.setNotes(request != null ? request.notes() : null);
+        bumpViewVersion(session);
+        sessionViewCache.evictAfterCommit(session.getId());
         session.setTotalBundleCount(fridgeBundleRepository
                 .findByFridgeCompartmentAndStatus(session.getFridgeCompartment(), FridgeBundleStatus.ACTIVE).size());
-        session.getFridgeCompartment().setLocked(false);
-        session.getFridgeCompartment().setLockedUntil(null);
+        releaseCompartmentLock(session.getFridgeCompartment());
 
         InspectionSession saved = inspectionSessionRepository.save(session);
+        broadcastSessionEvent(saved, InspectionSessionEventType.SUBMITTED, null);
         inspectionScheduleRepository.findByInspectionSessionId(saved.getId()).ifPresent(schedule -> {
             boolean updated = false;
             if (schedule.getStatus() != InspectionScheduleStatus.COMPLETED) {
@@ -431,7 +757,7 @@ public class InspectionService {
     }
 
     public InspectionSessionResponse revertAction(UUID sessionId, Long actionId) {
-        InspectionSession session = inspectionSessionRepository.findById(sessionId)
+        InspectionSession session = inspectionSessionRepository.findByIdForUpdate(sessionId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "SESSION_NOT_FOUND"));
         ensureManagerRole();
         if (session.getStatus() != InspectionStatus.IN_PROGRESS) {
@@ -442,21 +768,30 @@ public class InspectionService {
                 .filter(candidate -> candidate.getId() != null && candidate.getId().equals(actionId))
                 .findFirst()
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "ACTION_NOT_FOUND"));
+        fridgeReadVersions.compartmentChanged(session.getFridgeCompartment());
+        long previousVersion = bumpViewVersion(session);
 
+        Set<FridgeBundle> restoredBundles = new LinkedHashSet<>();
         if (action.getActionType() == InspectionActionType.DISPOSE_EXPIRED) {
+            Set<UUID> restoredBundleIds = new LinkedHashSet<>();
             for (InspectionActionItem item : action.getItems()) {
                 FridgeItem fridgeItem = item.getFridgeItem();
                 if (fridgeItem != null) {
                     fridgeItem.setStatus(FridgeItemStatus.ACTIVE);
                     fridgeItem.setDeletedAt(null);
                     fridgeItemRepository.save(fridgeItem);
+                    restoredBundleIds.add(fridgeItem.getBundle().getId());
+                    restoredBundles.add(fridgeItem.getBundle());
                 }
             }
+            refreshExpiryBuckets(restoredBundleIds);
         }
 
         session.getActions().remove(action);
         InspectionSession saved = inspectionSessionRepository.save(session);
-        return mapSession(saved, loadCurrentUser());
+        InspectionSessionViewCache.Change change = buildChange(saved, List.of(), Set.of(actionId), restoredBundles);
+        broadcastSessionEvent(saved, InspectionSessionEventType.ACTION_REVERTED, change);
+        return mapChangedSession(saved, loadCurrentUser(), previousVersion, change);
     }
 
     public InspectionSessionResponse updateSession(UUID sessionId, UpdateInspectionSessionRequest request) {
@@ -465,12 +800,13 @@ public class InspectionService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "NO_CHANGES");
         }
 
-        InspectionSession session = inspectionSessionRepository.findById(sessionId)
+        InspectionSession session = inspectionSessionRepository.findByIdForUpdate(sessionId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "SESSION_NOT_FOUND"));
 
         if (session.getStatus() != InspectionStatus.SUBMITTED) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "INSPECTION_NOT_SUBMITTED");
         }
+        fridgeReadVersions.compartmentChanged(session.getFridgeCompartment());
 
         DormUser currentUser = loadCurrentUser();
         OffsetDateTime now = OffsetDateTime.now(clock);
@@ -562,6 +898,8 @@ public class InspectionService {
         if (!changed) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "NO_CHANGES");
         }
+        bumpViewVersion(session);
+        sessionViewCache.evictAfterCommit(session.getId());
 
         InspectionSession saved = inspectionSessionRepository.save(session);
 
@@ -596,6 +934,9 @@ public class InspectionService {
             for (InspectionSession session : sessions) {
                 session.setStatus(InspectionStatus.CANCELLED);
                 session.setEndedAt(now);
+                bumpViewVersion(session);
+                sessionViewCache.evictAfterCommit(session.getId());
+                broadcastSessionEvent(session, InspectionSessionEventType.CANCELLED, null);
                 inspectionScheduleRepository.findByInspectionSessionId(session.getId()).ifPresent(schedule -> {
                     schedule.setInspectionSession(null);
                     schedule.setStatus(InspectionScheduleStatus.SCHEDULED);
@@ -605,13 +946,20 @@ public class InspectionService {
                 released++;
             }
 
-            compartment.setLocked(false);
-            compartment.setLockedUntil(null);
+            releaseCompartmentLock(compartment);
         }
 
         return released;
     }
 
+    private void refreshExpiryBuckets(Set<UUID> bundleIds) {
+        if (bundleIds.isEmpty()) {
+            return;
+        }
+        fridgeItemRepository.flush();
+        fridgeItemRepository.refreshExpiryBuckets(bundleIds);
+    }
+
     private void ensureManagerRole() {
         if (SecurityUtils.hasRole("FLOOR_MANAGER")) {
             return;
@@ -660,6 +1008,97 @@ public class InspectionService {
 
     private InspectionSessionResponse mapSession(InspectionSession session, DormUser viewer) {
         ensureViewerCanAccessSession(viewer, session);
+        InspectionSessionResponse view = sessionViewCache.find(session.getId(), session.getViewVersion());
+        if (view == null) {
+            view = buildSessionView(session);
+            sessionViewCache.storeAfterCommit(view);
+        }
+        return InspectionSessionViewCache.forViewer(view, viewer.getId());
+    }
+
+    /**
+     * 직전 버전의 조회 모델이 캐시에 있으면 변경분만 반영해 응답하고, 캐시도 커밋 이후 같은 변경분으로 맞춘다.
+     */
+    private InspectionSessionResponse mapChangedSession(
+            InspectionSession session,
+            DormUser viewer,
+            long previousVersion,
+            InspectionSessionViewCache.Change change
+    ) {
+        ensureViewerCanAccessSession(viewer, session);
+        InspectionSessionResponse cached = sessionViewCache.find(session.getId(), previousVersion);
+        if (cached == null) {
+            return mapSession(session, viewer);
+        }
+        sessionViewCache.applyAfterCommit(session.getId(), change);
+        return InspectionSessionViewCache.forViewer(InspectionSessionViewCache.apply(cached, change), viewer.getId());
+    }
+
+    /**
+     * 조치 기록은 잠금 연장을 함께 일으키므로 두 이벤트를 같은 버전으로 차례로 보낸다.
+     */
+    private void broadcastActionsRecorded(InspectionSession session, InspectionSessionViewCache.Change change) {
+        broadcastSessionEvent(session, InspectionSessionEventType.ACTION_RECORDED, change);
+        broadcastSessionEvent(session, InspectionSessionEventType.LOCK_EXTENDED, null);
+    }
+
+    private void broadcastSessionEvent(
+            InspectionSession session,
+            InspectionSessionEventType type,
+            InspectionSessionViewCache.Change change
+    ) {
+        sessionBroadcaster.publishAfterCommit(new InspectionSessionEventMessage(
+                session.getId(),
+                type,
+                session.getViewVersion(),
+                OffsetDateTime.now(clock),
+                session.getStatus().name(),
+                type == InspectionSessionEventType.LOCK_EXTENDED ? session.getFridgeCompartment().getLockedUntil() : null,
+                change != null ? change.addedActions() : null,
+                change != null ? List.copyOf(change.removedActionIds()) : null,
+                change != null ? InspectionSessionViewCache.withoutMemos(change.changedBundles()) : null,
+                change != null ? buildSummary(session) : null
+        ));
+    }
+
+    private long bumpViewVersion(InspectionSession session) {
+        long previousVersion = session.getViewVersion();
+        session.setViewVersion(previousVersion + 1);
+        return previousVersion;
+    }
+
+    private InspectionSessionViewCache.Change buildChange(
+            InspectionSession session,
+            List<InspectionAction> addedActions,
+            Set<Long> removedActionIds,
+            Set<FridgeBundle> changedBundles
+    ) {
+        Set<UUID> assignmentTargets = new LinkedHashSet<>();
+        for (FridgeBundle bundle : changedBundles) {
+            assignmentTargets.add(bundle.getOwner().getId());
+        }
+        for (InspectionAction action : addedActions) {
+            if (action.getTargetUser() != null) {
+                assignmentTargets.add(action.getTargetUser().getId());
+            }
+        }
+        Map<UUID, RoomAssignment> assignments = loadAssignmentsForUserIds(assignmentTargets);
+        return new InspectionSessionViewCache.Change(
+                session.getViewVersion(),
+                addedActions.stream()
+                        .map(action -> toActionDetail(action, assignments))
+                        .toList(),
+                removedActionIds,
+                changedBundles.stream()
+                        .map(bundle -> FridgeDtoMapper.toResponse(bundle, assignments.get(bundle.getOwner().getId())))
+                        .toList()
+        );
+    }
+
+    /**
+     * 조회자와 무관한 전체 조회 모델. 메모는 가리지 않은 채로 두고 응답 직전에 조회자별로 가린다.
+     */
+    private InspectionSessionResponse buildSessionView(InspectionSession session) {
         FridgeCompartment compartment = session.getFridgeCompartment();
         List<FridgeBundle> bundles = fridgeBundleRepository
                 .findByFridgeCompartmentAndStatus(compartment, FridgeBundleStatus.ACTIVE);
@@ -679,62 +1118,16 @@ public class InspectionService {
         }
 
         Map<UUID, RoomAssignment> assignments = loadAssignmentsForUserIds(assignmentTargets);
-        UUID viewerId = viewer.getId();
         List<FridgeBundleResponse> bundleResponses = bundles.stream()
                 .sorted(Comparator.comparing(FridgeBundle::getCreatedAt).reversed())
-                .map(bundle -> FridgeDtoMapper.toResponse(
-                        bundle,
-                        assignments.get(bundle.getOwner().getId()),
-                        bundle.getOwner().getId().equals(viewerId)
-                ))
+                .map(bundle -> FridgeDtoMapper.toResponse(bundle, assignments.get(bundle.getOwner().getId())))
                 .toList();
 
         List<InspectionActionSummaryResponse> summaries = buildSummary(session);
 
         List<InspectionActionDetailResponse> actionDetails = session.getActions().stream()
                 .sorted(Comparator.comparing(InspectionAction::getRecordedAt))
-                .map(action -> {
-                    List<InspectionActionItemResponse> itemResponses = action.getItems().stream()
-                            .map(item -> new InspectionActionItemResponse(
-                                    item.getId(),
-                                    item.getFridgeItem() != null ? item.getFridgeItem().getId() : null,
-                                    item.getSnapshotName(),
-                                    item.getSnapshotExpiresOn(),
-                                    item.getQuantityAtAction(),
-                                    item.getCorrelationId()
-                            ))
-                            .toList();
-                    List<PenaltyHistoryResponse> penaltyResponses = action.getPenalties().stream()
-                            .map(penalty -> new PenaltyHistoryResponse(
-                                    penalty.getId(),
-                                    penalty.getPoints(),
-                                    penalty.getReason(),
-                                    penalty.getIssuedAt(),
-                                    penalty.getExpiresAt(),
-                                    penalty.getCorrelationId()
-                            ))
-                            .toList();
-                    DormUser targetUser = action.getTargetUser();
-                    DormUser recordedBy = action.getRecordedBy();
-                    RoomAssignment targetAssignment = targetUser != null ? assignments.get(targetUser.getId()) : null;
-                    return new InspectionActionDetailResponse(
-                            action.getId(),
-                            action.getActionType().name(),
-                            action.getFridgeBundle() != null ? action.getFridgeBundle().getId() : null,
-                            action.getTargetUser() != null ? action.getTargetUser().getId() : null,
-                            action.getRecordedAt(),
-                            recordedBy != null ? recordedBy.getId() : null,
-                            recordedBy != null ? recordedBy.getLoginId() : null,
-                            recordedBy != null ? recordedBy.getFullName() : null,
-                            action.getFreeNote(),
-                            action.getCorrelationId(),
-                            targetAssignment != null ? targetAssignment.getRoom().getRoomNumber() : null,
-                            resolvePersonalNo(targetAssignment),
-                            targetUser != null ? targetUser.getFullName() : null,
-                            itemResponses,
-                            penaltyResponses
-                    );
-                })
+                .map(action -> toActionDetail(action, assignments))
                 .toList();
 
         int slotIndex = compartment.getSlotIndex();
@@ -764,7 +1157,51 @@ public class InspectionService {
                 actionDetails,
                 session.getNotes(),
                 session.getInitialBundleCount(),
-                session.getTotalBundleCount()
+                session.getTotalBundleCount(),
+                session.getViewVersion()
+        );
+    }
+
+    private InspectionActionDetailResponse toActionDetail(InspectionAction action, Map<UUID, RoomAssignment> assignments) {
+        List<InspectionActionItemResponse> itemResponses = action.getItems().stream()
+                .map(item -> new InspectionActionItemResponse(
+                        item.getId(),
+                        item.getFridgeItem() != null ? item.getFridgeItem().getId() : null,
+                        item.getSnapshotName(),
+                        item.getSnapshotExpiresOn(),
+                        item.getQuantityAtAction(),
+                        item.getCorrelationId()
+                ))
+                .toList();
+        List<PenaltyHistoryResponse> penaltyResponses = action.getPenalties().stream()
+                .map(penalty -> new PenaltyHistoryResponse(
+                        penalty.getId(),
+                        penalty.getPoints(),
+                        penalty.getReason(),
+                        penalty.getIssuedAt(),
+                        penalty.getExpiresAt(),
+                        penalty.getCorrelationId()
+                ))
+                .toList();
+        DormUser targetUser = action.getTargetUser();
+        DormUser recordedBy = action.getRecordedBy();
+        RoomAssignment targetAssignment = targetUser != null ? assignments.get(targetUser.getId()) : null;
+        return new InspectionActionDetailResponse(
+                action.getId(),
+                action.getActionType().name(),
+                action.getFridgeBundle() != null ? action.getFridgeBundle().getId() : null,
+                action.getTargetUser() != null ? action.getTargetUser().getId() : null,
+                action.getRecordedAt(),
+                recordedBy != null ? recordedBy.getId() : null,
+                recordedBy != null ? recordedBy.getLoginId() : null,
+                recordedBy != null ? recordedBy.getFullName() : null,
+                action.getFreeNote(),
+                action.getCorrelationId(),
+                targetAssignment != null ? targetAssignment.getRoom().getRoomNumber() : null,
+                resolvePersonalNo(targetAssignment),
+                targetUser != null ? targetUser.getFullName() : null,
+                itemResponses,
+                penaltyResponses
         );
     }
 
@@ -773,6 +1210,10 @@ public class InspectionService {
         for (InspectionAction action : session.getActions()) {
             counter.merge(action.getActionType(), 1, Integer::sum);
         }
+        return toSummaryResponses(counter);
+    }
+
+    private List<InspectionActionSummaryResponse> toSummaryResponses(EnumMap<InspectionActionType, Integer> counter) {
         return counter.entrySet().stream()
                 .map(entry -> new InspectionActionSummaryResponse(entry.getKey().name(), entry.getValue()))
                 .sorted(Comparator.comparing(InspectionActionSummaryResponse::action))
@@ -807,23 +1248,20 @@ public class InspectionService {
         if (SecurityUtils.hasRole("ADMIN")) {
             return;
         }
-        RoomAssignment assignment = roomAssignmentRepository.findActiveAssignment(viewer.getId())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "ROOM_ASSIGNMENT_REQUIRED"));
+        FridgeCompartment compartment = session.getFridgeCompartment();
+        FridgeAccessDecisionCache.AccessFacts access = fridgeAccessDecisionCache
+                .resolve(viewer.getId(), compartment.getId());
+        if (!access.assigned()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "ROOM_ASSIGNMENT_REQUIRED");
+        }
 
-        short sessionFloor = session.getFridgeCompartment().getFridgeUnit().getFloorNo();
-        if (isFloorManagerOnFloor(assignment, sessionFloor)) {
+        if (access.floorManagerOn(compartment.getFridgeUnit().getFloorNo())) {
             return;
         }
         if (SecurityUtils.hasRole("FLOOR_MANAGER")) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "FLOOR_SCOPE_VIOLATION");
         }
-
-        UUID viewerRoomId = requireRoomId(assignment);
-        boolean accessible = compartmentRoomAccessRepository
-                .findByFridgeCompartmentIdAndReleasedAtIsNullOrderByAssignedAtAsc(session.getFridgeCompartment().getId())
-                .stream()
-                .anyMatch(access -> access.getRoom().getId().equals(viewerRoomId));
-        if (!accessible) {
+        if (!access.roomMember()) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "FORBIDDEN_SLOT");
         }
     }
@@ -847,4 +1285,20 @@ public class InspectionService {
         return (int) assignment.getPersonalNo();
     }
 
+    private record ActionCommand(
+            UUID bundleId,
+            UUID itemId,
+            String action,
+            String note,
+            UUID correlationId,
+            OffsetDateTime recordedAt
+    ) {
+    }
+
+    private record RecordedActions(
+            List<InspectionAction> actions,
+            Set<UUID> disposedBundleIds,
+            Set<FridgeBundle> inspectedBundles
+    ) {
+    }
 }
@@ -0,0 +1,94 @@
+package com.dormmate.backend.modules.inspection.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionSessionEventMessage;
+
+/**
+ * 검사 세션의 기록·되돌리기·잠금 연장·제출을 세션별 STOMP 토픽으로 보낸다.
+ * 메시지는 트랜잭션 안에서 만들어 두고 커밋된 뒤에 만든 순서대로 보내므로, 롤백된 변경은 나가지 않는다.
+ */
+@Component
+public class InspectionSessionBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(InspectionSessionBroadcaster.class);
+    private static final String SESSION_TOPIC_PREFIX = "/topic/fridge/inspections/";
+
+    private final Object pendingResourceKey = new Object();
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    public InspectionSessionBroadcaster(SimpMessageSendingOperations messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    public static String sessionTopic(UUID sessionId) {
+        return SESSION_TOPIC_PREFIX + sessionId;
+    }
+
+    /**
+     * 세션 토픽이면 세션 ID를, 아니면 null을 돌려준다.
+     */
+    public static UUID parseSessionTopic(String destination) {
+        if (destination == null || !destination.startsWith(SESSION_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(destination.substring(SESSION_TOPIC_PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    public static boolean isSessionTopic(String destination) {
+        return destination != null && destination.startsWith(SESSION_TOPIC_PREFIX);
+    }
+
+    public void publishAfterCommit(InspectionSessionEventMessage message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(List.of(message));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<InspectionSessionEventMessage> pending =
+                (List<InspectionSessionEventMessage>) TransactionSynchronizationManager.getResource(pendingResourceKey);
+        if (pending == null) {
+            List<InspectionSessionEventMessage> collected = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(pendingResourceKey, collected);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(collected);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingResourceKey);
+                }
+            });
+            pending = collected;
+        }
+        pending.add(message);
+    }
+
+    /**
+     * 전송 실패는 /changes 조회로 복구되므로 요청을 실패시키지 않는다.
+     */
+    private void send(List<InspectionSessionEventMessage> messages) {
+        for (InspectionSessionEventMessage message : messages) {
+            try {
+                messagingTemplate.convertAndSend(sessionTopic(message.sessionId()), message);
+            } catch (RuntimeException ex) {
+                log.warn("Failed to push inspection session event {} for {}", message.type(), message.sessionId(), ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.dormmate.backend.modules.inspection.application;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dormmate.backend.modules.auth.application.RoomAssignmentChangedEvent;
+import com.dormmate.backend.modules.fridge.domain.FridgeBundleStatus;
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeBundleResponse;
+import com.dormmate.backend.modules.inspection.domain.InspectionActionType;
+import com.dormmate.backend.modules.inspection.domain.InspectionStatus;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionDetailResponse;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionSummaryResponse;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionSessionResponse;
+
+/**
+ * 진행 중인 검사 세션의 조회 모델을 세션별로 메모리에 두고, 기록·되돌리기는 변경분만 반영한다.
+ * 기준 버전은 inspection_session.view_version에 저장되므로 재시작하거나 다른 인스턴스가 세션을 바꾼 뒤에는
+ * 버전이 어긋난 캐시를 쓰지 않는다. 반영은 커밋 이후에만 하고, 메모는 원본을 두고 조회자별로 가린다.
+ */
+@Component
+public class InspectionSessionViewCache {
+
+    static final int MAX_CHANGES_PER_SESSION = 256;
+
+    private final ConcurrentMap<UUID, SessionView> views = new ConcurrentHashMap<>();
+
+    /**
+     * 저장된 버전과 같은 조회 모델만 돌려준다.
+     */
+    public InspectionSessionResponse find(UUID sessionId, long version) {
+        SessionView cached = views.get(sessionId);
+        if (cached == null || cached.view().version() != version) {
+            return null;
+        }
+        return cached.view();
+    }
+
+    /**
+     * 새로 만든 전체 조회 모델을 둔다. 진행 중인 세션만 보관한다.
+     */
+    public void storeAfterCommit(InspectionSessionResponse view) {
+        if (!InspectionStatus.IN_PROGRESS.name().equals(view.status())) {
+            return;
+        }
+        afterCommit(() -> views.compute(view.sessionId(), (id, current) ->
+                current != null && current.view().version() >= view.version()
+                        ? current
+                        : new SessionView(view, new ArrayDeque<>())));
+    }
+
+    /**
+     * 직전 버전의 조회 모델이 있을 때만 변경분을 이어 붙이고, 없으면 다음 조회에서 다시 만든다.
+     */
+    public void applyAfterCommit(UUID sessionId, Change change) {
+        afterCommit(() -> views.computeIfPresent(sessionId, (id, current) -> {
+            if (current.view().version() != change.version() - 1) {
+                return null;
+            }
+            Deque<Change> changes = new ArrayDeque<>(current.changes());
+            changes.addLast(change);
+            while (changes.size() > MAX_CHANGES_PER_SESSION) {
+                changes.removeFirst();
+            }
+            return new SessionView(apply(current.view(), change), changes);
+        }));
+    }
+
+    public void evictAfterCommit(UUID sessionId) {
+        afterCommit(() -> views.remove(sessionId));
+    }
+
+    /**
+     * sinceVersion 이후 변경분을 합친다. 캐시가 현재 버전이 아니거나 기록이 sinceVersion까지 남아 있지 않으면 비어 있다.
+     */
+    public Optional<Changes> changesSince(UUID sessionId, long sinceVersion, long currentVersion) {
+        SessionView cached = views.get(sessionId);
+        if (cached == null || cached.view().version() != currentVersion || sinceVersion > currentVersion) {
+            return Optional.empty();
+        }
+        Map<Long, InspectionActionDetailResponse> added = new LinkedHashMap<>();
+        Set<Long> removed = new LinkedHashSet<>();
+        Map<UUID, FridgeBundleResponse> bundles = new LinkedHashMap<>();
+        long expected = sinceVersion + 1;
+        for (Change change : cached.changes()) {
+            if (change.version() <= sinceVersion) {
+                continue;
+            }
+            if (change.version() != expected) {
+                return Optional.empty();
+            }
+            expected++;
+            for (Long actionId : change.removedActionIds()) {
+                if (added.remove(actionId) == null) {
+                    removed.add(actionId);
+                }
+            }
+            change.addedActions().forEach(action -> added.put(action.actionId(), action));
+            change.changedBundles().forEach(bundle -> bundles.put(bundle.bundleId(), bundle));
+        }
+        if (expected != currentVersion + 1) {
+            return Optional.empty();
+        }
+        return Optional.of(new Changes(
+                cached.view(),
+                List.copyOf(added.values()),
+                List.copyOf(removed),
+                List.copyOf(bundles.values())
+        ));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomAssignmentChanged(RoomAssignmentChangedEvent event) {
+        // 호실 번호가 조회 모델 곳곳에 들어 있으므로 부분 갱신하지 않고 모두 버린다.
+        views.clear();
+    }
+
+    int size() {
+        return views.size();
+    }
+
+    /**
+     * 조회 모델에 변경분 하나를 반영한 새 모델을 만든다. 기존 모델은 바꾸지 않는다.
+     */
+    static InspectionSessionResponse apply(InspectionSessionResponse view, Change change) {
+        Map<UUID, FridgeBundleResponse> changedBundles = new LinkedHashMap<>();
+        change.changedBundles().forEach(bundle -> changedBundles.put(bundle.bundleId(), bundle));
+        List<FridgeBundleResponse> bundles = view.bundles().stream()
+                .map(bundle -> changedBundles.getOrDefault(bundle.bundleId(), bundle))
+                .filter(bundle -> FridgeBundleStatus.ACTIVE.name().equals(bundle.status()))
+                .toList();
+
+        List<InspectionActionDetailResponse> actions = new ArrayList<>();
+        for (InspectionActionDetailResponse action : view.actions()) {
+            if (!change.removedActionIds().contains(action.actionId())) {
+                actions.add(action);
+            }
+        }
+        actions.addAll(change.addedActions());
+        actions.sort(Comparator.comparing(InspectionActionDetailResponse::recordedAt));
+
+        return new InspectionSessionResponse(
+                view.sessionId(),
+                view.slotId(),
+                view.slotIndex(),
+                view.slotLabel(),
+                view.floorNo(),
+                view.floorCode(),
+                view.status(),
+                view.startedBy(),
+                view.startedByLogin(),
+                view.startedByName(),
+                view.startedByRoomNumber(),
+                view.startedByPersonalNo(),
+                view.startedAt(),
+                view.endedAt(),
+                bundles,
+                summarize(actions),
+                List.copyOf(actions),
+                view.notes(),
+                view.initialBundleCount(),
+                view.totalBundleCount(),
+                change.version()
+        );
+    }
+
+    static List<InspectionActionSummaryResponse> summarize(List<InspectionActionDetailResponse> actions) {
+        EnumMap<InspectionActionType, Integer> counter = new EnumMap<>(InspectionActionType.class);
+        for (InspectionActionDetailResponse action : actions) {
+            counter.merge(InspectionActionType.valueOf(action.actionType()), 1, Integer::sum);
+        }
+        return counter.entrySet().stream()
+                .map(entry -> new InspectionActionSummaryResponse(entry.getKey().name(), entry.getValue()))
+                .sorted(Comparator.comparing(InspectionActionSummaryResponse::action))
+                .toList();
+    }
+
+    /**
+     * 포장 메모는 소유자에게만 보인다.
+     */
+    static InspectionSessionResponse forViewer(InspectionSessionResponse view, UUID viewerId) {
+        return new InspectionSessionResponse(
+                view.sessionId(),
+                view.slotId(),
+                view.slotIndex(),
+                view.slotLabel(),
+                view.floorNo(),
+                view.floorCode(),
+                view.status(),
+                view.startedBy(),
+                view.startedByLogin(),
+                view.startedByName(),
+                view.startedByRoomNumber(),
+                view.startedByPersonalNo(),
+                view.startedAt(),
+                view.endedAt(),
+                forViewer(view.bundles(), viewerId),
+                view.summary(),
+                view.actions(),
+                view.notes(),
+                view.initialBundleCount(),
+                view.totalBundleCount(),
+                view.version()
+        );
+    }
+
+    /**
+     * 여러 조회자에게 같은 값을 보낼 때는 메모를 모두 뺀다.
+     */
+    static List<FridgeBundleResponse> withoutMemos(List<FridgeBundleResponse> bundles) {
+        return forViewer(bundles, null);
+    }
+
+    static List<FridgeBundleResponse> forViewer(List<FridgeBundleResponse> bundles, UUID viewerId) {
+        return bundles.stream()
+                .map(bundle -> bundle.memo() == null || bundle.ownerUserId().equals(viewerId)
+                        ? bundle
+                        : new FridgeBundleResponse(
+                                bundle.bundleId(),
+                                bundle.slotId(),
+                                bundle.slotIndex(),
+                                bundle.slotLabel(),
+                                bundle.labelNumber(),
+                                bundle.labelDisplay(),
+                                bundle.bundleName(),
+                                null,
+                                bundle.ownerUserId(),
+                                bundle.ownerDisplayName(),
+                                bundle.ownerRoomNumber(),
+                                bundle.status(),
+                                bundle.freshness(),
+                                bundle.itemCount(),
+                                bundle.createdAt(),
+                                bundle.updatedAt(),
+                                bundle.removedAt(),
+                                bundle.items()
+                        ))
+                .toList();
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 버전 하나만큼의 변경. changedBundles는 메모를 가리지 않은 원본이다.
+     */
+    public record Change(
+            long version,
+            List<InspectionActionDetailResponse> addedActions,
+            Set<Long> removedActionIds,
+            List<FridgeBundleResponse> changedBundles
+    ) {
+    }
+
+    /**
+     * 여러 버전의 변경을 합친 결과와 현재 조회 모델.
+     */
+    public record Changes(
+            InspectionSessionResponse current,
+            List<InspectionActionDetailResponse> addedActions,
+            List<Long> removedActionIds,
+            List<FridgeBundleResponse> changedBundles
+    ) {
+    }
+
+    private record SessionView(InspectionSessionResponse view, Deque<Change> changes) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.dormmate.backend.modules.inspection.application;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.dormmate.backend.global.security.StompSubscriptionAuthorizer;
+
+/**
+ * 세션 토픽은 그 세션을 조회할 수 있는 사용자만 구독한다. 판단은 세션 조회와 같은 규칙을 쓴다.
+ */
+@Component
+public class InspectionTopicSubscriptionAuthorizer implements StompSubscriptionAuthorizer {
+
+    private final InspectionService inspectionService;
+
+    public InspectionTopicSubscriptionAuthorizer(InspectionService inspectionService) {
+        this.inspectionService = inspectionService;
+    }
+
+    @Override
+    public boolean supports(String destination) {
+        return InspectionSessionBroadcaster.isSessionTopic(destination);
+    }
+
+    @Override
+    public void authorize(String destination) {
+        UUID sessionId = InspectionSessionBroadcaster.parseSessionTopic(destination);
+        if (sessionId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_DESTINATION");
+        }
+        inspectionService.ensureCanWatchSession(sessionId);
+    }
+}
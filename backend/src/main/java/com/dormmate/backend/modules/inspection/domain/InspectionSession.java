@@ -66,6 +66,9 @@ public class InspectionSession extends AbstractTimestampedEntity {
     @Column(name = "notes")
     private String notes;
 
+    @Column(name = "view_version", nullable = false)
+    private long viewVersion;
+
     @OneToMany(mappedBy = "inspectionSession", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<InspectionParticipant> participants = new ArrayList<>();
 
@@ -159,6 +162,14 @@ public class InspectionSession extends AbstractTimestampedEntity {
         this.notes = notes;
     }
 
+    public long getViewVersion() {
+        return viewVersion;
+    }
+
+    public void setViewVersion(long viewVersion) {
+        this.viewVersion = viewVersion;
+    }
+
     public List<InspectionParticipant> getParticipants() {
         return participants;
     }
@@ -1,13 +1,39 @@
 package com.dormmate.backend.modules.inspection.infrastructure.persistence;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.dormmate.backend.modules.inspection.domain.InspectionAction;
+import com.dormmate.backend.modules.inspection.domain.InspectionActionType;
 import com.dormmate.backend.modules.inspection.domain.InspectionSession;
 
-public interface InspectionActionRepository extends JpaRepository<InspectionAction, Long> {
+public interface InspectionActionRepository extends JpaRepository<InspectionAction, Long>, InspectionActionRepositoryCustom {
 
     List<InspectionAction> findByInspectionSession(InspectionSession session);
+
+    List<InspectionAction> findByCorrelationIdIn(Collection<UUID> correlationIds);
+
+    @Query("""
+            select a.inspectionSession.id as sessionId,
+                   a.actionType as actionType,
+                   count(a) as actionCount
+              from InspectionAction a
+             where a.inspectionSession.id in :sessionIds
+             group by a.inspectionSession.id, a.actionType
+            """)
+    List<ActionCountProjection> countByTypeForSessions(@Param("sessionIds") Collection<UUID> sessionIds);
+
+    interface ActionCountProjection {
+
+        UUID getSessionId();
+
+        InspectionActionType getActionType();
+
+        long getActionCount();
+    }
 }
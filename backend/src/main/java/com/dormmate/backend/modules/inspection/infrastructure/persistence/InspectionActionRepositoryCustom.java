@@ -0,0 +1,14 @@
+package com.dormmate.backend.modules.inspection.infrastructure.persistence;
+
+import java.util.List;
+
+import com.dormmate.backend.modules.inspection.domain.InspectionAction;
+
+public interface InspectionActionRepositoryCustom {
+
+    /**
+     * 조치·조치 물품·벌점을 종류별로 모아 batchSize 단위 JDBC 배치로 저장하고 flush한다.
+     * 같은 flush에서 나가는 물품 상태 변경 UPDATE도 같은 배치 크기를 쓴다.
+     */
+    void persistAllInBatches(List<InspectionAction> actions, int batchSize);
+}
@@ -0,0 +1,54 @@
+package com.dormmate.backend.modules.inspection.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import com.dormmate.backend.modules.inspection.domain.InspectionAction;
+import com.dormmate.backend.modules.inspection.domain.InspectionActionItem;
+import com.dormmate.backend.modules.penalty.domain.PenaltyHistory;
+
+@Repository
+public class InspectionActionRepositoryImpl implements InspectionActionRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void persistAllInBatches(List<InspectionAction> actions, int batchSize) {
+        if (actions.isEmpty()) {
+            return;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            // cascade로 조치마다 물품·벌점이 끼어들면 INSERT 문이 번갈아 나와 배치가 끊기므로 자식은 나중에 저장한다.
+            List<InspectionActionItem> items = new ArrayList<>();
+            List<PenaltyHistory> penalties = new ArrayList<>();
+            for (InspectionAction action : actions) {
+                items.addAll(action.getItems());
+                penalties.addAll(action.getPenalties());
+                action.getItems().clear();
+                action.getPenalties().clear();
+                entityManager.persist(action);
+            }
+            for (InspectionActionItem item : items) {
+                entityManager.persist(item);
+                item.getInspectionAction().getItems().add(item);
+            }
+            for (PenaltyHistory penalty : penalties) {
+                entityManager.persist(penalty);
+                penalty.getInspectionAction().getPenalties().add(penalty);
+            }
+            entityManager.flush();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.dormmate.backend.modules.inspection.infrastructure.persistence;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -9,16 +10,30 @@ import com.dormmate.backend.modules.fridge.domain.FridgeCompartment;
 import com.dormmate.backend.modules.inspection.domain.InspectionSession;
 import com.dormmate.backend.modules.inspection.domain.InspectionStatus;
 
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface InspectionSessionRepository extends JpaRepository<InspectionSession, UUID> {
 
+    /**
+     * 세션을 바꾸는 요청끼리 조회 버전을 건너뛰지 않도록 행을 잠그고 읽는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from InspectionSession s where s.id = :id")
+    Optional<InspectionSession> findByIdForUpdate(@Param("id") UUID id);
+
     List<InspectionSession> findByFridgeCompartmentAndStatus(FridgeCompartment compartment, InspectionStatus status);
 
     List<InspectionSession> findByStatus(InspectionStatus status);
 
+    @Query("select s from InspectionSession s join fetch s.fridgeCompartment where s.status = :status")
+    List<InspectionSession> findWithCompartmentByStatus(@Param("status") InspectionStatus status);
+
     List<InspectionSession> findByFridgeCompartmentIdInAndStatus(
             Collection<UUID> compartmentIds,
             InspectionStatus status
@@ -38,4 +53,33 @@ public interface InspectionSessionRepository extends JpaRepository<InspectionSes
             @Param("status") InspectionStatus status,
             @Param("userIds") Set<UUID> userIds
     );
+
+    /**
+     * 목록 조회. floorNo가 있으면 그 층 칸만, roomId가 있으면 그 호실이 현재 배정된 칸만 본다(둘 다 null이면 전체).
+     */
+    @Query("""
+            select s
+              from InspectionSession s
+              join fetch s.fridgeCompartment c
+              join fetch c.fridgeUnit u
+              join fetch s.startedBy
+             where (:slotId is null or c.id = :slotId)
+               and (:status is null or s.status = :status)
+               and (:floorNo is null or u.floorNo = :floorNo)
+               and (:roomId is null or exists (
+                    select 1
+                      from CompartmentRoomAccess a
+                     where a.fridgeCompartment = c
+                       and a.room.id = :roomId
+                       and a.releasedAt is null
+               ))
+             order by s.startedAt desc, s.id desc
+            """)
+    List<InspectionSession> findPageInScope(
+            @Param("slotId") UUID slotId,
+            @Param("status") InspectionStatus status,
+            @Param("floorNo") Short floorNo,
+            @Param("roomId") UUID roomId,
+            Pageable pageable
+    );
 }
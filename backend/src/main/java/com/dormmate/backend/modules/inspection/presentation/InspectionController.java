@@ -4,11 +4,17 @@ import java.util.List;
 import java.util.UUID;
 
 import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionRequest;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionSyncRequest;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionSyncResponse;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionSessionChangesResponse;
 import com.dormmate.backend.modules.inspection.presentation.dto.InspectionSessionResponse;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionSessionSummaryResponse;
 import com.dormmate.backend.modules.inspection.presentation.dto.StartInspectionRequest;
 import com.dormmate.backend.modules.inspection.presentation.dto.SubmitInspectionRequest;
 import com.dormmate.backend.modules.inspection.presentation.dto.UpdateInspectionSessionRequest;
+import com.dormmate.backend.modules.fridge.application.FridgeReadVersions;
 import com.dormmate.backend.modules.inspection.application.InspectionService;
+import com.dormmate.backend.global.web.VersionStamps;
 
 import jakarta.validation.Valid;
 
@@ -22,24 +28,38 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/fridge/inspections")
 public class InspectionController {
 
     private final InspectionService inspectionService;
+    private final FridgeReadVersions fridgeReadVersions;
 
-    public InspectionController(InspectionService inspectionService) {
+    public InspectionController(InspectionService inspectionService, FridgeReadVersions fridgeReadVersions) {
         this.inspectionService = inspectionService;
+        this.fridgeReadVersions = fridgeReadVersions;
     }
 
     @GetMapping
     public ResponseEntity<List<InspectionSessionResponse>> listSessions(
             @RequestParam(name = "slotId", required = false) UUID slotId,
             @RequestParam(name = "status", required = false) String status,
-            @RequestParam(name = "limit", required = false) Integer limit
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "page", required = false) Integer page
     ) {
-        return ResponseEntity.ok(inspectionService.listSessions(slotId, status, limit));
+        return ResponseEntity.ok(inspectionService.listSessions(slotId, status, limit, page));
+    }
+
+    @GetMapping("/summaries")
+    public ResponseEntity<List<InspectionSessionSummaryResponse>> listSessionSummaries(
+            @RequestParam(name = "slotId", required = false) UUID slotId,
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "page", required = false) Integer page
+    ) {
+        return ResponseEntity.ok(inspectionService.listSessionSummaries(slotId, status, limit, page));
     }
 
     @PostMapping
@@ -49,11 +69,16 @@ public class InspectionController {
 
     @GetMapping("/active")
     public ResponseEntity<InspectionSessionResponse> getActiveSession(
-            @RequestParam(name = "floor", required = false) Integer floor
+            @RequestParam(name = "floor", required = false) Integer floor,
+            WebRequest webRequest
     ) {
+        String etag = fridgeReadVersions.activeInspectionEtag(floor);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         return inspectionService.findActiveSession(floor)
-                .map(ResponseEntity::ok)
-                .orElseGet(() -> ResponseEntity.noContent().build());
+                .map(session -> ResponseEntity.ok().eTag(etag).cacheControl(VersionStamps.REVALIDATE).body(session))
+                .orElseGet(() -> ResponseEntity.noContent().eTag(etag).cacheControl(VersionStamps.REVALIDATE).build());
     }
 
     @GetMapping("/{sessionId}")
@@ -61,6 +86,14 @@ public class InspectionController {
         return ResponseEntity.ok(inspectionService.getSession(sessionId));
     }
 
+    @GetMapping("/{sessionId}/changes")
+    public ResponseEntity<InspectionSessionChangesResponse> getSessionChanges(
+            @PathVariable("sessionId") UUID sessionId,
+            @RequestParam(name = "sinceVersion") long sinceVersion
+    ) {
+        return ResponseEntity.ok(inspectionService.getSessionChanges(sessionId, sinceVersion));
+    }
+
     @PatchMapping("/{sessionId}")
     public ResponseEntity<InspectionSessionResponse> updateSession(
             @PathVariable("sessionId") UUID sessionId,
@@ -91,6 +124,14 @@ public class InspectionController {
         return ResponseEntity.ok(inspectionService.recordActions(sessionId, request));
     }
 
+    @PostMapping("/{sessionId}/actions/sync")
+    public ResponseEntity<InspectionActionSyncResponse> syncActions(
+            @PathVariable("sessionId") UUID sessionId,
+            @Valid @RequestBody InspectionActionSyncRequest request
+    ) {
+        return ResponseEntity.ok(inspectionService.syncActions(sessionId, request));
+    }
+
     @PostMapping("/{sessionId}/submit")
     public ResponseEntity<InspectionSessionResponse> submitSession(
             @PathVariable("sessionId") UUID sessionId,
@@ -0,0 +1,23 @@
+package com.dormmate.backend.modules.inspection.presentation.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 단말이 오프라인에서 쌓은 조치 하나. correlationId는 단말이 만든 멱등 키다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record InspectionActionSyncEntryRequest(
+        @NotNull UUID correlationId,
+        @NotNull OffsetDateTime clientRecordedAt,
+        UUID bundleId,
+        UUID itemId,
+        @NotBlank String action,
+        String note
+) {
+}
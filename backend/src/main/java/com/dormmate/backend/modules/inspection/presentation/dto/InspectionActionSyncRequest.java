@@ -0,0 +1,15 @@
+package com.dormmate.backend.modules.inspection.presentation.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record InspectionActionSyncRequest(
+        @NotEmpty @Size(max = 500) List<@Valid InspectionActionSyncEntryRequest> operations
+) {
+}
@@ -0,0 +1,26 @@
+package com.dormmate.backend.modules.inspection.presentation.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * results는 요청 순서를 따른다. 이미 반영된 키는 DUPLICATE로 표시하고 기존 조치 ID를 돌려준다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record InspectionActionSyncResponse(
+        UUID sessionId,
+        long version,
+        int appliedCount,
+        int duplicateCount,
+        List<OperationResult> results
+) {
+
+    public record OperationResult(
+            UUID correlationId,
+            Long actionId,
+            String status
+    ) {
+    }
+}
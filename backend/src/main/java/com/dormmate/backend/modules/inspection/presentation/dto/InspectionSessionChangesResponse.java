@@ -0,0 +1,24 @@
+package com.dormmate.backend.modules.inspection.presentation.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeBundleResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * sinceVersion 이후 변경분. 변경분을 이어 붙일 수 없으면 snapshot에 전체 세션을 담는다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record InspectionSessionChangesResponse(
+        UUID sessionId,
+        long sinceVersion,
+        long version,
+        String status,
+        InspectionSessionResponse snapshot,
+        List<InspectionActionDetailResponse> actions,
+        List<Long> removedActionIds,
+        List<FridgeBundleResponse> bundles,
+        List<InspectionActionSummaryResponse> summary
+) {
+}
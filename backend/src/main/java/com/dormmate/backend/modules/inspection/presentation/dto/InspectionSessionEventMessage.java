@@ -0,0 +1,27 @@
+package com.dormmate.backend.modules.inspection.presentation.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeBundleResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 세션 토픽으로 보내는 변경분. version이 건너뛰면 클라이언트는 /changes?sinceVersion으로 따라잡는다.
+ * 여러 조회자가 같은 메시지를 받으므로 포장 메모는 싣지 않는다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record InspectionSessionEventMessage(
+        UUID sessionId,
+        InspectionSessionEventType type,
+        long version,
+        OffsetDateTime occurredAt,
+        String status,
+        OffsetDateTime lockedUntil,
+        List<InspectionActionDetailResponse> actions,
+        List<Long> removedActionIds,
+        List<FridgeBundleResponse> bundles,
+        List<InspectionActionSummaryResponse> summary
+) {
+}
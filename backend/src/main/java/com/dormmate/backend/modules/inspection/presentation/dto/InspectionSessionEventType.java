@@ -0,0 +1,9 @@
+package com.dormmate.backend.modules.inspection.presentation.dto;
+
+public enum InspectionSessionEventType {
+    ACTION_RECORDED,
+    ACTION_REVERTED,
+    LOCK_EXTENDED,
+    SUBMITTED,
+    CANCELLED
+}
@@ -28,6 +28,7 @@ public record InspectionSessionResponse(
         List<InspectionActionDetailResponse> actions,
         String notes,
         Integer initialBundleCount,
-        Integer totalBundleCount
+        Integer totalBundleCount,
+        Long version
 ) {
 }
@@ -0,0 +1,32 @@
+package com.dormmate.backend.modules.inspection.presentation.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 검사 이력 목록용 요약. 포장 목록과 조치 상세 없이 조치 종류별 개수만 담는다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record InspectionSessionSummaryResponse(
+        UUID sessionId,
+        UUID slotId,
+        int slotIndex,
+        String slotLabel,
+        int floorNo,
+        String floorCode,
+        String status,
+        UUID startedBy,
+        String startedByLogin,
+        String startedByName,
+        String startedByRoomNumber,
+        Integer startedByPersonalNo,
+        OffsetDateTime startedAt,
+        OffsetDateTime endedAt,
+        List<InspectionActionSummaryResponse> summary,
+        Integer initialBundleCount,
+        Integer totalBundleCount
+) {
+}
@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import com.dormmate.backend.modules.auth.domain.DormUser;
@@ -39,6 +40,8 @@ public class FridgeExpiryNotificationScheduler {
     private static final int EXPIRY_LOOKAHEAD_DAYS = 3;
     private static final int TTL_HOURS_EXPIRY = 24;
     private static final int TTL_HOURS_EXPIRED = 24 * 7;
+    // 치우지 않은 만료 물품은 계속 쌓이므로 IN 목록을 나눠 바인드 파라미터 한도(32767)를 넘지 않게 한다.
+    private static final int ITEM_ID_CHUNK_SIZE = 1000;
 
     private final FridgeItemRepository fridgeItemRepository;
     private final NotificationService notificationService;
@@ -64,11 +67,7 @@ public class FridgeExpiryNotificationScheduler {
         LocalDate expiryThreshold = today.plusDays(EXPIRY_LOOKAHEAD_DAYS);
 
         processNotifications(
-                fridgeItemRepository.findActiveItemsExpiringBetween(
-                        FridgeItemStatus.ACTIVE,
-                        today,
-                        expiryThreshold
-                ),
+                loadActiveItems(fridgeItemRepository.findBucketedItemIdsExpiringBetween(today, expiryThreshold)),
                 KIND_FRIDGE_EXPIRY,
                 "[냉장고] 유통기한 임박",
                 "임박했습니다.",
@@ -78,10 +77,7 @@ public class FridgeExpiryNotificationScheduler {
         );
 
         processNotifications(
-                fridgeItemRepository.findActiveItemsExpiredBefore(
-                        FridgeItemStatus.ACTIVE,
-                        today
-                ),
+                loadActiveItems(fridgeItemRepository.findBucketedItemIdsExpiredBefore(today)),
                 KIND_FRIDGE_EXPIRED,
                 "[냉장고] 유통기한 만료",
                 "지났습니다.",
@@ -91,6 +87,21 @@ public class FridgeExpiryNotificationScheduler {
         );
     }
 
+    /**
+     * 유통기한 버킷에서 고른 ID를 기본 키로 나눠 읽는다. 상태 조건을 다시 걸어 버킷 갱신 전에 바뀐 물품은 거른다.
+     */
+    private List<FridgeItem> loadActiveItems(List<UUID> itemIds) {
+        if (itemIds.isEmpty()) {
+            return List.of();
+        }
+        List<FridgeItem> items = new ArrayList<>(itemIds.size());
+        for (int from = 0; from < itemIds.size(); from += ITEM_ID_CHUNK_SIZE) {
+            List<UUID> chunk = itemIds.subList(from, Math.min(from + ITEM_ID_CHUNK_SIZE, itemIds.size()));
+            items.addAll(fridgeItemRepository.findActiveItemsByIdIn(chunk, FridgeItemStatus.ACTIVE));
+        }
+        return items;
+    }
+
     private void processNotifications(
             List<FridgeItem> items,
             String kindCode,
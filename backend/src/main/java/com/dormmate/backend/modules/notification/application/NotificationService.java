@@ -11,6 +11,7 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import com.dormmate.backend.global.web.VersionStamps;
 import com.dormmate.backend.modules.auth.domain.DormUser;
 import com.dormmate.backend.modules.auth.infrastructure.persistence.DormUserRepository;
 import com.dormmate.backend.modules.notification.domain.Notification;
@@ -25,6 +26,7 @@ import com.dormmate.backend.modules.inspection.domain.InspectionSession;
 import com.dormmate.backend.modules.inspection.domain.InspectionActionItem;
 import com.dormmate.backend.modules.penalty.domain.PenaltyHistory;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -97,18 +99,50 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final NotificationPreferenceRepository notificationPreferenceRepository;
     private final DormUserRepository dormUserRepository;
+    private final VersionStamps versionStamps;
     private final Clock clock;
+    // 사용자별로 아직 만료되지 않은 알림 중 가장 이른 TTL. 모르는 사용자는 ETag를 발급하지 않는다.
+    // 최근에 조회한 사용자만 LRU로 남기고, 만료 시각이 지난 항목은 읽을 때 버린다.
+    private final Map<UUID, OffsetDateTime> nextExpiryByUser;
+    private final int expiryCacheMaxEntries;
 
     public NotificationService(
             NotificationRepository notificationRepository,
             NotificationPreferenceRepository notificationPreferenceRepository,
             DormUserRepository dormUserRepository,
-            Clock clock
+            VersionStamps versionStamps,
+            Clock clock,
+            @Value("${app.notification.expiry-cache.max-entries:10000}") int expiryCacheMaxEntries
     ) {
         this.notificationRepository = notificationRepository;
         this.notificationPreferenceRepository = notificationPreferenceRepository;
         this.dormUserRepository = dormUserRepository;
+        this.versionStamps = versionStamps;
         this.clock = clock;
+        this.expiryCacheMaxEntries = expiryCacheMaxEntries;
+        this.nextExpiryByUser = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, OffsetDateTime> eldest) {
+                return size() > NotificationService.this.expiryCacheMaxEntries;
+            }
+        };
+    }
+
+    /**
+     * 알림 목록의 ETag. TTL 만료는 조회 시점에 반영되므로, 다음 만료 시각이 지났거나 알 수 없으면 null을 돌려 본 조회를 유도한다.
+     */
+    public String notificationsEtag(UUID userId, Object... parameters) {
+        synchronized (nextExpiryByUser) {
+            OffsetDateTime nextExpiry = nextExpiryByUser.get(userId);
+            if (nextExpiry == null) {
+                return null;
+            }
+            if (!nextExpiry.isAfter(OffsetDateTime.now(clock))) {
+                nextExpiryByUser.remove(userId);
+                return null;
+            }
+        }
+        return versionStamps.etag(List.of(notificationScope(userId)), userId, parameters);
     }
 
     public NotificationPageResult getNotifications(UUID userId, NotificationFilterState filter, Pageable pageable) {
@@ -122,6 +156,10 @@ public class NotificationService {
 
         Page<Notification> page = notificationRepository.findByUserIdAndStates(userId, states, pageable);
         long unreadCount = notificationRepository.countByUserIdAndState(userId, NotificationState.UNREAD);
+        OffsetDateTime nextExpiry = notificationRepository.findEarliestPendingTtl(userId).orElse(OffsetDateTime.MAX);
+        synchronized (nextExpiryByUser) {
+            nextExpiryByUser.put(userId, nextExpiry);
+        }
 
         return new NotificationPageResult(
                 page.getContent(),
@@ -139,13 +177,18 @@ public class NotificationService {
         if (notification.getState() == NotificationState.UNREAD) {
             notification.markRead(OffsetDateTime.now(clock));
             notificationRepository.save(notification);
+            notificationsChanged(userId);
         }
         // 이미 EXPIRED 혹은 READ 상태라면 아무 동작 없이 성공으로 간주해 idempotent 하게 처리한다.
     }
 
     public int markAllNotificationsRead(UUID userId) {
         OffsetDateTime now = OffsetDateTime.now(clock);
-        return notificationRepository.markAllRead(userId, now);
+        int updated = notificationRepository.markAllRead(userId, now);
+        if (updated > 0) {
+            notificationsChanged(userId);
+        }
+        return updated;
     }
 
     @Transactional(readOnly = true)
@@ -375,6 +418,10 @@ public class NotificationService {
         notification.setAllowBackground(resolveBackgroundPreference(user, kindCode));
 
         notificationRepository.save(notification);
+        notificationsChanged(user.getId());
+        synchronized (nextExpiryByUser) {
+            nextExpiryByUser.remove(user.getId());
+        }
         return Optional.of(new NotificationDelivery(notification, notification.isAllowBackground()));
     }
 
@@ -444,6 +491,15 @@ public class NotificationService {
         }
         expirable.forEach(notification -> notification.markExpired(now));
         notificationRepository.saveAll(expirable);
+        notificationsChanged(userId);
+    }
+
+    private void notificationsChanged(UUID userId) {
+        versionStamps.bumpAfterCommit(List.of(notificationScope(userId)));
+    }
+
+    private static String notificationScope(UUID userId) {
+        return "notifications:user:" + userId;
     }
 
     private List<PreferenceDefinition> resolvePreferenceDefinitions(UUID userId) {
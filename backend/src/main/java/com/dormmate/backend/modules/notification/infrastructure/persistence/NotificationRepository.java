@@ -27,6 +27,14 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
 
     List<Notification> findByUserIdAndTtlAtBeforeAndStateNot(UUID userId, OffsetDateTime threshold, NotificationState state);
 
+    @Query("""
+            select min(n.ttlAt)
+              from Notification n
+             where n.user.id = :userId
+               and n.state <> com.dormmate.backend.modules.notification.domain.NotificationState.EXPIRED
+            """)
+    Optional<OffsetDateTime> findEarliestPendingTtl(@Param("userId") UUID userId);
+
     @Query("""
             select n
               from Notification n
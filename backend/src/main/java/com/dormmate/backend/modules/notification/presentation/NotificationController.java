@@ -5,6 +5,7 @@ import java.util.Locale;
 import java.util.UUID;
 
 import com.dormmate.backend.global.security.SecurityUtils;
+import com.dormmate.backend.global.web.VersionStamps;
 import com.dormmate.backend.modules.notification.application.NotificationService;
 import com.dormmate.backend.modules.notification.application.NotificationService.NotificationFilterState;
 import com.dormmate.backend.modules.notification.application.NotificationService.NotificationPageResult;
@@ -28,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
@@ -47,13 +49,18 @@ public class NotificationController {
     public ResponseEntity<NotificationListResponse> getNotifications(
             @RequestParam(name = "state", defaultValue = "all") String stateParam,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "20") int size
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            WebRequest webRequest
     ) {
         NotificationFilterState filter = parseState(stateParam);
         int safePage = Math.max(page, 0);
         int safeSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
 
         UUID userId = SecurityUtils.getCurrentUserId();
+        String etag = notificationService.notificationsEtag(userId, filter, safePage, safeSize);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
         NotificationPageResult result = notificationService.getNotifications(
                 userId,
                 filter,
@@ -71,7 +78,10 @@ public class NotificationController {
                 result.totalElements(),
                 result.unreadCount()
         );
-        return ResponseEntity.ok(response);
+        if (etag == null) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(VersionStamps.REVALIDATE).body(response);
     }
 
     @PatchMapping("/{notificationId}/read")
@@ -25,6 +25,14 @@ BEGIN
       AND max_bundle_count <> 10;
 
     -- 기존 데이터 정리
+    IF to_regclass('public.fridge_item_archive') IS NOT NULL THEN
+        DELETE FROM fridge_item_archive;
+    END IF;
+
+    IF to_regclass('public.fridge_bundle_archive') IS NOT NULL THEN
+        DELETE FROM fridge_bundle_archive;
+    END IF;
+
     PERFORM
         (CASE WHEN to_regclass('public.inspection_action_item') IS NOT NULL THEN 1 END);
     IF FOUND THEN
@@ -68,9 +76,9 @@ BEGIN
     END IF;
 
     PERFORM
-        (CASE WHEN to_regclass('public.bundle_label_sequence') IS NOT NULL THEN 1 END);
+        (CASE WHEN to_regclass('public.bundle_label_bitmap') IS NOT NULL THEN 1 END);
     IF FOUND THEN
-        EXECUTE 'DELETE FROM bundle_label_sequence';
+        EXECUTE 'DELETE FROM bundle_label_bitmap';
     END IF;
 
     -- 층별장 역할 초기화
@@ -322,25 +330,32 @@ BEGIN
     FROM tmp_demo_bundles tdb
     JOIN tmp_item_templates tit ON tit.bundle_ordinal = tdb.label_number;
 
-    INSERT INTO bundle_label_sequence (
-        fridge_compartment_id,
-        next_number,
-        recycled_numbers,
-        created_at,
-        updated_at
-    )
-    SELECT
-        tdb.fridge_compartment_id,
-        11,
-        '[]'::jsonb,
-        CURRENT_TIMESTAMP,
-        CURRENT_TIMESTAMP
-    FROM tmp_demo_bundles tdb
-    GROUP BY tdb.fridge_compartment_id
-    ON CONFLICT (fridge_compartment_id) DO UPDATE
-    SET next_number = 11,
-        recycled_numbers = '[]'::jsonb,
-        updated_at = CURRENT_TIMESTAMP;
+    PERFORM 1
+    FROM pg_proc
+    WHERE proname = 'fn_rebuild_bundle_label_bitmaps'
+      AND pg_function_is_visible(oid);
+
+    IF FOUND THEN
+        PERFORM public.fn_rebuild_bundle_label_bitmaps();
+    END IF;
+
+    PERFORM 1
+    FROM pg_proc
+    WHERE proname = 'fn_refresh_fridge_bundle_search'
+      AND pg_function_is_visible(oid);
+
+    IF FOUND THEN
+        PERFORM public.fn_refresh_fridge_bundle_search(NULL);
+    END IF;
+
+    PERFORM 1
+    FROM pg_proc
+    WHERE proname = 'fn_refresh_fridge_expiry_buckets'
+      AND pg_function_is_visible(oid);
+
+    IF FOUND THEN
+        PERFORM public.fn_refresh_fridge_expiry_buckets(NULL);
+    END IF;
 
     -- 층별장 검사 기록 생성
     CREATE TEMP TABLE tmp_floor_managers (
@@ -535,6 +550,16 @@ BEGIN
     IF FOUND THEN
         PERFORM public.fn_rebuild_compartment_room_access();
     END IF;
+
+    -- 재구성한 포장 기준으로 칸별 활성 포장 수를 맞춘다.
+    PERFORM 1
+    FROM pg_proc
+    WHERE proname = 'fn_reconcile_compartment_bundle_counts'
+      AND pg_function_is_visible(oid);
+
+    IF FOUND THEN
+        PERFORM public.fn_reconcile_compartment_bundle_counts();
+    END IF;
 END;
 $$;
 
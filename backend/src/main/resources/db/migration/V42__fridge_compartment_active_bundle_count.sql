@@ -0,0 +1,40 @@
+-- 칸별 활성 포장 수를 컬럼으로 유지해 슬롯/용량 조회가 포장 엔티티를 적재하지 않도록 한다.
+
+SET TIME ZONE 'UTC';
+
+ALTER TABLE fridge_compartment
+    ADD COLUMN IF NOT EXISTS active_bundle_count INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE fridge_compartment
+    ADD CONSTRAINT ck_fridge_compartment_active_bundle_count CHECK (active_bundle_count >= 0);
+
+-- 실제 ACTIVE 포장 수와 다른 칸만 보정하고, 보정한 칸 수를 반환한다.
+CREATE OR REPLACE FUNCTION public.fn_reconcile_compartment_bundle_counts()
+RETURNS integer
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    fixed_count integer;
+BEGIN
+    WITH actual AS (
+        SELECT
+            fc.id,
+            COUNT(fb.id)::integer AS active_count
+        FROM fridge_compartment fc
+        LEFT JOIN fridge_bundle fb
+            ON fb.fridge_compartment_id = fc.id
+           AND fb.status = 'ACTIVE'
+        GROUP BY fc.id
+    )
+    UPDATE fridge_compartment fc
+    SET active_bundle_count = actual.active_count
+    FROM actual
+    WHERE actual.id = fc.id
+      AND fc.active_bundle_count <> actual.active_count;
+
+    GET DIAGNOSTICS fixed_count = ROW_COUNT;
+    RETURN fixed_count;
+END;
+$$;
+
+SELECT public.fn_reconcile_compartment_bundle_counts();
@@ -0,0 +1,65 @@
+-- 칸별 라벨 사용 현황을 999비트(125바이트) 비트맵으로 관리한다.
+-- 라벨 n은 비트 n-1에 대응하며, PostgreSQL get_bit/set_bit(bytea)과 같은 순서(바이트 내 하위 비트부터)를 따른다.
+-- 기존 bundle_label_sequence(next_number + recycled_numbers JSON)는 비트맵으로 대체한다.
+
+SET TIME ZONE 'UTC';
+
+CREATE TABLE IF NOT EXISTS bundle_label_bitmap (
+    fridge_compartment_id UUID PRIMARY KEY REFERENCES fridge_compartment(id) ON DELETE CASCADE,
+    occupied_labels BYTEA NOT NULL DEFAULT decode(repeat('00', 125), 'hex'),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT ck_bundle_label_bitmap_size CHECK (octet_length(occupied_labels) = 125)
+);
+
+-- ACTIVE 포장의 라벨 번호로 모든 칸의 비트맵을 다시 만들고, 실제로 바뀐 칸 수를 돌려준다.
+CREATE OR REPLACE FUNCTION public.fn_rebuild_bundle_label_bitmaps()
+RETURNS integer
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_changed integer;
+BEGIN
+    WITH active_labels AS (
+        SELECT
+            fb.fridge_compartment_id,
+            fb.label_number - 1 AS bit_index
+        FROM fridge_bundle fb
+        WHERE fb.status = 'ACTIVE'
+          AND fb.label_number BETWEEN 1 AND 999
+    ),
+    byte_values AS (
+        SELECT
+            fc.id AS fridge_compartment_id,
+            byte_index,
+            COALESCE(bit_or(1 << (al.bit_index % 8)), 0) AS byte_value
+        FROM fridge_compartment fc
+        CROSS JOIN generate_series(0, 124) AS byte_index
+        LEFT JOIN active_labels al
+            ON al.fridge_compartment_id = fc.id
+           AND al.bit_index / 8 = byte_index
+        GROUP BY fc.id, byte_index
+    ),
+    bitmaps AS (
+        SELECT
+            fridge_compartment_id,
+            decode(string_agg(lpad(to_hex(byte_value), 2, '0'), '' ORDER BY byte_index), 'hex') AS occupied_labels
+        FROM byte_values
+        GROUP BY fridge_compartment_id
+    )
+    INSERT INTO bundle_label_bitmap (fridge_compartment_id, occupied_labels, created_at, updated_at)
+    SELECT fridge_compartment_id, occupied_labels, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+    FROM bitmaps
+    ON CONFLICT (fridge_compartment_id) DO UPDATE
+    SET occupied_labels = EXCLUDED.occupied_labels,
+        updated_at = CURRENT_TIMESTAMP
+    WHERE bundle_label_bitmap.occupied_labels IS DISTINCT FROM EXCLUDED.occupied_labels;
+
+    GET DIAGNOSTICS v_changed = ROW_COUNT;
+    RETURN v_changed;
+END;
+$$;
+
+SELECT public.fn_rebuild_bundle_label_bitmaps();
+
+DROP TABLE IF EXISTS bundle_label_sequence;
@@ -0,0 +1,74 @@
+-- 포장 검색용 비정규화 문서. 포장명·라벨 코드·소유자 이름·호실 코드는 search_text에,
+-- 물품명은 item_text에 소문자로 모아 두고 pg_trgm GIN 인덱스로 부분 일치 검색을 처리한다.
+
+SET TIME ZONE 'UTC';
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE TABLE IF NOT EXISTS fridge_bundle_search (
+    fridge_bundle_id UUID PRIMARY KEY REFERENCES fridge_bundle(id) ON DELETE CASCADE,
+    search_text TEXT NOT NULL,
+    item_text TEXT NOT NULL DEFAULT '',
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_fridge_bundle_search_text_trgm
+    ON fridge_bundle_search USING gin (search_text gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_fridge_bundle_search_item_trgm
+    ON fridge_bundle_search USING gin (item_text gin_trgm_ops);
+
+-- p_bundle_id가 NULL이면 전체 포장 문서를 다시 만든다. 갱신된 행 수를 돌려준다.
+CREATE OR REPLACE FUNCTION public.fn_refresh_fridge_bundle_search(p_bundle_id uuid DEFAULT NULL)
+RETURNS integer
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_changed integer;
+BEGIN
+    WITH documents AS (
+        SELECT
+            fb.id AS fridge_bundle_id,
+            lower(concat_ws(
+                E'\n',
+                fb.bundle_name,
+                to_char(fb.label_number, 'FM000'),
+                concat(chr(65 + fc.slot_index), to_char(fb.label_number, 'FM000')),
+                concat(chr(65 + fc.slot_index), '-', to_char(fb.label_number, 'FM000')),
+                coalesce(du.full_name, ''),
+                rooms.room_codes
+            )) AS search_text,
+            lower(coalesce(items.item_names, '')) AS item_text
+        FROM fridge_bundle fb
+        JOIN fridge_compartment fc ON fc.id = fb.fridge_compartment_id
+        LEFT JOIN dorm_user du ON du.id = fb.owner_user_id
+        LEFT JOIN LATERAL (
+            SELECT string_agg(concat(rm.room_number, E'\n', rm.floor, 'f ', rm.room_number), E'\n') AS room_codes
+            FROM room_assignment ra
+            JOIN room rm ON rm.id = ra.room_id
+            WHERE ra.dorm_user_id = fb.owner_user_id
+              AND ra.released_at IS NULL
+        ) rooms ON TRUE
+        LEFT JOIN LATERAL (
+            SELECT string_agg(fi.item_name, E'\n' ORDER BY fi.created_at, fi.id) AS item_names
+            FROM fridge_item fi
+            WHERE fi.fridge_bundle_id = fb.id
+        ) items ON TRUE
+        WHERE p_bundle_id IS NULL OR fb.id = p_bundle_id
+    )
+    INSERT INTO fridge_bundle_search (fridge_bundle_id, search_text, item_text, updated_at)
+    SELECT fridge_bundle_id, search_text, item_text, CURRENT_TIMESTAMP
+    FROM documents
+    ON CONFLICT (fridge_bundle_id) DO UPDATE
+    SET search_text = EXCLUDED.search_text,
+        item_text = EXCLUDED.item_text,
+        updated_at = CURRENT_TIMESTAMP
+    WHERE fridge_bundle_search.search_text IS DISTINCT FROM EXCLUDED.search_text
+       OR fridge_bundle_search.item_text IS DISTINCT FROM EXCLUDED.item_text;
+
+    GET DIAGNOSTICS v_changed = ROW_COUNT;
+    RETURN v_changed;
+END;
+$$;
+
+SELECT public.fn_refresh_fridge_bundle_search(NULL);
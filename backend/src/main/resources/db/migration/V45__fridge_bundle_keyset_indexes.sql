@@ -0,0 +1,18 @@
+-- 포장 목록 키셋 페이지네이션용 인덱스. (정렬 시각, id) 내림차순으로 조회 조건별 탐색을 지원한다.
+
+CREATE INDEX IF NOT EXISTS idx_fridge_bundle_created_keyset
+    ON fridge_bundle (created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_fridge_bundle_compartment_created_keyset
+    ON fridge_bundle (fridge_compartment_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_fridge_bundle_owner_created_keyset
+    ON fridge_bundle (owner_user_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_fridge_bundle_deleted_keyset
+    ON fridge_bundle (deleted_at DESC, id DESC)
+    WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_fridge_bundle_compartment_deleted_keyset
+    ON fridge_bundle (fridge_compartment_id, deleted_at DESC, id DESC)
+    WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,154 @@
+-- 삭제 후 보관 기간이 지난 포장·물품을 보관(archive) 테이블로 옮겨 hot 테이블을 ACTIVE 위주로 유지한다.
+-- 보관 테이블은 조회 전용이므로 FK 없이 원본 컬럼과 이동 시각만 둔다.
+
+SET TIME ZONE 'UTC';
+
+CREATE TABLE IF NOT EXISTS fridge_bundle_archive (
+    id UUID PRIMARY KEY,
+    owner_user_id UUID NOT NULL,
+    fridge_compartment_id UUID NOT NULL,
+    label_number INTEGER NOT NULL,
+    bundle_name VARCHAR(120) NOT NULL,
+    memo TEXT,
+    status VARCHAR(16) NOT NULL,
+    deleted_at TIMESTAMPTZ NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    archived_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_fridge_bundle_archive_deleted_keyset
+    ON fridge_bundle_archive (deleted_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_fridge_bundle_archive_compartment_deleted_keyset
+    ON fridge_bundle_archive (fridge_compartment_id, deleted_at DESC, id DESC);
+
+CREATE TABLE IF NOT EXISTS fridge_item_archive (
+    id UUID PRIMARY KEY,
+    fridge_bundle_id UUID NOT NULL,
+    item_name VARCHAR(120) NOT NULL,
+    quantity INTEGER NOT NULL,
+    unit_code VARCHAR(16),
+    expiry_date DATE NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    last_inspected_at TIMESTAMPTZ,
+    deleted_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    archived_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_fridge_item_archive_bundle
+    ON fridge_item_archive (fridge_bundle_id);
+
+-- 검사 기록은 보관으로 옮겨진 포장·물품 id도 그대로 가리켜야 하므로 hot 테이블 FK를 인덱스로 대신한다.
+ALTER TABLE inspection_action DROP CONSTRAINT IF EXISTS inspection_action_fridge_bundle_id_fkey;
+ALTER TABLE inspection_action_item DROP CONSTRAINT IF EXISTS inspection_action_item_fridge_item_id_fkey;
+
+CREATE INDEX IF NOT EXISTS idx_inspection_action_fridge_bundle
+    ON inspection_action (fridge_bundle_id)
+    WHERE fridge_bundle_id IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_inspection_action_item_fridge_item
+    ON inspection_action_item (fridge_item_id)
+    WHERE fridge_item_id IS NOT NULL;
+
+-- hot 테이블 조회는 대부분 ACTIVE만 보므로 삭제 행이 쌓여도 크기가 늘지 않는 부분 인덱스를 둔다.
+CREATE INDEX IF NOT EXISTS idx_fridge_bundle_active_compartment
+    ON fridge_bundle (fridge_compartment_id, created_at DESC, id DESC)
+    WHERE status = 'ACTIVE';
+
+CREATE INDEX IF NOT EXISTS idx_fridge_bundle_active_owner
+    ON fridge_bundle (owner_user_id, created_at DESC, id DESC)
+    WHERE status = 'ACTIVE';
+
+CREATE INDEX IF NOT EXISTS idx_fridge_item_active_bundle
+    ON fridge_item (fridge_bundle_id)
+    WHERE status = 'ACTIVE';
+
+CREATE INDEX IF NOT EXISTS idx_fridge_item_active_expiry
+    ON fridge_item (expiry_date, fridge_bundle_id)
+    WHERE status = 'ACTIVE';
+
+-- p_deleted_before 이전에 삭제된 포장(물품 포함)과 개별 삭제 물품을 최대 p_batch_size건씩 옮긴다.
+-- 진행 중인 검사가 가리키는 행은 되돌리기에 필요하므로 남긴다. 옮긴 포장 수와 물품 수를 돌려준다.
+CREATE OR REPLACE FUNCTION public.fn_archive_deleted_fridge_rows(p_deleted_before timestamptz, p_batch_size integer)
+RETURNS TABLE (archived_bundles integer, archived_items integer)
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_bundle_ids uuid[];
+    v_item_ids uuid[];
+BEGIN
+    v_bundle_ids := ARRAY(
+        SELECT fb.id
+        FROM fridge_bundle fb
+        WHERE fb.status = 'DELETED'
+          AND fb.deleted_at < p_deleted_before
+          AND NOT EXISTS (
+              SELECT 1
+              FROM inspection_action ia
+              JOIN inspection_session s ON s.id = ia.inspection_session_id
+              WHERE ia.fridge_bundle_id = fb.id
+                AND s.status = 'IN_PROGRESS'
+          )
+        ORDER BY fb.deleted_at, fb.id
+        LIMIT p_batch_size
+        FOR UPDATE SKIP LOCKED
+    );
+
+    -- 옮길 포장의 물품은 빠짐없이 함께 옮겨야 하므로 건너뛰지 않고 잠근다.
+    v_item_ids := ARRAY(
+        SELECT fi.id
+        FROM fridge_item fi
+        WHERE fi.fridge_bundle_id = ANY (v_bundle_ids)
+        FOR UPDATE
+    ) || ARRAY(
+        SELECT loose.id
+        FROM fridge_item loose
+        WHERE loose.status = 'DELETED'
+          AND loose.deleted_at < p_deleted_before
+          AND NOT EXISTS (
+              SELECT 1
+              FROM inspection_action_item iai
+              JOIN inspection_action ia ON ia.id = iai.inspection_action_id
+              JOIN inspection_session s ON s.id = ia.inspection_session_id
+              WHERE iai.fridge_item_id = loose.id
+                AND s.status = 'IN_PROGRESS'
+          )
+        ORDER BY loose.deleted_at, loose.id
+        LIMIT p_batch_size
+        FOR UPDATE SKIP LOCKED
+    );
+
+    WITH moved AS (
+        DELETE FROM fridge_item fi
+        WHERE fi.id = ANY (v_item_ids)
+        RETURNING fi.*
+    )
+    INSERT INTO fridge_item_archive (
+        id, fridge_bundle_id, item_name, quantity, unit_code, expiry_date, status,
+        last_inspected_at, deleted_at, created_at, updated_at, archived_at
+    )
+    SELECT id, fridge_bundle_id, item_name, quantity, unit_code, expiry_date, status,
+           last_inspected_at, deleted_at, created_at, updated_at, CURRENT_TIMESTAMP
+    FROM moved;
+    GET DIAGNOSTICS archived_items = ROW_COUNT;
+
+    WITH moved AS (
+        DELETE FROM fridge_bundle fb
+        WHERE fb.id = ANY (v_bundle_ids)
+        RETURNING fb.*
+    )
+    INSERT INTO fridge_bundle_archive (
+        id, owner_user_id, fridge_compartment_id, label_number, bundle_name, memo, status,
+        deleted_at, created_at, updated_at, archived_at
+    )
+    SELECT id, owner_user_id, fridge_compartment_id, label_number, bundle_name, memo, status,
+           deleted_at, created_at, updated_at, CURRENT_TIMESTAMP
+    FROM moved;
+    GET DIAGNOSTICS archived_bundles = ROW_COUNT;
+
+    RETURN NEXT;
+END;
+$$;
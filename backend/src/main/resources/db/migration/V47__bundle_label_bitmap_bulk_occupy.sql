@@ -0,0 +1,18 @@
+-- 일괄 등록에서 한 칸의 여러 라벨을 한 번의 UPDATE로 점유하기 위한 함수.
+-- 읽기-수정-쓰기가 한 문장 안에서 일어나므로 동시에 들어온 단건 반납(set_bit)을 덮어쓰지 않는다.
+
+CREATE OR REPLACE FUNCTION public.fn_set_label_bits(p_bitmap bytea, p_bit_indexes integer[])
+RETURNS bytea
+LANGUAGE plpgsql
+IMMUTABLE
+AS $$
+DECLARE
+    v_result bytea := p_bitmap;
+    v_bit integer;
+BEGIN
+    FOREACH v_bit IN ARRAY p_bit_indexes LOOP
+        v_result := set_bit(v_result, v_bit, 1);
+    END LOOP;
+    RETURN v_result;
+END;
+$$;
@@ -0,0 +1,53 @@
+-- 칸 상태(검사 중·잠금·활성) 투영. 잠금·해제·검사 시작/제출/취소·만료 해제 트랜잭션의 커밋 직전에 갱신하고,
+-- 칸 목록은 기본 키 조회 한 번으로 읽는다. 잠금 만료 시각도 함께 두어 유지보수 작업 전에는 읽을 때 만료를 판단한다.
+
+SET TIME ZONE 'UTC';
+
+CREATE TABLE IF NOT EXISTS fridge_slot_status (
+    fridge_compartment_id UUID PRIMARY KEY REFERENCES fridge_compartment(id) ON DELETE CASCADE,
+    slot_status VARCHAR(16) NOT NULL,
+    locked_until TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- p_compartment_ids가 NULL이면 전체 칸을 다시 계산한다. 바뀐 행 수를 돌려준다.
+CREATE OR REPLACE FUNCTION public.fn_refresh_fridge_slot_status(
+    p_compartment_ids uuid[] DEFAULT NULL,
+    p_now timestamptz DEFAULT CURRENT_TIMESTAMP
+)
+RETURNS integer
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_changed integer;
+BEGIN
+    INSERT INTO fridge_slot_status (fridge_compartment_id, slot_status, locked_until, updated_at)
+    SELECT
+        fc.id,
+        CASE
+            WHEN EXISTS (
+                SELECT 1
+                FROM inspection_session s
+                WHERE s.fridge_compartment_id = fc.id
+                  AND s.status = 'IN_PROGRESS'
+            ) THEN 'IN_INSPECTION'
+            WHEN fc.locked_until > p_now
+                OR (fc.is_locked AND fc.locked_until IS NULL) THEN 'LOCKED'
+            ELSE 'ACTIVE'
+        END,
+        fc.locked_until,
+        CURRENT_TIMESTAMP
+    FROM fridge_compartment fc
+    WHERE p_compartment_ids IS NULL OR fc.id = ANY (p_compartment_ids)
+    ON CONFLICT (fridge_compartment_id) DO UPDATE
+    SET slot_status = EXCLUDED.slot_status,
+        locked_until = EXCLUDED.locked_until,
+        updated_at = CURRENT_TIMESTAMP
+    WHERE fridge_slot_status.slot_status IS DISTINCT FROM EXCLUDED.slot_status
+       OR fridge_slot_status.locked_until IS DISTINCT FROM EXCLUDED.locked_until;
+    GET DIAGNOSTICS v_changed = ROW_COUNT;
+    RETURN v_changed;
+END;
+$$;
+
+SELECT public.fn_refresh_fridge_slot_status(NULL);
@@ -0,0 +1,103 @@
+-- 유통기한 달력. 활성 포장의 활성 물품을 (유통기한, 소유자, 칸) 단위로 묶어 개수와 ID를 둔다.
+-- 임박·만료 배치와 관리자 대시보드·층별 분포는 fridge_item 범위 스캔 대신 이 버킷을 읽는다.
+
+SET TIME ZONE 'UTC';
+
+CREATE TABLE IF NOT EXISTS fridge_item_expiry_bucket (
+    expiry_date DATE NOT NULL,
+    owner_user_id UUID NOT NULL,
+    fridge_compartment_id UUID NOT NULL REFERENCES fridge_compartment(id) ON DELETE CASCADE,
+    item_count INTEGER NOT NULL,
+    item_ids UUID[] NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (expiry_date, owner_user_id, fridge_compartment_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_fridge_item_expiry_bucket_compartment
+    ON fridge_item_expiry_bucket (fridge_compartment_id, expiry_date);
+
+CREATE INDEX IF NOT EXISTS idx_fridge_item_expiry_bucket_item_ids
+    ON fridge_item_expiry_bucket USING gin (item_ids);
+
+-- p_bundle_ids가 NULL이면 전체를 다시 만든다. 아니면 해당 포장 물품을 기존 버킷에서 빼고
+-- 현재 활성 물품을 다시 더하므로, 유통기한 변경·삭제·복구 모두 같은 호출로 맞춰진다. 바뀐 행 수를 돌려준다.
+CREATE OR REPLACE FUNCTION public.fn_refresh_fridge_expiry_buckets(p_bundle_ids uuid[] DEFAULT NULL)
+RETURNS integer
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_item_ids uuid[];
+    v_rows integer;
+    v_changed integer := 0;
+BEGIN
+    IF p_bundle_ids IS NULL THEN
+        DELETE FROM fridge_item_expiry_bucket;
+
+        INSERT INTO fridge_item_expiry_bucket (
+            expiry_date, owner_user_id, fridge_compartment_id, item_count, item_ids, updated_at
+        )
+        SELECT fi.expiry_date,
+               fb.owner_user_id,
+               fb.fridge_compartment_id,
+               COUNT(*),
+               array_agg(fi.id ORDER BY fi.id),
+               CURRENT_TIMESTAMP
+          FROM fridge_item fi
+          JOIN fridge_bundle fb ON fb.id = fi.fridge_bundle_id
+         WHERE fi.status = 'ACTIVE'
+           AND fb.status = 'ACTIVE'
+         GROUP BY fi.expiry_date, fb.owner_user_id, fb.fridge_compartment_id;
+        GET DIAGNOSTICS v_changed = ROW_COUNT;
+        RETURN v_changed;
+    END IF;
+
+    SELECT COALESCE(array_agg(fi.id), '{}')
+      INTO v_item_ids
+      FROM fridge_item fi
+     WHERE fi.fridge_bundle_id = ANY (p_bundle_ids);
+
+    IF cardinality(v_item_ids) = 0 THEN
+        RETURN 0;
+    END IF;
+
+    DELETE FROM fridge_item_expiry_bucket b
+     WHERE b.item_ids && v_item_ids
+       AND b.item_ids <@ v_item_ids;
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    v_changed := v_changed + v_rows;
+
+    UPDATE fridge_item_expiry_bucket b
+       SET item_ids = ARRAY(SELECT id FROM unnest(b.item_ids) AS id WHERE id <> ALL (v_item_ids)),
+           item_count = b.item_count - (SELECT COUNT(*) FROM unnest(b.item_ids) AS id WHERE id = ANY (v_item_ids)),
+           updated_at = CURRENT_TIMESTAMP
+     WHERE b.item_ids && v_item_ids;
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    v_changed := v_changed + v_rows;
+
+    INSERT INTO fridge_item_expiry_bucket (
+        expiry_date, owner_user_id, fridge_compartment_id, item_count, item_ids, updated_at
+    )
+    SELECT fi.expiry_date,
+           fb.owner_user_id,
+           fb.fridge_compartment_id,
+           COUNT(*),
+           array_agg(fi.id ORDER BY fi.id),
+           CURRENT_TIMESTAMP
+      FROM fridge_item fi
+      JOIN fridge_bundle fb ON fb.id = fi.fridge_bundle_id
+     WHERE fb.id = ANY (p_bundle_ids)
+       AND fi.status = 'ACTIVE'
+       AND fb.status = 'ACTIVE'
+     GROUP BY fi.expiry_date, fb.owner_user_id, fb.fridge_compartment_id
+    ON CONFLICT (expiry_date, owner_user_id, fridge_compartment_id) DO UPDATE
+    SET item_ids = fridge_item_expiry_bucket.item_ids || EXCLUDED.item_ids,
+        item_count = fridge_item_expiry_bucket.item_count + EXCLUDED.item_count,
+        updated_at = CURRENT_TIMESTAMP;
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    v_changed := v_changed + v_rows;
+
+    RETURN v_changed;
+END;
+$$;
+
+SELECT public.fn_refresh_fridge_expiry_buckets(NULL);
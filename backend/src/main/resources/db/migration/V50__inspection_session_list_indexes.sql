@@ -0,0 +1,11 @@
+-- 검사 이력 목록 페이지 조회용 인덱스. 칸·상태 조건을 건 뒤 시작 시각 내림차순으로 읽고,
+-- 층별·전체 조회는 시작 시각 인덱스를 탄다. 목록 요약의 조치 집계는 세션별 조치 인덱스를 쓴다.
+
+CREATE INDEX IF NOT EXISTS idx_inspection_session_compartment_status_started
+    ON inspection_session (fridge_compartment_id, status, started_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_inspection_session_started
+    ON inspection_session (started_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_inspection_action_session
+    ON inspection_action (inspection_session_id);
@@ -0,0 +1,5 @@
+-- 조치·조치 물품 ID를 IDENTITY 대신 pooled 시퀀스로 받아 한 번에 여러 행을 JDBC 배치로 넣는다.
+-- 엔티티의 allocationSize(50)와 증가 폭을 맞춘다. 컬럼 기본값(nextval)으로 넣는 행은 Hibernate가 쓰지 않는 값을 받는다.
+
+ALTER SEQUENCE IF EXISTS inspection_action_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS inspection_action_item_id_seq INCREMENT BY 50;
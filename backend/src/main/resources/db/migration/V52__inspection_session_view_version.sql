@@ -0,0 +1,5 @@
+-- 검사 세션 조회 모델의 기준 버전. 기록·되돌리기·제출·취소마다 1씩 오른다.
+-- 메모리 캐시는 이 값과 같을 때만 쓰이고, 클라이언트는 sinceVersion으로 이후 변경분만 받는다.
+
+ALTER TABLE inspection_session
+    ADD COLUMN IF NOT EXISTS view_version BIGINT NOT NULL DEFAULT 0;
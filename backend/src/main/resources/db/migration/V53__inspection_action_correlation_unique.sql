@@ -0,0 +1,5 @@
+-- 오프라인 동기화 재시도가 같은 조치를 두 번 만들지 않도록 correlation_id를 멱등 키로 쓴다.
+-- 기존 값은 모두 gen_random_uuid()로 채워졌으므로 중복이 없다.
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_inspection_action_correlation_id
+    ON inspection_action (correlation_id);
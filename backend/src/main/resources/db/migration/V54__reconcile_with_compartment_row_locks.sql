@@ -0,0 +1,111 @@
+-- 보정 함수가 칸 행을 잠그지 않고 다시 쓰면 동시에 진행 중인 포장 등록·삭제의 카운터 증감과 라벨 점유를 덮어쓴다.
+-- 등록·삭제는 칸 행을 잠근 채 카운터와 라벨을 바꾸므로, 보정도 먼저 칸 행을 잠그고 다음 문장에서 새 스냅샷으로 계산한다.
+-- 쓰기 중인 칸은 SKIP LOCKED로 건너뛰고 다음 주기에 맞춘다.
+
+SET TIME ZONE 'UTC';
+
+CREATE OR REPLACE FUNCTION public.fn_reconcile_compartment_bundle_counts()
+RETURNS integer
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_locked uuid[];
+    fixed_count integer;
+BEGIN
+    SELECT array_agg(locked.id)
+    INTO v_locked
+    FROM (
+        SELECT fc.id
+        FROM fridge_compartment fc
+        ORDER BY fc.id
+        FOR UPDATE SKIP LOCKED
+    ) locked;
+
+    IF v_locked IS NULL THEN
+        RETURN 0;
+    END IF;
+
+    WITH actual AS (
+        SELECT
+            fc.id,
+            COUNT(fb.id)::integer AS active_count
+        FROM fridge_compartment fc
+        LEFT JOIN fridge_bundle fb
+            ON fb.fridge_compartment_id = fc.id
+           AND fb.status = 'ACTIVE'
+        WHERE fc.id = ANY (v_locked)
+        GROUP BY fc.id
+    )
+    UPDATE fridge_compartment fc
+    SET active_bundle_count = actual.active_count
+    FROM actual
+    WHERE actual.id = fc.id
+      AND fc.active_bundle_count <> actual.active_count;
+
+    GET DIAGNOSTICS fixed_count = ROW_COUNT;
+    RETURN fixed_count;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION public.fn_rebuild_bundle_label_bitmaps()
+RETURNS integer
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_locked uuid[];
+    v_changed integer;
+BEGIN
+    SELECT array_agg(locked.id)
+    INTO v_locked
+    FROM (
+        SELECT fc.id
+        FROM fridge_compartment fc
+        ORDER BY fc.id
+        FOR UPDATE SKIP LOCKED
+    ) locked;
+
+    IF v_locked IS NULL THEN
+        RETURN 0;
+    END IF;
+
+    WITH active_labels AS (
+        SELECT
+            fb.fridge_compartment_id,
+            fb.label_number - 1 AS bit_index
+        FROM fridge_bundle fb
+        WHERE fb.status = 'ACTIVE'
+          AND fb.label_number BETWEEN 1 AND 999
+          AND fb.fridge_compartment_id = ANY (v_locked)
+    ),
+    byte_values AS (
+        SELECT
+            fc.id AS fridge_compartment_id,
+            byte_index,
+            COALESCE(bit_or(1 << (al.bit_index % 8)), 0) AS byte_value
+        FROM fridge_compartment fc
+        CROSS JOIN generate_series(0, 124) AS byte_index
+        LEFT JOIN active_labels al
+            ON al.fridge_compartment_id = fc.id
+           AND al.bit_index / 8 = byte_index
+        WHERE fc.id = ANY (v_locked)
+        GROUP BY fc.id, byte_index
+    ),
+    bitmaps AS (
+        SELECT
+            fridge_compartment_id,
+            decode(string_agg(lpad(to_hex(byte_value), 2, '0'), '' ORDER BY byte_index), 'hex') AS occupied_labels
+        FROM byte_values
+        GROUP BY fridge_compartment_id
+    )
+    INSERT INTO bundle_label_bitmap (fridge_compartment_id, occupied_labels, created_at, updated_at)
+    SELECT fridge_compartment_id, occupied_labels, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+    FROM bitmaps
+    ON CONFLICT (fridge_compartment_id) DO UPDATE
+    SET occupied_labels = EXCLUDED.occupied_labels,
+        updated_at = CURRENT_TIMESTAMP
+    WHERE bundle_label_bitmap.occupied_labels IS DISTINCT FROM EXCLUDED.occupied_labels;
+
+    GET DIAGNOSTICS v_changed = ROW_COUNT;
+    RETURN v_changed;
+END;
+$$;
@@ -0,0 +1,48 @@
+-- 검색 문서에 복사한 소유자 이름·호실 코드는 포장·물품을 쓸 때만 갱신되어 호실 이동이나 이름 변경 뒤에는 옛 값으로 검색되었다.
+-- 소유자 조건은 검색 시점에 dorm_user·room_assignment를 직접 비교하므로 문서에는 포장명·라벨 코드·물품명만 둔다.
+
+SET TIME ZONE 'UTC';
+
+CREATE OR REPLACE FUNCTION public.fn_refresh_fridge_bundle_search(p_bundle_id uuid DEFAULT NULL)
+RETURNS integer
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_changed integer;
+BEGIN
+    WITH documents AS (
+        SELECT
+            fb.id AS fridge_bundle_id,
+            lower(concat_ws(
+                E'\n',
+                fb.bundle_name,
+                to_char(fb.label_number, 'FM000'),
+                concat(chr(65 + fc.slot_index), to_char(fb.label_number, 'FM000')),
+                concat(chr(65 + fc.slot_index), '-', to_char(fb.label_number, 'FM000'))
+            )) AS search_text,
+            lower(coalesce(items.item_names, '')) AS item_text
+        FROM fridge_bundle fb
+        JOIN fridge_compartment fc ON fc.id = fb.fridge_compartment_id
+        LEFT JOIN LATERAL (
+            SELECT string_agg(fi.item_name, E'\n' ORDER BY fi.created_at, fi.id) AS item_names
+            FROM fridge_item fi
+            WHERE fi.fridge_bundle_id = fb.id
+        ) items ON TRUE
+        WHERE p_bundle_id IS NULL OR fb.id = p_bundle_id
+    )
+    INSERT INTO fridge_bundle_search (fridge_bundle_id, search_text, item_text, updated_at)
+    SELECT fridge_bundle_id, search_text, item_text, CURRENT_TIMESTAMP
+    FROM documents
+    ON CONFLICT (fridge_bundle_id) DO UPDATE
+    SET search_text = EXCLUDED.search_text,
+        item_text = EXCLUDED.item_text,
+        updated_at = CURRENT_TIMESTAMP
+    WHERE fridge_bundle_search.search_text IS DISTINCT FROM EXCLUDED.search_text
+       OR fridge_bundle_search.item_text IS DISTINCT FROM EXCLUDED.item_text;
+
+    GET DIAGNOSTICS v_changed = ROW_COUNT;
+    RETURN v_changed;
+END;
+$$;
+
+SELECT public.fn_refresh_fridge_bundle_search(NULL);
@@ -0,0 +1,136 @@
+package com.dormmate.backend.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.dormmate.backend.modules.auth.application.JwtTokenService;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthenticationInterceptorTest {
+
+    private static final String SESSION_TOPIC = "/topic/fridge/inspections/" + UUID.randomUUID();
+
+    @Mock
+    private JwtTokenService jwtTokenService;
+
+    @Mock
+    private ObjectProvider<StompSubscriptionAuthorizer> subscriptionAuthorizers;
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final UUID userId = UUID.randomUUID();
+    private final AtomicReference<UUID> authorizedUser = new AtomicReference<>();
+    private StompAuthenticationInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StompAuthenticationInterceptor(jwtTokenService, subscriptionAuthorizers);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("대상별 권한 확인기는 STOMP 세션 사용자로 구독을 확인한다")
+    void authorizesSubscriptionAsSessionUser() {
+        when(subscriptionAuthorizers.orderedStream()).thenReturn(Stream.of(authorizer(false)));
+
+        Message<?> message = subscribe(SESSION_TOPIC);
+
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+        assertThat(authorizedUser.get()).isEqualTo(userId);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("권한이 없는 구독은 사유 코드와 함께 거절한다")
+    void rejectsForbiddenSubscription() {
+        when(subscriptionAuthorizers.orderedStream()).thenReturn(Stream.of(authorizer(true)));
+
+        assertThatThrownBy(() -> interceptor.preSend(subscribe(SESSION_TOPIC), channel))
+                .isInstanceOf(MessageDeliveryException.class)
+                .hasMessageContaining("FORBIDDEN_SLOT");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("확인기가 맡지 않은 토픽은 구독할 수 없다")
+    void rejectsTopicsWithoutAuthorizer() {
+        when(subscriptionAuthorizers.orderedStream()).thenReturn(Stream.of(authorizer(false)));
+
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/topic/fridge/unknown"), channel))
+                .isInstanceOf(MessageDeliveryException.class)
+                .hasMessageContaining("FORBIDDEN_DESTINATION");
+        assertThat(authorizedUser.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("와일드카드나 변수가 든 구독 경로는 확인기에 넘기지 않고 거절한다")
+    void rejectsPatternSubscriptions() {
+        for (String destination : List.of(
+                "/topic/**",
+                "/topic/fridge/*/*",
+                "/topic/fridge/inspections/*",
+                "/topic/fridge/inspections/" + UUID.randomUUID() + "?",
+                "/topic/fridge/inspections/{sessionId}"
+        )) {
+            assertThatThrownBy(() -> interceptor.preSend(subscribe(destination), channel))
+                    .isInstanceOf(MessageDeliveryException.class)
+                    .hasMessageContaining("FORBIDDEN_DESTINATION");
+        }
+        assertThat(authorizedUser.get()).isNull();
+    }
+
+    private StompSubscriptionAuthorizer authorizer(boolean forbidden) {
+        return new StompSubscriptionAuthorizer() {
+            @Override
+            public boolean supports(String destination) {
+                return destination.startsWith("/topic/fridge/inspections/");
+            }
+
+            @Override
+            public void authorize(String destination) {
+                if (forbidden) {
+                    throw new ResponseStatusException(HttpStatus.FORBIDDEN, "FORBIDDEN_SLOT");
+                }
+                authorizedUser.set(SecurityUtils.getCurrentUserId());
+            }
+        };
+    }
+
+    private Message<?> subscribe(String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setUser(new UsernamePasswordAuthenticationToken(
+                new JwtAuthenticationPrincipal(userId, "resident", List.of("RESIDENT")), "token", List.of()));
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,49 @@
+package com.dormmate.backend.global.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.dormmate.backend.global.jpa.QueryCountInspector;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class QueryCountFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountFilter filter = new QueryCountFilter(meterRegistry);
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @Test
+    @DisplayName("요청 중 준비된 SQL 문 수를 경로 패턴별 분포로 기록한다")
+    void recordsStatementsPerRequestByPattern() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/fridge/inspections/abc/actions");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/fridge/inspections/{sessionId}/actions");
+            inspector.inspect("select 1");
+            inspector.inspect("insert into inspection_action values (?)");
+            inspector.inspect("update fridge_item set status = ?");
+        });
+
+        DistributionSummary summary = meterRegistry.get("http.server.requests.queries")
+                .tag("method", "POST")
+                .tag("uri", "/fridge/inspections/{sessionId}/actions")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 실행된 SQL은 세지 않는다")
+    void ignoresStatementsOutsideRequests() {
+        inspector.inspect("select 1");
+
+        assertThat(QueryCountInspector.stop()).isZero();
+    }
+}
@@ -0,0 +1,69 @@
+package com.dormmate.backend.global.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class VersionStampsTest {
+
+    private final VersionStamps versionStamps = new VersionStamps();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 같은 ETag를, 범위 변경이나 전체 무효화 뒤에는 다른 ETag를 만든다")
+    void etagChangesOnlyWhenScopeChanges() {
+        List<String> scopes = List.of("fridge:floor:2");
+        String initial = versionStamps.etag(scopes, "viewer", 1);
+
+        assertThat(versionStamps.etag(scopes, "viewer", 1)).isEqualTo(initial);
+        assertThat(versionStamps.etag(scopes, "viewer", 2)).isNotEqualTo(initial);
+
+        versionStamps.bump(List.of("fridge:floor:3"));
+        assertThat(versionStamps.etag(scopes, "viewer", 1)).isEqualTo(initial);
+
+        versionStamps.bump(scopes);
+        String bumped = versionStamps.etag(scopes, "viewer", 1);
+        assertThat(bumped).isNotEqualTo(initial);
+
+        versionStamps.bumpAll();
+        assertThat(versionStamps.etag(scopes, "viewer", 1)).isNotEqualTo(bumped);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 변경은 커밋 이후에 반영한다")
+    void bumpAfterCommitWaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        versionStamps.bumpAfterCommit(List.of("fridge"));
+        assertThat(versionStamps.current("fridge")).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(versionStamps.current("fridge")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 전체 무효화도 커밋 이후에 반영한다")
+    void bumpAllAfterCommitWaitsForCommit() {
+        List<String> scopes = List.of("fridge");
+        String initial = versionStamps.etag(scopes);
+        TransactionSynchronizationManager.initSynchronization();
+
+        versionStamps.bumpAllAfterCommit();
+        assertThat(versionStamps.etag(scopes)).isEqualTo(initial);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(versionStamps.etag(scopes)).isNotEqualTo(initial);
+    }
+}
@@ -54,7 +54,7 @@ class AdminSeedIntegrationTest extends AbstractPostgresIntegrationTest {
         jdbcTemplate.update("DELETE FROM inspection_action");
         jdbcTemplate.update("DELETE FROM fridge_item");
         jdbcTemplate.update("DELETE FROM fridge_bundle");
-        jdbcTemplate.update("DELETE FROM bundle_label_sequence");
+        jdbcTemplate.update("DELETE FROM bundle_label_bitmap");
 
         String adminToken = loginAndGetAccessToken(ADMIN_LOGIN_ID, ADMIN_PASSWORD);
 
@@ -72,7 +72,7 @@ class AdminSeedIntegrationTest extends AbstractPostgresIntegrationTest {
                 Integer.class
         );
         Integer labelReady = jdbcTemplate.queryForObject(
-                "SELECT COUNT(*) FROM bundle_label_sequence WHERE next_number = 11",
+                "SELECT COUNT(*) FROM bundle_label_bitmap WHERE get_bit(occupied_labels, 9) = 1",
                 Integer.class
         );
 
@@ -85,7 +85,7 @@ class AdminSeedIntegrationTest extends AbstractPostgresIntegrationTest {
                 .isNotNull()
                 .isGreaterThan(0);
         assertThat(labelReady)
-                .withFailMessage("expected label sequences to be seeded but found %s", labelReady)
+                .withFailMessage("expected label bitmaps to be seeded but found %s", labelReady)
                 .isNotNull()
                 .isGreaterThan(0);
 
@@ -103,7 +103,7 @@ class AdminSeedIntegrationTest extends AbstractPostgresIntegrationTest {
                 Integer.class
         );
         Integer labelReadyAfterSecondCall = jdbcTemplate.queryForObject(
-                "SELECT COUNT(*) FROM bundle_label_sequence WHERE next_number = 11",
+                "SELECT COUNT(*) FROM bundle_label_bitmap WHERE get_bit(occupied_labels, 9) = 1",
                 Integer.class
         );
         assertThat(bundleCountAfterSecondCall)
@@ -0,0 +1,120 @@
+package com.dormmate.backend.modules.fridge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dormmate.backend.modules.fridge.application.CompartmentLockRegistry;
+import com.dormmate.backend.modules.fridge.application.FridgeTopologyChangedEvent;
+import com.dormmate.backend.modules.fridge.domain.FridgeCompartment;
+import com.dormmate.backend.modules.inspection.domain.InspectionSession;
+import com.dormmate.backend.modules.inspection.domain.InspectionStatus;
+import com.dormmate.backend.modules.inspection.infrastructure.persistence.InspectionSessionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CompartmentLockRegistryTest {
+
+    private static final OffsetDateTime LOCKED_UNTIL = OffsetDateTime.parse("2025-01-01T00:30:00Z")
+            .withOffsetSameInstant(ZoneOffset.UTC);
+
+    @Mock
+    private InspectionSessionRepository inspectionSessionRepository;
+
+    private CompartmentLockRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CompartmentLockRegistry(inspectionSessionRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("기동 시 진행 중 세션을 DB에서 다시 적재한다")
+    void rehydratesInProgressSessions() {
+        UUID compartmentId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        when(inspectionSessionRepository.findWithCompartmentByStatus(InspectionStatus.IN_PROGRESS))
+                .thenReturn(List.of(session(sessionId, compartmentId)));
+
+        registry.onApplicationReady();
+
+        assertThat(registry.isUnderInspection(compartmentId)).isTrue();
+        assertThat(registry.find(compartmentId)).hasValueSatisfying(lock -> {
+            assertThat(lock.sessionId()).isEqualTo(sessionId);
+            assertThat(lock.lockedUntil()).isEqualTo(LOCKED_UNTIL);
+        });
+        assertThat(registry.compartmentsUnderInspection(Set.of(compartmentId, UUID.randomUUID())))
+                .containsExactly(compartmentId);
+    }
+
+    @Test
+    @DisplayName("부분 토폴로지 변경은 다시 적재하지 않는다")
+    void ignoresScopedTopologyChanges() {
+        UUID compartmentId = UUID.randomUUID();
+        registry.inspectionStarted(compartmentId, UUID.randomUUID(), LOCKED_UNTIL);
+
+        registry.onTopologyChanged(FridgeTopologyChangedEvent.of(compartmentId));
+
+        assertThat(registry.isUnderInspection(compartmentId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("검사 시작이 롤백되면 등록을 되돌린다")
+    void revertsStartOnRollback() {
+        UUID compartmentId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        registry.inspectionStarted(compartmentId, UUID.randomUUID(), LOCKED_UNTIL);
+        assertThat(registry.isUnderInspection(compartmentId)).isTrue();
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(registry.isUnderInspection(compartmentId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("검사 종료는 커밋 이후에 반영한다")
+    void appliesEndAfterCommit() {
+        UUID compartmentId = UUID.randomUUID();
+        registry.inspectionStarted(compartmentId, UUID.randomUUID(), LOCKED_UNTIL);
+        TransactionSynchronizationManager.initSynchronization();
+
+        registry.inspectionEnded(compartmentId);
+        assertThat(registry.isUnderInspection(compartmentId)).isTrue();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(registry.isUnderInspection(compartmentId)).isFalse();
+    }
+
+    private InspectionSession session(UUID sessionId, UUID compartmentId) {
+        FridgeCompartment compartment = new FridgeCompartment();
+        ReflectionTestUtils.setField(compartment, "id", compartmentId);
+        compartment.setLockedUntil(LOCKED_UNTIL);
+        InspectionSession session = new InspectionSession();
+        ReflectionTestUtils.setField(session, "id", sessionId);
+        session.setFridgeCompartment(compartment);
+        return session;
+    }
+}
@@ -0,0 +1,123 @@
+package com.dormmate.backend.modules.fridge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dormmate.backend.modules.auth.application.RoomAssignmentChangedEvent;
+import com.dormmate.backend.modules.auth.domain.Room;
+import com.dormmate.backend.modules.auth.domain.RoomAssignment;
+import com.dormmate.backend.modules.auth.infrastructure.persistence.RoomAssignmentRepository;
+import com.dormmate.backend.modules.fridge.application.FridgeAccessDecisionCache;
+import com.dormmate.backend.modules.fridge.application.FridgeTopologyChangedEvent;
+import com.dormmate.backend.modules.fridge.domain.CompartmentRoomAccess;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.CompartmentRoomAccessRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class FridgeAccessDecisionCacheTest {
+
+    @Mock
+    private RoomAssignmentRepository roomAssignmentRepository;
+
+    @Mock
+    private CompartmentRoomAccessRepository compartmentRoomAccessRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FridgeAccessDecisionCache cache;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID compartmentId = UUID.randomUUID();
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new FridgeAccessDecisionCache(
+                roomAssignmentRepository,
+                compartmentRoomAccessRepository,
+                meterRegistry,
+                2,
+                Duration.ofMinutes(5)
+        );
+
+        room = new Room();
+        ReflectionTestUtils.setField(room, "id", UUID.randomUUID());
+        room.setFloor((short) 2);
+        RoomAssignment assignment = new RoomAssignment();
+        assignment.setRoom(room);
+        CompartmentRoomAccess access = new CompartmentRoomAccess();
+        access.setRoom(room);
+
+        when(roomAssignmentRepository.findActiveAssignment(any())).thenReturn(Optional.of(assignment));
+        when(compartmentRoomAccessRepository.findByFridgeCompartmentIdAndReleasedAtIsNullOrderByAssignedAtAsc(any()))
+                .thenReturn(List.of(access));
+    }
+
+    @Test
+    @DisplayName("같은 사용자·칸 조회는 두 번째부터 캐시에서 응답한다")
+    void cachesDecisionPerUserAndCompartment() {
+        FridgeAccessDecisionCache.AccessFacts first = cache.resolve(userId, compartmentId);
+        FridgeAccessDecisionCache.AccessFacts second = cache.resolve(userId, compartmentId);
+
+        assertThat(first.assigned()).isTrue();
+        assertThat(first.roomMember()).isTrue();
+        assertThat(second).isEqualTo(first);
+        verify(roomAssignmentRepository, times(1)).findActiveAssignment(userId);
+        assertThat(counter("hit")).isEqualTo(1.0);
+        assertThat(counter("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("칸 토폴로지 변경과 호실 배정 변경은 해당 항목을 비운다")
+    void invalidatesOnTopologyAndAssignmentEvents() {
+        cache.resolve(userId, compartmentId);
+        cache.onTopologyChanged(FridgeTopologyChangedEvent.of(compartmentId));
+        cache.resolve(userId, compartmentId);
+        cache.onRoomAssignmentChanged(RoomAssignmentChangedEvent.of(userId));
+        cache.resolve(userId, compartmentId);
+        cache.onTopologyChanged(FridgeTopologyChangedEvent.of(UUID.randomUUID()));
+        cache.resolve(userId, compartmentId);
+
+        verify(roomAssignmentRepository, times(3)).findActiveAssignment(userId);
+        assertThat(counter("miss")).isEqualTo(3.0);
+        assertThat(counter("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래 쓰이지 않은 항목부터 내보낸다")
+    void evictsLeastRecentlyUsedEntry() {
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        cache.resolve(userId, compartmentId);
+        cache.resolve(userId, second);
+        cache.resolve(userId, third);
+        cache.resolve(userId, compartmentId);
+
+        assertThat(counter("miss")).isEqualTo(4.0);
+        assertThat(meterRegistry.get("fridge.access.cache.size").gauge().value()).isEqualTo(2.0);
+        verify(compartmentRoomAccessRepository, times(Set.of(compartmentId, second, third).size() + 1))
+                .findByFridgeCompartmentIdAndReleasedAtIsNullOrderByAssignedAtAsc(any());
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("fridge.access.cache").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,208 @@
+package com.dormmate.backend.modules.fridge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dormmate.backend.modules.fridge.domain.FridgeBundle;
+import com.dormmate.backend.modules.fridge.domain.FridgeBundleStatus;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleCountMode;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundlePaging;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleRepository;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleSearchCondition;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleSearchOrder;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleSearchResult;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleSummaryRow;
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeBundleSummaryResponse;
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeDtoMapper;
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeItemResponse;
+import com.dormmate.backend.support.AbstractPostgresIntegrationTest;
+
+/**
+ * 포장 목록 한 페이지를 엔터티 그래프로 읽어 매핑하는 경로와 컬럼 프로젝션 경로의 지연 시간·할당량을 비교한다.
+ * 기본 test 태스크에서는 제외되며 {@code gradle benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class FridgeBundleListProjectionBenchmarkTest extends AbstractPostgresIntegrationTest {
+
+    private static final int BUNDLES = Integer.getInteger("benchmark.bundles", 5_000);
+    private static final int ITEMS_PER_BUNDLE = Integer.getInteger("benchmark.items", 3);
+    private static final int PAGE_SIZE = Integer.getInteger("benchmark.pageSize", 100);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 50);
+    private static final String MARKER = "벤치목록";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FridgeBundleRepository fridgeBundleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void seedBundles() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        jdbcTemplate.update(
+                """
+                        INSERT INTO fridge_bundle (id, owner_user_id, fridge_compartment_id, label_number, bundle_name,
+                                                   memo, status, deleted_at, created_at, updated_at)
+                        SELECT gen_random_uuid(),
+                               (SELECT id FROM dorm_user ORDER BY login_id LIMIT 1),
+                               (SELECT id FROM fridge_compartment ORDER BY id LIMIT 1),
+                               (g % 999) + 1,
+                               ? || '-' || g,
+                               '메모',
+                               'DELETED',
+                               now() - (g || ' seconds')::interval,
+                               now() - (g || ' seconds')::interval,
+                               now()
+                        FROM generate_series(1, ?) AS g
+                        """,
+                MARKER,
+                BUNDLES
+        );
+        jdbcTemplate.update(
+                """
+                        INSERT INTO fridge_item (id, fridge_bundle_id, item_name, quantity, unit_code, expiry_date,
+                                                 status, deleted_at, created_at, updated_at)
+                        SELECT gen_random_uuid(), fb.id, '물품-' || n, 1, NULL, current_date + n,
+                               'ACTIVE', NULL, fb.created_at, fb.updated_at
+                        FROM fridge_bundle fb
+                        CROSS JOIN generate_series(1, ?) AS n
+                        WHERE fb.bundle_name LIKE ?
+                        """,
+                ITEMS_PER_BUNDLE,
+                MARKER + "-%"
+        );
+        jdbcTemplate.execute("ANALYZE fridge_bundle");
+        jdbcTemplate.execute("ANALYZE fridge_item");
+    }
+
+    @AfterEach
+    void removeBundles() {
+        jdbcTemplate.update(
+                "DELETE FROM fridge_item WHERE fridge_bundle_id IN (SELECT id FROM fridge_bundle WHERE bundle_name LIKE ?)",
+                MARKER + "-%"
+        );
+        jdbcTemplate.update("DELETE FROM fridge_bundle WHERE bundle_name LIKE ?", MARKER + "-%");
+    }
+
+    @Test
+    void compareEntityAndProjectionListPaths() {
+        Measurement entity = measure(this::listWithEntities);
+        Measurement projection = measure(this::listWithProjection);
+
+        System.out.printf(
+                "[benchmark] bundle list page=%d bundles=%d entity=%.2f ms %.1f KiB projection=%.2f ms %.1f KiB%n",
+                PAGE_SIZE,
+                BUNDLES,
+                entity.millisPerCall(),
+                entity.kibPerCall(),
+                projection.millisPerCall(),
+                projection.kibPerCall()
+        );
+
+        List<FridgeBundleSummaryResponse> fromEntities = listWithEntities();
+        List<FridgeBundleSummaryResponse> fromProjection = listWithProjection();
+        assertThat(fromProjection).hasSize(PAGE_SIZE);
+        assertThat(fromProjection).usingRecursiveComparison()
+                .ignoringFields("createdAt", "updatedAt", "removedAt", "items.createdAt", "items.updatedAt", "items.removedAt")
+                .isEqualTo(fromEntities);
+    }
+
+    private FridgeBundleSearchCondition condition() {
+        return new FridgeBundleSearchCondition(
+                null,
+                null,
+                EnumSet.of(FridgeBundleStatus.DELETED),
+                null,
+                null,
+                null,
+                false,
+                List.of(),
+                null,
+                FridgeBundleSearchOrder.CREATED_AT_DESC
+        );
+    }
+
+    private FridgeBundlePaging paging() {
+        return new FridgeBundlePaging(0, PAGE_SIZE, null, FridgeBundleCountMode.NONE, 0);
+    }
+
+    private List<FridgeBundleSummaryResponse> listWithEntities() {
+        return readOnlyTransaction.execute(status -> {
+            FridgeBundleSearchResult<FridgeBundle> result = fridgeBundleRepository.searchBundles(condition(), paging());
+            return result.content().stream()
+                    .map(bundle -> FridgeDtoMapper.toSummary(bundle, null, true, true))
+                    .toList();
+        });
+    }
+
+    private List<FridgeBundleSummaryResponse> listWithProjection() {
+        return readOnlyTransaction.execute(status -> {
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            FridgeBundleSearchResult<FridgeBundleSummaryRow> result = fridgeBundleRepository.searchBundleSummaries(
+                    condition(),
+                    paging(),
+                    today,
+                    FridgeDtoMapper.expiringUntil(today)
+            );
+            Map<UUID, List<FridgeItemResponse>> items = new HashMap<>();
+            fridgeBundleRepository.findItemRows(
+                            result.content().stream().map(FridgeBundleSummaryRow::bundleId).toList(),
+                            today,
+                            FridgeDtoMapper.expiringUntil(today)
+                    )
+                    .forEach(item -> items.computeIfAbsent(item.bundleId(), key -> new ArrayList<>())
+                            .add(FridgeDtoMapper.toItemResponse(item)));
+            return result.content().stream()
+                    .map(row -> FridgeDtoMapper.toSummary(row, null, true, items.getOrDefault(row.bundleId(), List.of())))
+                    .toList();
+        });
+    }
+
+    private Measurement measure(Supplier<?> call) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < 5; i++) {
+            call.get();
+        }
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Measurement(elapsed / 1_000_000d / ITERATIONS, allocated / 1024d / ITERATIONS);
+    }
+
+    private record Measurement(double millisPerCall, double kibPerCall) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.dormmate.backend.modules.fridge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dormmate.backend.modules.fridge.domain.FridgeBundle;
+import com.dormmate.backend.modules.fridge.domain.FridgeBundleStatus;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleRepository;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleSearchCondition;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleSearchOrder;
+import com.dormmate.backend.support.AbstractPostgresIntegrationTest;
+
+/**
+ * 5만 건 포장에서 검색 문서(trigram) 기반 키워드 검색과 기존 LIKE/EXISTS 조건의 지연 시간을 비교한다.
+ * 기본 test 태스크에서는 제외되며 {@code gradle benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class FridgeBundleSearchBenchmarkTest extends AbstractPostgresIntegrationTest {
+
+    private static final int BUNDLES = Integer.getInteger("benchmark.bundles", 50_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 20);
+    private static final String MARKER = "벤치검색";
+
+    private static final String LEGACY_KEYWORD_SQL = """
+            SELECT COUNT(*)
+            FROM fridge_bundle fb
+            JOIN fridge_compartment fc ON fc.id = fb.fridge_compartment_id
+            LEFT JOIN dorm_user du ON du.id = fb.owner_user_id
+            WHERE fb.status IN ('DELETED')
+              AND (lower(fb.bundle_name) like :keyword
+                OR lower(to_char(fb.label_number, 'FM000')) like :keyword
+                OR lower(concat(chr(65 + fc.slot_index), to_char(fb.label_number, 'FM000'))) like :keyword
+                OR lower(concat(chr(65 + fc.slot_index), '-', to_char(fb.label_number, 'FM000'))) like :keyword
+                OR lower(coalesce(du.full_name, '')) like :keyword
+                OR EXISTS (SELECT 1 FROM room_assignment ra JOIN room rm ON rm.id = ra.room_id
+                           WHERE ra.dorm_user_id = fb.owner_user_id
+                             AND ra.released_at IS NULL
+                             AND (lower(rm.room_number) like :keyword
+                               OR lower(concat(rm.floor, 'f ', rm.room_number)) like :keyword))
+                OR EXISTS (SELECT 1 FROM fridge_item fi WHERE fi.fridge_bundle_id = fb.id AND lower(fi.item_name) like :keyword))
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FridgeBundleRepository fridgeBundleRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void seedBundles() {
+        jdbcTemplate.update(
+                """
+                        INSERT INTO fridge_bundle (id, owner_user_id, fridge_compartment_id, label_number, bundle_name,
+                                                   memo, status, deleted_at, created_at, updated_at)
+                        SELECT gen_random_uuid(),
+                               (SELECT id FROM dorm_user ORDER BY login_id LIMIT 1),
+                               (SELECT id FROM fridge_compartment ORDER BY id LIMIT 1),
+                               (g % 999) + 1,
+                               ? || '-' || g,
+                               NULL,
+                               'DELETED',
+                               now() - (g || ' seconds')::interval,
+                               now() - (g || ' seconds')::interval,
+                               now()
+                        FROM generate_series(1, ?) AS g
+                        """,
+                MARKER,
+                BUNDLES
+        );
+        jdbcTemplate.update(
+                """
+                        INSERT INTO fridge_item (id, fridge_bundle_id, item_name, quantity, unit_code, expiry_date,
+                                                 status, deleted_at, created_at, updated_at)
+                        SELECT gen_random_uuid(), fb.id, '물품-' || md5(fb.id::text), 1, NULL, current_date,
+                               'DELETED', fb.deleted_at, fb.created_at, fb.updated_at
+                        FROM fridge_bundle fb
+                        WHERE fb.bundle_name LIKE ?
+                        """,
+                MARKER + "-%"
+        );
+        jdbcTemplate.queryForObject("SELECT public.fn_refresh_fridge_bundle_search(NULL)", Integer.class);
+        jdbcTemplate.execute("ANALYZE fridge_bundle");
+        jdbcTemplate.execute("ANALYZE fridge_item");
+        jdbcTemplate.execute("ANALYZE fridge_bundle_search");
+    }
+
+    @AfterEach
+    void removeBundles() {
+        jdbcTemplate.update(
+                "DELETE FROM fridge_item WHERE fridge_bundle_id IN (SELECT id FROM fridge_bundle WHERE bundle_name LIKE ?)",
+                MARKER + "-%"
+        );
+        jdbcTemplate.update("DELETE FROM fridge_bundle WHERE bundle_name LIKE ?", MARKER + "-%");
+    }
+
+    @Test
+    void compareKeywordSearchLatency() {
+        List<String> keywords = List.of(MARKER + "-4999", "물품-ab", "없는키워드");
+        for (String keyword : keywords) {
+            double documentMillis = measure(() -> searchWithDocument(keyword));
+            double legacyMillis = measure(() -> searchWithLegacyPredicates(keyword));
+            System.out.printf(
+                    "[benchmark] bundle search bundles=%d keyword=%s document=%.2f ms legacy=%.2f ms%n",
+                    BUNDLES,
+                    keyword,
+                    documentMillis,
+                    legacyMillis
+            );
+        }
+
+        long documentMatches = searchWithDocument(MARKER + "-4999");
+        long legacyMatches = searchWithLegacyPredicates(MARKER + "-4999");
+        assertThat(documentMatches).isEqualTo(legacyMatches).isPositive();
+    }
+
+    private long searchWithDocument(String keyword) {
+        FridgeBundleSearchCondition condition = new FridgeBundleSearchCondition(
+                null,
+                null,
+                EnumSet.of(FridgeBundleStatus.DELETED),
+                keyword,
+                null,
+                null,
+                true,
+                List.of(),
+                null,
+                FridgeBundleSearchOrder.DELETED_AT_DESC
+        );
+        Page<FridgeBundle> page = transactionTemplate.execute(status ->
+                fridgeBundleRepository.searchBundles(condition, PageRequest.of(0, 20)));
+        return page == null ? 0 : page.getTotalElements();
+    }
+
+    private long searchWithLegacyPredicates(String keyword) {
+        String sql = LEGACY_KEYWORD_SQL.replace(":keyword", "?");
+        int placeholders = sql.length() - sql.replace("?", "").length();
+        Object[] args = new Object[placeholders];
+        Arrays.fill(args, "%" + keyword.toLowerCase(Locale.ROOT) + "%");
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, args);
+        return count == null ? 0 : count;
+    }
+
+    private double measure(Runnable search) {
+        search.run();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            search.run();
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000d / ITERATIONS;
+    }
+}
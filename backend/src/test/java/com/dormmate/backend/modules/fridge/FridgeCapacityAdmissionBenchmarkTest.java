@@ -0,0 +1,200 @@
+package com.dormmate.backend.modules.fridge;
+
+import static com.dormmate.backend.support.TestResidentAccounts.DEFAULT_PASSWORD;
+import static com.dormmate.backend.support.TestResidentAccounts.FLOOR2_ROOM05_SLOT1;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.dormmate.backend.modules.fridge.application.FridgeCapacityAdmissionMode;
+import com.dormmate.backend.modules.fridge.application.FridgeService;
+import com.dormmate.backend.support.AbstractPostgresIntegrationTest;
+import com.dormmate.backend.support.TestUserFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 한 칸에 N명이 동시에 포장을 등록할 때의 처리량을 허용량 확보 방식별로 비교한다.
+ * 기본 test 태스크에서는 제외되며 {@code gradle benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+class FridgeCapacityAdmissionBenchmarkTest extends AbstractPostgresIntegrationTest {
+
+    private static final int CREATORS = Integer.getInteger("benchmark.creators", 16);
+    private static final int REQUESTS_PER_CREATOR = Integer.getInteger("benchmark.requests", 10);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestUserFactory testUserFactory;
+
+    @Autowired
+    private FridgeService fridgeService;
+
+    private String accessToken;
+    private UUID slotId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        testUserFactory.ensureResident(FLOOR2_ROOM05_SLOT1, DEFAULT_PASSWORD, (short) 2, "205", (short) 1);
+        accessToken = loginAndGetAccessToken(FLOOR2_ROOM05_SLOT1, DEFAULT_PASSWORD);
+        slotId = jdbcTemplate.queryForObject(
+                """
+                        SELECT fc.id
+                        FROM fridge_compartment fc
+                        JOIN fridge_unit fu ON fu.id = fc.fridge_unit_id
+                        WHERE fu.floor_no = 2 AND fc.slot_index = 0
+                        """,
+                UUID.class
+        );
+    }
+
+    @Test
+    void compareAdmissionThroughput() throws Exception {
+        double lockingThroughput = runScenario(FridgeCapacityAdmissionMode.PESSIMISTIC_LOCK);
+        double conditionalThroughput = runScenario(FridgeCapacityAdmissionMode.CONDITIONAL_UPDATE);
+
+        System.out.printf(
+                "[benchmark] capacity admission creators=%d requests=%d pessimistic=%.1f req/s conditional=%.1f req/s%n",
+                CREATORS,
+                CREATORS * REQUESTS_PER_CREATOR,
+                lockingThroughput,
+                conditionalThroughput
+        );
+    }
+
+    private double runScenario(FridgeCapacityAdmissionMode mode) throws Exception {
+        resetSlot();
+        Object target = AopTestUtils.getTargetObject(fridgeService);
+        Object previousMode = ReflectionTestUtils.getField(target, "capacityAdmissionMode");
+        ReflectionTestUtils.setField(target, "capacityAdmissionMode", mode);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CREATORS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < CREATORS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await(10, TimeUnit.SECONDS);
+                    int created = 0;
+                    for (int j = 0; j < REQUESTS_PER_CREATOR; j++) {
+                        created += createBundle() ? 1 : 0;
+                    }
+                    return created;
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            int created = 0;
+            for (Future<Integer> future : futures) {
+                created += future.get(5, TimeUnit.MINUTES);
+            }
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000d;
+
+            assertThat(created).isEqualTo(CREATORS * REQUESTS_PER_CREATOR);
+            Integer counter = jdbcTemplate.queryForObject(
+                    "SELECT active_bundle_count FROM fridge_compartment WHERE id = ?",
+                    Integer.class,
+                    slotId
+            );
+            assertThat(counter).isEqualTo(created);
+            return created / elapsedSeconds;
+        } finally {
+            executor.shutdownNow();
+            ReflectionTestUtils.setField(target, "capacityAdmissionMode", previousMode);
+        }
+    }
+
+    private boolean createBundle() throws Exception {
+        String expiresOn = LocalDate.now(ZoneOffset.UTC).plusDays(7).toString();
+        int status = mockMvc.perform(
+                        post("/fridge/bundles")
+                                .header("Authorization", "Bearer " + accessToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                          "slotId": "%s",
+                                          "bundleName": "벤치마크",
+                                          "items": [
+                                            {
+                                              "name": "벤치마크 음료",
+                                              "expiryDate": "%s",
+                                              "quantity": 1
+                                            }
+                                          ]
+                                        }
+                                        """.formatted(slotId, expiresOn))
+                )
+                .andReturn()
+                .getResponse()
+                .getStatus();
+        return status == HttpStatus.CREATED.value();
+    }
+
+    private void resetSlot() {
+        jdbcTemplate.update(
+                "DELETE FROM fridge_item WHERE fridge_bundle_id IN (SELECT id FROM fridge_bundle WHERE fridge_compartment_id = ?)",
+                slotId
+        );
+        jdbcTemplate.update("DELETE FROM fridge_bundle WHERE fridge_compartment_id = ?", slotId);
+        jdbcTemplate.update("DELETE FROM bundle_label_bitmap WHERE fridge_compartment_id = ?", slotId);
+        jdbcTemplate.update(
+                "UPDATE fridge_compartment SET max_bundle_count = ?, active_bundle_count = 0 WHERE id = ?",
+                CREATORS * REQUESTS_PER_CREATOR,
+                slotId
+        );
+    }
+
+    private String loginAndGetAccessToken(String loginId, String password) throws Exception {
+        MvcResult result = mockMvc.perform(
+                        post("/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                          "loginId": "%s",
+                                          "password": "%s",
+                                          "deviceId": "%s-benchmark"
+                                        }
+                                        """.formatted(loginId, password, loginId))
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode response = objectMapper.readTree(result.getResponse().getContentAsByteArray());
+        return response.path("tokens").path("accessToken").asText();
+    }
+}
@@ -13,6 +13,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.dormmate.backend.modules.fridge.application.FridgeAccessDecisionCache;
+import com.dormmate.backend.modules.fridge.application.FridgeBundleArchiveScheduler;
+import com.dormmate.backend.modules.fridge.application.FridgeTopologyCache;
 import com.dormmate.backend.modules.fridge.domain.FridgeItemStatus;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleRepository;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeItemRepository;
@@ -21,15 +24,12 @@ import com.dormmate.backend.support.TestUserFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.sql.Types;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.HashMap;
 import java.util.Map;
@@ -50,10 +50,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -84,6 +85,18 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
     @Autowired
     private TestUserFactory testUserFactory;
 
+    @Autowired
+    private FridgeTopologyCache fridgeTopologyCache;
+
+    @Autowired
+    private FridgeAccessDecisionCache fridgeAccessDecisionCache;
+
+    @Autowired
+    private FridgeBundleArchiveScheduler fridgeBundleArchiveScheduler;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private final List<UUID> bundlesToCleanup = new ArrayList<>();
     private final Map<String, String> tokenOwners = new HashMap<>();
 
@@ -147,33 +160,12 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
                 slotId
         );
 
-        LabelSequenceState originalLabelState = jdbcTemplate.query(
-                """
-                        SELECT next_number, recycled_numbers::text AS recycled_numbers
-                        FROM bundle_label_sequence
-                        WHERE fridge_compartment_id = ?
-                        """,
-                singleLabelState(),
-                slotId
-        );
-
         clearSlotBundles(slotId);
         jdbcTemplate.update(
                 "UPDATE fridge_compartment SET max_bundle_count = ? WHERE id = ?",
                 1,
                 slotId
         );
-        jdbcTemplate.update(
-                """
-                        INSERT INTO bundle_label_sequence (fridge_compartment_id, next_number, recycled_numbers)
-                        VALUES (?, ?, '[]'::jsonb)
-                        ON CONFLICT (fridge_compartment_id) DO UPDATE
-                        SET next_number = EXCLUDED.next_number,
-                            recycled_numbers = '[]'::jsonb
-                        """,
-                slotId,
-                1
-        );
 
         UUID firstBundleId = null;
         try {
@@ -214,14 +206,15 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
                         slotId
                 );
             }
-            restoreLabelSequence(slotId, originalLabelState);
+            rebuildLabelBitmaps();
         }
     }
 
     @Test
-    void concurrentBundleCreationReturnsCapacityExceededForSecondRequest() throws Exception {
+    void bulkCreationReportsPerBundleResultsAcrossCompartments() throws Exception {
         String accessToken = loginAndGetAccessToken(FLOOR2_ROOM05_SLOT1, DEFAULT_PASSWORD);
         UUID slotId = fetchSlotId(FLOOR_2, SLOT_INDEX_A);
+        UUID otherFloorSlotId = fetchSlotId(FLOOR_3, SLOT_INDEX_A);
 
         Integer originalCapacity = jdbcTemplate.queryForObject(
                 "SELECT max_bundle_count FROM fridge_compartment WHERE id = ?",
@@ -229,13 +222,131 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
                 slotId
         );
 
-        LabelSequenceState originalLabelState = jdbcTemplate.query(
-                """
-                        SELECT next_number, recycled_numbers::text AS recycled_numbers
-                        FROM bundle_label_sequence
-                        WHERE fridge_compartment_id = ?
-                        """,
-                singleLabelState(),
+        clearSlotBundles(slotId);
+        jdbcTemplate.update(
+                "UPDATE fridge_compartment SET max_bundle_count = ? WHERE id = ?",
+                2,
+                slotId
+        );
+
+        String expiresOn = LocalDate.now(ZoneOffset.UTC).plusDays(5).toString();
+        String bundleTemplate = """
+                {
+                  "slotId": "%s",
+                  "bundleName": "%s",
+                  "items": [
+                    { "name": "일괄 식품 1", "expiryDate": "%s", "quantity": 1 },
+                    { "name": "일괄 식품 2", "expiryDate": "%s", "quantity": 2 }
+                  ]
+                }
+                """;
+        String body = "{\"bundles\": [%s, %s, %s, %s]}".formatted(
+                bundleTemplate.formatted(slotId, "일괄 1", expiresOn, expiresOn),
+                bundleTemplate.formatted(otherFloorSlotId, "다른 층", expiresOn, expiresOn),
+                bundleTemplate.formatted(slotId, "일괄 2", expiresOn, expiresOn),
+                bundleTemplate.formatted(slotId, "일괄 3", expiresOn, expiresOn)
+        );
+
+        try {
+            MvcResult result = mockMvc.perform(
+                            post("/fridge/bundles/bulk")
+                                    .header("Authorization", "Bearer " + accessToken)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body)
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.createdCount").value(2))
+                    .andExpect(jsonPath("$.failedCount").value(2))
+                    .andExpect(jsonPath("$.results[0].created").value(true))
+                    .andExpect(jsonPath("$.results[0].bundle.items.length()").value(2))
+                    .andExpect(jsonPath("$.results[1].created").value(false))
+                    .andExpect(jsonPath("$.results[1].errorCode").value("FORBIDDEN_SLOT"))
+                    .andExpect(jsonPath("$.results[2].created").value(true))
+                    .andExpect(jsonPath("$.results[3].created").value(false))
+                    .andExpect(jsonPath("$.results[3].errorCode").value("CAPACITY_EXCEEDED"))
+                    .andReturn();
+
+            JsonNode results = readJson(result).path("results");
+            bundlesToCleanup.add(UUID.fromString(results.get(0).path("bundle").path("bundleId").asText()));
+            bundlesToCleanup.add(UUID.fromString(results.get(2).path("bundle").path("bundleId").asText()));
+            assertThat(results.get(0).path("bundle").path("labelNumber").asInt())
+                    .isNotEqualTo(results.get(2).path("bundle").path("labelNumber").asInt());
+
+            Integer activeCount = jdbcTemplate.queryForObject(
+                    "SELECT active_bundle_count FROM fridge_compartment WHERE id = ?",
+                    Integer.class,
+                    slotId
+            );
+            assertThat(activeCount).isEqualTo(2);
+        } finally {
+            if (originalCapacity != null) {
+                jdbcTemplate.update(
+                        "UPDATE fridge_compartment SET max_bundle_count = ? WHERE id = ?",
+                        originalCapacity,
+                        slotId
+                );
+            }
+            rebuildLabelBitmaps();
+        }
+    }
+
+    @Test
+    void bulkCreationRejectsOverlongItemNamePerBundle() throws Exception {
+        String accessToken = loginAndGetAccessToken(FLOOR2_ROOM05_SLOT1, DEFAULT_PASSWORD);
+        UUID slotId = fetchSlotId(FLOOR_2, SLOT_INDEX_A);
+        clearSlotBundles(slotId);
+
+        String expiresOn = LocalDate.now(ZoneOffset.UTC).plusDays(5).toString();
+        String bundleTemplate = """
+                {
+                  "slotId": "%s",
+                  "bundleName": "%s",
+                  "items": [
+                    { "name": "%s", "expiryDate": "%s", "quantity": 1 }
+                  ]
+                }
+                """;
+        String body = "{\"bundles\": [%s, %s]}".formatted(
+                bundleTemplate.formatted(slotId, "긴 이름", "가".repeat(121), expiresOn),
+                bundleTemplate.formatted(slotId, "정상 포장", "일괄 식품", expiresOn)
+        );
+
+        try {
+            MvcResult result = mockMvc.perform(
+                            post("/fridge/bundles/bulk")
+                                    .header("Authorization", "Bearer " + accessToken)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body)
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.createdCount").value(1))
+                    .andExpect(jsonPath("$.failedCount").value(1))
+                    .andExpect(jsonPath("$.results[0].created").value(false))
+                    .andExpect(jsonPath("$.results[0].errorCode").value("INVALID_NAME"))
+                    .andExpect(jsonPath("$.results[1].created").value(true))
+                    .andReturn();
+
+            bundlesToCleanup.add(UUID.fromString(
+                    readJson(result).path("results").get(1).path("bundle").path("bundleId").asText()));
+            Integer activeCount = jdbcTemplate.queryForObject(
+                    "SELECT active_bundle_count FROM fridge_compartment WHERE id = ?",
+                    Integer.class,
+                    slotId
+            );
+            assertThat(activeCount).isEqualTo(1);
+        } finally {
+            rebuildLabelBitmaps();
+        }
+    }
+
+    @Test
+    void concurrentBundleCreationReturnsCapacityExceededForSecondRequest() throws Exception {
+        String accessToken = loginAndGetAccessToken(FLOOR2_ROOM05_SLOT1, DEFAULT_PASSWORD);
+        UUID slotId = fetchSlotId(FLOOR_2, SLOT_INDEX_A);
+
+        Integer originalCapacity = jdbcTemplate.queryForObject(
+                "SELECT max_bundle_count FROM fridge_compartment WHERE id = ?",
+                Integer.class,
                 slotId
         );
 
@@ -245,17 +356,6 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
                 1,
                 slotId
         );
-        jdbcTemplate.update(
-                """
-                        INSERT INTO bundle_label_sequence (fridge_compartment_id, next_number, recycled_numbers)
-                        VALUES (?, ?, '[]'::jsonb)
-                        ON CONFLICT (fridge_compartment_id) DO UPDATE
-                        SET next_number = EXCLUDED.next_number,
-                            recycled_numbers = '[]'::jsonb
-                        """,
-                slotId,
-                1
-        );
 
         ExecutorService executor = Executors.newFixedThreadPool(2);
         CountDownLatch ready = new CountDownLatch(2);
@@ -328,7 +428,174 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
                         slotId
                 );
             }
-            restoreLabelSequence(slotId, originalLabelState);
+            rebuildLabelBitmaps();
+        }
+    }
+
+    @Test
+    void bundleCreationWaitingOnInspectionStartIsRejectedAfterLockCommits() throws Exception {
+        String accessToken = loginAndGetAccessToken(FLOOR2_ROOM05_SLOT1, DEFAULT_PASSWORD);
+        UUID slotId = fetchSlotId(FLOOR_2, SLOT_INDEX_A);
+        UUID inspectorId = fetchUserId(FLOOR2_ROOM05_SLOT3);
+        clearSlotBundles(slotId);
+        Integer countBefore = jdbcTemplate.queryForObject(
+                "SELECT active_bundle_count FROM fridge_compartment WHERE id = ?",
+                Integer.class,
+                slotId
+        );
+
+        // 다른 인스턴스에서 검사가 시작되는 상황: 이 프로세스의 잠금 레지스트리는 모르고, 칸 행 잠금만 잡힌 채 커밋 전이다.
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch inspectionWritten = new CountDownLatch(1);
+        CountDownLatch commitInspection = new CountDownLatch(1);
+        UUID sessionId = UUID.randomUUID();
+        TransactionTemplate inspectionTransaction = new TransactionTemplate(transactionManager);
+        Future<?> inspection = executor.submit(() -> inspectionTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update(
+                    "UPDATE fridge_compartment SET is_locked = TRUE, locked_until = now() + interval '30 minutes' WHERE id = ?",
+                    slotId
+            );
+            jdbcTemplate.update(
+                    "INSERT INTO inspection_session (id, fridge_compartment_id, started_by, status) VALUES (?, ?, ?, 'IN_PROGRESS')",
+                    sessionId,
+                    slotId,
+                    inspectorId
+            );
+            inspectionWritten.countDown();
+            try {
+                assertThat(commitInspection.await(10, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }));
+
+        try {
+            assertThat(inspectionWritten.await(5, TimeUnit.SECONDS)).isTrue();
+            String expiresOn = LocalDate.now(ZoneOffset.UTC).plusDays(7).toString();
+            Future<MockHttpServletResponse> creation = executor.submit(() -> mockMvc.perform(
+                            post("/fridge/bundles")
+                                    .header("Authorization", "Bearer " + accessToken)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("""
+                                            {
+                                              "slotId": "%s",
+                                              "bundleName": "검사 경합 테스트",
+                                              "items": [
+                                                {
+                                                  "name": "테스트 음료",
+                                                  "expiryDate": "%s",
+                                                  "quantity": 1
+                                                }
+                                              ]
+                                            }
+                                            """.formatted(slotId, expiresOn))
+                    )
+                    .andReturn()
+                    .getResponse());
+
+            // 등록 요청이 잠금 전 칸 상태를 읽고 허용량 UPDATE에서 행 잠금을 기다릴 때까지 둔다.
+            boolean waiting = false;
+            for (int attempt = 0; attempt < 250 && !waiting; attempt++) {
+                Integer waiters = jdbcTemplate.queryForObject(
+                        """
+                                SELECT COUNT(*)
+                                FROM pg_stat_activity
+                                WHERE wait_event_type = 'Lock'
+                                  AND query ILIKE '%active_bundle_count + 1%'
+                                """,
+                        Integer.class
+                );
+                waiting = waiters != null && waiters > 0;
+                if (!waiting) {
+                    Thread.sleep(20);
+                }
+            }
+            assertThat(waiting).isTrue();
+
+            commitInspection.countDown();
+            inspection.get(10, TimeUnit.SECONDS);
+
+            MockHttpServletResponse response = creation.get(10, TimeUnit.SECONDS);
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.LOCKED.value());
+            assertThat(readJson(response).path("code").asText()).isEqualTo("COMPARTMENT_LOCKED");
+            Integer countAfter = jdbcTemplate.queryForObject(
+                    "SELECT active_bundle_count FROM fridge_compartment WHERE id = ?",
+                    Integer.class,
+                    slotId
+            );
+            Integer bundleCount = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM fridge_bundle WHERE fridge_compartment_id = ? AND status = 'ACTIVE'",
+                    Integer.class,
+                    slotId
+            );
+            assertThat(countAfter).isEqualTo(countBefore);
+            assertThat(bundleCount).isZero();
+        } finally {
+            commitInspection.countDown();
+            executor.shutdownNow();
+            jdbcTemplate.update("DELETE FROM inspection_session WHERE id = ?", sessionId);
+            jdbcTemplate.update(
+                    "UPDATE fridge_compartment SET is_locked = FALSE, locked_until = NULL WHERE id = ?",
+                    slotId
+            );
+            rebuildLabelBitmaps();
+        }
+    }
+
+    @Test
+    void occupancyReconciliationSkipsCompartmentHeldByWriter() throws Exception {
+        UUID slotId = fetchSlotId(FLOOR_2, SLOT_INDEX_A);
+        clearSlotBundles(slotId);
+
+        // 등록 요청이 허용량을 확보하고 포장 INSERT 전에 멈춘 상황: 칸 행 잠금과 증가한 카운터만 있다.
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch reserved = new CountDownLatch(1);
+        CountDownLatch finishWriter = new CountDownLatch(1);
+        TransactionTemplate writerTransaction = new TransactionTemplate(transactionManager);
+        Future<?> writer = executor.submit(() -> writerTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update(
+                    "UPDATE fridge_compartment SET active_bundle_count = active_bundle_count + 1 WHERE id = ?",
+                    slotId
+            );
+            reserved.countDown();
+            try {
+                assertThat(finishWriter.await(10, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }));
+
+        try {
+            assertThat(reserved.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 잠긴 칸을 기다리지 않고 돌아오며, 쓰기 중인 칸의 카운터는 건드리지 않는다.
+            jdbcTemplate.queryForObject("SELECT public.fn_reconcile_compartment_bundle_counts()", Integer.class);
+            jdbcTemplate.queryForObject("SELECT public.fn_rebuild_bundle_label_bitmaps()", Integer.class);
+
+            finishWriter.countDown();
+            writer.get(10, TimeUnit.SECONDS);
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT active_bundle_count FROM fridge_compartment WHERE id = ?",
+                    Integer.class,
+                    slotId
+            );
+            assertThat(count).isEqualTo(1);
+
+            // 잠금이 풀린 다음 주기에 실제 포장 수로 맞춘다.
+            jdbcTemplate.queryForObject("SELECT public.fn_reconcile_compartment_bundle_counts()", Integer.class);
+            Integer reconciled = jdbcTemplate.queryForObject(
+                    "SELECT active_bundle_count FROM fridge_compartment WHERE id = ?",
+                    Integer.class,
+                    slotId
+            );
+            assertThat(reconciled).isZero();
+        } finally {
+            finishWriter.countDown();
+            executor.shutdownNow();
+            jdbcTemplate.queryForObject("SELECT public.fn_reconcile_compartment_bundle_counts()", Integer.class);
+            rebuildLabelBitmaps();
         }
     }
 
@@ -685,6 +952,8 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
                     updatedStatus,
                     slotId
             );
+            fridgeTopologyCache.invalidate();
+            fridgeAccessDecisionCache.invalidateAll();
 
             MvcResult result = mockMvc.perform(
                             get("/fridge/slots")
@@ -707,6 +976,8 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
                         originalStatus,
                         slotId
                 );
+                fridgeTopologyCache.invalidate();
+                fridgeAccessDecisionCache.invalidateAll();
             }
         }
     }
@@ -829,6 +1100,53 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
         }
     }
 
+    @Test
+    void bundleSearchUsesCurrentOwnerName() throws Exception {
+        String adminToken = loginAndGetAccessToken(ADMIN_LOGIN_ID, ADMIN_PASSWORD);
+        String residentToken = loginAndGetAccessToken(FLOOR2_ROOM05_SLOT1, DEFAULT_PASSWORD);
+        UUID slotId = fetchSlotId(FLOOR_2, SLOT_INDEX_A);
+        UUID ownerId = fetchUserId(FLOOR2_ROOM05_SLOT1);
+
+        clearSlotBundles(slotId);
+
+        JsonNode created = createBundle(residentToken, slotId, "owner-rename");
+        UUID bundleId = UUID.fromString(created.path("bundle").path("bundleId").asText());
+        bundlesToCleanup.add(bundleId);
+
+        String originalName = jdbcTemplate.queryForObject(
+                "SELECT full_name FROM dorm_user WHERE id = ?",
+                String.class,
+                ownerId
+        );
+        // 포장을 다시 쓰지 않고 이름만 바뀐 경우에도 새 이름으로 찾고 옛 이름으로는 찾지 않는다.
+        jdbcTemplate.update("UPDATE dorm_user SET full_name = ? WHERE id = ?", "Renamed Owner", ownerId);
+        try {
+            MvcResult renamedResult = mockMvc.perform(
+                            get("/fridge/bundles")
+                                    .param("owner", "all")
+                                    .param("search", "renamed owner")
+                                    .header("Authorization", "Bearer " + adminToken)
+                    )
+                    .andExpect(status().isOk())
+                    .andReturn();
+            assertThat(findBundleSummaryById(readJson(renamedResult).path("items"), bundleId)).isNotNull();
+
+            MvcResult staleResult = mockMvc.perform(
+                            get("/fridge/bundles")
+                                    .param("owner", "all")
+                                    .param("search", originalName)
+                                    .header("Authorization", "Bearer " + adminToken)
+                    )
+                    .andExpect(status().isOk())
+                    .andReturn();
+            for (JsonNode summary : readJson(staleResult).path("items")) {
+                assertThat(summary.path("bundleId").asText()).isNotEqualTo(bundleId.toString());
+            }
+        } finally {
+            jdbcTemplate.update("UPDATE dorm_user SET full_name = ? WHERE id = ?", originalName, ownerId);
+        }
+    }
+
     @Test
     void deletedBundleListingCanFilterBySlotId() throws Exception {
         String adminToken = loginAndGetAccessToken(ADMIN_LOGIN_ID, ADMIN_PASSWORD);
@@ -1047,6 +1365,103 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
         assertThat(items.get(0).path("bundleName").asText()).isEqualTo("Alpha Search Bundle");
     }
 
+    @Test
+    void bundleListSupportsCursorPagingWithoutCount() throws Exception {
+        String adminToken = loginAndGetAccessToken(ADMIN_LOGIN_ID, ADMIN_PASSWORD);
+        String residentToken = loginAndGetAccessToken(FLOOR2_ROOM05_SLOT1, DEFAULT_PASSWORD);
+        UUID slotId = fetchSlotId(FLOOR_2, SLOT_INDEX_A);
+
+        clearSlotBundles(slotId);
+
+        createBundle(residentToken, slotId, "cursor-1");
+        createBundle(residentToken, slotId, "cursor-2");
+        createBundle(residentToken, slotId, "cursor-3");
+
+        JsonNode firstPage = readJson(mockMvc.perform(
+                        get("/fridge/bundles")
+                                .param("slotId", slotId.toString())
+                                .param("owner", "all")
+                                .param("size", "2")
+                                .param("count", "none")
+                                .header("Authorization", "Bearer " + adminToken)
+                )
+                .andExpect(status().isOk())
+                .andReturn());
+
+        assertThat(firstPage.path("items").size()).isEqualTo(2);
+        assertThat(firstPage.path("totalCountExact").asBoolean()).isFalse();
+        String nextCursor = firstPage.path("nextCursor").asText();
+        assertThat(nextCursor).isNotBlank();
+
+        JsonNode secondPage = readJson(mockMvc.perform(
+                        get("/fridge/bundles")
+                                .param("slotId", slotId.toString())
+                                .param("owner", "all")
+                                .param("size", "2")
+                                .param("cursor", nextCursor)
+                                .header("Authorization", "Bearer " + adminToken)
+                )
+                .andExpect(status().isOk())
+                .andReturn());
+
+        assertThat(secondPage.path("items").size()).isEqualTo(1);
+        assertThat(secondPage.path("totalCount").asInt()).isEqualTo(3);
+        assertThat(secondPage.has("nextCursor")).isFalse();
+
+        List<String> names = new ArrayList<>();
+        firstPage.path("items").forEach(item -> names.add(item.path("bundleName").asText()));
+        secondPage.path("items").forEach(item -> names.add(item.path("bundleName").asText()));
+        assertThat(names).containsExactly("cursor-3", "cursor-2", "cursor-1");
+
+        mockMvc.perform(
+                        get("/fridge/bundles")
+                                .param("owner", "all")
+                                .param("cursor", "not-a-cursor")
+                                .header("Authorization", "Bearer " + adminToken)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+    }
+
+    @Test
+    void bundleListAnswersNotModifiedUntilSlotChanges() throws Exception {
+        String residentToken = loginAndGetAccessToken(FLOOR2_ROOM05_SLOT1, DEFAULT_PASSWORD);
+        UUID slotId = fetchSlotId(FLOOR_2, SLOT_INDEX_A);
+
+        clearSlotBundles(slotId);
+        createBundle(residentToken, slotId, "etag-1");
+
+        String etag = mockMvc.perform(
+                        get("/fridge/bundles")
+                                .param("slotId", slotId.toString())
+                                .header("Authorization", "Bearer " + residentToken)
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        assertThat(etag).isNotBlank();
+
+        mockMvc.perform(
+                        get("/fridge/bundles")
+                                .param("slotId", slotId.toString())
+                                .header("Authorization", "Bearer " + residentToken)
+                                .header("If-None-Match", etag)
+                )
+                .andExpect(status().isNotModified());
+
+        createBundle(residentToken, slotId, "etag-2");
+
+        mockMvc.perform(
+                        get("/fridge/bundles")
+                                .param("slotId", slotId.toString())
+                                .header("Authorization", "Bearer " + residentToken)
+                                .header("If-None-Match", etag)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2));
+    }
+
     @Test
     void adminBundleSearchSupportsLabelLookup() throws Exception {
         String adminToken = loginAndGetAccessToken(ADMIN_LOGIN_ID, ADMIN_PASSWORD);
@@ -1132,6 +1547,133 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
                                 .header("Authorization", "Bearer " + residentToken)
                 )
                 .andExpect(status().isForbidden());
+
+        mockMvc.perform(
+                        get("/admin/fridge/bundles/export")
+                                .header("Authorization", "Bearer " + residentToken)
+                )
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void archivedBundlesMoveOutOfHotTableAndStayInDeletedHistory() throws Exception {
+        String adminToken = loginAndGetAccessToken(ADMIN_LOGIN_ID, ADMIN_PASSWORD);
+        String residentToken = loginAndGetAccessToken(FLOOR2_ROOM05_SLOT1, DEFAULT_PASSWORD);
+        UUID slotId = fetchSlotId(FLOOR_2, SLOT_INDEX_A);
+
+        clearSlotBundles(slotId);
+        JsonNode created = createBundle(residentToken, slotId, "archive-target");
+        UUID bundleId = UUID.fromString(created.path("bundle").path("bundleId").asText());
+        mockMvc.perform(
+                        delete("/fridge/bundles/" + bundleId)
+                                .header("Authorization", "Bearer " + residentToken)
+                )
+                .andExpect(status().isNoContent());
+
+        OffsetDateTime deletedAt = OffsetDateTime.now(ZoneOffset.UTC).minusDays(400);
+        jdbcTemplate.update("UPDATE fridge_bundle SET deleted_at = ? WHERE id = ?", deletedAt, bundleId);
+        jdbcTemplate.update(
+                "UPDATE fridge_item SET status = 'DELETED', deleted_at = ? WHERE fridge_bundle_id = ?",
+                deletedAt,
+                bundleId
+        );
+
+        String etag = mockMvc.perform(
+                        get("/fridge/bundles")
+                                .param("slotId", slotId.toString())
+                                .header("Authorization", "Bearer " + adminToken)
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        fridgeBundleArchiveScheduler.archiveDeletedBundles();
+
+        mockMvc.perform(
+                        get("/fridge/bundles")
+                                .param("slotId", slotId.toString())
+                                .header("Authorization", "Bearer " + adminToken)
+                                .header("If-None-Match", etag)
+                )
+                .andExpect(status().isOk());
+        assertThat(fridgeBundleRepository.findById(bundleId)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM fridge_bundle_archive WHERE id = ?", Integer.class, bundleId)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM fridge_item WHERE fridge_bundle_id = ?", Integer.class, bundleId)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM fridge_item_archive WHERE fridge_bundle_id = ?", Integer.class, bundleId))
+                .isPositive();
+
+        JsonNode recent = readJson(mockMvc.perform(
+                        get("/admin/fridge/bundles/deleted")
+                                .param("slotId", slotId.toString())
+                                .header("Authorization", "Bearer " + adminToken)
+                )
+                .andExpect(status().isOk())
+                .andReturn());
+        assertThat(recent.path("items").findValuesAsText("bundleId")).doesNotContain(bundleId.toString());
+
+        JsonNode history = readJson(mockMvc.perform(
+                        get("/admin/fridge/bundles/deleted")
+                                .param("slotId", slotId.toString())
+                                .param("since", OffsetDateTime.now(ZoneOffset.UTC).minusDays(500).toString())
+                                .header("Authorization", "Bearer " + adminToken)
+                )
+                .andExpect(status().isOk())
+                .andReturn());
+        assertThat(history.path("items").findValuesAsText("bundleId")).contains(bundleId.toString());
+    }
+
+    @Test
+    void adminExportStreamsBundlesAsNdjsonAndCsv() throws Exception {
+        String adminToken = loginAndGetAccessToken(ADMIN_LOGIN_ID, ADMIN_PASSWORD);
+        String residentToken = loginAndGetAccessToken(FLOOR2_ROOM05_SLOT1, DEFAULT_PASSWORD);
+        UUID slotId = fetchSlotId(FLOOR_2, SLOT_INDEX_A);
+
+        clearSlotBundles(slotId);
+        createBundle(residentToken, slotId, "export-1");
+        createBundle(residentToken, slotId, "export-2");
+
+        MvcResult ndjsonResult = mockMvc.perform(
+                        get("/admin/fridge/bundles/export")
+                                .param("slotId", slotId.toString())
+                                .param("status", "all")
+                                .header("Authorization", "Bearer " + adminToken)
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(ndjsonResult.getResponse().getContentType()).startsWith("application/x-ndjson");
+        String[] lines = ndjsonResult.getResponse().getContentAsString().strip().split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode newest = objectMapper.readTree(lines[0]);
+        assertThat(newest.path("bundleName").asText()).isEqualTo("export-2");
+        assertThat(newest.path("items").size()).isGreaterThanOrEqualTo(1);
+        assertThat(objectMapper.readTree(lines[1]).path("bundleName").asText()).isEqualTo("export-1");
+
+        MvcResult csvResult = mockMvc.perform(
+                        get("/admin/fridge/bundles/export")
+                                .param("slotId", slotId.toString())
+                                .param("format", "csv")
+                                .param("search", "export-1")
+                                .header("Authorization", "Bearer " + adminToken)
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(csvResult.getResponse().getContentType()).startsWith("text/csv");
+        String csv = csvResult.getResponse().getContentAsString();
+        assertThat(csv).contains("bundleId,floor,slot,label,bundleName");
+        assertThat(csv).contains("export-1").doesNotContain("export-2");
+
+        mockMvc.perform(
+                        get("/admin/fridge/bundles/export")
+                                .param("format", "xml")
+                                .header("Authorization", "Bearer " + adminToken)
+                )
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -1279,16 +1821,6 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
         String managerToken = loginAndGetAccessToken(ADMIN_LOGIN_ID, ADMIN_PASSWORD);
         UUID slotId = fetchSlotId(4, SLOT_INDEX_A);
 
-        LabelSequenceState originalLabelState = jdbcTemplate.query(
-                """
-                        SELECT next_number, recycled_numbers::text AS recycled_numbers
-                        FROM bundle_label_sequence
-                        WHERE fridge_compartment_id = ?
-                        """,
-                singleLabelState(),
-                slotId
-        );
-
         clearSlotBundles(slotId);
 
         try {
@@ -1307,24 +1839,20 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
 
             assertThat(reusedLabelNumber).isEqualTo(initialLabelNumber);
 
-            LabelSequenceState afterState = jdbcTemplate.query(
+            Boolean labelOccupied = jdbcTemplate.queryForObject(
                     """
-                            SELECT next_number, recycled_numbers::text AS recycled_numbers
-                            FROM bundle_label_sequence
+                            SELECT get_bit(occupied_labels, ?) = 1
+                            FROM bundle_label_bitmap
                             WHERE fridge_compartment_id = ?
                             """,
-                    singleLabelState(),
+                    Boolean.class,
+                    reusedLabelNumber - 1,
                     slotId
             );
-            assertThat(afterState).isNotNull();
-            JsonNode recycled = objectMapper.readTree(
-                    Optional.ofNullable(afterState.recycledNumbers()).orElse("[]")
-            );
-            assertThat(recycled.isArray()).isTrue();
-            assertThat(recycled.size()).isZero();
+            assertThat(labelOccupied).isTrue();
         } finally {
             clearSlotBundles(slotId);
-            restoreLabelSequence(slotId, originalLabelState);
+            rebuildLabelBitmaps();
         }
     }
 
@@ -1413,6 +1941,63 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
         });
     }
 
+    @Test
+    void expiryHistogramFollowsItemWrites() throws Exception {
+        String adminToken = loginAndGetAccessToken(ADMIN_LOGIN_ID, ADMIN_PASSWORD);
+        String residentToken = loginAndGetAccessToken(FLOOR2_ROOM05_SLOT1, DEFAULT_PASSWORD);
+        UUID slotId = fetchSlotId(FLOOR_2, SLOT_INDEX_A);
+
+        clearSlotBundles(slotId);
+        long before = expiryHistogramCount(adminToken, 4);
+
+        JsonNode bundleResponse = createBundle(residentToken, slotId, "유통기한 분포 검증");
+        UUID itemId = UUID.fromString(bundleResponse.path("bundle").path("items").get(0).path("itemId").asText());
+        assertThat(expiryHistogramCount(adminToken, 4)).isEqualTo(before + 1);
+
+        String movedExpiry = LocalDate.now(ZoneOffset.UTC).plusDays(1).toString();
+        mockMvc.perform(
+                        patch("/fridge/items/" + itemId)
+                                .header("Authorization", "Bearer " + residentToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                          "expiryDate": "%s"
+                                        }
+                                        """.formatted(movedExpiry))
+                )
+                .andExpect(status().isOk());
+        assertThat(expiryHistogramCount(adminToken, 4)).isEqualTo(before);
+        assertThat(expiryHistogramCount(adminToken, 1)).isGreaterThanOrEqualTo(1);
+
+        mockMvc.perform(
+                        delete("/fridge/items/" + itemId)
+                                .header("Authorization", "Bearer " + residentToken)
+                )
+                .andExpect(status().isNoContent());
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        assertThat(fridgeItemRepository.findBucketedItemIdsExpiringBetween(today, today.plusDays(7)))
+                .doesNotContain(itemId);
+
+        mockMvc.perform(get("/admin/fridge/compartments/expiry-histogram")
+                        .param("days", "31")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/admin/fridge/compartments/expiry-histogram")
+                        .header("Authorization", "Bearer " + residentToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private long expiryHistogramCount(String adminToken, int dayOffset) throws Exception {
+        MvcResult result = mockMvc.perform(get("/admin/fridge/compartments/expiry-histogram")
+                        .param("floor", String.valueOf(FLOOR_2))
+                        .param("days", "7")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.floors.length()").value(1))
+                .andReturn();
+        return readJson(result).path("floors").get(0).path("days").get(dayOffset).path("itemCount").asLong();
+    }
+
     private JsonNode createBundle(String accessToken, UUID slotId, String bundleName) throws Exception {
         String expiresOn = LocalDate.now(ZoneOffset.UTC).plusDays(4).toString();
         MvcResult result = mockMvc.perform(
@@ -1537,6 +2122,9 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
                 "DELETE FROM fridge_bundle WHERE fridge_compartment_id = ?",
                 slotId
         );
+        jdbcTemplate.queryForObject("SELECT public.fn_reconcile_compartment_bundle_counts()", Integer.class);
+        jdbcTemplate.queryForObject("SELECT public.fn_refresh_fridge_expiry_buckets(NULL)", Integer.class);
+        rebuildLabelBitmaps();
     }
 
     private void overrideDeletedAt(UUID bundleId, OffsetDateTime deletedAt) {
@@ -1564,30 +2152,8 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
         );
     }
 
-    private ResultSetExtractor<LabelSequenceState> singleLabelState() {
-        return rs -> rs.next() ? mapLabelState(rs) : null;
-    }
-
-    private LabelSequenceState mapLabelState(ResultSet rs) throws SQLException {
-        int nextNumber = rs.getInt("next_number");
-        String recycled = rs.getString("recycled_numbers");
-        return new LabelSequenceState(nextNumber, recycled);
-    }
-
-    private void restoreLabelSequence(UUID slotId, LabelSequenceState state) {
-        if (state == null) {
-            jdbcTemplate.update(
-                    "DELETE FROM bundle_label_sequence WHERE fridge_compartment_id = ?",
-                    slotId
-            );
-        } else {
-            jdbcTemplate.update(
-                    "UPDATE bundle_label_sequence SET next_number = ?, recycled_numbers = ?::jsonb WHERE fridge_compartment_id = ?",
-                    state.nextNumber(),
-                    Optional.ofNullable(state.recycledNumbers()).orElse("[]"),
-                    slotId
-            );
-        }
+    private void rebuildLabelBitmaps() {
+        jdbcTemplate.queryForObject("SELECT public.fn_rebuild_bundle_label_bitmaps()", Integer.class);
     }
 
     private LockState fetchLockState(UUID slotId) {
@@ -1614,6 +2180,14 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
                     ps.setObject(3, slotId);
                 }
         );
+        // 칸 목록의 잠금 표시는 칸 상태 투영에서 읽는다.
+        jdbcTemplate.queryForObject(
+                "SELECT public.fn_refresh_fridge_slot_status(ARRAY[?]::uuid[])",
+                Integer.class,
+                slotId
+        );
+        fridgeTopologyCache.invalidate();
+        fridgeAccessDecisionCache.invalidateAll();
     }
 
     private void assertAccessibleSlotsMatch(String loginId, String password) throws Exception {
@@ -1684,6 +2258,8 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
                 compartmentId,
                 roomId
         );
+        fridgeTopologyCache.invalidate();
+        fridgeAccessDecisionCache.invalidateAll();
     }
 
     private void ensureResident(String loginId, String password) {
@@ -1737,9 +2313,6 @@ class FridgeIntegrationTest extends AbstractPostgresIntegrationTest {
         assertThat(slotIdsFromApi).containsExactlyInAnyOrderElementsOf(Set.copyOf(expectedSlotIds));
     }
 
-    private record LabelSequenceState(int nextNumber, String recycledNumbers) {
-    }
-
     private record LockState(boolean locked, OffsetDateTime lockedUntil) {
     }
 }
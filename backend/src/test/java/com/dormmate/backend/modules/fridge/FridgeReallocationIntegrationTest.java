@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -51,6 +52,9 @@ class FridgeReallocationIntegrationTest extends AbstractPostgresIntegrationTest
     @Autowired
     private TestUserFactory testUserFactory;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private String adminToken;
     private String residentToken;
 
@@ -87,9 +91,94 @@ class FridgeReallocationIntegrationTest extends AbstractPostgresIntegrationTest
 
         JsonNode applyResponse = objectMapper.readTree(applyResult.getResponse().getContentAsString());
         assertThat(applyResponse.path("affectedCompartments").asInt()).isEqualTo(allocations.size());
-        assertThat(applyResponse.path("createdAssignments").asInt()).isGreaterThan(0);
+        assertThat(applyResponse.path("createdAssignments").asInt())
+                .isEqualTo(preview.path("churn").path("createdAssignments").asInt());
+        assertThat(applyResponse.path("releasedAssignments").asInt())
+                .isEqualTo(preview.path("churn").path("releasedAssignments").asInt());
 
         verifyExclusiveAssignments(preview);
+
+        // 같은 배정을 다시 적용하면 배정 행을 건드리지 않는다.
+        MvcResult repeatResult = mockMvc.perform(
+                        post("/admin/fridge/reallocations/apply")
+                                .header("Authorization", "Bearer " + adminToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(applyPayload.toString())
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode repeatResponse = objectMapper.readTree(repeatResult.getResponse().getContentAsString());
+        assertThat(repeatResponse.path("createdAssignments").asInt()).isZero();
+        assertThat(repeatResponse.path("releasedAssignments").asInt()).isZero();
+        assertThat(repeatResponse.path("retainedAssignments").asInt()).isGreaterThan(0);
+        assertThat(meterRegistry.find("fridge.reallocation.lock.hold").tag("outcome", "committed").timer())
+                .isNotNull()
+                .satisfies(timer -> assertThat(timer.count()).isGreaterThanOrEqualTo(2));
+    }
+
+    @Test
+    void minChurnPreviewKeepsCurrentAssignmentsWhenAlreadyBalanced() throws Exception {
+        JsonNode evenSplit = requestPreview(FLOOR_2);
+        mockMvc.perform(
+                        post("/admin/fridge/reallocations/apply")
+                                .header("Authorization", "Bearer " + adminToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(buildApplyPayload(FLOOR_2, evenSplit.path("allocations")).toString())
+                )
+                .andExpect(status().isOk());
+
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.put("floor", FLOOR_2);
+        payload.put("mode", "MIN_CHURN");
+        MvcResult result = mockMvc.perform(
+                        post("/admin/fridge/reallocations/preview")
+                                .header("Authorization", "Bearer " + adminToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(payload.toString())
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode preview = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(preview.path("mode").asText()).isEqualTo("MIN_CHURN");
+        JsonNode churn = preview.path("churn");
+        assertThat(churn.path("movedRooms").asInt()).isZero();
+        assertThat(churn.path("releasedAssignments").asInt()).isZero();
+        assertThat(churn.path("createdAssignments").asInt()).isZero();
+        assertThat(churn.path("avoidedWrites").asInt()).isGreaterThan(0);
+        preview.path("allocations").forEach(node -> assertThat(node.path("recommendedRoomIds"))
+                .containsExactlyInAnyOrderElementsOf(node.path("currentRoomIds")));
+    }
+
+    @Test
+    void allFloorsPreviewMatchesSingleFloorPreview() throws Exception {
+        JsonNode single = requestPreview(FLOOR_2);
+
+        MvcResult result = mockMvc.perform(
+                        post("/admin/fridge/reallocations/preview/all")
+                                .header("Authorization", "Bearer " + adminToken)
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode floors = objectMapper.readTree(result.getResponse().getContentAsString()).path("floors");
+        assertThat(floors.size()).isGreaterThanOrEqualTo(4);
+        JsonNode floor2 = null;
+        for (JsonNode floor : floors) {
+            assertThat(floor.path("elapsedMicros").isNumber()).isTrue();
+            if (floor.path("floor").asInt() == FLOOR_2) {
+                floor2 = floor;
+            }
+        }
+        assertThat(floor2).isNotNull();
+        assertThat(floor2.has("errorCode")).isFalse();
+        assertThat(floor2.path("preview")).isEqualTo(single);
+
+        mockMvc.perform(
+                        post("/admin/fridge/reallocations/preview/all")
+                                .header("Authorization", "Bearer " + residentToken)
+                )
+                .andExpect(status().isForbidden());
     }
 
     @Test
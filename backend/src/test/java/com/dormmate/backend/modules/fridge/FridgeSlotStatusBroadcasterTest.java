@@ -0,0 +1,159 @@
+package com.dormmate.backend.modules.fridge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dormmate.backend.modules.fridge.application.FridgeSlotStatusBroadcaster;
+import com.dormmate.backend.modules.fridge.application.FridgeSlotStatusResolver;
+import com.dormmate.backend.modules.fridge.application.FridgeTopologyChangedEvent;
+import com.dormmate.backend.modules.fridge.domain.FridgeCompartment;
+import com.dormmate.backend.modules.fridge.domain.FridgeUnit;
+import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeCompartmentRepository;
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotDeltaMessage;
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeSlotStatus;
+
+@ExtendWith(MockitoExtension.class)
+class FridgeSlotStatusBroadcasterTest {
+
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    @Mock
+    private FridgeCompartmentRepository fridgeCompartmentRepository;
+
+    @Mock
+    private FridgeSlotStatusResolver fridgeSlotStatusResolver;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FridgeSlotStatusBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new FridgeSlotStatusBroadcaster(
+                messagingTemplate,
+                fridgeCompartmentRepository,
+                fridgeSlotStatusResolver,
+                transactionManager,
+                Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션의 점유 변경은 커밋 이후 칸마다 한 번만 층 토픽으로 보낸다")
+    void coalescesChangesUntilCommit() {
+        FridgeCompartment compartment = compartment(2, 0, 3);
+        when(fridgeCompartmentRepository.findWithUnitByIdIn(anyCollection())).thenReturn(List.of(compartment));
+        when(fridgeSlotStatusResolver.resolve(anyCollection()))
+                .thenReturn(Map.of(compartment.getId(), FridgeSlotStatus.ACTIVE));
+        TransactionSynchronizationManager.initSynchronization();
+
+        broadcaster.compartmentChanged(compartment.getId());
+        broadcaster.compartmentChanged(compartment.getId());
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/fridge/floors/2/slots"), payload.capture());
+        FridgeSlotDeltaMessage message = (FridgeSlotDeltaMessage) payload.getValue();
+        assertThat(message.floorNo()).isEqualTo(2);
+        assertThat(message.slots()).singleElement().satisfies(delta -> {
+            assertThat(delta.slotId()).isEqualTo(compartment.getId());
+            assertThat(delta.slotStatus()).isEqualTo(FridgeSlotStatus.ACTIVE);
+            assertThat(delta.occupiedCount()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 보내지 않는다")
+    void skipsRolledBackChanges() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        broadcaster.compartmentChanged(UUID.randomUUID());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 토폴로지 변경은 모든 층에 보낸다")
+    void broadcastsEveryFloorOnFullTopologyChange() {
+        FridgeCompartment second = compartment(2, 0, 1);
+        FridgeCompartment third = compartment(3, 1, 0);
+        when(fridgeCompartmentRepository.findAllWithUnit()).thenReturn(List.of(third, second));
+        when(fridgeSlotStatusResolver.resolve(anyCollection()))
+                .thenReturn(Map.of(third.getId(), FridgeSlotStatus.IN_INSPECTION));
+
+        broadcaster.onTopologyChanged(FridgeTopologyChangedEvent.all());
+
+        verify(messagingTemplate).convertAndSend(eq("/topic/fridge/floors/2/slots"), any(Object.class));
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/fridge/floors/3/slots"), payload.capture());
+        assertThat(((FridgeSlotDeltaMessage) payload.getValue()).slots())
+                .singleElement()
+                .satisfies(delta -> assertThat(delta.slotStatus()).isEqualTo(FridgeSlotStatus.IN_INSPECTION));
+    }
+
+    @Test
+    @DisplayName("층 토픽 경로에서 층 번호를 읽고, 형식이 다르면 null을 돌려준다")
+    void parsesFloorTopic() {
+        assertThat(FridgeSlotStatusBroadcaster.parseFloorTopic(FridgeSlotStatusBroadcaster.floorTopic(3)))
+                .isEqualTo((short) 3);
+        assertThat(FridgeSlotStatusBroadcaster.parseFloorTopic("/topic/fridge/floors/3")).isNull();
+        assertThat(FridgeSlotStatusBroadcaster.parseFloorTopic("/topic/fridge/floors/x/slots")).isNull();
+        assertThat(FridgeSlotStatusBroadcaster.parseFloorTopic("/topic/fridge/inspections/3")).isNull();
+    }
+
+    private FridgeCompartment compartment(int floorNo, int slotIndex, int activeBundles) {
+        FridgeUnit unit = new FridgeUnit();
+        unit.setFloorNo((short) floorNo);
+        FridgeCompartment compartment = new FridgeCompartment();
+        ReflectionTestUtils.setField(compartment, "id", UUID.randomUUID());
+        compartment.setFridgeUnit(unit);
+        compartment.setSlotIndex(slotIndex);
+        compartment.setMaxBundleCount(5);
+        compartment.applyActiveBundleDelta(activeBundles);
+        return compartment;
+    }
+}
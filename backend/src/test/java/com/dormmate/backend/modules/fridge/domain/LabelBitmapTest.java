@@ -0,0 +1,71 @@
+package com.dormmate.backend.modules.fridge.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LabelBitmapTest {
+
+    @Test
+    @DisplayName("빈 비트맵에서는 1번 라벨을 고른다")
+    void firstFree_empty() {
+        assertThat(LabelBitmap.firstFree(LabelBitmap.empty())).hasValue(1);
+        assertThat(LabelBitmap.firstFree(null)).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("반납된 가장 작은 번호를 먼저 재사용한다")
+    void firstFree_reusesSmallestReleased() {
+        byte[] bitmap = LabelBitmap.empty();
+        bitmap[0] = (byte) 0xFF;
+        bitmap[1] = (byte) 0b1111_1011;
+
+        assertThat(LabelBitmap.firstFree(bitmap)).hasValue(11);
+        assertThat(LabelBitmap.isOccupied(bitmap, 10)).isTrue();
+        assertThat(LabelBitmap.isOccupied(bitmap, 11)).isFalse();
+    }
+
+    @Test
+    @DisplayName("999번까지 모두 사용 중이면 빈 번호가 없다")
+    void firstFree_exhausted() {
+        byte[] bitmap = new byte[LabelBitmap.SIZE_IN_BYTES];
+        Arrays.fill(bitmap, (byte) 0xFF);
+        assertThat(LabelBitmap.firstFree(bitmap)).isEmpty();
+
+        bitmap[LabelBitmap.SIZE_IN_BYTES - 1] = (byte) 0b0011_1111;
+        assertThat(LabelBitmap.firstFree(bitmap)).hasValue(999);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 라벨 번호는 예외를 발생시킨다")
+    void bitIndex_outOfRange() {
+        assertThat(LabelBitmap.bitIndex(1)).isZero();
+        assertThat(LabelBitmap.bitIndex(999)).isEqualTo(998);
+        assertThatThrownBy(() -> LabelBitmap.bitIndex(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LabelBitmap.bitIndex(1000)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("여러 라벨을 한 번에 고를 때도 작은 빈 번호부터 채운다")
+    void freeLabels_picksSmallestGaps() {
+        byte[] bitmap = LabelBitmap.empty();
+        bitmap[0] = (byte) 0b1111_0101;
+
+        assertThat(LabelBitmap.freeLabels(bitmap, 3)).containsExactly(2, 4, 9);
+        assertThat(LabelBitmap.freeLabels(bitmap, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 번호가 모자라면 찾은 만큼만 돌려준다")
+    void freeLabels_partialWhenNearlyFull() {
+        byte[] bitmap = new byte[LabelBitmap.SIZE_IN_BYTES];
+        Arrays.fill(bitmap, (byte) 0xFF);
+        bitmap[LabelBitmap.SIZE_IN_BYTES - 1] = (byte) 0b0011_1110;
+
+        assertThat(LabelBitmap.freeLabels(bitmap, 5)).containsExactly(993, 999);
+    }
+}
@@ -0,0 +1,83 @@
+package com.dormmate.backend.modules.fridge.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReallocationSolverTest {
+
+    private final List<UUID> rooms = IntStream.range(0, 7).mapToObj(i -> UUID.randomUUID()).toList();
+    private final UUID slotA = UUID.randomUUID();
+    private final UUID slotB = UUID.randomUUID();
+    private final UUID slotC = UUID.randomUUID();
+
+    @Test
+    @DisplayName("할당량은 앞 칸부터 나머지를 하나씩 더 받는다")
+    void quotas_frontLoadsRemainder() {
+        assertThat(ReallocationSolver.quotas(7, 3)).containsExactly(3, 2, 2);
+        assertThat(ReallocationSolver.quotas(6, 3)).containsExactly(2, 2, 2);
+        assertThat(ReallocationSolver.quotas(5, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("균등 분할은 호실 순서대로 잘라 배정한다")
+    void evenSplit_slicesInRoomOrder() {
+        Map<UUID, List<UUID>> result = ReallocationSolver.solve(
+                ReallocationMode.EVEN_SPLIT, rooms, List.of(slotA, slotB, slotC), Map.of());
+
+        assertThat(result.get(slotA)).containsExactlyElementsOf(rooms.subList(0, 3));
+        assertThat(result.get(slotB)).containsExactlyElementsOf(rooms.subList(3, 5));
+        assertThat(result.get(slotC)).containsExactlyElementsOf(rooms.subList(5, 7));
+    }
+
+    @Test
+    @DisplayName("최소 이동 모드는 이미 균형 잡힌 배정을 그대로 둔다")
+    void minChurn_keepsBalancedAssignment() {
+        Map<UUID, List<UUID>> current = Map.of(
+                slotA, List.of(rooms.get(0), rooms.get(4), rooms.get(6)),
+                slotB, List.of(rooms.get(1), rooms.get(5)),
+                slotC, List.of(rooms.get(2), rooms.get(3)));
+
+        Map<UUID, List<UUID>> result = ReallocationSolver.solve(
+                ReallocationMode.MIN_CHURN, rooms, List.of(slotA, slotB, slotC), current);
+
+        assertThat(result.get(slotA)).containsExactly(rooms.get(0), rooms.get(4), rooms.get(6));
+        assertThat(ReallocationSolver.movedRooms(current, result)).isZero();
+        ReallocationSolver.Churn churn = ReallocationSolver.churn(current, result);
+        assertThat(churn.releasedAssignments()).isZero();
+        assertThat(churn.createdAssignments()).isZero();
+        assertThat(churn.avoidedWrites()).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("최소 이동 모드는 할당량을 넘는 호실과 미배정 호실만 옮긴다")
+    void minChurn_movesOnlyOverflowAndUnassigned() {
+        // A에 5개가 몰려 있고 마지막 호실은 미배정 상태
+        Map<UUID, List<UUID>> current = Map.of(
+                slotA, rooms.subList(0, 5),
+                slotB, List.of(rooms.get(5)),
+                slotC, List.of());
+
+        Map<UUID, List<UUID>> result = ReallocationSolver.solve(
+                ReallocationMode.MIN_CHURN, rooms, List.of(slotA, slotB, slotC), current);
+
+        assertThat(result.get(slotA)).containsExactlyElementsOf(rooms.subList(0, 3));
+        assertThat(result.get(slotB)).containsExactly(rooms.get(3), rooms.get(5));
+        assertThat(result.get(slotC)).containsExactly(rooms.get(4), rooms.get(6));
+        assertThat(ReallocationSolver.movedRooms(current, result)).isEqualTo(3);
+
+        ReallocationSolver.Churn churn = ReallocationSolver.churn(current, result);
+        assertThat(churn.releasedAssignments()).isEqualTo(2);
+        assertThat(churn.createdAssignments()).isEqualTo(3);
+
+        Map<UUID, List<UUID>> evenSplit = ReallocationSolver.solve(
+                ReallocationMode.EVEN_SPLIT, rooms, List.of(slotA, slotB, slotC), current);
+        assertThat(ReallocationSolver.movedRooms(current, evenSplit)).isGreaterThan(3);
+    }
+}
@@ -0,0 +1,47 @@
+package com.dormmate.backend.modules.fridge.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FridgeBundleCursorTest {
+
+    @Test
+    @DisplayName("커서는 마이크로초 정밀도로 왕복 변환된다")
+    void roundTrip() {
+        UUID bundleId = UUID.randomUUID();
+        Instant sortValue = Instant.parse("2024-11-05T03:15:42.123456Z");
+
+        FridgeBundleCursor decoded = FridgeBundleCursor.decode(new FridgeBundleCursor(sortValue, bundleId).encode());
+
+        assertThat(decoded.sortValue()).isEqualTo(sortValue);
+        assertThat(decoded.bundleId()).isEqualTo(bundleId);
+    }
+
+    @Test
+    @DisplayName("나노초 이하 자릿수는 버리고 1970년 이전 시각도 보존한다")
+    void truncatesToMicros() {
+        UUID bundleId = UUID.randomUUID();
+        Instant beforeEpoch = Instant.parse("1969-12-31T23:59:59.999999Z");
+
+        assertThat(FridgeBundleCursor.decode(new FridgeBundleCursor(beforeEpoch, bundleId).encode()).sortValue())
+                .isEqualTo(beforeEpoch);
+        assertThat(FridgeBundleCursor.decode(
+                new FridgeBundleCursor(Instant.parse("2024-01-01T00:00:00.000000789Z"), bundleId).encode()).sortValue())
+                .isEqualTo(Instant.parse("2024-01-01T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외를 발생시킨다")
+    void rejectsMalformed() {
+        assertThatThrownBy(() -> FridgeBundleCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FridgeBundleCursor.decode(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
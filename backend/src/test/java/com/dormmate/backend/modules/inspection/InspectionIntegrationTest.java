@@ -3,7 +3,9 @@ package com.dormmate.backend.modules.inspection;
 import static com.dormmate.backend.support.TestResidentAccounts.DEFAULT_PASSWORD;
 import static com.dormmate.backend.support.TestResidentAccounts.FLOOR2_ROOM05_SLOT1;
 import static com.dormmate.backend.support.TestResidentAccounts.FLOOR2_ROOM05_SLOT3;
+import static com.dormmate.backend.support.TestResidentAccounts.FLOOR3_ROOM05_SLOT1;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -12,6 +14,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.dormmate.backend.modules.fridge.application.FridgeAccessDecisionCache;
+import com.dormmate.backend.modules.fridge.application.FridgeTopologyCache;
 import com.dormmate.backend.modules.fridge.domain.FridgeItemStatus;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeBundleRepository;
 import com.dormmate.backend.modules.fridge.infrastructure.persistence.FridgeItemRepository;
@@ -72,6 +76,12 @@ class InspectionIntegrationTest extends AbstractPostgresIntegrationTest {
     @Autowired
     private TestUserFactory testUserFactory;
 
+    @Autowired
+    private FridgeTopologyCache fridgeTopologyCache;
+
+    @Autowired
+    private FridgeAccessDecisionCache fridgeAccessDecisionCache;
+
     private String managerToken;
     private String residentToken;
     private String adminToken;
@@ -104,6 +114,9 @@ class InspectionIntegrationTest extends AbstractPostgresIntegrationTest {
         jdbcTemplate.update("UPDATE fridge_compartment SET is_locked = FALSE, locked_until = NULL");
 
         clearSlot(slot2FAId);
+        jdbcTemplate.queryForObject("SELECT public.fn_refresh_fridge_slot_status(NULL)", Integer.class);
+        fridgeTopologyCache.invalidate();
+        fridgeAccessDecisionCache.invalidateAll();
     }
 
     @Test
@@ -187,6 +200,247 @@ class InspectionIntegrationTest extends AbstractPostgresIntegrationTest {
                 .andExpect(jsonPath("$.summary[0].count").value(1));
     }
 
+    @Test
+    void slotStatusProjectionFollowsInspectionLifecycle() throws Exception {
+        assertThat(projectedSlotStatus(slot2FAId)).isEqualTo("ACTIVE");
+
+        JsonNode session = startInspection(managerToken, slot2FAId);
+        UUID sessionId = UUID.fromString(session.path("sessionId").asText());
+        assertThat(projectedSlotStatus(slot2FAId)).isEqualTo("IN_INSPECTION");
+
+        submitInspection(managerToken, sessionId);
+        assertThat(projectedSlotStatus(slot2FAId)).isEqualTo("ACTIVE");
+
+        mockMvc.perform(post("/admin/fridge/compartments/slot-status/verify")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.checkedCount").value(greaterThan(0)))
+                .andExpect(jsonPath("$.mismatches").isEmpty());
+    }
+
+    @Test
+    void recordingActionExtendsLockWithoutRebuildingTopology() throws Exception {
+        JsonNode bundle = ensureBundleForPrimaryResident(slot2FAId);
+        UUID bundleId = UUID.fromString(bundle.path("bundleId").asText());
+        UUID itemId = UUID.fromString(bundle.path("items").get(0).path("itemId").asText());
+
+        JsonNode session = startInspection(managerToken, slot2FAId);
+        UUID sessionId = UUID.fromString(session.path("sessionId").asText());
+        long topologyVersion = fridgeTopologyCache.current().version();
+
+        recordDisposeAction(managerToken, sessionId, bundleId, itemId);
+
+        assertThat(fridgeTopologyCache.current().version()).isEqualTo(topologyVersion);
+        OffsetDateTime lockedUntil = jdbcTemplate.queryForObject(
+                "SELECT locked_until FROM fridge_compartment WHERE id = ?",
+                OffsetDateTime.class,
+                slot2FAId
+        );
+        MvcResult slotsResult = mockMvc.perform(get("/fridge/slots")
+                        .header("Authorization", "Bearer " + managerToken)
+                        .param("floor", String.valueOf(FLOOR_2)))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode slot = null;
+        for (JsonNode candidate : objectMapper.readTree(slotsResult.getResponse().getContentAsString()).path("items")) {
+            if (slot2FAId.toString().equals(candidate.path("slotId").asText())) {
+                slot = candidate;
+            }
+        }
+        assertThat(slot).isNotNull();
+        assertThat(slot.path("slotStatus").asText()).isEqualTo("IN_INSPECTION");
+        assertThat(slot.path("locked").asBoolean()).isTrue();
+        assertThat(OffsetDateTime.parse(slot.path("lockedUntil").asText()).toInstant())
+                .isEqualTo(lockedUntil.toInstant());
+
+        submitInspection(managerToken, sessionId);
+    }
+
+    @Test
+    void sessionChangesReturnOnlyDeltasSinceVersion() throws Exception {
+        JsonNode bundle = ensureBundleForPrimaryResident(slot2FAId);
+        UUID bundleId = UUID.fromString(bundle.path("bundleId").asText());
+        UUID itemId = UUID.fromString(bundle.path("items").get(0).path("itemId").asText());
+
+        JsonNode session = startInspection(managerToken, slot2FAId);
+        UUID sessionId = UUID.fromString(session.path("sessionId").asText());
+        long startVersion = session.path("version").asLong();
+
+        recordDisposeAction(managerToken, sessionId, bundleId, itemId);
+
+        MvcResult changesResult = mockMvc.perform(get("/fridge/inspections/%s/changes".formatted(sessionId))
+                        .header("Authorization", "Bearer " + managerToken)
+                        .param("sinceVersion", String.valueOf(startVersion)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(startVersion + 1))
+                .andExpect(jsonPath("$.snapshot").doesNotExist())
+                .andExpect(jsonPath("$.actions.length()").value(1))
+                .andExpect(jsonPath("$.actions[0].actionType").value("DISPOSE_EXPIRED"))
+                .andExpect(jsonPath("$.bundles[0].bundleId").value(bundleId.toString()))
+                .andExpect(jsonPath("$.bundles[0].itemCount").value(0))
+                .andReturn();
+        long actionId = objectMapper.readTree(changesResult.getResponse().getContentAsString())
+                .path("actions").get(0).path("actionId").asLong();
+
+        mockMvc.perform(delete("/fridge/inspections/%s/actions/%d".formatted(sessionId, actionId))
+                        .header("Authorization", "Bearer " + managerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(startVersion + 2))
+                .andExpect(jsonPath("$.actions").isEmpty());
+
+        // 기록 후 되돌린 동작은 합친 변경분에 나타나지 않는다.
+        mockMvc.perform(get("/fridge/inspections/%s/changes".formatted(sessionId))
+                        .header("Authorization", "Bearer " + managerToken)
+                        .param("sinceVersion", String.valueOf(startVersion)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(startVersion + 2))
+                .andExpect(jsonPath("$.actions").isEmpty())
+                .andExpect(jsonPath("$.removedActionIds").isEmpty())
+                .andExpect(jsonPath("$.bundles[0].itemCount").value(1));
+
+        mockMvc.perform(get("/fridge/inspections/%s/changes".formatted(sessionId))
+                        .header("Authorization", "Bearer " + managerToken)
+                        .param("sinceVersion", String.valueOf(startVersion + 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.removedActionIds[0]").value(actionId));
+
+        submitInspection(managerToken, sessionId);
+
+        mockMvc.perform(get("/fridge/inspections/%s/changes".formatted(sessionId))
+                        .header("Authorization", "Bearer " + managerToken)
+                        .param("sinceVersion", String.valueOf(startVersion)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(InspectionStatus.SUBMITTED.name()))
+                .andExpect(jsonPath("$.snapshot.sessionId").value(sessionId.toString()));
+    }
+
+    @Test
+    void actionSyncIsIdempotentPerCorrelationId() throws Exception {
+        JsonNode bundle = ensureBundleForPrimaryResident(slot2FAId);
+        UUID bundleId = UUID.fromString(bundle.path("bundleId").asText());
+        UUID itemId = UUID.fromString(bundle.path("items").get(0).path("itemId").asText());
+
+        JsonNode session = startInspection(managerToken, slot2FAId);
+        UUID sessionId = UUID.fromString(session.path("sessionId").asText());
+
+        UUID disposeKey = UUID.randomUUID();
+        UUID warnKey = UUID.randomUUID();
+        String clientTime = OffsetDateTime.now(ZoneOffset.UTC).toString();
+        String payload = """
+                {
+                  "operations": [
+                    {
+                      "correlationId": "%s",
+                      "clientRecordedAt": "%s",
+                      "bundleId": "%s",
+                      "itemId": "%s",
+                      "action": "DISPOSE_EXPIRED"
+                    },
+                    {
+                      "correlationId": "%s",
+                      "clientRecordedAt": "%s",
+                      "bundleId": "%s",
+                      "action": "WARN_INFO_MISMATCH"
+                    }
+                  ]
+                }
+                """.formatted(disposeKey, clientTime, bundleId, itemId, warnKey, clientTime, bundleId);
+
+        MvcResult first = mockMvc.perform(post("/fridge/inspections/%s/actions/sync".formatted(sessionId))
+                        .header("Authorization", "Bearer " + managerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.appliedCount").value(2))
+                .andExpect(jsonPath("$.duplicateCount").value(0))
+                .andExpect(jsonPath("$.results[0].status").value("APPLIED"))
+                .andReturn();
+        JsonNode firstBody = objectMapper.readTree(first.getResponse().getContentAsString());
+
+        // 응답을 받지 못한 단말이 같은 묶음을 다시 보낸 경우
+        mockMvc.perform(post("/fridge/inspections/%s/actions/sync".formatted(sessionId))
+                        .header("Authorization", "Bearer " + managerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.appliedCount").value(0))
+                .andExpect(jsonPath("$.duplicateCount").value(2))
+                .andExpect(jsonPath("$.version").value(firstBody.path("version").asLong()))
+                .andExpect(jsonPath("$.results[0].actionId").value(firstBody.path("results").get(0).path("actionId").asLong()));
+
+        Integer actionCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM inspection_action WHERE inspection_session_id = ?",
+                Integer.class,
+                sessionId
+        );
+        Integer penaltyCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM penalty_history WHERE correlation_id = ?",
+                Integer.class,
+                disposeKey
+        );
+        assertThat(actionCount).isEqualTo(2);
+        assertThat(penaltyCount).isEqualTo(1);
+        fridgeItemRepository.findById(itemId)
+                .ifPresent(item -> assertThat(item.getStatus()).isEqualTo(FridgeItemStatus.DELETED));
+
+        submitInspection(managerToken, sessionId);
+
+        mockMvc.perform(post("/fridge/inspections/%s/actions/sync".formatted(sessionId))
+                        .header("Authorization", "Bearer " + managerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.duplicateCount").value(2));
+    }
+
+    @Test
+    void otherFloorManagerCannotSyncActions() throws Exception {
+        JsonNode bundle = ensureBundleForPrimaryResident(slot2FAId);
+        UUID bundleId = UUID.fromString(bundle.path("bundleId").asText());
+        UUID itemId = UUID.fromString(bundle.path("items").get(0).path("itemId").asText());
+
+        JsonNode session = startInspection(managerToken, slot2FAId);
+        UUID sessionId = UUID.fromString(session.path("sessionId").asText());
+
+        ensureResidentWithRole(FLOOR3_ROOM05_SLOT1, DEFAULT_PASSWORD, "FLOOR_MANAGER", "층장");
+        UUID otherManagerId = fetchUserId(FLOOR3_ROOM05_SLOT1);
+        try {
+            String otherManagerToken = login(FLOOR3_ROOM05_SLOT1, DEFAULT_PASSWORD);
+            mockMvc.perform(post("/fridge/inspections/%s/actions/sync".formatted(sessionId))
+                            .header("Authorization", "Bearer " + otherManagerToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {
+                                      "operations": [
+                                        {
+                                          "correlationId": "%s",
+                                          "clientRecordedAt": "%s",
+                                          "bundleId": "%s",
+                                          "itemId": "%s",
+                                          "action": "DISPOSE_EXPIRED"
+                                        }
+                                      ]
+                                    }
+                                    """.formatted(UUID.randomUUID(), OffsetDateTime.now(ZoneOffset.UTC), bundleId, itemId)))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.code").value("FLOOR_SCOPE_VIOLATION"));
+        } finally {
+            jdbcTemplate.update(
+                    "UPDATE user_role SET revoked_at = now() WHERE dorm_user_id = ? AND role_code = 'FLOOR_MANAGER' AND revoked_at IS NULL",
+                    otherManagerId
+            );
+        }
+
+        Integer actionCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM inspection_action WHERE inspection_session_id = ?",
+                Integer.class,
+                sessionId
+        );
+        assertThat(actionCount).isZero();
+        fridgeItemRepository.findById(itemId)
+                .ifPresent(item -> assertThat(item.getStatus()).isEqualTo(FridgeItemStatus.ACTIVE));
+    }
+
     @Test
     void residentCannotStartInspection() throws Exception {
         mockMvc.perform(post("/fridge/inspections")
@@ -267,6 +521,7 @@ class InspectionIntegrationTest extends AbstractPostgresIntegrationTest {
         );
         assertThat(sessionStatus).isEqualTo(InspectionStatus.CANCELLED.name());
         assertThat(sessionEndedAt).isNotNull();
+        assertThat(projectedSlotStatus(slot2FAId)).isEqualTo("ACTIVE");
     }
 
     @Test
@@ -364,6 +619,55 @@ class InspectionIntegrationTest extends AbstractPostgresIntegrationTest {
         assertThat(firstAction.path("personalNo").asInt()).isEqualTo(expectedPersonal);
     }
 
+    @Test
+    void sessionSummariesArePagedAndScopedToAccessibleSlots() throws Exception {
+        JsonNode bundle = ensureBundleForPrimaryResident(slot2FAId);
+        UUID bundleId = UUID.fromString(bundle.path("bundleId").asText());
+        UUID itemId = UUID.fromString(bundle.path("items").get(0).path("itemId").asText());
+
+        JsonNode first = startInspection(managerToken, slot2FAId);
+        UUID firstSessionId = UUID.fromString(first.path("sessionId").asText());
+        recordDisposeAction(managerToken, firstSessionId, bundleId, itemId);
+        submitInspection(managerToken, firstSessionId);
+
+        JsonNode second = startInspection(managerToken, slot2FAId);
+        UUID secondSessionId = UUID.fromString(second.path("sessionId").asText());
+
+        UUID otherSlotId = fetchSlotId(FLOOR_2, 1);
+        JsonNode other = startInspection(managerToken, otherSlotId);
+        UUID otherSessionId = UUID.fromString(other.path("sessionId").asText());
+
+        mockMvc.perform(get("/fridge/inspections/summaries")
+                        .param("slotId", slot2FAId.toString())
+                        .param("limit", "1")
+                        .header("Authorization", "Bearer " + residentToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].sessionId").value(secondSessionId.toString()))
+                .andExpect(jsonPath("$[0].bundles").doesNotExist());
+
+        mockMvc.perform(get("/fridge/inspections/summaries")
+                        .param("slotId", slot2FAId.toString())
+                        .param("limit", "1")
+                        .param("page", "1")
+                        .header("Authorization", "Bearer " + residentToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].sessionId").value(firstSessionId.toString()))
+                .andExpect(jsonPath("$[0].summary[0].action").value("DISPOSE_EXPIRED"))
+                .andExpect(jsonPath("$[0].summary[0].count").value(1))
+                .andExpect(jsonPath("$[0].startedByLogin").value(FLOOR2_ROOM05_SLOT3));
+
+        mockMvc.perform(get("/fridge/inspections/summaries")
+                        .header("Authorization", "Bearer " + residentToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].sessionId", not(hasItem(otherSessionId.toString()))));
+
+        mockMvc.perform(get("/fridge/inspections/summaries")
+                        .param("page", "-1")
+                        .header("Authorization", "Bearer " + residentToken))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void managerCannotSubmitTwice() throws Exception {
         JsonNode session = startInspection(managerToken, slot2FAId);
@@ -598,6 +902,14 @@ class InspectionIntegrationTest extends AbstractPostgresIntegrationTest {
         return roomId;
     }
 
+    private String projectedSlotStatus(UUID compartmentId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT slot_status FROM fridge_slot_status WHERE fridge_compartment_id = ?",
+                String.class,
+                compartmentId
+        );
+    }
+
     private void ensureCompartmentAccess(UUID roomId, UUID compartmentId) {
         Integer existing = jdbcTemplate.queryForObject(
                 """
@@ -660,6 +972,8 @@ class InspectionIntegrationTest extends AbstractPostgresIntegrationTest {
                 "DELETE FROM fridge_bundle WHERE fridge_compartment_id = ?",
                 slotId
         );
+        jdbcTemplate.queryForObject("SELECT public.fn_reconcile_compartment_bundle_counts()", Integer.class);
+        jdbcTemplate.queryForObject("SELECT public.fn_rebuild_bundle_label_bitmaps()", Integer.class);
     }
 
     private UUID fetchSlotId(int floorNo, int slotIndex) {
@@ -0,0 +1,103 @@
+package com.dormmate.backend.modules.inspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dormmate.backend.modules.inspection.application.InspectionSessionBroadcaster;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionSessionEventMessage;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionSessionEventType;
+
+@ExtendWith(MockitoExtension.class)
+class InspectionSessionBroadcasterTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2026, 10, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    private InspectionSessionBroadcaster broadcaster;
+
+    private final UUID sessionId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new InspectionSessionBroadcaster(messagingTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션의 이벤트는 커밋 이후 만든 순서대로 세션 토픽에 보낸다")
+    void sendsEventsInOrderAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        InspectionSessionEventMessage recorded = message(InspectionSessionEventType.ACTION_RECORDED);
+        InspectionSessionEventMessage lockExtended = message(InspectionSessionEventType.LOCK_EXTENDED);
+
+        broadcaster.publishAfterCommit(recorded);
+        broadcaster.publishAfterCommit(lockExtended);
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        String topic = "/topic/fridge/inspections/" + sessionId;
+        InOrder order = inOrder(messagingTemplate);
+        order.verify(messagingTemplate).convertAndSend(eq(topic), eq((Object) recorded));
+        order.verify(messagingTemplate).convertAndSend(eq(topic), eq((Object) lockExtended));
+    }
+
+    @Test
+    @DisplayName("롤백된 이벤트는 보내지 않는다")
+    void skipsRolledBackEvents() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        broadcaster.publishAfterCommit(message(InspectionSessionEventType.SUBMITTED));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("세션 토픽 주소에서 세션 ID를 읽는다")
+    void parsesSessionTopic() {
+        assertThat(InspectionSessionBroadcaster.parseSessionTopic(InspectionSessionBroadcaster.sessionTopic(sessionId)))
+                .isEqualTo(sessionId);
+        assertThat(InspectionSessionBroadcaster.parseSessionTopic("/topic/fridge/inspections/not-a-uuid")).isNull();
+        assertThat(InspectionSessionBroadcaster.isSessionTopic("/topic/fridge/floors/2/slots")).isFalse();
+    }
+
+    private InspectionSessionEventMessage message(InspectionSessionEventType type) {
+        return new InspectionSessionEventMessage(
+                sessionId, type, 1L, NOW, "IN_PROGRESS", null, null, null, null, null);
+    }
+}
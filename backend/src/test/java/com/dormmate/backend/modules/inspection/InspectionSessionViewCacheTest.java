@@ -0,0 +1,124 @@
+package com.dormmate.backend.modules.inspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dormmate.backend.modules.fridge.presentation.dto.FridgeBundleResponse;
+import com.dormmate.backend.modules.inspection.application.InspectionSessionViewCache;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionActionDetailResponse;
+import com.dormmate.backend.modules.inspection.presentation.dto.InspectionSessionResponse;
+
+class InspectionSessionViewCacheTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2026, 10, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    private final InspectionSessionViewCache cache = new InspectionSessionViewCache();
+    private final UUID sessionId = UUID.randomUUID();
+    private final UUID ownerId = UUID.randomUUID();
+    private final UUID bundleId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("변경분은 직전 버전의 조회 모델에만 이어 붙인다")
+    void appliesChangesOnlyOnPreviousVersion() {
+        cache.storeAfterCommit(view(0, List.of(bundle(2)), List.of()));
+
+        cache.applyAfterCommit(sessionId, change(1, List.of(action(10L, 1)), Set.of(), List.of(bundle(1))));
+
+        InspectionSessionResponse current = cache.find(sessionId, 1);
+        assertThat(current).isNotNull();
+        assertThat(current.actions()).extracting(InspectionActionDetailResponse::actionId).containsExactly(10L);
+        assertThat(current.summary()).singleElement()
+                .satisfies(summary -> assertThat(summary.count()).isEqualTo(1));
+        assertThat(current.bundles()).singleElement()
+                .satisfies(bundle -> assertThat(bundle.itemCount()).isEqualTo(1));
+        assertThat(cache.find(sessionId, 0)).isNull();
+
+        // 버전을 건너뛴 변경은 캐시를 버린다.
+        cache.applyAfterCommit(sessionId, change(3, List.of(), Set.of(10L), List.of()));
+        assertThat(cache.find(sessionId, 1)).isNull();
+        assertThat(cache.find(sessionId, 3)).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 버전의 변경을 합치면 기록 후 되돌린 동작은 사라진다")
+    void mergesChangesSinceVersion() {
+        cache.storeAfterCommit(view(0, List.of(bundle(2)), List.of(action(5L, 0))));
+        cache.applyAfterCommit(sessionId, change(1, List.of(action(10L, 1)), Set.of(), List.of(bundle(1))));
+        cache.applyAfterCommit(sessionId, change(2, List.of(), Set.of(10L, 5L), List.of(bundle(2))));
+
+        InspectionSessionViewCache.Changes merged = cache.changesSince(sessionId, 0, 2).orElseThrow();
+        assertThat(merged.addedActions()).isEmpty();
+        assertThat(merged.removedActionIds()).containsExactly(5L);
+        assertThat(merged.changedBundles()).singleElement()
+                .satisfies(bundle -> assertThat(bundle.itemCount()).isEqualTo(2));
+
+        assertThat(cache.changesSince(sessionId, 2, 2)).get()
+                .satisfies(changes -> assertThat(changes.addedActions()).isEmpty());
+        assertThat(cache.changesSince(sessionId, 1, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("새로 채운 조회 모델보다 앞선 버전은 변경분으로 답하지 않는다")
+    void requiresSnapshotBeforeStoredView() {
+        cache.storeAfterCommit(view(4, List.of(bundle(2)), List.of()));
+
+        assertThat(cache.changesSince(sessionId, 3, 4)).isEmpty();
+        assertThat(cache.changesSince(sessionId, 4, 4)).isPresent();
+    }
+
+    @Test
+    @DisplayName("진행 중이 아닌 세션은 보관하지 않는다")
+    void ignoresClosedSessions() {
+        InspectionSessionResponse open = view(0, List.of(), List.of());
+        cache.storeAfterCommit(open);
+        cache.evictAfterCommit(sessionId);
+        assertThat(cache.find(sessionId, 0)).isNull();
+
+        cache.storeAfterCommit(new InspectionSessionResponse(
+                open.sessionId(), open.slotId(), open.slotIndex(), open.slotLabel(), open.floorNo(), open.floorCode(),
+                "SUBMITTED", open.startedBy(), open.startedByLogin(), open.startedByName(),
+                open.startedByRoomNumber(), open.startedByPersonalNo(), open.startedAt(), NOW,
+                open.bundles(), open.summary(), open.actions(), null, 1, 1, 1L));
+        assertThat(cache.find(sessionId, 1)).isNull();
+    }
+
+    private InspectionSessionResponse view(
+            long version,
+            List<FridgeBundleResponse> bundles,
+            List<InspectionActionDetailResponse> actions
+    ) {
+        return new InspectionSessionResponse(
+                sessionId, UUID.randomUUID(), 1, "A", 2, "2F", "IN_PROGRESS",
+                UUID.randomUUID(), "manager", "층별장", "201", 1, NOW, null,
+                bundles, List.of(), actions, null, bundles.size(), null, version);
+    }
+
+    private InspectionSessionViewCache.Change change(
+            long version,
+            List<InspectionActionDetailResponse> added,
+            Set<Long> removed,
+            List<FridgeBundleResponse> bundles
+    ) {
+        return new InspectionSessionViewCache.Change(version, added, removed, bundles);
+    }
+
+    private InspectionActionDetailResponse action(long actionId, int minutes) {
+        return new InspectionActionDetailResponse(
+                actionId, "DISPOSE_EXPIRED", bundleId, ownerId, NOW.plusMinutes(minutes),
+                null, null, null, null, UUID.randomUUID(), "201", 1, "거주자", List.of(), List.of());
+    }
+
+    private FridgeBundleResponse bundle(int itemCount) {
+        return new FridgeBundleResponse(
+                bundleId, UUID.randomUUID(), 1, "A", 1, "A1", "포장", "메모", ownerId, "거주자", "201",
+                "ACTIVE", "OK", itemCount, NOW, NOW, null, List.of());
+    }
+}
@@ -159,6 +159,10 @@ class FridgeExpiryNotificationSchedulerIntegrationTest extends AbstractPostgresI
         assertThat(expiredItems)
                 .describedAs("Expired items prepared for batch")
                 .hasSize(1);
+        assertThat(fridgeItemRepository.findBucketedItemIdsExpiringBetween(today, today.plusDays(3)))
+                .describedAs("Expiry buckets follow item writes")
+                .containsExactlyInAnyOrderElementsOf(expiringItems.stream().map(FridgeItem::getId).toList());
+        assertThat(fridgeItemRepository.sumBucketedItemsExpiringBetween(today, today.plusDays(3))).isEqualTo(2L);
 
         scheduler.runDailyBatch();
 
@@ -265,6 +269,28 @@ class FridgeExpiryNotificationSchedulerIntegrationTest extends AbstractPostgresI
         assertThat(dispatchLogs).isEmpty();
     }
 
+    @Test
+    @Transactional
+    void runDailyBatchLoadsExpiredItemsBeyondSingleInList() {
+        LocalDate today = FIXED_DATE;
+        int expiredCount = 2_500;
+        fridgeBundleRepository.flush();
+        jdbcTemplate.update("""
+                INSERT INTO fridge_item (id, fridge_bundle_id, item_name, quantity, unit_code, expiry_date, status)
+                SELECT gen_random_uuid(), ?, '만료 물품 ' || n, 1, 'EA', ?, 'ACTIVE'
+                  FROM generate_series(1, ?) AS n
+                """, ownerBundle.getId(), today.minusDays(1), expiredCount);
+        fridgeItemRepository.refreshExpiryBuckets(List.of(ownerBundle.getId()));
+
+        scheduler.runDailyBatch();
+
+        Notification expiredNotification = notificationRepository.findAll().stream()
+                .filter(notification -> notification.getKindCode().equals(KIND_FRIDGE_EXPIRED))
+                .findFirst()
+                .orElseThrow();
+        assertThat(expiredNotification.getMetadata()).containsEntry("count", expiredCount);
+    }
+
     private FridgeItem buildItem(String name, LocalDate expiryDate) {
         FridgeItem item = new FridgeItem();
         item.setBundle(ownerBundle);
@@ -273,7 +299,8 @@ class FridgeExpiryNotificationSchedulerIntegrationTest extends AbstractPostgresI
         item.setExpiryDate(expiryDate);
         item.setQuantity(1);
         item.setUnitCode("EA");
-        FridgeItem saved = fridgeItemRepository.save(item);
+        FridgeItem saved = fridgeItemRepository.saveAndFlush(item);
+        fridgeItemRepository.refreshExpiryBuckets(List.of(ownerBundle.getId()));
         createdItemIds.add(saved.getId());
         return saved;
     }
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.dormmate.backend.global.web.VersionStamps;
 import com.dormmate.backend.modules.auth.domain.DormUser;
 import com.dormmate.backend.modules.auth.domain.DormUserStatus;
 import com.dormmate.backend.modules.auth.infrastructure.persistence.DormUserRepository;
@@ -61,7 +62,9 @@ class NotificationServiceTest {
                 notificationRepository,
                 notificationPreferenceRepository,
                 dormUserRepository,
-                clock
+                new VersionStamps(),
+                clock,
+                10_000
         );
 
         targetUser = new DormUser();
@@ -7,6 +7,8 @@ import java.sql.Statement;
 
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.jdbc.datasource.init.ScriptException;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
@@ -15,6 +17,8 @@ import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.PostgreSQLContainer;
 
+import com.dormmate.backend.modules.fridge.application.FridgeTopologyChangedEvent;
+
 /**
  * Shared PostgreSQL container configuration for DB-backed integration tests.
  * Orchestrates Flyway migrations so every test class gets the same seeded schema.
@@ -26,6 +30,9 @@ public abstract class AbstractPostgresIntegrationTest {
             .withUsername("dorm_user")
             .withPassword("dorm_password");
 
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
     private static final Object MIGRATION_LOCK = new Object();
     private static boolean initialized = false;
     private static final boolean DOCKER_DIAGNOSTICS = Boolean.parseBoolean(
@@ -186,5 +193,7 @@ public abstract class AbstractPostgresIntegrationTest {
         } catch (SQLException ex) {
             throw new IllegalStateException("Failed to reset demo seed after test", ex);
         }
+        // 시드 초기화는 애플리케이션을 거치지 않으므로 메모리 스냅샷도 함께 무효화한다.
+        applicationEventPublisher.publishEvent(FridgeTopologyChangedEvent.all());
     }
 }
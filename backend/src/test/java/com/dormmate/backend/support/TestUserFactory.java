@@ -4,6 +4,7 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Optional;
 
+import com.dormmate.backend.modules.auth.application.RoomAssignmentChangedEvent;
 import com.dormmate.backend.modules.auth.domain.DormUser;
 import com.dormmate.backend.modules.auth.domain.DormUserStatus;
 import com.dormmate.backend.modules.auth.domain.Role;
@@ -17,6 +18,7 @@ import com.dormmate.backend.modules.auth.infrastructure.persistence.RoomAssignme
 import com.dormmate.backend.modules.auth.infrastructure.persistence.RoomRepository;
 import com.dormmate.backend.modules.auth.infrastructure.persistence.UserRoleRepository;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +33,7 @@ public class TestUserFactory {
     private final RoomRepository roomRepository;
     private final RoomAssignmentRepository roomAssignmentRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TestUserFactory(
             DormUserRepository dormUserRepository,
@@ -38,7 +41,8 @@ public class TestUserFactory {
             UserRoleRepository userRoleRepository,
             RoomRepository roomRepository,
             RoomAssignmentRepository roomAssignmentRepository,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.dormUserRepository = dormUserRepository;
         this.roleRepository = roleRepository;
@@ -46,6 +50,7 @@ public class TestUserFactory {
         this.roomRepository = roomRepository;
         this.roomAssignmentRepository = roomAssignmentRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     public DormUser ensureAdmin(String loginId, String rawPassword) {
@@ -115,6 +120,7 @@ public class TestUserFactory {
         assignment.setPersonalNo(personalNo);
         assignment.setAssignedAt(OffsetDateTime.now(ZoneOffset.UTC));
         roomAssignmentRepository.save(assignment);
+        eventPublisher.publishEvent(RoomAssignmentChangedEvent.of(user.getId()));
     }
 
     private Room findOrCreateRoom(short floor, String roomNumber) {